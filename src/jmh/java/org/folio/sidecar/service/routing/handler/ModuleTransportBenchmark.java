@@ -0,0 +1,102 @@
+package org.folio.sidecar.service.routing.handler;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.RequestOptions;
+import io.vertx.core.net.SocketAddress;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares request round trips to a co-located module over TCP loopback and over a unix domain socket.
+ *
+ * <p>Both transports use Vert.x native transport, the module is a Vert.x server responding with a body of
+ * {@code responseSize} bytes. Requires Linux.</p>
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ModuleTransportBenchmark {
+
+  @Param({"tcp", "uds"})
+  private String transport;
+
+  @Param({"128", "65536"})
+  private int responseSize;
+
+  private Vertx vertx;
+  private HttpServer server;
+  private HttpClient httpClient;
+  private RequestOptions requestOptions;
+  private Path socketDirectory;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    vertx = Vertx.vertx(new VertxOptions().setPreferNativeTransport(true));
+    if (!vertx.isNativeTransportEnabled()) {
+      throw new IllegalStateException("Native transport is not available", vertx.unavailableNativeTransportCause());
+    }
+
+    var body = Buffer.buffer(new byte[responseSize]);
+    var address = serverAddress();
+    server = vertx.createHttpServer()
+      .requestHandler(request -> request.response().end(body))
+      .listen(address)
+      .toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+    var serverAddress = address.isInetSocket() ? SocketAddress.inetSocketAddress(server.actualPort(), address.host())
+      : address;
+    httpClient = vertx.createHttpClient(new HttpClientOptions().setKeepAlive(true).setMaxPoolSize(1));
+    requestOptions = new RequestOptions().setServer(serverAddress).setHost("localhost").setURI("/foo/entities");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    httpClient.close().toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+    server.close().toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+    vertx.close().toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+    if (socketDirectory != null) {
+      Files.deleteIfExists(socketDirectory.resolve("module.sock"));
+      Files.deleteIfExists(socketDirectory);
+    }
+  }
+
+  @Benchmark
+  public Buffer roundTrip() {
+    return httpClient.request(requestOptions)
+      .compose(HttpClientRequest::send)
+      .compose(response -> response.body())
+      .toCompletionStage().toCompletableFuture().join();
+  }
+
+  private SocketAddress serverAddress() throws IOException {
+    if ("uds".equals(transport)) {
+      socketDirectory = Files.createTempDirectory("sidecar-benchmark");
+      return SocketAddress.domainSocketAddress(socketDirectory.resolve("module.sock").toString());
+    }
+    return SocketAddress.inetSocketAddress(0, "127.0.0.1");
+  }
+}
@@ -0,0 +1,82 @@
+package org.folio.sidecar.service.routing.handler;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.RequestOptions;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares throughput and latency of HTTP round trips over TCP loopback with NIO and native transport.
+ *
+ * <p>Requests are sent by 8 threads through a shared keep-alive pool to a Vert.x server created by the same Vert.x
+ * instance, so both sides of the connection use the transport under test. Throughput is reported in ops/ms,
+ * latency percentiles in ms/op ({@code SampleTime}).</p>
+ */
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NativeTransportBenchmark {
+
+  @Param({"nio", "native"})
+  private String transport;
+
+  private Vertx vertx;
+  private HttpServer server;
+  private HttpClient httpClient;
+  private RequestOptions requestOptions;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    vertx = Vertx.vertx(new VertxOptions().setPreferNativeTransport("native".equals(transport)));
+    if ("native".equals(transport) && !vertx.isNativeTransportEnabled()) {
+      throw new IllegalStateException("Native transport is not available", vertx.unavailableNativeTransportCause());
+    }
+
+    var body = Buffer.buffer(new byte[512]);
+    server = vertx.createHttpServer()
+      .requestHandler(request -> request.response().putHeader("Content-Type", "application/json").end(body))
+      .listen(0, "127.0.0.1")
+      .toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+    httpClient = vertx.createHttpClient(new HttpClientOptions().setKeepAlive(true).setMaxPoolSize(8));
+    requestOptions = new RequestOptions().setHost("127.0.0.1").setPort(server.actualPort()).setURI("/foo/entities");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    httpClient.close().toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+    server.close().toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+    vertx.close().toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  public Buffer roundTrip() {
+    return httpClient.request(requestOptions)
+      .compose(HttpClientRequest::send)
+      .compose(response -> response.body())
+      .toCompletionStage().toCompletableFuture().join();
+  }
+}
@@ -0,0 +1,108 @@
+package org.folio.sidecar.service.routing.lookup;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares compiled {@link PathPattern} with the interpreting matcher used before patterns were compiled.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PathMatcherBenchmark {
+
+  private static final String ID = "4f5e2c9a-1b3d-4e6f-8a7b-9c0d1e2f3a4b";
+
+  @Param({"braces", "wildcard", "wildcards-and-braces", "mismatch"})
+  private String shape;
+
+  private String pattern;
+  private String path;
+  private PathPattern compiled;
+
+  @Setup
+  public void setUp() {
+    switch (shape) {
+      case "braces" -> {
+        pattern = "/inventory/items/{itemId}/holdings/{holdingId}/copies/{copyId}";
+        path = "/inventory/items/" + ID + "/holdings/" + ID + "/copies/" + ID;
+      }
+      case "wildcard" -> {
+        pattern = "/inventory/records*";
+        path = "/inventory/records/" + ID + "/source/marc";
+      }
+      case "wildcards-and-braces" -> {
+        pattern = "/inventory/{tenant}/settings/*/entries/{id}/*/history";
+        path = "/inventory/diku/settings/a/b/c/entries/" + ID + "/x/y/history";
+      }
+      case "mismatch" -> {
+        pattern = "/inventory/{tenant}/settings/*/entries/{id}/*/history";
+        path = "/inventory/diku/settings/a/b/c/entries/" + ID + "/x/y/changes";
+      }
+      default -> throw new IllegalArgumentException("Unknown shape: " + shape);
+    }
+    compiled = PathPattern.compile(pattern);
+  }
+
+  @Benchmark
+  public boolean compiled() {
+    return compiled.matches(path);
+  }
+
+  @Benchmark
+  public boolean interpreted() {
+    return interpretedMatch(pattern, 0, path, 0, path.length());
+  }
+
+  /**
+   * Recursive matcher that interprets the pattern on every call, kept as the baseline.
+   */
+  private static boolean interpretedMatch(String pattern, int patternIndex, String path, int pathIndex,
+    int pathLength) {
+    while (patternIndex < pattern.length()) {
+      var patternChar = pattern.charAt(patternIndex);
+      patternIndex++;
+      if (patternChar == '{') {
+        while (pattern.charAt(patternIndex) != '}') {
+          patternIndex++;
+        }
+        patternIndex++;
+        var empty = true;
+        while (pathIndex < pathLength && path.charAt(pathIndex) != '/') {
+          pathIndex++;
+          empty = false;
+        }
+        if (empty) {
+          return false;
+        }
+      } else if (patternChar != '*') {
+        if (pathIndex == pathLength || patternChar != path.charAt(pathIndex)) {
+          return false;
+        }
+        pathIndex++;
+      } else {
+        do {
+          if (interpretedMatch(pattern, patternIndex, path, pathIndex, pathLength)) {
+            return true;
+          }
+          pathIndex++;
+        } while (pathIndex <= pathLength);
+        return false;
+      }
+    }
+    return pathIndex == pathLength;
+  }
+}
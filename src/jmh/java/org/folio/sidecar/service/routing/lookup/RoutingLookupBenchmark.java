@@ -0,0 +1,86 @@
+package org.folio.sidecar.service.routing.lookup;
+
+import static org.folio.sidecar.service.routing.lookup.RoutingLookupUtils.compileModules;
+import static org.folio.sidecar.service.routing.lookup.RoutingLookupUtils.lookup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.folio.sidecar.model.ScRoutingEntry;
+import org.folio.sidecar.service.routing.lookup.SyntheticBootstrap.Request;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures egress routing lookup throughput for requests matching a route and for requests without a route.
+ *
+ * <p>Run with {@code -prof gc} to get the allocation rate per lookup.</p>
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RoutingLookupBenchmark {
+
+  private static final int REQUESTS = 4096;
+
+  @Param({"10", "100"})
+  private int modules;
+
+  @Param({"5000", "50000"})
+  private int endpoints;
+
+  @Param({"0", "1"})
+  private int legacyPercent;
+
+  private RoutingTrie routes;
+  private Request[] matchingRequests;
+  private Request[] missingRequests;
+
+  @Setup
+  public void setUp() {
+    var bootstrap = SyntheticBootstrap.generate(modules, endpoints, legacyPercent);
+    routes = RoutingSnapshot.of(1, compileModules(bootstrap.modules(), List.of())).routes();
+    matchingRequests = bootstrap.matchingRequests(REQUESTS, 42);
+    missingRequests = bootstrap.missingRequests(REQUESTS, 42);
+
+    for (var request : matchingRequests) {
+      if (lookup(request.request(), request.path(), routes, true).isEmpty()) {
+        throw new IllegalStateException("Route not found for generated request: " + request);
+      }
+    }
+  }
+
+  @Benchmark
+  public Optional<ScRoutingEntry> lookupMatching(Cursor cursor) {
+    var request = matchingRequests[cursor.next()];
+    return lookup(request.request(), request.path(), routes, true).map(RouteCandidate::hit);
+  }
+
+  @Benchmark
+  public Optional<ScRoutingEntry> lookupMissing(Cursor cursor) {
+    var request = missingRequests[cursor.next()];
+    return lookup(request.request(), request.path(), routes, true).map(RouteCandidate::hit);
+  }
+
+  @State(Scope.Thread)
+  public static class Cursor {
+
+    private int position;
+
+    int next() {
+      return position++ & (REQUESTS - 1);
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package org.folio.sidecar.service.routing.lookup;
+
+import static org.folio.sidecar.service.routing.lookup.RoutingLookupUtils.compileModules;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.folio.sidecar.integration.am.model.ModuleBootstrapDiscovery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures routing table build time: a full build from module bootstrap and an update where a single module is
+ * changed and the routes of other modules are reused.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RoutingTableBuildBenchmark {
+
+  @Param({"10", "100"})
+  private int modules;
+
+  @Param({"5000", "50000"})
+  private int endpoints;
+
+  @Param({"0", "1"})
+  private int legacyPercent;
+
+  private List<ModuleBootstrapDiscovery> bootstrap;
+  private List<ModuleBootstrapDiscovery> changedBootstrap;
+  private List<ModuleRoutes> compiled;
+
+  @Setup
+  public void setUp() {
+    var synthetic = SyntheticBootstrap.generate(modules, endpoints, legacyPercent);
+    bootstrap = synthetic.modules();
+    changedBootstrap = synthetic.withChangedModule(modules / 2);
+    compiled = compileModules(bootstrap, List.of());
+  }
+
+  @Benchmark
+  public RoutingSnapshot buildAll() {
+    return RoutingSnapshot.of(1, compileModules(bootstrap, List.of()));
+  }
+
+  @Benchmark
+  public RoutingSnapshot rebuildChangedModule() {
+    return RoutingSnapshot.of(2, compileModules(changedBootstrap, compiled));
+  }
+}
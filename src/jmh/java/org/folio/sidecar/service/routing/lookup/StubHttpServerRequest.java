@@ -0,0 +1,257 @@
+package org.folio.sidecar.service.routing.lookup;
+
+import io.netty.handler.codec.DecoderResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.Cookie;
+import io.vertx.core.http.HttpConnection;
+import io.vertx.core.http.HttpFrame;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerFileUpload;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.http.ServerWebSocket;
+import io.vertx.core.http.StreamPriority;
+import io.vertx.core.net.HostAndPort;
+import io.vertx.core.net.NetSocket;
+import java.util.Set;
+import javax.security.cert.X509Certificate;
+import org.folio.sidecar.integration.okapi.OkapiHeaders;
+
+/**
+ * Minimal {@link HttpServerRequest} for benchmarks: answers only what routing lookup reads (method and
+ * {@code X-Okapi-Module-Id} header) with plain field reads, so that the stub does not add to the measured time and
+ * allocations. Any other method fails.
+ */
+final class StubHttpServerRequest implements HttpServerRequest {
+
+  private final HttpMethod method;
+  private final String moduleId;
+
+  StubHttpServerRequest(HttpMethod method, String moduleId) {
+    this.method = method;
+    this.moduleId = moduleId;
+  }
+
+  @Override
+  public HttpMethod method() {
+    return method;
+  }
+
+  @Override
+  public String getHeader(String headerName) {
+    return OkapiHeaders.MODULE_ID.equals(headerName) ? moduleId : null;
+  }
+
+  @Override
+  public HttpServerRequest exceptionHandler(Handler<Throwable> handler) {
+    throw unsupported();
+  }
+
+  @Override
+  public HttpServerRequest handler(Handler<Buffer> handler) {
+    throw unsupported();
+  }
+
+  @Override
+  public HttpServerRequest pause() {
+    throw unsupported();
+  }
+
+  @Override
+  public HttpServerRequest resume() {
+    throw unsupported();
+  }
+
+  @Override
+  public HttpServerRequest fetch(long amount) {
+    throw unsupported();
+  }
+
+  @Override
+  public HttpServerRequest endHandler(Handler<Void> endHandler) {
+    throw unsupported();
+  }
+
+  @Override
+  public HttpVersion version() {
+    throw unsupported();
+  }
+
+  @Override
+  public String scheme() {
+    throw unsupported();
+  }
+
+  @Override
+  public String uri() {
+    throw unsupported();
+  }
+
+  @Override
+  public String path() {
+    throw unsupported();
+  }
+
+  @Override
+  public String query() {
+    throw unsupported();
+  }
+
+  @Override
+  public HostAndPort authority() {
+    throw unsupported();
+  }
+
+  @Override
+  public HostAndPort authority(boolean real) {
+    throw unsupported();
+  }
+
+  @Override
+  public String host() {
+    throw unsupported();
+  }
+
+  @Override
+  public long bytesRead() {
+    throw unsupported();
+  }
+
+  @Override
+  public HttpServerResponse response() {
+    throw unsupported();
+  }
+
+  @Override
+  public MultiMap headers() {
+    throw unsupported();
+  }
+
+  @Override
+  public HttpServerRequest setParamsCharset(String charset) {
+    throw unsupported();
+  }
+
+  @Override
+  public String getParamsCharset() {
+    throw unsupported();
+  }
+
+  @Override
+  public MultiMap params() {
+    throw unsupported();
+  }
+
+  @Override
+  public MultiMap params(boolean semicolonIsNormalChar) {
+    throw unsupported();
+  }
+
+  @Override
+  public X509Certificate[] peerCertificateChain() {
+    throw unsupported();
+  }
+
+  @Override
+  public String absoluteURI() {
+    throw unsupported();
+  }
+
+  @Override
+  public Future<Buffer> body() {
+    throw unsupported();
+  }
+
+  @Override
+  public Future<Void> end() {
+    throw unsupported();
+  }
+
+  @Override
+  public Future<NetSocket> toNetSocket() {
+    throw unsupported();
+  }
+
+  @Override
+  public HttpServerRequest setExpectMultipart(boolean expect) {
+    throw unsupported();
+  }
+
+  @Override
+  public boolean isExpectMultipart() {
+    throw unsupported();
+  }
+
+  @Override
+  public HttpServerRequest uploadHandler(Handler<HttpServerFileUpload> uploadHandler) {
+    throw unsupported();
+  }
+
+  @Override
+  public MultiMap formAttributes() {
+    throw unsupported();
+  }
+
+  @Override
+  public String getFormAttribute(String attributeName) {
+    throw unsupported();
+  }
+
+  @Override
+  public Future<ServerWebSocket> toWebSocket() {
+    throw unsupported();
+  }
+
+  @Override
+  public boolean isEnded() {
+    throw unsupported();
+  }
+
+  @Override
+  public HttpServerRequest customFrameHandler(Handler<HttpFrame> handler) {
+    throw unsupported();
+  }
+
+  @Override
+  public HttpConnection connection() {
+    throw unsupported();
+  }
+
+  @Override
+  public HttpServerRequest streamPriorityHandler(Handler<StreamPriority> handler) {
+    throw unsupported();
+  }
+
+  @Override
+  public DecoderResult decoderResult() {
+    throw unsupported();
+  }
+
+  @Override
+  public Cookie getCookie(String name) {
+    throw unsupported();
+  }
+
+  @Override
+  public Cookie getCookie(String name, String domain, String path) {
+    throw unsupported();
+  }
+
+  @Override
+  public Set<Cookie> cookies(String name) {
+    throw unsupported();
+  }
+
+  @Override
+  public Set<Cookie> cookies() {
+    throw unsupported();
+  }
+
+  private static UnsupportedOperationException unsupported() {
+    return new UnsupportedOperationException("Not supported by the benchmark request stub");
+  }
+}
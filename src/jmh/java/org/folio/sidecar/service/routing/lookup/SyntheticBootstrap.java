@@ -0,0 +1,208 @@
+package org.folio.sidecar.service.routing.lookup;
+
+import static org.folio.sidecar.utils.RoutingUtils.MULTIPLE_INTERFACE_TYPE;
+
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.folio.sidecar.integration.am.model.ModuleBootstrapDiscovery;
+import org.folio.sidecar.integration.am.model.ModuleBootstrapEndpoint;
+import org.folio.sidecar.integration.am.model.ModuleBootstrapInterface;
+
+/**
+ * Generates module bootstrap of a realistic shape for benchmarks.
+ *
+ * <p>Every module provides interfaces of 10 endpoints each, mixing exact paths, brace parameters, wildcards, a shared
+ * {@code /_/tenant} system interface and multiple interfaces. Legacy {@code path} entries are bucketed at {@code /}
+ * and checked for every request, so their share is a parameter: real module descriptors rarely use them. Generation
+ * is deterministic for the same arguments.</p>
+ *
+ * @param modules - generated module bootstraps
+ * @param endpoints - generated endpoints with sample request paths
+ */
+record SyntheticBootstrap(List<ModuleBootstrapDiscovery> modules, List<Endpoint> endpoints) {
+
+  static final int ENDPOINTS_PER_INTERFACE = 10;
+  static final int MAX_LEGACY_PERCENT = 100 / ENDPOINTS_PER_INTERFACE;
+
+  /**
+   * Generates module bootstrap.
+   *
+   * @param moduleCount - number of modules
+   * @param endpointCount - total number of endpoints, spread evenly across modules
+   * @param legacyPercent - percent of endpoints defined by a legacy {@code path}, up to {@link #MAX_LEGACY_PERCENT}
+   * @return generated {@link SyntheticBootstrap}
+   */
+  static SyntheticBootstrap generate(int moduleCount, int endpointCount, int legacyPercent) {
+    if (legacyPercent < 0 || legacyPercent > MAX_LEGACY_PERCENT) {
+      throw new IllegalArgumentException("Legacy percent must be between 0 and " + MAX_LEGACY_PERCENT);
+    }
+
+    var interfaceCount = 0;
+    var interfacesPerModule = Math.max(1, endpointCount / moduleCount / ENDPOINTS_PER_INTERFACE);
+    var modules = new ArrayList<ModuleBootstrapDiscovery>(moduleCount);
+    var endpoints = new ArrayList<Endpoint>(endpointCount);
+
+    for (var m = 0; m < moduleCount; m++) {
+      var module = new ModuleBootstrapDiscovery();
+      module.setModuleId("mod-m" + m + "-1.0." + m);
+      module.setApplicationId("app-bench-1.0.0");
+      module.setLocation("http://mod-m" + m + ":8081");
+
+      if (m % 10 == 0) {
+        module.getInterfaces().add(tenantInterface());
+      }
+
+      for (var i = 0; i < interfacesPerModule; i++) {
+        var moduleInterface = new ModuleBootstrapInterface();
+        moduleInterface.setId("m" + m + "-i" + i);
+        moduleInterface.setVersion("1.0");
+        if (i % 25 == 24) {
+          moduleInterface.setInterfaceType(MULTIPLE_INTERFACE_TYPE);
+        }
+
+        // every interface has a single endpoint that may be legacy, spread legacy interfaces evenly
+        var legacy = (interfaceCount + 1) * legacyPercent / MAX_LEGACY_PERCENT
+          > interfaceCount * legacyPercent / MAX_LEGACY_PERCENT;
+        interfaceCount++;
+
+        var base = "/m" + m + "/i" + i;
+        for (var e = 0; e < ENDPOINTS_PER_INTERFACE; e++) {
+          var endpoint = endpoint(base, e, legacy);
+          moduleInterface.getEndpoints().add(endpoint);
+          endpoints.add(new Endpoint(module.getModuleId(), endpoint,
+            MULTIPLE_INTERFACE_TYPE.equals(moduleInterface.getInterfaceType())));
+        }
+        module.getInterfaces().add(moduleInterface);
+      }
+      modules.add(module);
+    }
+
+    return new SyntheticBootstrap(List.copyOf(modules), List.copyOf(endpoints));
+  }
+
+  /**
+   * Returns module bootstraps where location of a single module is changed.
+   *
+   * @param moduleIndex - index of the changed module
+   * @return module bootstraps, only the changed module is a new object
+   */
+  List<ModuleBootstrapDiscovery> withChangedModule(int moduleIndex) {
+    var result = new ArrayList<>(modules);
+    var source = modules.get(moduleIndex);
+    var changed = new ModuleBootstrapDiscovery();
+    changed.setModuleId(source.getModuleId());
+    changed.setApplicationId(source.getApplicationId());
+    changed.setLocation(source.getLocation() + "/changed");
+    changed.setInterfaces(source.getInterfaces());
+    result.set(moduleIndex, changed);
+    return result;
+  }
+
+  /**
+   * Creates requests matching random generated endpoints.
+   *
+   * @param count - number of requests, a power of two
+   * @param seed - random seed
+   * @return array of requests
+   */
+  Request[] matchingRequests(int count, long seed) {
+    var random = new Random(seed);
+    var requests = new Request[count];
+    for (var i = 0; i < count; i++) {
+      var endpoint = endpoints.get(random.nextInt(endpoints.size()));
+      var definition = endpoint.definition();
+      var methodName = definition.getMethods()[random.nextInt(definition.getMethods().length)];
+      var method = "*".equals(methodName) ? HttpMethod.GET : HttpMethod.valueOf(methodName);
+      var moduleId = endpoint.multiple() ? endpoint.moduleId() : null;
+      requests[i] = new Request(method, samplePath(definition.getStaticPath(), random), moduleId);
+    }
+    return requests;
+  }
+
+  /**
+   * Creates requests which paths do not match any generated endpoint, but share prefixes with them.
+   *
+   * @param count - number of requests, a power of two
+   * @param seed - random seed
+   * @return array of requests
+   */
+  Request[] missingRequests(int count, long seed) {
+    var random = new Random(seed);
+    var requests = new Request[count];
+    for (var i = 0; i < count; i++) {
+      var module = random.nextInt(modules.size());
+      requests[i] = new Request(HttpMethod.GET, "/m" + module + "/unknown/" + UUID.randomUUID(), null);
+    }
+    return requests;
+  }
+
+  private static ModuleBootstrapEndpoint endpoint(String base, int index, boolean legacy) {
+    return switch (index) {
+      case 0 -> new ModuleBootstrapEndpoint(base + "/items", "GET", "POST");
+      case 1 -> new ModuleBootstrapEndpoint(base + "/items/{id}", "GET", "PUT", "DELETE");
+      case 2 -> new ModuleBootstrapEndpoint(base + "/items/{id}/notes/{noteId}", "GET", "PUT");
+      case 3 -> new ModuleBootstrapEndpoint(base + "/items/{itemId}/holdings/{holdingId}/copies/{copyId}", "GET");
+      case 4 -> new ModuleBootstrapEndpoint(base + "/records*", "*");
+      case 5 -> new ModuleBootstrapEndpoint(base + "/{tenant}/settings/*/entries/{id}", "GET", "PATCH");
+      case 6 -> new ModuleBootstrapEndpoint(base + "/batch/{jobId}/*", "POST");
+      case 7 -> legacy
+        ? legacyEndpoint(base + "/legacy", "GET")
+        : new ModuleBootstrapEndpoint(base + "/legacy*", "GET");
+      case 8 -> new ModuleBootstrapEndpoint(base + "/search/instances", "GET");
+      default -> new ModuleBootstrapEndpoint(base + "/items/{id}/status", "PUT");
+    };
+  }
+
+  private static ModuleBootstrapEndpoint legacyEndpoint(String path, String... methods) {
+    var endpoint = new ModuleBootstrapEndpoint();
+    endpoint.setPath(path);
+    endpoint.setMethods(methods);
+    return endpoint;
+  }
+
+  private static ModuleBootstrapInterface tenantInterface() {
+    var tenantInterface = new ModuleBootstrapInterface();
+    tenantInterface.setId("_tenant");
+    tenantInterface.setVersion("2.0");
+    tenantInterface.setInterfaceType("system");
+    tenantInterface.getEndpoints().add(new ModuleBootstrapEndpoint("/_/tenant", "POST"));
+    tenantInterface.getEndpoints().add(new ModuleBootstrapEndpoint("/_/tenant/{id}", "GET", "DELETE"));
+    return tenantInterface;
+  }
+
+  private static String samplePath(String pattern, Random random) {
+    var result = new StringBuilder(pattern.length() + 64);
+    for (var i = 0; i < pattern.length(); i++) {
+      var c = pattern.charAt(i);
+      if (c == '{') {
+        i = pattern.indexOf('}', i);
+        result.append(new UUID(random.nextLong(), random.nextLong()));
+      } else if (c == '*') {
+        result.append("x/").append(random.nextInt(1000));
+      } else {
+        result.append(c);
+      }
+    }
+    return result.toString();
+  }
+
+  record Endpoint(String moduleId, ModuleBootstrapEndpoint definition, boolean multiple) {}
+
+  /**
+   * Sample request with a {@link StubHttpServerRequest} that answers only what routing lookup reads.
+   *
+   * @param method - http method
+   * @param path - request path
+   * @param moduleId - value of {@code X-Okapi-Module-Id} header, nullable
+   */
+  record Request(HttpMethod method, String path, String moduleId, HttpServerRequest request) {
+
+    Request(HttpMethod method, String path, String moduleId) {
+      this(method, path, moduleId, new StubHttpServerRequest(method, moduleId));
+    }
+  }
+}
@@ -4,6 +4,7 @@ import static java.lang.String.format;
 
 import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpVersion;
 import io.vertx.core.net.KeyStoreOptions;
 import io.vertx.ext.web.client.WebClient;
 import io.vertx.ext.web.client.WebClientOptions;
@@ -16,6 +17,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.folio.sidecar.configuration.properties.WebClientConfig;
+import org.folio.sidecar.configuration.properties.WebClientConfig.Http2Settings;
 import org.folio.sidecar.configuration.properties.WebClientConfig.TlsSettings;
 import org.folio.sidecar.configuration.properties.WebClientConfig.WebClientSettings;
 
@@ -107,6 +109,11 @@ public class WebClientConfiguration {
       configureTls(result, tls, settings.name());
     }
 
+    var http2 = settings.http2();
+    if (http2.enabled()) {
+      configureHttp2(result, http2, settings.name());
+    }
+
     return result;
   }
 
@@ -150,6 +157,16 @@ public class WebClientConfiguration {
     }
   }
 
+  private static void configureHttp2(WebClientOptions result, Http2Settings http2, String clientName) {
+    log.info("Enabling HTTP/2 for web client: clientName = {}, priorKnowledge = {}, multiplexingLimit = {}",
+      clientName, http2.priorKnowledge(), http2.multiplexingLimit());
+    result.setProtocolVersion(HttpVersion.HTTP_2)
+      .setUseAlpn(true)
+      .setHttp2ClearTextUpgrade(!http2.priorKnowledge())
+      .setHttp2MultiplexingLimit(http2.multiplexingLimit())
+      .setHttp2ConnectionWindowSize(http2.connectionWindowSize());
+  }
+
   private static KeyStoreOptions createKeyStoreOptions(TlsSettings tls, String clientName) {
     return new KeyStoreOptions()
       .setPassword(getRequired(tls.trustStorePassword(), "trust-store-password", clientName))
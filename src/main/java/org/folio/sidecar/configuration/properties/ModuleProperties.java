@@ -4,6 +4,7 @@ import jakarta.enterprise.context.ApplicationScoped;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.apache.commons.lang3.Strings;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 @Data
@@ -12,9 +13,29 @@ import org.eclipse.microprofile.config.inject.ConfigProperty;
 @AllArgsConstructor
 public class ModuleProperties {
 
+  public static final String DOMAIN_SOCKET_SCHEME = "unix:";
+
   @ConfigProperty(name = "module.id") String id;
   @ConfigProperty(name = "module.name") String name;
   @ConfigProperty(name = "module.version") String version;
   @ConfigProperty(name = "module.url") String url;
   @ConfigProperty(name = "module.health-path") String healthPath;
+
+  /**
+   * Checks if the module listens on a unix domain socket, e.g. {@code unix:/var/run/mod-foo.sock}.
+   *
+   * @return true if the module URL uses {@code unix:} scheme
+   */
+  public boolean isDomainSocket() {
+    return Strings.CI.startsWith(url, DOMAIN_SOCKET_SCHEME);
+  }
+
+  /**
+   * Returns the path of the module unix domain socket.
+   *
+   * @return socket path if the module URL uses {@code unix:} scheme, null otherwise
+   */
+  public String getDomainSocketPath() {
+    return isDomainSocket() ? url.substring(DOMAIN_SOCKET_SCHEME.length()) : null;
+  }
 }
@@ -0,0 +1,27 @@
+package org.folio.sidecar.configuration.properties;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+import io.smallrye.config.WithName;
+
+@ConfigMapping(prefix = "transport")
+public interface TransportProperties {
+
+  @WithName("native")
+  NativeTransportSettings nativeTransport();
+
+  interface NativeTransportSettings {
+
+    /**
+     * Defines if native transport is preferred by Vert.x, mirrors {@code quarkus.vertx.prefer-native-transport}.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * Defines if the sidecar fails on startup instead of falling back to NIO when native transport is unavailable.
+     */
+    @WithDefault("false")
+    boolean required();
+  }
+}
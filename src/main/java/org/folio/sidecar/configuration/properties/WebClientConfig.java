@@ -29,6 +29,10 @@ public interface WebClientConfig {
     PoolSettings pool();
 
     TlsSettings tls();
+
+    Http2Settings http2();
+
+    WriteQueueSettings writeQueue();
   }
 
   interface TimeoutSettings {
@@ -72,6 +76,58 @@ public interface WebClientConfig {
     int maxWaitQueueSize();
   }
 
+  /*
+   * HTTP/2 settings for WebClient
+   *
+   * HTTP/2 is negotiated with ALPN over TLS and with the HTTP/1.1 upgrade over clear text connections, both fall back
+   * to HTTP/1.1 if the server does not support HTTP/2. Prior knowledge skips the upgrade and requires h2c support of
+   * the server.
+   */
+  interface Http2Settings {
+
+    @WithDefault("false")
+    boolean enabled();
+
+    @WithDefault("false")
+    boolean priorKnowledge();
+
+    @WithDefault("-1") // -1 means the limit of the server
+    int multiplexingLimit();
+
+    @WithDefault("-1") // in bytes, -1 means HTTP/2 default
+    int connectionWindowSize();
+  }
+
+  /*
+   * Write queue settings for request and response bodies streamed through the client
+   *
+   * Reading of a body is paused when the write queue exceeds the high watermark and resumed when it drains below the
+   * low watermark. In adaptive mode the high watermark follows the bandwidth-delay product observed per destination,
+   * the low watermark keeps its ratio to the high one.
+   */
+  interface WriteQueueSettings {
+
+    @WithDefault("131072") // in bytes
+    int highWatermark();
+
+    @WithDefault("65536") // in bytes
+    int lowWatermark();
+
+    AdaptiveWriteQueueSettings adaptive();
+  }
+
+  interface AdaptiveWriteQueueSettings {
+
+    @WithDefault("false")
+    boolean enabled();
+
+    @WithDefault("32768") // in bytes
+    int minSize();
+
+    @WithDefault("4194304") // in bytes
+    int maxSize();
+  }
+
   interface TlsSettings {
 
     @WithDefault("false")
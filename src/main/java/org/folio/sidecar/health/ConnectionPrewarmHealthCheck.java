@@ -0,0 +1,24 @@
+package org.folio.sidecar.health;
+
+import io.quarkus.arc.lookup.LookupIfProperty;
+import jakarta.enterprise.context.ApplicationScoped;
+import lombok.RequiredArgsConstructor;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Readiness;
+import org.folio.sidecar.service.routing.handler.ConnectionPrewarmService;
+
+@ApplicationScoped
+@RequiredArgsConstructor
+public class ConnectionPrewarmHealthCheck {
+
+  public static final String CHECK_NAME = "Connection pre-warm check";
+
+  private final ConnectionPrewarmService connectionPrewarmService;
+
+  @Readiness
+  @LookupIfProperty(name = "routing.prewarm.enabled", stringValue = "true")
+  HealthCheck checkConnectionPrewarm() {
+    return () -> HealthCheckResponse.named(CHECK_NAME).status(connectionPrewarmService.isInitialized()).build();
+  }
+}
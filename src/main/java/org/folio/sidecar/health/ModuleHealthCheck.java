@@ -1,10 +1,22 @@
 package org.folio.sidecar.health;
 
+import static io.vertx.core.http.HttpMethod.GET;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
 import io.smallrye.health.checks.UrlHealthCheck;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.RequestOptions;
+import io.vertx.core.net.SocketAddress;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.ws.rs.HttpMethod;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 import lombok.RequiredArgsConstructor;
 import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
 import org.eclipse.microprofile.health.Readiness;
 import org.folio.sidecar.configuration.properties.ModuleProperties;
 import org.folio.sidecar.service.PathProcessor;
@@ -14,12 +26,20 @@ import org.folio.sidecar.service.PathProcessor;
 public class ModuleHealthCheck {
 
   public static final String CHECK_NAME = "Module health check";
+  private static final int TIMEOUT_MS = 2000;
 
   private final PathProcessor pathProcessor;
   private final ModuleProperties moduleProperties;
+  private final Vertx vertx;
+
+  private HttpClient domainSocketClient;
 
   @Readiness
   HealthCheck checkModule() {
+    if (moduleProperties.isDomainSocket()) {
+      return this::checkDomainSocketModule;
+    }
+
     return new UrlHealthCheck(getModuleHealthCheckUrl())
       .name(CHECK_NAME).requestMethod(HttpMethod.GET).statusCode(200);
   }
@@ -30,4 +50,43 @@ public class ModuleHealthCheck {
     healthUrlBuilder.append(moduleHealthUrlPath);
     return healthUrlBuilder.toString();
   }
+
+  /**
+   * Checks module listening on a unix domain socket, {@link UrlHealthCheck} supports TCP connections only.
+   */
+  HealthCheckResponse checkDomainSocketModule() {
+    var response = HealthCheckResponse.named(CHECK_NAME).withData("host", "GET " + getModuleHealthCheckUrl());
+    try {
+      var statusCode = requestDomainSocketModule().toCompletionStage().toCompletableFuture()
+        .get(TIMEOUT_MS, MILLISECONDS);
+      return response.status(statusCode == 200).build();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return response.down().withData("error", e.toString()).build();
+    } catch (ExecutionException e) {
+      return response.down().withData("error", e.getCause().toString()).build();
+    } catch (TimeoutException e) {
+      return response.down().withData("error", "Module health check timed out").build();
+    }
+  }
+
+  private Future<Integer> requestDomainSocketModule() {
+    var requestOptions = new RequestOptions()
+      .setServer(SocketAddress.domainSocketAddress(moduleProperties.getDomainSocketPath()))
+      .setHost("localhost")
+      .setMethod(GET)
+      .setURI(pathProcessor.getModulePath(moduleProperties.getHealthPath()))
+      .setTimeout(TIMEOUT_MS);
+
+    return getDomainSocketClient().request(requestOptions)
+      .compose(request -> request.send())
+      .compose(resp -> resp.body().map(body -> resp.statusCode()));
+  }
+
+  private synchronized HttpClient getDomainSocketClient() {
+    if (domainSocketClient == null) {
+      domainSocketClient = vertx.createHttpClient(new HttpClientOptions().setConnectTimeout(TIMEOUT_MS));
+    }
+    return domainSocketClient;
+  }
 }
@@ -3,8 +3,9 @@ package org.folio.sidecar.integration.kafka;
 import static org.folio.sidecar.integration.kafka.TenantEntitlementEvent.Type.ENTITLE;
 import static org.folio.sidecar.integration.kafka.TenantEntitlementEvent.Type.UPGRADE;
 
+import io.quarkus.arc.All;
 import jakarta.enterprise.context.ApplicationScoped;
-import lombok.RequiredArgsConstructor;
+import java.util.List;
 import lombok.extern.log4j.Log4j2;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.reactive.messaging.Incoming;
@@ -14,17 +15,25 @@ import org.folio.sidecar.service.routing.EgressBootstrapService;
 
 @Log4j2
 @ApplicationScoped
-@RequiredArgsConstructor
 public class TenantEntitlementConsumer {
 
   @ConfigProperty(name = "routing.tenant-scoped.enabled") boolean tenantScoped;
 
   private final TenantService tenantService;
   private final EgressBootstrapService egressBootstrapService;
+  private final List<TenantEntitlementListener> entitlementListeners;
+
+  public TenantEntitlementConsumer(TenantService tenantService, EgressBootstrapService egressBootstrapService,
+    @All List<TenantEntitlementListener> listeners) {
+    this.tenantService = tenantService;
+    this.egressBootstrapService = egressBootstrapService;
+    this.entitlementListeners = listeners;
+  }
 
   @Incoming("entitlement")
   public void consume(TenantEntitlementEvent event) {
     log.debug("Consuming entitlement event: {}", event);
+    entitlementListeners.forEach(listener -> listener.onTenantEntitlement(event));
     var moduleId = event.getModuleId();
     if (!tenantService.isAssignedModule(moduleId)) {
       return;
@@ -0,0 +1,6 @@
+package org.folio.sidecar.integration.kafka;
+
+public interface TenantEntitlementListener {
+
+  void onTenantEntitlement(TenantEntitlementEvent event);
+}
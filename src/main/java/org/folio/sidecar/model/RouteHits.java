@@ -0,0 +1,34 @@
+package org.folio.sidecar.model;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import java.util.List;
+
+/**
+ * Number of requests resolved to a routing entry.
+ *
+ * @param lookup - name of the routing lookup: ingress or egress
+ * @param moduleId - module id
+ * @param interfaceId - interface id
+ * @param path - path pattern of the routing entry, legacy path if pattern is not defined
+ * @param methods - HTTP methods of the routing entry
+ * @param hits - number of requests resolved to the routing entry
+ */
+@RegisterForReflection
+public record RouteHits(String lookup, String moduleId, String interfaceId, String path, List<String> methods,
+  long hits) {
+
+  /**
+   * Creates route hits for the given routing entry.
+   *
+   * @param lookup - name of the routing lookup
+   * @param entry - sidecar routing entry
+   * @param hits - number of requests resolved to the routing entry
+   * @return created {@link RouteHits}
+   */
+  public static RouteHits of(String lookup, ScRoutingEntry entry, long hits) {
+    var endpoint = entry.getRoutingEntry();
+    var path = endpoint.getPathPattern() != null ? endpoint.getPathPattern() : endpoint.getPath();
+    var methods = endpoint.getMethods() == null ? List.<String>of() : List.of(endpoint.getMethods());
+    return new RouteHits(lookup, entry.getModuleId(), entry.getInterfaceId(), path, methods, hits);
+  }
+}
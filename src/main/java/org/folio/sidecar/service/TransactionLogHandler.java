@@ -1,12 +1,15 @@
 package org.folio.sidecar.service;
 
 import static org.apache.commons.lang3.StringUtils.isEmpty;
+import static org.folio.sidecar.utils.RoutingUtils.EGRESS_ROUTING_VERSION_KEY;
+import static org.folio.sidecar.utils.RoutingUtils.INGRESS_ROUTING_VERSION_KEY;
 
 import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpClientResponse;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.ext.web.RoutingContext;
 import jakarta.enterprise.context.ApplicationScoped;
+import java.util.Objects;
 import lombok.extern.log4j.Log4j2;
 import org.apache.logging.log4j.ThreadContext;
 import org.folio.sidecar.integration.okapi.OkapiHeaders;
@@ -38,6 +41,8 @@ public class TransactionLogHandler {
     ThreadContext.put("uct", calculateValue(rc, end, "uct"));
     ThreadContext.put("uht", calculateValue(rc, end, "uht"));
     ThreadContext.put("urt", calculateValue(rc, end, "urt"));
+    ThreadContext.put("ingress-routing-version", Objects.toString(rc.get(INGRESS_ROUTING_VERSION_KEY), ""));
+    ThreadContext.put("egress-routing-version", Objects.toString(rc.get(EGRESS_ROUTING_VERSION_KEY), ""));
 
     try {
       log.info("");
@@ -0,0 +1,108 @@
+package org.folio.sidecar.service.routing;
+
+import static java.util.stream.Collectors.toCollection;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.VertxInternal;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.log4j.Log4j2;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.folio.sidecar.integration.am.model.ModuleBootstrapDiscovery;
+
+/**
+ * Resolves host names with the Vert.x address resolver used by HTTP clients and records resolution metrics.
+ *
+ * <p>The resolver (cache TTLs, search domains, ndots) is configured by {@code quarkus.vertx.resolver.*} properties.
+ * Locations of required modules can be resolved in advance, so that the resolver cache is populated before the
+ * first egress request and DNS stalls don't add up to the connect time of forwarded requests.</p>
+ */
+@Log4j2
+@ApplicationScoped
+public class DnsResolutionService implements ModuleBootstrapListener {
+
+  static final String RESOLUTION_METRIC_NAME = "sidecar.dns.resolution";
+
+  @ConfigProperty(name = "routing.dns.pre-resolve.enabled") boolean preResolveEnabled;
+
+  private final VertxInternal vertx;
+  private final MeterRegistry meterRegistry;
+
+  public DnsResolutionService(Vertx vertx, MeterRegistry meterRegistry) {
+    this.vertx = (VertxInternal) vertx;
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Resolves all addresses of the host.
+   *
+   * @param host - host name
+   * @return {@link Future} with distinct host addresses
+   */
+  public Future<List<String>> resolveAll(String host) {
+    var promise = Promise.<List<InetSocketAddress>>promise();
+    var start = System.nanoTime();
+    vertx.addressResolver().resolveHostnameAll(host, promise);
+
+    return promise.future()
+      .onComplete(result -> Timer.builder(RESOLUTION_METRIC_NAME)
+        .description("Time of host name resolution")
+        .tag("host", host)
+        .tag("result", result.succeeded() ? "success" : "failure")
+        .register(meterRegistry)
+        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS))
+      .map(addresses -> addresses.stream()
+        .map(address -> address.getAddress().getHostAddress())
+        .distinct()
+        .toList());
+  }
+
+  @Override
+  public void onRequiredModulesBootstrap(List<ModuleBootstrapDiscovery> requiredModulesBootstrap,
+    ChangeType changeType) {
+    preResolve(requiredModulesBootstrap);
+  }
+
+  /**
+   * Resolves hosts of the module locations in advance if pre-resolution is enabled.
+   *
+   * @param modules - module bootstrap with locations
+   */
+  public void preResolve(List<ModuleBootstrapDiscovery> modules) {
+    if (!preResolveEnabled || modules == null) {
+      return;
+    }
+
+    var hosts = modules.stream()
+      .map(ModuleBootstrapDiscovery::getLocation)
+      .filter(Objects::nonNull)
+      .map(DnsResolutionService::getHost)
+      .filter(Objects::nonNull)
+      .collect(toCollection(LinkedHashSet::new));
+
+    log.debug("Pre-resolving hosts of module locations: {}", hosts);
+    for (var host : hosts) {
+      resolveAll(host)
+        .onSuccess(addresses -> log.debug("Host resolved: host = {}, addresses = {}", host, addresses))
+        .onFailure(error -> log.warn("Failed to pre-resolve host: host = {}, error = {}", host, error.getMessage()));
+    }
+  }
+
+  private static String getHost(String location) {
+    try {
+      return URI.create(location).getHost();
+    } catch (IllegalArgumentException e) {
+      log.debug("Invalid module location, skipping pre-resolution: location = {}", location);
+      return null;
+    }
+  }
+}
@@ -2,34 +2,63 @@ package org.folio.sidecar.service.routing;
 
 import static io.vertx.core.Future.succeededFuture;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.quarkus.vertx.ConsumeEvent;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.impl.ConcurrentHashSet;
 import jakarta.enterprise.context.ApplicationScoped;
 import java.util.List;
 import java.util.Set;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
 import lombok.extern.log4j.Log4j2;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.folio.sidecar.configuration.properties.CacheSettings;
 import org.folio.sidecar.integration.am.ApplicationManagerService;
 import org.folio.sidecar.integration.am.model.ModuleBootstrap;
 import org.folio.sidecar.integration.te.TenantEntitlementService;
 import org.folio.sidecar.integration.te.model.Entitlement;
 import org.folio.sidecar.model.EntitlementsEvent;
 import org.folio.sidecar.model.ResultList;
+import org.folio.sidecar.service.routing.configuration.properties.LazyEgressProperties;
+import org.folio.sidecar.service.routing.handler.ConnectionPrewarmService;
 import org.folio.sidecar.service.routing.lookup.EgressRoutingLookup;
+import org.folio.sidecar.service.routing.lookup.TenantEgressLoader;
 
 @Log4j2
 @ApplicationScoped
-@RequiredArgsConstructor
-public class EgressBootstrapService {
+public class EgressBootstrapService implements TenantEgressLoader {
 
   @ConfigProperty(name = "routing.tenant-scoped.enabled") boolean tenantScoped;
 
   private final ApplicationManagerService appManagerService;
   private final TenantEntitlementService tenantEntitlementService;
   private final EgressRoutingLookup egressRoutingLookup;
+  private final DnsResolutionService dnsResolutionService;
+  private final ConnectionPrewarmService connectionPrewarmService;
   private final Set<String> tenants = new ConcurrentHashSet<>();
+  private final Set<String> pendingTenants = new ConcurrentHashSet<>();
+
+  /**
+   * Egress builds of tenants in lazy mode, null if egress routes are built eagerly.
+   */
+  private final Cache<String, Future<Void>> lazyTenants;
+  private volatile Set<String> enabledTenants = Set.of();
+
+  public EgressBootstrapService(ApplicationManagerService appManagerService,
+    TenantEntitlementService tenantEntitlementService, EgressRoutingLookup egressRoutingLookup,
+    LazyEgressProperties lazyEgressProperties, DnsResolutionService dnsResolutionService,
+    ConnectionPrewarmService connectionPrewarmService) {
+    this.appManagerService = appManagerService;
+    this.tenantEntitlementService = tenantEntitlementService;
+    this.egressRoutingLookup = egressRoutingLookup;
+    this.dnsResolutionService = dnsResolutionService;
+    this.connectionPrewarmService = connectionPrewarmService;
+    this.lazyTenants = lazyEgressProperties.enabled() ? createLazyTenantsCache(lazyEgressProperties.settings()) : null;
+  }
 
   @ConsumeEvent(value = EntitlementsEvent.ENTITLEMENTS_EVENT, blocking = true)
   public void onEntitlementsChanged(EntitlementsEvent event) {
@@ -37,44 +66,181 @@ public class EgressBootstrapService {
       return;
     }
     var target = event.getTenants() == null ? Set.<String>of() : event.getTenants();
-    target.stream().filter(tenant -> !tenants.contains(tenant)).forEach(this::buildEgress);
+    enabledTenants = Set.copyOf(target);
+    if (lazyTenants == null) {
+      var bootstraps = new ConcurrentHashMap<List<String>, Future<ModuleBootstrap>>();
+      target.stream()
+        .filter(tenant -> !tenants.contains(tenant))
+        .forEach(tenant -> buildEagerly(tenant, appIds -> bootstraps.computeIfAbsent(appIds, this::fetchBootstrap)));
+    }
     Set.copyOf(tenants).stream().filter(tenant -> !target.contains(tenant)).forEach(this::dropTenant);
   }
 
+  /**
+   * Builds egress routes of the tenant on the first request in lazy mode.
+   *
+   * <p>Only tenants from the last entitlements event are built, a failed build is retried on the next request.</p>
+   *
+   * @param tenant - tenant name
+   * @return {@link Future} completed when the tenant egress routes are built
+   */
+  @Override
+  public Future<Void> loadTenantEgress(String tenant) {
+    if (lazyTenants == null || !enabledTenants.contains(tenant)) {
+      return succeededFuture();
+    }
+
+    var build = lazyTenants.getIfPresent(tenant);
+    if (build != null && !build.failed()) {
+      return build;
+    }
+
+    var promise = Promise.<Void>promise();
+    var cached = lazyTenants.asMap().compute(tenant,
+      (key, current) -> current == null || current.failed() ? promise.future() : current);
+    if (cached == promise.future()) {
+      buildLazily(tenant).onComplete(promise);
+    }
+    return cached;
+  }
+
   public void refreshTenant(String tenant) {
-    if (tenantScoped) {
-      buildEgress(tenant);
+    if (tenantScoped && (lazyTenants == null || tenants.contains(tenant))) {
+      buildEgress(tenant, false, this::fetchBootstrap, whileHeld(tenant));
     }
   }
 
   public void refreshAllTenants() {
     if (tenantScoped) {
-      Set.copyOf(tenants).forEach(this::buildEgress);
+      var bootstraps = new ConcurrentHashMap<List<String>, Future<ModuleBootstrap>>();
+      Set.copyOf(tenants).forEach(tenant -> buildEgress(tenant, false,
+        appIds -> bootstraps.computeIfAbsent(appIds, this::fetchBootstrap), whileHeld(tenant)));
+    }
+  }
+
+  /**
+   * Builds egress routes of the added tenant, unless the tenant is already being built by a previous event.
+   */
+  private void buildEagerly(String tenant, Function<List<String>, Future<ModuleBootstrap>> bootstrapLoader) {
+    if (pendingTenants.add(tenant)) {
+      buildEgress(tenant, true, bootstrapLoader, () -> isHeld(tenant))
+        .onComplete(unused -> pendingTenants.remove(tenant));
     }
   }
 
-  private Future<Void> buildEgress(String tenant) {
+  private Future<Void> buildLazily(String tenant) {
+    log.info("Building egress routes on demand: tenant = {}", tenant);
+    return buildEgress(tenant, true, this::fetchBootstrap, () -> isHeld(tenant));
+  }
+
+  /**
+   * Builds egress routing table for the tenant.
+   *
+   * <p>Tenants with the same set of entitled applications share a routing table, so if {@code reuseExisting} is set
+   * and such table is already built, it is assigned to the tenant without requesting module bootstrap.</p>
+   *
+   * <p>The tenant can be dropped or evicted while its table is built, so the table is applied only if {@code held}
+   * is still true and released if the tenant is dropped concurrently with applying it.</p>
+   *
+   * @param tenant - tenant name
+   * @param reuseExisting - defines if an existing table for the same applications can be assigned as is
+   * @param bootstrapLoader - loads module bootstrap for the sorted list of application ids
+   * @param held - checks if the tenant is still served by this sidecar
+   * @return {@link Future} completed when the table is built or discarded
+   */
+  private Future<Void> buildEgress(String tenant, boolean reuseExisting,
+    Function<List<String>, Future<ModuleBootstrap>> bootstrapLoader, BooleanSupplier held) {
     return tenantEntitlementService.getTenantEntitlements(tenant, false)
       .map(this::toApplicationIds)
-      .compose(this::fetchBootstrap)
-      .onSuccess(bootstrap -> {
-        egressRoutingLookup.updateTenantEgressRoutes(tenant, bootstrap.getRequiredModules());
-        tenants.add(tenant);
+      .compose(appIds -> {
+        if (!held.getAsBoolean()) {
+          return succeededFuture(false);
+        }
+        return reuseExisting && egressRoutingLookup.assignTenantEgressRoutes(tenant, appIds)
+          ? succeededFuture(true)
+          : bootstrapLoader.apply(appIds)
+            .compose(bootstrap -> connectionPrewarmService.prewarmEgress(bootstrap.getRequiredModules()).map(bootstrap))
+            .map(bootstrap -> held.getAsBoolean() && updateEgress(tenant, appIds, bootstrap));
       })
+      .onSuccess(applied -> onEgressBuilt(tenant, applied, held))
       .onFailure(error -> log.warn("Failed to build egress for tenant {}: {}", tenant, error.getMessage()))
       .mapEmpty();
   }
 
+  private boolean updateEgress(String tenant, List<String> appIds, ModuleBootstrap bootstrap) {
+    egressRoutingLookup.updateTenantEgressRoutes(tenant, appIds, bootstrap.getRequiredModules());
+    dnsResolutionService.preResolve(bootstrap.getRequiredModules());
+    return true;
+  }
+
+  private void onEgressBuilt(String tenant, boolean applied, BooleanSupplier held) {
+    if (!applied) {
+      log.info("Discarding egress routes of dropped tenant: tenant = {}", tenant);
+      return;
+    }
+
+    tenants.add(tenant);
+    if (!held.getAsBoolean()) {
+      log.info("Releasing egress routes of tenant dropped during build: tenant = {}", tenant);
+      releaseTenant(tenant);
+    }
+  }
+
+  /**
+   * Checks if the tenant is enabled and, in lazy mode, not evicted.
+   */
+  private boolean isHeld(String tenant) {
+    return enabledTenants.contains(tenant) && (lazyTenants == null || lazyTenants.asMap().containsKey(tenant));
+  }
+
+  /**
+   * Tenants refreshed before any entitlements event enabled them are not tracked, so their tables are always applied.
+   */
+  private BooleanSupplier whileHeld(String tenant) {
+    return enabledTenants.contains(tenant) ? () -> isHeld(tenant) : () -> true;
+  }
+
   private Future<ModuleBootstrap> fetchBootstrap(List<String> appIds) {
     return appIds.isEmpty() ? succeededFuture(new ModuleBootstrap()) : appManagerService.getEgressBootstrap(appIds);
   }
 
   private void dropTenant(String tenant) {
+    if (lazyTenants != null) {
+      lazyTenants.invalidate(tenant);
+    }
+    releaseTenant(tenant);
+  }
+
+  private void releaseTenant(String tenant) {
     egressRoutingLookup.removeTenantEgressRoutes(tenant);
     tenants.remove(tenant);
   }
 
   private List<String> toApplicationIds(ResultList<Entitlement> entitlements) {
-    return entitlements.getRecords().stream().map(Entitlement::getApplicationId).distinct().toList();
+    return entitlements.getRecords().stream().map(Entitlement::getApplicationId).distinct().sorted().toList();
+  }
+
+  /**
+   * Creates the cache of lazily built tenants, bounded by the number of tenants and their idle time.
+   *
+   * <p>Routes are not weighed: tables are shared by tenants with the same entitled applications and are built after
+   * the tenant is cached, so evicting a tenant frees its table only if no other tenant uses it.</p>
+   */
+  private Cache<String, Future<Void>> createLazyTenantsCache(CacheSettings settings) {
+    var builder = Caffeine.newBuilder();
+
+    settings.initialCapacity().ifPresent(builder::initialCapacity);
+    settings.maxSize().ifPresent(builder::maximumSize);
+    settings.expireAfterAccess().ifPresent(duration ->
+      builder.expireAfterAccess(duration.duration(), duration.unit()));
+    settings.expireAfterWrite().ifPresent(duration ->
+      builder.expireAfterWrite(duration.duration(), duration.unit()));
+
+    return builder
+      .<String, Future<Void>>evictionListener((tenant, build, cause) -> {
+        log.info("Evicting idle tenant egress routes: tenant = {}, cause = {}", tenant, cause);
+        releaseTenant(tenant);
+      })
+      .build();
   }
 }
@@ -0,0 +1,93 @@
+package org.folio.sidecar.service.routing;
+
+import static io.vertx.core.Future.succeededFuture;
+
+import io.quarkus.arc.All;
+import io.quarkus.runtime.Quarkus;
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.DeploymentOptions;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.util.List;
+import lombok.extern.log4j.Log4j2;
+import org.folio.sidecar.service.routing.configuration.EgressListenerRequestHandler;
+import org.folio.sidecar.service.routing.configuration.properties.EgressListenerProperties;
+
+/**
+ * Dedicated listener for requests of the co-located module to other modules.
+ *
+ * <p>Requests received by the listener enter the handlers chain at the egress handler: ingress lookup and ingress-only
+ * handlers, like module entitlement handler, are skipped.</p>
+ */
+@Log4j2
+@ApplicationScoped
+public class EgressListener {
+
+  private final Vertx vertx;
+  private final EgressListenerProperties properties;
+  private final List<Handler<RoutingContext>> requestHandlers;
+
+  public EgressListener(Vertx vertx, EgressListenerProperties properties,
+    @EgressListenerRequestHandler @All List<Handler<RoutingContext>> requestHandlers) {
+    this.vertx = vertx;
+    this.properties = properties;
+    this.requestHandlers = requestHandlers;
+  }
+
+  /**
+   * Starts egress listener if it is enabled.
+   *
+   * @return future completed when server instances are listening
+   */
+  public Future<Void> start() {
+    if (!properties.enabled()) {
+      return succeededFuture();
+    }
+
+    var router = Router.router(vertx);
+    var route = router.route("/*");
+    requestHandlers.forEach(route::handler);
+
+    var address = properties.domainSocket()
+      .map(SocketAddress::domainSocketAddress)
+      .orElseGet(() -> SocketAddress.inetSocketAddress(properties.port(), properties.host()));
+    var instances = properties.instances().orElse(VertxOptions.DEFAULT_EVENT_LOOP_POOL_SIZE);
+    var deploymentOptions = new DeploymentOptions().setInstances(instances);
+
+    return vertx.deployVerticle(() -> new ServerVerticle(address, router), deploymentOptions)
+      .onSuccess(id -> log.info("Egress listener started: address = {}, instances = {}", address, instances))
+      .onFailure(error -> {
+        log.error("Failed to start egress listener", error);
+        Quarkus.asyncExit(1);
+      })
+      .mapEmpty();
+  }
+
+  private static final class ServerVerticle extends AbstractVerticle {
+
+    private final SocketAddress address;
+    private final Router router;
+
+    private ServerVerticle(SocketAddress address, Router router) {
+      this.address = address;
+      this.router = router;
+    }
+
+    @Override
+    public void start(Promise<Void> startPromise) {
+      vertx.createHttpServer(new HttpServerOptions())
+        .requestHandler(router)
+        .listen(address)
+        .<Void>mapEmpty()
+        .onComplete(startPromise);
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package org.folio.sidecar.service.routing;
+
+import static java.util.Comparator.comparingLong;
+
+import io.quarkus.arc.All;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.util.List;
+import lombok.extern.log4j.Log4j2;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.folio.sidecar.model.RouteHits;
+import org.folio.sidecar.service.routing.lookup.RouteHitsSource;
+
+@Log4j2
+@ApplicationScoped
+public class RouteHitsService {
+
+  @ConfigProperty(name = "routing.route-hits.reorder.enabled") boolean reorderEnabled;
+
+  private final List<RouteHitsSource> routeHitsSources;
+
+  public RouteHitsService(@All List<RouteHitsSource> routeHitsSources) {
+    this.routeHitsSources = routeHitsSources;
+  }
+
+  /**
+   * Returns hits of routes that resolved at least one request.
+   *
+   * @return list of {@link RouteHits}, most used routes first
+   */
+  public List<RouteHits> getRouteHits() {
+    return routeHitsSources.stream()
+      .flatMap(source -> source.getRouteHits().stream())
+      .sorted(comparingLong(RouteHits::hits).reversed())
+      .toList();
+  }
+
+  /**
+   * Periodically reorders route candidates by hits, so that the most used routes are checked first.
+   */
+  @Scheduled(every = "{routing.route-hits.reorder.interval}", delayed = "{routing.route-hits.reorder.interval}")
+  void reorderRoutesByHits() {
+    if (!reorderEnabled) {
+      return;
+    }
+
+    log.debug("Reordering routes by hits");
+    routeHitsSources.forEach(RouteHitsSource::reorderRoutesByHits);
+  }
+}
@@ -1,5 +1,6 @@
 package org.folio.sidecar.service.routing;
 
+import static io.vertx.core.Future.succeededFuture;
 import static java.util.stream.Collectors.joining;
 import static org.folio.sidecar.service.routing.ModuleBootstrapListener.ChangeType.INIT;
 import static org.folio.sidecar.service.routing.ModuleBootstrapListener.ChangeType.UPDATE;
@@ -27,6 +28,7 @@ import org.folio.sidecar.integration.am.model.ModuleBootstrap;
 import org.folio.sidecar.integration.kafka.DiscoveryListener;
 import org.folio.sidecar.service.ModulePermissionsService;
 import org.folio.sidecar.service.routing.configuration.RequestHandler;
+import org.folio.sidecar.service.routing.handler.ConnectionPrewarmService;
 
 @Log4j2
 @ApplicationScoped
@@ -41,11 +43,12 @@ public class RoutingService implements DiscoveryListener {
   private final ModulePermissionsService modulePermissionsService;
   private final EgressBootstrapService egressBootstrapService;
   private final ModuleProperties moduleProperties;
+  private final ConnectionPrewarmService connectionPrewarmService;
 
   public RoutingService(ApplicationManagerService appManagerService,
     @RequestHandler @All List<Handler<RoutingContext>> requestHandlers, @All List<ModuleBootstrapListener> mbListeners,
     ModulePermissionsService modulePermissionsService, EgressBootstrapService egressBootstrapService,
-    ModuleProperties moduleProperties) {
+    ModuleProperties moduleProperties, ConnectionPrewarmService connectionPrewarmService) {
     this.appManagerService = appManagerService;
 
     if (isEmpty(requestHandlers)) {
@@ -57,10 +60,13 @@ public class RoutingService implements DiscoveryListener {
     this.modulePermissionsService = modulePermissionsService;
     this.egressBootstrapService = egressBootstrapService;
     this.moduleProperties = moduleProperties;
+    this.connectionPrewarmService = connectionPrewarmService;
   }
 
   public Future<Void> init(Router router) {
-    var bootstrap = tenantScoped ? appManagerService.getIngressBootstrap() : appManagerService.getModuleBootstrap();
+    var bootstrap = (tenantScoped ? appManagerService.getIngressBootstrap() : appManagerService.getModuleBootstrap())
+      .compose(moduleBootstrap -> connectionPrewarmService.prewarmAll(moduleBootstrap.getRequiredModules())
+        .map(moduleBootstrap));
     return process(bootstrap, moduleBootstrap -> initFromBootstrap(router, moduleBootstrap));
   }
 
@@ -79,7 +85,12 @@ public class RoutingService implements DiscoveryListener {
     var type = knownModules.get(moduleId);
 
     if (type != null) {
-      process(appManagerService.getModuleBootstrap(), updateModuleRoutesByType(type, moduleId));
+      // connections to new locations of required modules are opened before their routes are updated
+      var bootstrap = appManagerService.getModuleBootstrap()
+        .compose(moduleBootstrap -> type == REQUIRED
+          ? connectionPrewarmService.prewarmEgress(moduleBootstrap.getRequiredModules()).map(moduleBootstrap)
+          : succeededFuture(moduleBootstrap));
+      process(bootstrap, updateModuleRoutesByType(type, moduleId));
     }
   }
 
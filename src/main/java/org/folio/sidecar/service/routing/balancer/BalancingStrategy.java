@@ -0,0 +1,14 @@
+package org.folio.sidecar.service.routing.balancer;
+
+public enum BalancingStrategy {
+
+  /**
+   * Chooses the endpoint with the least number of outstanding requests.
+   */
+  LEAST_OUTSTANDING,
+
+  /**
+   * Chooses two random endpoints and takes the one with fewer outstanding requests.
+   */
+  POWER_OF_TWO_CHOICES
+}
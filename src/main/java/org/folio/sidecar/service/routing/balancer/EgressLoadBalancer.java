@@ -0,0 +1,168 @@
+package org.folio.sidecar.service.routing.balancer;
+
+import static io.netty.util.NetUtil.isValidIpV4Address;
+import static io.netty.util.NetUtil.isValidIpV6Address;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.scheduler.Scheduled;
+import io.vertx.core.Future;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import lombok.extern.log4j.Log4j2;
+import org.folio.sidecar.service.routing.DnsResolutionService;
+import org.folio.sidecar.service.routing.configuration.properties.EgressLoadBalancingProperties;
+
+/**
+ * Client-side load balancer for egress requests.
+ *
+ * <p>Resolves every address behind an egress destination host (e.g. a Kubernetes headless service) and spreads
+ * requests across them, so that the load doesn't depend on kube-proxy connection balancing. Endpoints failing
+ * consecutively are ejected for a while. Addresses are re-resolved periodically; destinations that were not used
+ * since the previous refresh are forgotten.</p>
+ */
+@Log4j2
+@ApplicationScoped
+public class EgressLoadBalancer {
+
+  static final String ENDPOINTS_METRIC_NAME = "sidecar.egress.lb.endpoints";
+
+  private final Map<String, EndpointGroup> groups = new ConcurrentHashMap<>();
+  private final EgressLoadBalancingProperties properties;
+  private final Function<String, Future<List<String>>> resolver;
+  private final LongSupplier clock;
+
+  @Inject
+  public EgressLoadBalancer(EgressLoadBalancingProperties properties, DnsResolutionService dnsResolutionService,
+    MeterRegistry meterRegistry) {
+    this(properties, dnsResolutionService::resolveAll, System::nanoTime, meterRegistry);
+  }
+
+  EgressLoadBalancer(EgressLoadBalancingProperties properties, Function<String, Future<List<String>>> resolver,
+    LongSupplier clock, MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.resolver = resolver;
+    this.clock = clock;
+
+    Gauge.builder(ENDPOINTS_METRIC_NAME, this, lb -> lb.countEndpoints(false))
+      .description("Number of resolved egress endpoints")
+      .tag("state", "available")
+      .register(meterRegistry);
+    Gauge.builder(ENDPOINTS_METRIC_NAME, this, lb -> lb.countEndpoints(true))
+      .description("Number of resolved egress endpoints")
+      .tag("state", "ejected")
+      .register(meterRegistry);
+  }
+
+  /**
+   * Chooses an endpoint of the destination and counts a request outstanding on it.
+   *
+   * <p>A chosen endpoint must be released with {@link #release(Endpoint, boolean)} once the request is
+   * completed, or with {@link #cancel(Endpoint)} if the request is abandoned.</p>
+   *
+   * @param host - destination host
+   * @param port - destination port
+   * @return chosen {@link Endpoint}, null if balancing is disabled, the host is not resolved yet or resolves to a
+   *   single address
+   */
+  public Endpoint choose(String host, int port) {
+    if (!properties.enabled() || host == null || isValidIpV4Address(host) || isValidIpV6Address(host)) {
+      return null;
+    }
+
+    var group = groups.get(host + ':' + port);
+    if (group == null) {
+      group = groups.computeIfAbsent(host + ':' + port, key -> resolve(new EndpointGroup(host, port)));
+    }
+
+    return group.choose(properties.strategy(), clock.getAsLong());
+  }
+
+  /**
+   * Releases the endpoint chosen for a completed request.
+   *
+   * @param endpoint - chosen endpoint
+   * @param succeeded - whether the endpoint handled the request, false for connection errors, timeouts and
+   *   unavailability responses
+   */
+  public void release(Endpoint endpoint, boolean succeeded) {
+    endpoint.outstanding.decrementAndGet();
+    if (succeeded) {
+      if (endpoint.failures.get() != 0) {
+        endpoint.failures.set(0);
+      }
+      return;
+    }
+
+    var ejection = properties.ejection();
+    if (endpoint.failures.incrementAndGet() < ejection.consecutiveFailures()) {
+      return;
+    }
+
+    var group = endpoint.group;
+    if (group.eject(endpoint, clock.getAsLong(), ejection.duration().toNanos(), ejection.maxPercent())) {
+      log.warn("Egress endpoint ejected: host = {}, endpoint = {}, duration = {}",
+        group.host, endpoint, ejection.duration());
+    }
+  }
+
+  /**
+   * Releases the endpoint chosen for a request abandoned before its outcome is known, e.g. a hedged attempt that lost
+   * to another one. The request counts neither as a success nor as a failure of the endpoint.
+   *
+   * @param endpoint - chosen endpoint
+   */
+  public void cancel(Endpoint endpoint) {
+    endpoint.outstanding.decrementAndGet();
+  }
+
+  /**
+   * Re-resolves addresses of the destinations used since the previous refresh and forgets the others.
+   */
+  @Scheduled(every = "{routing.egress-load-balancing.refresh-interval}",
+    delayed = "{routing.egress-load-balancing.refresh-interval}")
+  void refresh() {
+    if (!properties.enabled()) {
+      return;
+    }
+
+    groups.values().removeIf(group -> {
+      if (!group.used) {
+        log.debug("Egress destination is not used, endpoints removed: host = {}, port = {}", group.host, group.port);
+        return true;
+      }
+
+      group.used = false;
+      resolve(group);
+      return false;
+    });
+  }
+
+  private EndpointGroup resolve(EndpointGroup group) {
+    resolver.apply(group.host)
+      .onSuccess(addresses -> {
+        if (group.update(addresses)) {
+          log.info("Egress endpoints resolved: host = {}, port = {}, addresses = {}",
+            group.host, group.port, addresses);
+        }
+      })
+      .onFailure(error -> log.warn("Failed to resolve egress endpoints, keeping the previous ones: host = {}",
+        group.host, error));
+    return group;
+  }
+
+  private int countEndpoints(boolean ejected) {
+    var now = clock.getAsLong();
+    var count = 0;
+    for (var group : groups.values()) {
+      var groupEjected = group.countEjected(now);
+      count += ejected ? groupEjected : group.endpoints().size() - groupEjected;
+    }
+    return count;
+  }
+}
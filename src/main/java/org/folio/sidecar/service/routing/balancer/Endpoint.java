@@ -0,0 +1,53 @@
+package org.folio.sidecar.service.routing.balancer;
+
+import io.vertx.core.net.SocketAddress;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Resolved address of an egress destination.
+ */
+public final class Endpoint {
+
+  final AtomicInteger outstanding = new AtomicInteger();
+  final AtomicInteger failures = new AtomicInteger();
+  volatile long ejectedUntil;
+  volatile boolean ejected;
+
+  final EndpointGroup group;
+  private final String hostAddress;
+  private final SocketAddress address;
+
+  Endpoint(EndpointGroup group, String hostAddress, int port) {
+    this.group = group;
+    this.hostAddress = hostAddress;
+    this.address = SocketAddress.inetSocketAddress(port, hostAddress);
+  }
+
+  /**
+   * Returns socket address to connect to.
+   *
+   * @return {@link SocketAddress} of the endpoint
+   */
+  public SocketAddress address() {
+    return address;
+  }
+
+  String hostAddress() {
+    return hostAddress;
+  }
+
+  /**
+   * Checks if the endpoint is ejected, the flag is needed because {@code nanoTime} values can be negative.
+   *
+   * @param now - current time in nanoseconds
+   * @return true if the endpoint was ejected and its ejection is not expired
+   */
+  boolean isEjected(long now) {
+    return ejected && ejectedUntil - now > 0;
+  }
+
+  @Override
+  public String toString() {
+    return address.toString();
+  }
+}
@@ -0,0 +1,152 @@
+package org.folio.sidecar.service.routing.balancer;
+
+import static org.folio.sidecar.service.routing.balancer.BalancingStrategy.LEAST_OUTSTANDING;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Endpoints resolved for one egress destination ({@code host:port}).
+ *
+ * <p>Endpoints are replaced on re-resolution, endpoints with unchanged addresses keep their counters. Selection is
+ * lock-free and allocation-free; ejection is serialized by this object.</p>
+ */
+final class EndpointGroup {
+
+  final String host;
+  final int port;
+  volatile boolean used = true;
+
+  private volatile List<Endpoint> endpoints = List.of();
+
+  EndpointGroup(String host, int port) {
+    this.host = host;
+    this.port = port;
+  }
+
+  List<Endpoint> endpoints() {
+    return endpoints;
+  }
+
+  /**
+   * Replaces endpoints with the resolved addresses.
+   *
+   * @param hostAddresses - resolved addresses
+   * @return true if the set of endpoints is changed
+   */
+  synchronized boolean update(List<String> hostAddresses) {
+    var current = new HashMap<String, Endpoint>();
+    endpoints.forEach(endpoint -> current.put(endpoint.hostAddress(), endpoint));
+
+    var updated = new ArrayList<Endpoint>(hostAddresses.size());
+    for (var hostAddress : hostAddresses) {
+      var endpoint = current.remove(hostAddress);
+      updated.add(endpoint != null ? endpoint : new Endpoint(this, hostAddress, port));
+    }
+
+    var changed = !current.isEmpty() || updated.size() != endpoints.size();
+    endpoints = List.copyOf(updated);
+    return changed;
+  }
+
+  /**
+   * Chooses an endpoint and counts a request outstanding on it.
+   *
+   * @param strategy - balancing strategy
+   * @param now - current time in nanoseconds
+   * @return chosen {@link Endpoint}, null if there are less than two endpoints to balance between
+   */
+  Endpoint choose(BalancingStrategy strategy, long now) {
+    used = true;
+    var current = endpoints;
+    if (current.size() < 2) {
+      return null;
+    }
+
+    var chosen = strategy == LEAST_OUTSTANDING ? leastOutstanding(current, now) : powerOfTwoChoices(current, now);
+    chosen.outstanding.incrementAndGet();
+    return chosen;
+  }
+
+  /**
+   * Ejects the endpoint unless the maximum share of ejected endpoints is reached.
+   *
+   * @param endpoint - endpoint to eject
+   * @param now - current time in nanoseconds
+   * @param duration - ejection duration in nanoseconds
+   * @param maxPercent - maximum percentage of ejected endpoints
+   * @return true if the endpoint is ejected
+   */
+  synchronized boolean eject(Endpoint endpoint, long now, long duration, int maxPercent) {
+    var current = endpoints;
+    var ejected = 0;
+    for (var e : current) {
+      if (e.isEjected(now)) {
+        ejected++;
+      }
+    }
+
+    if (endpoint.isEjected(now) || (ejected + 1) * 100 > current.size() * maxPercent) {
+      return false;
+    }
+
+    endpoint.ejectedUntil = now + duration;
+    endpoint.ejected = true;
+    endpoint.failures.set(0);
+    return true;
+  }
+
+  int countEjected(long now) {
+    var ejected = 0;
+    for (var endpoint : endpoints) {
+      if (endpoint.isEjected(now)) {
+        ejected++;
+      }
+    }
+    return ejected;
+  }
+
+  private static Endpoint powerOfTwoChoices(List<Endpoint> endpoints, long now) {
+    var random = ThreadLocalRandom.current();
+    var size = endpoints.size();
+    var first = random.nextInt(size);
+    var second = (first + 1 + random.nextInt(size - 1)) % size;
+
+    var a = endpoints.get(first);
+    var b = endpoints.get(second);
+    var aEjected = a.isEjected(now);
+    var bEjected = b.isEjected(now);
+    if (aEjected && bEjected) {
+      return leastOutstanding(endpoints, now);
+    }
+
+    if (aEjected != bEjected) {
+      return aEjected ? b : a;
+    }
+
+    return b.outstanding.get() < a.outstanding.get() ? b : a;
+  }
+
+  /**
+   * Returns available endpoint with the least outstanding requests, or any endpoint if all of them are ejected.
+   */
+  private static Endpoint leastOutstanding(List<Endpoint> endpoints, long now) {
+    Endpoint best = null;
+    Endpoint bestEjected = null;
+    for (var endpoint : endpoints) {
+      if (!endpoint.isEjected(now)) {
+        best = lessOutstanding(best, endpoint);
+      } else if (best == null) {
+        bestEjected = lessOutstanding(bestEjected, endpoint);
+      }
+    }
+
+    return best != null ? best : bestEjected;
+  }
+
+  private static Endpoint lessOutstanding(Endpoint best, Endpoint endpoint) {
+    return best == null || endpoint.outstanding.get() < best.outstanding.get() ? endpoint : best;
+  }
+}
@@ -0,0 +1,16 @@
+package org.folio.sidecar.service.routing.configuration;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import jakarta.inject.Qualifier;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+
+/**
+ * Qualifies request handlers of the dedicated egress listener.
+ */
+@Qualifier
+@Documented
+@Retention(RUNTIME)
+public @interface EgressListenerRequestHandler {
+}
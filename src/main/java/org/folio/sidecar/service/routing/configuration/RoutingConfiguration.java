@@ -3,6 +3,7 @@ package org.folio.sidecar.service.routing.configuration;
 import static org.folio.sidecar.utils.CollectionUtils.isEmpty;
 
 import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.quarkus.arc.lookup.LookupIfProperty;
 import io.quarkus.arc.lookup.LookupUnlessProperty;
 import io.vertx.core.Handler;
@@ -14,6 +15,7 @@ import jakarta.annotation.Priority;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Named;
+import jakarta.inject.Singleton;
 import java.util.Collections;
 import lombok.extern.log4j.Log4j2;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
@@ -26,6 +28,7 @@ import org.folio.sidecar.service.ErrorHandler;
 import org.folio.sidecar.service.PathProcessor;
 import org.folio.sidecar.service.TenantService;
 import org.folio.sidecar.service.routing.configuration.properties.DynamicRoutingProperties;
+import org.folio.sidecar.service.routing.configuration.properties.LookupCacheProperties;
 import org.folio.sidecar.service.routing.configuration.properties.TraceRoutingProperties;
 import org.folio.sidecar.service.routing.handler.ChainedHandler;
 import org.folio.sidecar.service.routing.handler.ModuleEntitlementHandler;
@@ -38,6 +41,9 @@ import org.folio.sidecar.service.routing.lookup.DiscoveryCacheUpdator;
 import org.folio.sidecar.service.routing.lookup.DynamicRoutingLookup;
 import org.folio.sidecar.service.routing.lookup.GatewayRoutingLookup;
 import org.folio.sidecar.service.routing.lookup.RoutingLookup;
+import org.folio.sidecar.service.routing.lookup.RoutingLookupCache;
+import org.folio.sidecar.service.routing.lookup.RoutingLookupCacheFactory;
+import org.folio.sidecar.service.routing.lookup.TenantModuleIndex;
 
 @Log4j2
 public class RoutingConfiguration {
@@ -56,15 +62,30 @@ public class RoutingConfiguration {
     return new RoutingHandlerWithLookup(lookup, handler, pathProcessor);
   }
 
+  @ApplicationScoped
+  public RoutingLookupCacheFactory routingLookupCacheFactory(LookupCacheProperties properties,
+    MeterRegistry meterRegistry) {
+    return new RoutingLookupCacheFactory(properties, meterRegistry);
+  }
+
+  @Named
+  @Singleton
+  public RoutingLookupCache ingressLookupCache(RoutingLookupCacheFactory factory) {
+    return factory.createCache("ingress");
+  }
+
+  @Named
+  @Singleton
+  public RoutingLookupCache egressLookupCache(RoutingLookupCacheFactory factory) {
+    return factory.createCache("egress");
+  }
+
   @Named
   @ApplicationScoped
   public ChainedHandler chainedHandler(
     @Named("moduleEntitlementHandler") Instance<ChainedHandler> moduleEntitlementHandler,
     @Named("basicIngressHandler") ChainedHandler ingressHandler,
-    @Named("basicEgressHandler") ChainedHandler egressHandler,
-    @Named("dynamicEgressHandler") Instance<ChainedHandler> dynamicEgressHandler,
-    @Named("gatewayEgressHandler") Instance<ChainedHandler> gatewayEgressHandler,
-    @Named("notFoundHandler") ChainedHandler notFoundHandler) {
+    @Named("egressChainedHandler") ChainedHandler egressChainedHandler) {
     var handler = ingressHandler;
 
     if (moduleEntitlementHandler.isResolvable()) {
@@ -73,7 +94,20 @@ public class RoutingConfiguration {
       log.debug("Module entitlement handler added to the handlers chain");
     }
 
-    handler = handler.next(egressHandler);
+    return handler.next(egressChainedHandler);
+  }
+
+  /**
+   * Creates the egress part of the handlers chain, the dedicated egress listener enters the chain here.
+   */
+  @Named
+  @ApplicationScoped
+  public ChainedHandler egressChainedHandler(
+    @Named("basicEgressHandler") ChainedHandler egressHandler,
+    @Named("dynamicEgressHandler") Instance<ChainedHandler> dynamicEgressHandler,
+    @Named("gatewayEgressHandler") Instance<ChainedHandler> gatewayEgressHandler,
+    @Named("notFoundHandler") ChainedHandler notFoundHandler) {
+    var handler = egressHandler;
 
     if (dynamicEgressHandler.isResolvable()) {
       handler = handler.next(dynamicEgressHandler.get());
@@ -107,9 +141,23 @@ public class RoutingConfiguration {
     return new TraceHeadersHandler(new ScRequestHandler(chainedHandler, errorHandler), paths);
   }
 
+  @ApplicationScoped
+  @EgressListenerRequestHandler
+  public Handler<RoutingContext> egressListenerRequestHandler(
+    @Named("egressChainedHandler") ChainedHandler egressChainedHandler, ErrorHandler errorHandler,
+    TraceRoutingProperties traceRoutingProperties) {
+    var handler = new ScRequestHandler(egressChainedHandler, errorHandler);
+    if (!traceRoutingProperties.enabled()) {
+      return handler;
+    }
+
+    return new TraceHeadersHandler(handler, traceRoutingProperties.paths().orElseGet(Collections::emptyList));
+  }
+
   @RequestHandler
   @Priority(10)
   @ApplicationScoped
+  @EgressListenerRequestHandler
   @LookupIfProperty(name = "routing.logger.enabled", stringValue = "true")
   public Handler<RoutingContext> loggerHandler() {
     return LoggerHandler.create(true, LoggerFormat.DEFAULT);
@@ -118,6 +166,7 @@ public class RoutingConfiguration {
   @RequestHandler
   @Priority(9)
   @ApplicationScoped
+  @EgressListenerRequestHandler
   @LookupIfProperty(name = "routing.response-time.enabled", stringValue = "true")
   public Handler<RoutingContext> responseTimeHandler() {
     return ResponseTimeHandler.create();
@@ -144,11 +193,18 @@ public class RoutingConfiguration {
       return new DiscoveryCacheUpdator(discoveryCache);
     }
 
+    @ApplicationScoped
+    @LookupIfProperty(name = "routing.dynamic.enabled", stringValue = "true")
+    public TenantModuleIndex tenantModuleIndex(TenantEntitlementService tenantEntitlementService,
+      DynamicRoutingProperties properties) {
+      return new TenantModuleIndex(tenantEntitlementService, properties.moduleIndexCache());
+    }
+
     @Named("dynamicLookup")
     @ApplicationScoped
-    public RoutingLookup dynamicRoutingLookup(TenantEntitlementService tenantEntitlementService,
+    public RoutingLookup dynamicRoutingLookup(TenantModuleIndex tenantModuleIndex,
       @Named("dynamicRoutingDiscoveryCache") AsyncLoadingCache<String, ModuleDiscovery> discoveryCache) {
-      return new DynamicRoutingLookup(tenantEntitlementService, discoveryCache);
+      return new DynamicRoutingLookup(tenantModuleIndex, discoveryCache);
     }
 
     @Named
@@ -0,0 +1,31 @@
+package org.folio.sidecar.service.routing.configuration.properties;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+import java.time.Duration;
+
+@ConfigMapping(prefix = "routing.prewarm")
+public interface ConnectionPrewarmProperties {
+
+  @WithDefault("false")
+  boolean enabled();
+
+  /**
+   * Number of connections opened to every destination.
+   */
+  @WithDefault("2")
+  int connections();
+
+  /**
+   * Path requested on egress and gateway destinations to open connections, module connections use the module health
+   * path.
+   */
+  @WithDefault("/admin/health/live")
+  String path();
+
+  /**
+   * Maximum time the routes wait for pre-warming, destinations that are not warm by then are skipped.
+   */
+  @WithDefault("5s")
+  Duration timeout();
+}
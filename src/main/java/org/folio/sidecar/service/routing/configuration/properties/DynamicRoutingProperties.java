@@ -13,4 +13,7 @@ public interface DynamicRoutingProperties {
 
   @WithName("discovery.cache")
   CacheSettings discoveryCache();
+
+  @WithName("module-index.cache")
+  CacheSettings moduleIndexCache();
 }
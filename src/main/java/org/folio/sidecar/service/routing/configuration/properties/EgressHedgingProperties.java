@@ -0,0 +1,46 @@
+package org.folio.sidecar.service.routing.configuration.properties;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+
+@ConfigMapping(prefix = "routing.egress-hedging")
+public interface EgressHedgingProperties {
+
+  @WithDefault("false")
+  boolean enabled();
+
+  /**
+   * Names of required modules (without version) whose GET and HEAD requests are hedged, all modules if not set.
+   */
+  Optional<Set<String>> modules();
+
+  /**
+   * Percentile of the destination response latency after which a hedged request is sent.
+   */
+  @WithDefault("0.95")
+  double percentile();
+
+  @WithDefault("10ms")
+  Duration minDelay();
+
+  /**
+   * Upper bound of the hedge delay, used as the delay until the destination has enough latency samples.
+   */
+  @WithDefault("1s")
+  Duration maxDelay();
+
+  /**
+   * Number of responses of a destination required to use the latency percentile as the hedge delay.
+   */
+  @WithDefault("20")
+  int minSamples();
+
+  /**
+   * Maximum ratio of hedged requests to eligible requests.
+   */
+  @WithDefault("0.1")
+  double budget();
+}
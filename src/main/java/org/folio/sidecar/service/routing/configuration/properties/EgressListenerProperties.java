@@ -0,0 +1,29 @@
+package org.folio.sidecar.service.routing.configuration.properties;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+@ConfigMapping(prefix = "routing.egress-listener")
+public interface EgressListenerProperties {
+
+  @WithDefault("false")
+  boolean enabled();
+
+  @WithDefault("127.0.0.1")
+  String host();
+
+  @WithDefault("8082")
+  int port();
+
+  /**
+   * Number of server instances, defaults to the number of event loops.
+   */
+  OptionalInt instances();
+
+  /**
+   * Path of a unix domain socket the listener is bound to instead of host and port, requires native transport.
+   */
+  Optional<String> domainSocket();
+}
@@ -0,0 +1,42 @@
+package org.folio.sidecar.service.routing.configuration.properties;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+import java.time.Duration;
+import org.folio.sidecar.service.routing.balancer.BalancingStrategy;
+
+@ConfigMapping(prefix = "routing.egress-load-balancing")
+public interface EgressLoadBalancingProperties {
+
+  @WithDefault("false")
+  boolean enabled();
+
+  @WithDefault("POWER_OF_TWO_CHOICES")
+  BalancingStrategy strategy();
+
+  /**
+   * Interval of re-resolving addresses of egress destinations.
+   */
+  @WithDefault("30s")
+  Duration refreshInterval();
+
+  EjectionSettings ejection();
+
+  interface EjectionSettings {
+
+    /**
+     * Number of consecutive failures after which an endpoint is ejected.
+     */
+    @WithDefault("5")
+    int consecutiveFailures();
+
+    @WithDefault("30s")
+    Duration duration();
+
+    /**
+     * Maximum percentage of endpoints of a destination that can be ejected at the same time.
+     */
+    @WithDefault("50")
+    int maxPercent();
+  }
+}
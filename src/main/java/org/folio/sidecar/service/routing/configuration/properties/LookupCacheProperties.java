@@ -0,0 +1,16 @@
+package org.folio.sidecar.service.routing.configuration.properties;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+import io.smallrye.config.WithParentName;
+import org.folio.sidecar.configuration.properties.CacheSettings;
+
+@ConfigMapping(prefix = "routing.lookup-cache")
+public interface LookupCacheProperties {
+
+  @WithDefault("false")
+  boolean enabled();
+
+  @WithParentName
+  CacheSettings settings();
+}
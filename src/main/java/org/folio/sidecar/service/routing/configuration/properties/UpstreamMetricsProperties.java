@@ -0,0 +1,24 @@
+package org.folio.sidecar.service.routing.configuration.properties;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+import java.util.List;
+
+@ConfigMapping(prefix = "routing.upstream-metrics")
+public interface UpstreamMetricsProperties {
+
+  @WithDefault("false")
+  boolean enabled();
+
+  /**
+   * Percentiles of upstream timers computed in the sidecar, published as {@code quantile} series.
+   */
+  @WithDefault("0.5,0.95,0.99")
+  List<Double> percentiles();
+
+  /**
+   * Publishes histogram buckets of upstream timers for aggregation of percentiles across sidecars.
+   */
+  @WithDefault("false")
+  boolean histogram();
+}
@@ -0,0 +1,215 @@
+package org.folio.sidecar.service.routing.handler;
+
+import static io.vertx.core.Future.succeededFuture;
+import static java.util.stream.Collectors.toCollection;
+import static org.folio.sidecar.service.routing.handler.StreamBackpressure.Client.EGRESS;
+import static org.folio.sidecar.service.routing.handler.StreamBackpressure.Client.GATEWAY;
+import static org.folio.sidecar.service.routing.handler.StreamBackpressure.Client.INGRESS;
+
+import io.vertx.core.Future;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.RequestOptions;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Named;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.log4j.Log4j2;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.folio.sidecar.configuration.properties.ModuleProperties;
+import org.folio.sidecar.configuration.properties.WebClientConfig;
+import org.folio.sidecar.integration.am.model.ModuleBootstrapDiscovery;
+import org.folio.sidecar.service.PathProcessor;
+import org.folio.sidecar.service.routing.configuration.properties.ConnectionPrewarmProperties;
+import org.folio.sidecar.service.routing.handler.StreamBackpressure.Client;
+
+/**
+ * Opens connections of the forwarding HTTP clients in advance, so that the first forwarded requests to a destination
+ * don't pay TCP and TLS setup.
+ *
+ * <p>Connections are opened by concurrent {@code GET} requests, one per connection, to every destination: the module,
+ * the gateway, if forwarding to gateway is enabled, and egress locations of required modules. The response status is
+ * ignored, the connections stay in the client pools. Egress locations are pre-warmed once, locations of new module
+ * versions are pre-warmed before their routes are updated. A location without any opened connection is pre-warmed
+ * again with the next routes update.</p>
+ */
+@Log4j2
+@ApplicationScoped
+public class ConnectionPrewarmService {
+
+  @ConfigProperty(name = "routing.forward-to-gateway.enabled") boolean forwardToGateway;
+  @ConfigProperty(name = "routing.forward-to-gateway.destination") String gatewayDestination;
+
+  private final HttpClient httpClient;
+  private final HttpClient httpClientEgress;
+  private final HttpClient httpClientGateway;
+  private final WebClientConfig webClientConfig;
+  private final ConnectionPrewarmProperties properties;
+  private final ModuleProperties moduleProperties;
+  private final PathProcessor pathProcessor;
+  private final UpstreamMetrics upstreamMetrics;
+  private final Set<String> warmEgressLocations = ConcurrentHashMap.newKeySet();
+  private volatile boolean initialized;
+
+  public ConnectionPrewarmService(@Named("httpClient") HttpClient httpClient,
+    @Named("httpClientEgress") HttpClient httpClientEgress, @Named("httpClientGateway") HttpClient httpClientGateway,
+    WebClientConfig webClientConfig, ConnectionPrewarmProperties properties, ModuleProperties moduleProperties,
+    PathProcessor pathProcessor, UpstreamMetrics upstreamMetrics) {
+    this.httpClient = httpClient;
+    this.httpClientEgress = httpClientEgress;
+    this.httpClientGateway = httpClientGateway;
+    this.webClientConfig = webClientConfig;
+    this.properties = properties;
+    this.moduleProperties = moduleProperties;
+    this.pathProcessor = pathProcessor;
+    this.upstreamMetrics = upstreamMetrics;
+  }
+
+  /**
+   * Pre-warms connections to the module, the gateway and egress locations of the required modules on startup.
+   *
+   * @param requiredModules - required modules from module bootstrap, nullable
+   * @return {@link Future} completed when connections are opened or the pre-warm timeout is exceeded, never fails
+   */
+  public Future<Void> prewarmAll(List<ModuleBootstrapDiscovery> requiredModules) {
+    if (!properties.enabled()) {
+      initialized = true;
+      return succeededFuture();
+    }
+
+    var destinations = new ArrayList<Future<Integer>>();
+    var modulePath = pathProcessor.getModulePath(moduleProperties.getHealthPath());
+    var module = UpstreamLocation.parse(moduleProperties.getUrl(), false);
+    destinations.add(prewarm(httpClient, INGRESS, module, modulePath));
+    if (forwardToGateway) {
+      var gateway = UpstreamLocation.parse(gatewayDestination, webClientConfig.gateway().tls().enabled());
+      destinations.add(prewarm(httpClientGateway, GATEWAY, gateway, properties.path()));
+    }
+    destinations.addAll(prewarmLocations(requiredModules));
+
+    return await(destinations).onComplete(result -> initialized = true);
+  }
+
+  /**
+   * Pre-warms connections to egress locations of the required modules that were not pre-warmed before.
+   *
+   * @param requiredModules - required modules from module bootstrap, nullable
+   * @return {@link Future} completed when connections are opened or the pre-warm timeout is exceeded, never fails
+   */
+  public Future<Void> prewarmEgress(List<ModuleBootstrapDiscovery> requiredModules) {
+    if (!properties.enabled()) {
+      return succeededFuture();
+    }
+
+    return await(prewarmLocations(requiredModules));
+  }
+
+  /**
+   * Checks if the startup pre-warm is completed.
+   *
+   * @return true if connections were pre-warmed on startup or pre-warming is disabled
+   */
+  public boolean isInitialized() {
+    return initialized;
+  }
+
+  private List<Future<Integer>> prewarmLocations(List<ModuleBootstrapDiscovery> requiredModules) {
+    if (requiredModules == null) {
+      return List.of();
+    }
+
+    var tls = webClientConfig.egress().tls().enabled();
+    return requiredModules.stream()
+      .map(ModuleBootstrapDiscovery::getLocation)
+      .filter(Objects::nonNull)
+      .collect(toCollection(LinkedHashSet::new))
+      .stream()
+      .filter(warmEgressLocations::add)
+      .map(location -> prewarmLocation(location, tls))
+      .toList();
+  }
+
+  private Future<Integer> prewarmLocation(String location, boolean tls) {
+    try {
+      return prewarm(httpClientEgress, EGRESS, UpstreamLocation.parse(location, tls), properties.path())
+        .onSuccess(opened -> {
+          if (opened == 0) {
+            warmEgressLocations.remove(location);
+          }
+        });
+    } catch (IllegalArgumentException e) {
+      log.debug("Invalid module location, skipping pre-warm: location = {}", location);
+      return succeededFuture(0);
+    }
+  }
+
+  /**
+   * Opens connections to the destination.
+   *
+   * @return {@link Future} with the number of opened connections
+   */
+  private Future<Integer> prewarm(HttpClient httpClient, Client client, UpstreamLocation upstream, String path) {
+    var requestOptions = new RequestOptions()
+      .setMethod(HttpMethod.GET)
+      .setHost(upstream.host())
+      .setPort(upstream.port())
+      .setSsl(upstream.ssl())
+      .setServer(upstream.domainSocket())
+      .setURI(upstream.requestUri(path, null))
+      .setTimeout(properties.timeout().toMillis());
+
+    var connections = new ArrayList<Future<Integer>>();
+    for (int i = 0; i < properties.connections(); i++) {
+      connections.add(openConnection(httpClient, client, upstream, requestOptions));
+    }
+
+    return Future.join(connections)
+      .transform(result -> succeededFuture(logOpened(upstream, connections)));
+  }
+
+  private Future<Integer> openConnection(HttpClient httpClient, Client client, UpstreamLocation upstream,
+    RequestOptions requestOptions) {
+    var exchange = upstreamMetrics.beginPrewarm(client, upstream);
+    return httpClient.request(requestOptions)
+      .compose(request -> {
+        exchange.acquired(request.connection());
+        return request.send();
+      })
+      .compose(response -> response.body().map(body -> response.statusCode()))
+      .onComplete(result -> exchange.end(result.succeeded()));
+  }
+
+  private static int logOpened(UpstreamLocation upstream, List<Future<Integer>> connections) {
+    var opened = (int) connections.stream().filter(Future::succeeded).count();
+    if (opened < connections.size()) {
+      log.warn("Failed to pre-warm connections: host = {}, port = {}, opened = {}, requested = {}",
+        upstream.host(), upstream.port(), opened, connections.size());
+    } else {
+      log.debug("Connections pre-warmed: host = {}, port = {}, connections = {}",
+        upstream.host(), upstream.port(), opened);
+    }
+    return opened;
+  }
+
+  private Future<Void> await(List<Future<Integer>> destinations) {
+    if (destinations.isEmpty()) {
+      return succeededFuture();
+    }
+
+    var start = System.nanoTime();
+    return Future.join(destinations)
+      .timeout(properties.timeout().toMillis(), TimeUnit.MILLISECONDS)
+      .transform(result -> {
+        var connections = destinations.stream().filter(Future::succeeded).mapToInt(Future::result).sum();
+        log.info("Connections pre-warmed: destinations = {}, connections = {}, timedOut = {}, elapsed = {} ms",
+          destinations.size(), connections, result.failed(),
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return succeededFuture();
+      });
+  }
+}
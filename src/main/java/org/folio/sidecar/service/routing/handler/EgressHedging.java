@@ -0,0 +1,203 @@
+package org.folio.sidecar.service.routing.handler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.ext.web.RoutingContext;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.log4j.Log4j2;
+import org.folio.sidecar.service.routing.configuration.properties.EgressHedgingProperties;
+import org.folio.sidecar.utils.RoutingUtils;
+import org.folio.sidecar.utils.SemverUtils;
+
+/**
+ * Hedging policy of egress GET and HEAD requests forwarded by {@link RequestForwardingService}.
+ *
+ * <p>If the response headers of a hedged request are not received within the hedge delay, a second attempt is sent
+ * and the first response wins. The delay is a percentile of the response latency of the destination, bounded by the
+ * configured minimum and maximum delay. Hedges are limited by a budget: every eligible request adds the budget ratio
+ * to the available hedges, every hedge takes one, so hedges never exceed the ratio of the eligible requests.</p>
+ *
+ * <p>Both attempts of a hedged request are recorded: the winner with its latency, an attempt that lost to a later one
+ * with its elapsed time, so that winning hedges don't hide the tail latency of the destination.</p>
+ */
+@Log4j2
+@ApplicationScoped
+public class EgressHedging {
+
+  static final String LATENCY_METRIC_NAME = "sidecar.egress.hedging.latency";
+  static final String REQUESTS_METRIC_NAME = "sidecar.egress.hedging.requests";
+  static final int MAX_DESTINATIONS = 1024;
+  static final long MAX_BURST = 10;
+  private static final long TOKEN = 1_000_000;
+  private static final long REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private final EgressHedgingProperties properties;
+  private final MeterRegistry meterRegistry;
+  private final Set<String> modules;
+  private final long minDelayNanos;
+  private final long maxDelayNanos;
+  private final long deposit;
+  private final AtomicLong tokens = new AtomicLong();
+  private final Map<String, Boolean> hedgedModules = new ConcurrentHashMap<>();
+  private final Map<UpstreamLocation, Estimate> estimates = new ConcurrentHashMap<>();
+  private final Counter sentCounter;
+  private final Counter wonCounter;
+  private final Counter budgetExhaustedCounter;
+
+  public EgressHedging(EgressHedgingProperties properties, MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+    this.modules = properties.modules().orElse(Set.of());
+    this.minDelayNanos = properties.minDelay().toNanos();
+    this.maxDelayNanos = properties.maxDelay().toNanos();
+    this.deposit = Math.round(Math.clamp(properties.budget(), 0d, 1d) * TOKEN);
+    this.sentCounter = counter("sent");
+    this.wonCounter = counter("won");
+    this.budgetExhaustedCounter = counter("budget-exhausted");
+
+    if (properties.enabled()) {
+      log.info("Egress hedging enabled: modules = {}, percentile = {}, minDelay = {}, maxDelay = {}, budget = {}",
+        modules.isEmpty() ? "all" : modules, properties.percentile(), properties.minDelay(), properties.maxDelay(),
+        properties.budget());
+    }
+  }
+
+  /**
+   * Returns the hedge delay of the request and counts it for the hedge budget.
+   *
+   * @param rc - routing context of the egress request
+   * @param upstream - destination of the request
+   * @return hedge delay in milliseconds, -1 if the request is not hedged
+   */
+  long hedgeDelay(RoutingContext rc, UpstreamLocation upstream) {
+    if (!properties.enabled() || !isHedgedMethod(rc.request().method()) || !isHedgedModule(rc)) {
+      return -1;
+    }
+
+    tokens.updateAndGet(available -> Math.min(available + deposit, MAX_BURST * TOKEN));
+    return TimeUnit.NANOSECONDS.toMillis(estimate(upstream).delay());
+  }
+
+  /**
+   * Takes a hedge from the budget.
+   *
+   * @return true if a hedged attempt can be sent, false if the budget is exhausted
+   */
+  boolean tryHedge() {
+    var available = tokens.getAndUpdate(value -> value >= TOKEN ? value - TOKEN : value);
+    if (available < TOKEN) {
+      budgetExhaustedCounter.increment();
+      return false;
+    }
+
+    sentCounter.increment();
+    return true;
+  }
+
+  /**
+   * Records the response latency of the destination.
+   *
+   * @param upstream - destination of the request
+   * @param latencyNanos - time from sending the winning attempt to receiving its response headers
+   * @param hedge - true if the response was received for the hedged attempt
+   */
+  void recordResponse(UpstreamLocation upstream, long latencyNanos, boolean hedge) {
+    estimate(upstream).timer.record(latencyNanos, TimeUnit.NANOSECONDS);
+    if (hedge) {
+      wonCounter.increment();
+    }
+  }
+
+  /**
+   * Records the latency of an attempt cancelled because a later attempt won, its response headers were not received.
+   *
+   * @param upstream - destination of the request
+   * @param elapsedNanos - time from sending the lost attempt to its cancellation, a lower bound of its latency
+   */
+  void recordLost(UpstreamLocation upstream, long elapsedNanos) {
+    estimate(upstream).timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+  }
+
+  private static boolean isHedgedMethod(HttpMethod method) {
+    return HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method);
+  }
+
+  private boolean isHedgedModule(RoutingContext rc) {
+    if (modules.isEmpty()) {
+      return true;
+    }
+
+    var routingEntry = RoutingUtils.getScRoutingEntry(rc);
+    var moduleId = routingEntry != null ? routingEntry.getModuleId() : null;
+    if (moduleId == null) {
+      return false;
+    }
+
+    var hedged = hedgedModules.get(moduleId);
+    if (hedged == null) {
+      if (hedgedModules.size() >= MAX_DESTINATIONS) {
+        hedgedModules.clear();
+      }
+      var name = SemverUtils.hasVersion(moduleId) ? SemverUtils.getName(moduleId) : moduleId;
+      hedged = hedgedModules.computeIfAbsent(moduleId, key -> modules.contains(name));
+    }
+    return hedged;
+  }
+
+  private Estimate estimate(UpstreamLocation upstream) {
+    var estimate = estimates.get(upstream);
+    if (estimate == null) {
+      if (estimates.size() >= MAX_DESTINATIONS) {
+        estimates.clear();
+      }
+      estimate = estimates.computeIfAbsent(upstream, key -> new Estimate(Timer.builder(LATENCY_METRIC_NAME)
+        .description("Response latency of hedged egress destinations, its percentile is the hedge delay")
+        .tag("destination", key.host() + ":" + key.port())
+        .publishPercentiles(properties.percentile())
+        .register(meterRegistry)));
+    }
+    return estimate;
+  }
+
+  private Counter counter(String result) {
+    return Counter.builder(REQUESTS_METRIC_NAME)
+      .description("Hedged attempts of egress requests")
+      .tag("result", result)
+      .register(meterRegistry);
+  }
+
+  /**
+   * Hedge delay of a destination, recomputed from its latency percentile at most once a second.
+   */
+  private final class Estimate {
+
+    private final Timer timer;
+    private volatile long delayNanos = maxDelayNanos;
+    private volatile long computedAt = System.nanoTime() - REFRESH_NANOS;
+
+    private Estimate(Timer timer) {
+      this.timer = timer;
+    }
+
+    private long delay() {
+      var now = System.nanoTime();
+      if (now - computedAt < REFRESH_NANOS) {
+        return delayNanos;
+      }
+
+      computedAt = now;
+      var percentile = timer.count() < properties.minSamples()
+        ? 0d
+        : timer.takeSnapshot().percentileValues()[0].value(TimeUnit.NANOSECONDS);
+      delayNanos = percentile > 0 ? Math.clamp((long) percentile, minDelayNanos, maxDelayNanos) : maxDelayNanos;
+      return delayNanos;
+    }
+  }
+}
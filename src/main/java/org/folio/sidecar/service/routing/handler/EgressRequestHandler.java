@@ -4,6 +4,7 @@ import static io.vertx.core.Future.failedFuture;
 import static io.vertx.core.Future.succeededFuture;
 import static org.folio.sidecar.integration.okapi.OkapiHeaders.REQUEST_ID;
 import static org.folio.sidecar.model.ScRoutingEntry.GATEWAY_INTERFACE_ID;
+import static org.folio.sidecar.utils.RoutingUtils.EGRESS_REQUEST_KEY;
 import static org.folio.sidecar.utils.RoutingUtils.dumpUri;
 import static org.folio.sidecar.utils.RoutingUtils.hasHeaderWithValue;
 import static org.folio.sidecar.utils.RoutingUtils.markAsEgressRequest;
@@ -14,11 +15,14 @@ import io.vertx.ext.web.RoutingContext;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Named;
 import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.NotFoundException;
 import java.util.Optional;
 import java.util.function.Function;
 import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.folio.sidecar.configuration.properties.ModuleProperties;
+import org.folio.sidecar.configuration.properties.SidecarProperties;
 import org.folio.sidecar.exception.EgressUnauthorizedException;
 import org.folio.sidecar.integration.okapi.OkapiHeaders;
 import org.folio.sidecar.model.ScRoutingEntry;
@@ -39,25 +43,36 @@ class EgressRequestHandler implements RoutingEntryHandler {
   private final ServiceTokenProvider serviceTokenProvider;
   private final SystemUserTokenProvider systemUserTokenProvider;
   private final ModuleProperties moduleProperties;
+  private final SidecarProperties sidecarProperties;
+  private final ChainedHandler ingressHandler;
   private final boolean ignoreGettingSystemUserTokenError;
+  private final boolean loopbackEnabled;
 
   EgressRequestHandler(PathProcessor pathProcessor, RequestFilterService requestFilterService,
     RequestForwardingService requestForwardingService, ServiceTokenProvider serviceTokenProvider,
     SystemUserTokenProvider systemUserTokenProvider, ModuleProperties moduleProperties,
+    SidecarProperties sidecarProperties, @Named("basicIngressHandler") ChainedHandler ingressHandler,
     @ConfigProperty(name = "handler.egress.ignore-system-user-token-error", defaultValue = "false")
-    boolean ignoreGettingSystemUserTokenError) {
+    boolean ignoreGettingSystemUserTokenError,
+    @ConfigProperty(name = "routing.loopback.enabled", defaultValue = "false") boolean loopbackEnabled) {
     this.pathProcessor = pathProcessor;
     this.requestFilterService = requestFilterService;
     this.requestForwardingService = requestForwardingService;
     this.serviceTokenProvider = serviceTokenProvider;
     this.systemUserTokenProvider = systemUserTokenProvider;
     this.moduleProperties = moduleProperties;
+    this.sidecarProperties = sidecarProperties;
+    this.ingressHandler = ingressHandler;
     this.ignoreGettingSystemUserTokenError = ignoreGettingSystemUserTokenError;
+    this.loopbackEnabled = loopbackEnabled;
   }
 
   /**
    * Handles outgoing (egress) request.
    *
+   * <p>If loopback is enabled, requests to the own module are not sent over the network to this sidecar: they are
+   * dispatched in-process to the ingress pipeline.</p>
+   *
    * @param rc - {@link RoutingContext} object to handle
    */
   @Override
@@ -68,14 +83,21 @@ class EgressRequestHandler implements RoutingEntryHandler {
     log.debug("Handling egress request [method: {}, uri: {}, requestId: {}]",
       rq::method, dumpUri(rc), () -> rq.getHeader(REQUEST_ID));
 
+    var loopback = loopbackEnabled && isOwnModule(routingEntry);
+
     return requestFilterService.filterEgressRequest(rc)
       .map(v -> validateRoutingModuleId(routingEntry))
       .compose(v -> populateSystemToken(rc))
       .compose(v -> populateSystemUserToken(rc))
-      .compose(v -> forwardEgressRequest(rc, routingEntry))
+      .compose(v -> loopback ? forwardLoopbackRequest(rc) : forwardEgressRequest(rc, routingEntry))
       .recover(err -> invalidateServiceTokenOnUnauthorized(err, rc));
   }
 
+  private boolean isOwnModule(ScRoutingEntry routingEntry) {
+    return StringUtils.equals(moduleProperties.getId(), routingEntry.getModuleId())
+      || StringUtils.equals(stripEnd(sidecarProperties.getUrl()), stripEnd(routingEntry.getLocation()));
+  }
+
   private Void validateRoutingModuleId(ScRoutingEntry routingEntry) {
     var moduleId = routingEntry.getModuleId();
 
@@ -126,8 +148,31 @@ class EgressRequestHandler implements RoutingEntryHandler {
       rq::method, dumpUri(rc), routingEntry::getModuleId, routingEntry::getLocation);
 
     return (GATEWAY_INTERFACE_ID.equals(routingEntry.getInterfaceId()))
-      ? requestForwardingService.forwardToGateway(rc, routingEntry.getLocation() + updatedPath)
-      : requestForwardingService.forwardEgress(rc, routingEntry.getLocation() + updatedPath);
+      ? requestForwardingService.forwardToGateway(rc, routingEntry.getLocation(), updatedPath)
+      : requestForwardingService.forwardEgress(rc, routingEntry.getLocation(), updatedPath);
+  }
+
+  /**
+   * Dispatches egress request targeting the own module to the ingress pipeline, as if it was received by this sidecar.
+   *
+   * <p>The request passes all ingress filters (the sidecar signature is already removed by the egress filters), so it
+   * is authorized for the target endpoint. The egress mark is cleared, so that responses of the module are handled
+   * as ingress responses.</p>
+   *
+   * @param rc - routing context
+   * @return {@link Future} of the forwarding result
+   */
+  private Future<Void> forwardLoopbackRequest(RoutingContext rc) {
+    var rq = rc.request();
+    rc.remove(EGRESS_REQUEST_KEY);
+
+    log.debug("Dispatching loopback request to ingress pipeline: [method: {}, uri: {}]", rq::method, dumpUri(rc));
+    return ingressHandler.handle(rc).compose(found -> found ? succeededFuture() : failedFuture(
+      new NotFoundException("Route is not found [method: " + rq.method() + ", path: " + rq.path() + "]")));
+  }
+
+  private static String stripEnd(String url) {
+    return StringUtils.removeEnd(url, "/");
   }
 
   private Function<Optional<String>, Void> setSysUserToken(RoutingContext rc) {
@@ -53,8 +53,6 @@ class IngressRequestHandler implements RoutingEntryHandler {
     var path = pathProcessor.getModulePath(rc.request().path());
     log.debug("Forwarding ingress request to underlying module: [method: {}, uri: {}]", request::method, dumpUri(rc));
 
-    var absUri = moduleProperties.getUrl() + path;
-
-    return requestForwardingService.forwardIngress(rc, absUri);
+    return requestForwardingService.forwardIngress(rc, moduleProperties.getUrl(), path);
   }
 }
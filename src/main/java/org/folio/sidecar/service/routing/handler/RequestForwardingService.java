@@ -1,34 +1,49 @@
 package org.folio.sidecar.service.routing.handler;
 
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_GATEWAY;
+import static io.netty.handler.codec.http.HttpResponseStatus.GATEWAY_TIMEOUT;
+import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
 import static io.netty.handler.codec.http.HttpResponseStatus.UNAUTHORIZED;
-import static jakarta.ws.rs.core.HttpHeaders.USER_AGENT;
 import static java.lang.String.format;
 import static org.folio.sidecar.integration.okapi.OkapiHeaders.REQUEST_ID;
+import static org.folio.sidecar.service.routing.handler.StreamBackpressure.Client.EGRESS;
+import static org.folio.sidecar.service.routing.handler.StreamBackpressure.Client.GATEWAY;
+import static org.folio.sidecar.service.routing.handler.StreamBackpressure.Client.INGRESS;
+import static org.folio.sidecar.service.routing.handler.StreamBackpressure.Direction.REQUEST;
+import static org.folio.sidecar.service.routing.handler.StreamBackpressure.Direction.RESPONSE;
 import static org.folio.sidecar.utils.RoutingUtils.FORWARDING_STAGE;
 import static org.folio.sidecar.utils.RoutingUtils.dumpUri;
 import static org.folio.sidecar.utils.RoutingUtils.getRequestId;
 import static org.folio.sidecar.utils.RoutingUtils.isEgressRequest;
 import static org.folio.sidecar.utils.RoutingUtils.putRequestStage;
 
-import io.netty.handler.codec.http.QueryStringEncoder;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.util.AsciiString;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpConnection;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.HttpVersion;
 import io.vertx.core.http.RequestOptions;
-import io.vertx.core.http.impl.headers.HeadersMultiMap;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.core.net.impl.ConnectionBase;
+import io.vertx.core.streams.WriteStream;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.client.HttpResponse;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Named;
 import jakarta.ws.rs.InternalServerErrorException;
-import java.net.URI;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import lombok.SneakyThrows;
 import lombok.extern.log4j.Log4j2;
@@ -37,11 +52,39 @@ import org.folio.sidecar.configuration.properties.WebClientConfig;
 import org.folio.sidecar.exception.EgressUnauthorizedException;
 import org.folio.sidecar.service.SidecarSignatureService;
 import org.folio.sidecar.service.TransactionLogHandler;
+import org.folio.sidecar.service.routing.balancer.EgressLoadBalancer;
+import org.folio.sidecar.service.routing.balancer.Endpoint;
+import org.folio.sidecar.service.routing.handler.StreamBackpressure.Client;
 
 @Log4j2
 @ApplicationScoped
 public class RequestForwardingService {
 
+  private static final AsciiString[] EXCLUDED_REQUEST_HEADERS = {
+    /*
+     * This is used as a workaround to prevent errors with installing modules on a tenant.
+     * HTTP client of mgr-tenant-entitlements is sending default user-agent within install call and due to this
+     * installing of mod-circulation fails when it attempts to communicate with mod-pubsub (as vertex HTTP client
+     * tries to add its own user-agent value...)
+     */
+    AsciiString.cached("user-agent"),
+
+    /*
+     * Workaround to protect modules against the DoS via HTTP priority header vulnerability CVE-2025-31650:
+     * <a href="https://folio-org.atlassian.net/browse/FOLIO-4316">FOLIO-4316</a>
+     */
+    AsciiString.cached("priority")
+  };
+
+  /*
+   * Connection-specific headers are not allowed in HTTP/2 messages (RFC 9113, section 8.2.2), they are dropped when a
+   * message is forwarded between HTTP/1.1 and HTTP/2 connections.
+   */
+  private static final AsciiString[] CONNECTION_SPECIFIC_HEADERS = {
+    HttpHeaderNames.CONNECTION, HttpHeaderNames.KEEP_ALIVE, HttpHeaderNames.PROXY_CONNECTION,
+    HttpHeaderNames.TRANSFER_ENCODING, HttpHeaderNames.UPGRADE, HttpHeaderNames.TE
+  };
+
   private final HttpClient httpClient;
   private final HttpClient httpClientEgress;
   private final HttpClient httpClientGateway;
@@ -49,11 +92,20 @@ public class RequestForwardingService {
   private final HttpProperties httpProperties;
   private final WebClientConfig webClientConfig;
   private final TransactionLogHandler transactionLogHandler;
+  private final EgressLoadBalancer egressLoadBalancer;
+  private final StreamBackpressure streamBackpressure;
+  private final UpstreamMetrics upstreamMetrics;
+  private final EgressHedging egressHedging;
+  private final UpstreamLocation.Cache ingressLocations;
+  private final UpstreamLocation.Cache egressLocations;
+  private final UpstreamLocation.Cache gatewayLocations;
 
   public RequestForwardingService(@Named("httpClient") HttpClient httpClient,
     @Named("httpClientEgress") HttpClient httpClientEgress, @Named("httpClientGateway") HttpClient httpClientGateway,
     SidecarSignatureService sidecarSignatureService, HttpProperties httpProperties,
-    WebClientConfig webClientConfig, TransactionLogHandler transactionLogHandler) {
+    WebClientConfig webClientConfig, TransactionLogHandler transactionLogHandler,
+    EgressLoadBalancer egressLoadBalancer, StreamBackpressure streamBackpressure, UpstreamMetrics upstreamMetrics,
+    EgressHedging egressHedging) {
     this.httpClient = httpClient;
     this.httpClientEgress = httpClientEgress;
     this.httpClientGateway = httpClientGateway;
@@ -61,90 +113,129 @@ public class RequestForwardingService {
     this.httpProperties = httpProperties;
     this.webClientConfig = webClientConfig;
     this.transactionLogHandler = transactionLogHandler;
+    this.egressLoadBalancer = egressLoadBalancer;
+    this.streamBackpressure = streamBackpressure;
+    this.upstreamMetrics = upstreamMetrics;
+    this.egressHedging = egressHedging;
+    this.ingressLocations = new UpstreamLocation.Cache(() -> false);
+    this.egressLocations = new UpstreamLocation.Cache(() -> webClientConfig.egress().tls().enabled());
+    this.gatewayLocations = new UpstreamLocation.Cache(() -> webClientConfig.gateway().tls().enabled());
   }
 
   /**
    * Forwards incoming (ingress) request.
    *
-   * @param rc      - {@link RoutingContext} object to forward request
-   * @param absUri  - absolute uri as {@link String} object
+   * @param rc       - {@link RoutingContext} object to forward request
+   * @param location - module URL
+   * @param path     - raw request path
    */
   @SneakyThrows
-  public Future<Void> forwardIngress(RoutingContext rc, String absUri) {
-    return forwardRequest(rc, absUri, httpClient);
+  public Future<Void> forwardIngress(RoutingContext rc, String location, String path) {
+    return forwardRequest(rc, ingressLocations.get(location), path, httpClient, INGRESS, null);
   }
 
   /**
    * Forwards outgoing (egress) request under HTTPS if TLS is enabled.
    *
-   * @param rc      - {@link RoutingContext} object to forward request
-   * @param absUri  - absolute uri as {@link String} object
+   * <p>If egress load balancing is enabled, the request is sent to one of the resolved addresses of the destination
+   * host, keeping the host name for the {@code Host} header and TLS. If egress hedging is enabled, GET and HEAD
+   * requests are hedged, see {@link EgressHedging}.</p>
+   *
+   * @param rc       - {@link RoutingContext} object to forward request
+   * @param location - location of the destination sidecar
+   * @param path     - raw request path
    */
   @SneakyThrows
-  public Future<Void> forwardEgress(RoutingContext rc, String absUri) {
-    if (webClientConfig.egress().tls().enabled()) {
-      absUri = toHttpsUri(absUri);
+  public Future<Void> forwardEgress(RoutingContext rc, String location, String path) {
+    var upstream = egressLocations.get(location);
+    var hedgeDelay = egressHedging.hedgeDelay(rc, upstream);
+    if (hedgeDelay >= 0) {
+      return forwardHedged(rc, upstream, path, hedgeDelay);
     }
-    return forwardRequest(rc, absUri, httpClientEgress);
+
+    var endpoint = egressLoadBalancer.choose(upstream.host(), upstream.port());
+    if (endpoint == null) {
+      return forwardRequest(rc, upstream, path, httpClientEgress, EGRESS, null);
+    }
+
+    return forwardRequest(rc, upstream, path, httpClientEgress, EGRESS, endpoint.address())
+      .onComplete(result -> egressLoadBalancer.release(endpoint, isHandledByUpstream(rc, result)));
   }
 
   /**
    * Forwards outgoing (egress) request to Gateway under HTTPS if TLS is enabled.
    *
-   * @param rc      - {@link RoutingContext} object to forward request
-   * @param absUri  - absolute uri as {@link String} object
+   * @param rc       - {@link RoutingContext} object to forward request
+   * @param location - gateway URL
+   * @param path     - raw request path
    */
   @SneakyThrows
-  public Future<Void> forwardToGateway(RoutingContext rc, String absUri) {
-    if (webClientConfig.gateway().tls().enabled()) {
-      absUri = toHttpsUri(absUri);
-    }
-    return forwardRequest(rc, absUri, httpClientGateway);
+  public Future<Void> forwardToGateway(RoutingContext rc, String location, String path) {
+    return forwardRequest(rc, gatewayLocations.get(location), path, httpClientGateway, GATEWAY, null);
+  }
+
+  /**
+   * Forwards egress GET or HEAD request with hedging.
+   *
+   * <p>If the response headers are not received within the hedge delay and the hedge budget allows, a second attempt
+   * is sent (to another endpoint, if egress load balancing is enabled). The first received response is streamed back,
+   * the other attempt is reset. Resetting an HTTP/1.1 request closes its connection.</p>
+   */
+  private Future<Void> forwardHedged(RoutingContext rc, UpstreamLocation upstream, String path, long hedgeDelay) {
+    putRequestStage(rc, FORWARDING_STAGE);
+    rc.request().pause();
+
+    var hedgedRequest = new HedgedRequest(rc, upstream, path);
+    hedgedRequest.send();
+    hedgedRequest.timerId = rc.vertx().setTimer(Math.max(hedgeDelay, 1), id -> hedgedRequest.hedge());
+    return hedgedRequest.result.future();
   }
 
   @SuppressWarnings("checkstyle:MethodLength")
-  private Future<Void> forwardRequest(RoutingContext rc, String absUri, HttpClient httpClient) {
+  private Future<Void> forwardRequest(RoutingContext rc, UpstreamLocation upstream, String path,
+    HttpClient httpClient, Client client, SocketAddress server) {
     putRequestStage(rc, FORWARDING_STAGE);
 
     final var result = Promise.<Void>promise();
     HttpServerRequest httpServerRequest = rc.request();
-    URI httpUri = URI.create(absUri);
 
     // Pause the request stream immediately to prevent data loss
     // This ensures no request body chunks arrive before handlers are ready
     // The stream will be resumed after handlers are properly set up
     httpServerRequest.pause();
 
-    QueryStringEncoder encoder = new QueryStringEncoder(httpUri.getPath());
-    httpServerRequest.params().forEach(encoder::addParam);
-
     // Create an HTTP request
-    Future<HttpClientRequest> request = createHttpClientRequestFuture(httpClient, httpServerRequest, httpUri, encoder)
-      .timeout(httpProperties.getTimeout(), TimeUnit.MILLISECONDS);
-
-    Set<HttpMethod> nonBodyMethods = Set.of(HttpMethod.GET, HttpMethod.HEAD);
+    var exchange = upstreamMetrics.begin(client, upstream);
+    Future<HttpClientRequest> request =
+      createHttpClientRequestFuture(httpClient, httpServerRequest, upstream, path, server)
+        .timeout(httpProperties.getTimeout(), TimeUnit.MILLISECONDS);
 
     request.onSuccess(httpClientRequest -> {
+      exchange.acquired(httpClientRequest.connection());
+      var transfer = new Transfer(client, upstream, exchange);
 
-      httpClientRequest.headers().setAll(filterHeaders(httpServerRequest));
-      httpClientRequest.headers().set(REQUEST_ID, getRequestId(rc));
+      var headers = httpClientRequest.headers();
+      copyRequestHeaders(httpServerRequest.headers(), headers, httpClientRequest.version());
+      headers.set(REQUEST_ID, getRequestId(rc));
 
-      // Set the maximum write queue size to prevent memory overflow
-      httpClientRequest.setWriteQueueMaxSize(128 * 1024); // 128 KB buffer
+      // Set the write queue watermarks to prevent memory overflow
+      transfer.setWriteQueueWatermarks(httpClientRequest, httpClientRequest.connection(), httpClientRequest.version());
 
       // Attach drainHandler to resume reading when the queue has space
       httpClientRequest.drainHandler(v -> {
         log.trace("Write queue has space again, resuming read from server requests.");
+        transfer.resumeRequest();
         httpServerRequest.resume();
       });
 
       // Set up request forwarding based on HTTP method
-      if (!nonBodyMethods.contains(httpServerRequest.method())) {
+      if (hasBody(httpServerRequest.method())) {
         httpClientRequest.setChunked(true);
 
         // Set up data handler to forward request body chunks
         httpServerRequest.handler(buffer -> {
           if (httpClientRequest.writeQueueFull()) {
+            transfer.pauseRequest();
             httpServerRequest.pause();
           }
           httpClientRequest.write(buffer);
@@ -170,15 +261,18 @@ public class RequestForwardingService {
         .timeout(httpProperties.getTimeout(), TimeUnit.MILLISECONDS)
         .onSuccess(response -> {
           log.trace("Handle the HTTP client response by streaming the output back to the server");
-          handleSuccessfulResponse(rc, response, result, httpClientRequest);
+          exchange.responded();
+          handleSuccessfulResponse(rc, response, result, httpClientRequest, transfer);
         }).onFailure(error -> {
           var errorMessage = format("Failed to proxy request because of response error: %s", error.getMessage());
           log.error(errorMessage);
+          exchange.end(false);
           result.fail(new InternalServerErrorException(errorMessage, error));
         });
     }).onFailure(error -> {
       var errorMessage = format("Failed to proxy request: %s", error.getMessage());
       log.error(errorMessage);
+      exchange.end(false);
       result.fail(new InternalServerErrorException(errorMessage, error));
       // Resume the stream on failure to prevent resource leak
       httpServerRequest.resume();
@@ -187,67 +281,97 @@ public class RequestForwardingService {
   }
 
   private static Future<HttpClientRequest> createHttpClientRequestFuture(HttpClient httpClient,
-    HttpServerRequest httpServerRequest, URI httpUri, QueryStringEncoder encoder) {
+    HttpServerRequest httpServerRequest, UpstreamLocation upstream, String path, SocketAddress server) {
 
+    // the raw query string is passed as is, without decoding and re-encoding of parameters
     var requestOptions = new RequestOptions()
-      .setHost(httpUri.getHost())
-      .setPort(getPortOrElseDefault(httpUri))
-      .setURI(encoder.toString())
+      .setHost(upstream.host())
+      .setPort(upstream.port())
+      .setURI(upstream.requestUri(path, httpServerRequest.query()))
       .setMethod(httpServerRequest.method());
 
-    if (httpUri.getScheme() != null && "https".equalsIgnoreCase(httpUri.getScheme())) {
+    if (upstream.ssl()) {
       requestOptions.setSsl(true);
     }
 
+    var serverAddress = server != null ? server : upstream.domainSocket();
+    if (serverAddress != null) {
+      requestOptions.setServer(serverAddress);
+    }
+
     return httpClient.request(requestOptions);
   }
 
-  private String toHttpsUri(String uri) {
-    var httpUri = URI.create(uri);
-    return httpUri.getPort() == -1
-      ? format("https://%s%s", httpUri.getHost(), httpUri.getPath())
-      : format("https://%s:%s%s", httpUri.getHost(), httpUri.getPort(), httpUri.getPath());
+  /**
+   * Checks if the upstream handled the request, failing for connection errors, timeouts and unavailability
+   * responses.
+   */
+  private static boolean isHandledByUpstream(RoutingContext rc, AsyncResult<Void> result) {
+    if (result.failed()) {
+      return result.cause() instanceof EgressUnauthorizedException;
+    }
+
+    var statusCode = rc.response().getStatusCode();
+    return statusCode != BAD_GATEWAY.code() && statusCode != SERVICE_UNAVAILABLE.code()
+      && statusCode != GATEWAY_TIMEOUT.code();
   }
 
   /**
-   * Filters request headers to exclude User-Agent and Priority.
+   * Copies request headers to the upstream request, skipping headers that must not be forwarded.
+   *
+   * <p>Headers are added to the upstream request directly, without an intermediate copy of the request headers.
+   * Connection-specific headers are skipped if the upstream request is sent over HTTP/2.</p>
    *
-   * @param request request
-   * @return filtered headers
+   * @param source - headers of the incoming request
+   * @param target - headers of the upstream request
+   * @param version - HTTP version of the upstream request
    */
-  private static MultiMap filterHeaders(HttpServerRequest request) {
-    var headers = new HeadersMultiMap().setAll(request.headers());
+  static void copyRequestHeaders(MultiMap source, MultiMap target, HttpVersion version) {
+    var http2 = version == HttpVersion.HTTP_2;
+    for (var header : source) {
+      var name = header.getKey();
+      if (!isOneOf(name, EXCLUDED_REQUEST_HEADERS) && !(http2 && isOneOf(name, CONNECTION_SPECIFIC_HEADERS))) {
+        target.add(name, header.getValue());
+      }
+    }
+  }
 
-    /*
-     * This is used as a workaround to prevent errors with installing modules on a tenant.
-     * HTTP client of mgr-tenant-entitlements is sending default user-agent within install call and due to this
-     * installing of mod-circulation fails when it attempts to communicate with mod-pubsub (as vertex HTTP client
-     * tries to add its own user-agent value...)
-     */
-    headers.remove(USER_AGENT);
+  private static void removeConnectionSpecificHeaders(MultiMap headers) {
+    for (var header : CONNECTION_SPECIFIC_HEADERS) {
+      headers.remove(header);
+    }
+  }
 
-    /*
-     * Workaround to protect modules against the DoS via HTTP priority header vulnerability CVE-2025-31650:
-     * <a href="https://folio-org.atlassian.net/browse/FOLIO-4316">FOLIO-4316</a>
-     */
-    headers.remove("Priority");
+  private static boolean isOneOf(String name, AsciiString[] headers) {
+    for (var header : headers) {
+      if (header.contentEqualsIgnoreCase(name)) {
+        return true;
+      }
+    }
+    return false;
+  }
 
-    return headers;
+  private static boolean hasBody(HttpMethod method) {
+    return !HttpMethod.GET.equals(method) && !HttpMethod.HEAD.equals(method);
   }
 
   private void handleSuccessfulResponse(RoutingContext rc, HttpClientResponse resp, Promise<Void> result,
-    HttpClientRequest httpClientRequest) {
+    HttpClientRequest httpClientRequest, Transfer transfer) {
     if (resp.statusCode() == UNAUTHORIZED.code() && isEgressRequest(rc)) {
-      handleEgressUnauthorized(rc, resp, result, httpClientRequest);
+      handleEgressUnauthorized(rc, resp, result, httpClientRequest, transfer.exchange);
       return;
     }
 
     var response = rc.response();
     response.headers().addAll(resp.headers());
+    if (rc.request().version() == HttpVersion.HTTP_2) {
+      removeConnectionSpecificHeaders(response.headers());
+    }
     response.setStatusCode(resp.statusCode());
     rc.put("uht", System.currentTimeMillis());
+    transfer.respondedAt = System.nanoTime();
 
-    removeSidecarSignatureThenEndResponse(rc, resp, response, result, httpClientRequest);
+    removeSidecarSignatureThenEndResponse(rc, resp, response, result, httpClientRequest, transfer);
   }
 
   /**
@@ -259,9 +383,10 @@ public class RequestForwardingService {
    * @param resp              upstream HTTP response
    * @param result            promise to fail once the body is fully drained
    * @param httpClientRequest upstream request, used for transaction logging
+   * @param exchange          upstream request metrics
    */
   private void handleEgressUnauthorized(RoutingContext rc, HttpClientResponse resp, Promise<Void> result,
-    HttpClientRequest httpClientRequest) {
+    HttpClientRequest httpClientRequest, UpstreamMetrics.Exchange exchange) {
     log.info("Intercepted {} from upstream on egress request [method: {}, uri: {}]", () -> UNAUTHORIZED,
       () -> rc.request().method(), dumpUri(rc));
 
@@ -269,14 +394,17 @@ public class RequestForwardingService {
     resp.handler(buf -> {});
     resp.endHandler(v -> {
       rc.put("urt", System.currentTimeMillis());
+      exchange.end(true);
       transactionLogHandler.log(rc, resp, httpClientRequest);
 
       result.fail(new EgressUnauthorizedException("Failed to authorize egress request to: "
         + rc.request().method() + " " + dumpUri(rc).get()));
     });
 
-    resp.exceptionHandler(error ->
-      result.fail(new InternalServerErrorException("Failed to drain unauthorized upstream response", error)));
+    resp.exceptionHandler(error -> {
+      exchange.end(false);
+      result.fail(new InternalServerErrorException("Failed to drain unauthorized upstream response", error));
+    });
   }
 
   /**
@@ -287,50 +415,315 @@ public class RequestForwardingService {
    * @param httpServerResponse - {@link HttpServerResponse} object
    * @param result             - result promise
    * @param httpClientRequest  - {@link HttpClientRequest} object for transaction logging
+   * @param transfer           - state of the forwarded request for write queue sizing and metrics
    */
   private void removeSidecarSignatureThenEndResponse(RoutingContext rc, HttpClientResponse httpClientResponse,
-    HttpServerResponse httpServerResponse, Promise<Void> result, HttpClientRequest httpClientRequest) {
+    HttpServerResponse httpServerResponse, Promise<Void> result, HttpClientRequest httpClientRequest,
+    Transfer transfer) {
     sidecarSignatureService.removeSignature(httpServerResponse);
 
-    // Set the maximum write queue size to prevent memory overflow
-    httpServerResponse.setWriteQueueMaxSize(128 * 1024); // 128 KB buffer
+    // Set the write queue watermarks to prevent memory overflow
+    var httpServerRequest = rc.request();
+    transfer.setWriteQueueWatermarks(httpServerResponse, httpServerRequest.connection(), httpServerRequest.version());
+    streamResponseBody(httpClientResponse, httpServerResponse, transfer);
+
+    // End the request when the file stream finishes
+    httpClientResponse.endHandler(v -> {
+      log.trace("Response to the server  complete, ending request.");
+      rc.put("urt", System.currentTimeMillis());
+      transfer.end(true);
+      httpServerResponse.end();
+      transactionLogHandler.log(rc, httpClientResponse, httpClientRequest);
+      result.complete();
+    });
+
+    httpClientResponse.exceptionHandler(error -> {
+      transfer.end(false);
+      result.fail(new InternalServerErrorException("Failed to proxy request: upstream issue", error));
+    });
+  }
 
+  /**
+   * Writes the upstream response body to the server response, pausing the upstream response while the write queue is
+   * full.
+   */
+  private static void streamResponseBody(HttpClientResponse httpClientResponse, HttpServerResponse httpServerResponse,
+    Transfer transfer) {
     // Attach drainHandler to resume reading when the queue has space
     httpServerResponse.drainHandler(v -> {
       log.trace("Write queue has space again, resuming  read.");
+      transfer.resumeResponse();
       httpClientResponse.resume();
     });
 
     // If the write queue is full, pause the ReadStream
     httpClientResponse.handler(buffer -> {
+      transfer.received(buffer);
       if (httpServerResponse.writeQueueFull()) {
+        transfer.pauseResponse();
         httpClientResponse.pause();
       }
       httpServerResponse.write(buffer);
     });
+  }
 
-    // End the request when the file stream finishes
-    httpClientResponse.endHandler(v -> {
-      log.trace("Response to the server  complete, ending request.");
-      rc.put("urt", System.currentTimeMillis());
-      httpServerResponse.end();
-      transactionLogHandler.log(rc, httpClientResponse, httpClientRequest);
-      result.complete();
-    });
+  /**
+   * Attempts of a hedged egress request, all callbacks run on the context of the incoming request.
+   */
+  private final class HedgedRequest {
+
+    private final RoutingContext rc;
+    private final UpstreamLocation upstream;
+    private final String path;
+    private final String requestId;
+    private final Promise<Void> result = Promise.promise();
+    private final List<Attempt> attempts = new ArrayList<>(2);
+    private Attempt winner;
+    private long timerId = -1;
+
+    private HedgedRequest(RoutingContext rc, UpstreamLocation upstream, String path) {
+      this.rc = rc;
+      this.upstream = upstream;
+      this.path = path;
+      this.requestId = getRequestId(rc);
+    }
+
+    private void send() {
+      var endpoint = egressLoadBalancer.choose(upstream.host(), upstream.port());
+      var attempt = new Attempt(endpoint, upstreamMetrics.begin(EGRESS, upstream), !attempts.isEmpty());
+      attempts.add(attempt);
+
+      var server = endpoint != null ? endpoint.address() : null;
+      createHttpClientRequestFuture(httpClientEgress, rc.request(), upstream, path, server)
+        .timeout(httpProperties.getTimeout(), TimeUnit.MILLISECONDS)
+        .compose(httpClientRequest -> {
+          attempt.request = httpClientRequest;
+          attempt.exchange.acquired(httpClientRequest.connection());
+          if (winner != null) {
+            httpClientRequest.reset();
+            return Future.failedFuture("Hedged attempt is cancelled");
+          }
+
+          copyRequestHeaders(rc.request().headers(), httpClientRequest.headers(), httpClientRequest.version());
+          httpClientRequest.headers().set(REQUEST_ID, requestId);
+          attempt.sentAt = System.nanoTime();
+          attempt.sent = true;
+          httpClientRequest.end();
+          return httpClientRequest.response().timeout(httpProperties.getTimeout(), TimeUnit.MILLISECONDS);
+        })
+        .onComplete(response -> onResponse(attempt, response));
+    }
+
+    private void hedge() {
+      timerId = -1;
+      if (winner == null && !result.future().isComplete() && egressHedging.tryHedge()) {
+        log.debug("Sending hedged egress request: host = {}, port = {}", upstream.host(), upstream.port());
+        send();
+      }
+    }
+
+    private void onResponse(Attempt attempt, AsyncResult<HttpClientResponse> response) {
+      if (winner != null || result.future().isComplete()) {
+        // the race is decided, the outcome of a late attempt says nothing about its endpoint
+        attempt.cancel(true);
+      } else if (response.failed()) {
+        onFailure(attempt, response.cause());
+      } else {
+        onWin(attempt, response.result());
+      }
+    }
 
-    httpClientResponse.exceptionHandler(error ->
-      result.fail(new InternalServerErrorException("Failed to proxy request: upstream issue", error)));
+    private void onFailure(Attempt attempt, Throwable cause) {
+      attempt.failed = true;
+      attempt.cancel(false);
+      if (attempts.stream().allMatch(value -> value.failed)) {
+        cancelTimer();
+        var errorMessage = format("Failed to proxy request: %s", cause.getMessage());
+        log.error(errorMessage);
+        rc.request().resume();
+        result.fail(new InternalServerErrorException(errorMessage, cause));
+      }
+    }
+
+    private void onWin(Attempt attempt, HttpClientResponse httpClientResponse) {
+      winner = attempt;
+      cancelTimer();
+      cancelLosers(attempt);
+
+      attempt.exchange.responded();
+      if (attempt.endpoint != null) {
+        result.future().onComplete(ar -> egressLoadBalancer.release(attempt.endpoint, isHandledByUpstream(rc, ar)));
+      }
+      handleSuccessfulResponse(rc, httpClientResponse, result, attempt.request,
+        new Transfer(EGRESS, upstream, attempt.exchange));
+    }
+
+    private void cancelLosers(Attempt won) {
+      var now = System.nanoTime();
+      egressHedging.recordResponse(upstream, now - won.sentAt, won.hedge);
+      for (var other : attempts) {
+        if (other == won) {
+          continue;
+        }
+
+        // an attempt sent before the winner is slower than the winner, its elapsed time is a lower bound of its latency
+        if (other.sent && !other.failed && other.sentAt - won.sentAt < 0) {
+          egressHedging.recordLost(upstream, now - other.sentAt);
+        }
+        other.cancel(true);
+      }
+    }
+
+    private void cancelTimer() {
+      if (timerId >= 0) {
+        rc.vertx().cancelTimer(timerId);
+        timerId = -1;
+      }
+    }
   }
 
-  private static int getPortOrElseDefault(URI httpUri) {
-    int port;
-    if (httpUri.getPort() == -1 && "http".equalsIgnoreCase(httpUri.getScheme())) {
-      port = 80;
-    } else if (httpUri.getPort() == -1 && "https".equalsIgnoreCase(httpUri.getScheme())) {
-      port = 443;
-    } else {
-      port = httpUri.getPort();
+  /**
+   * Attempt of a hedged egress request.
+   */
+  private final class Attempt {
+
+    private final Endpoint endpoint;
+    private final UpstreamMetrics.Exchange exchange;
+    private final boolean hedge;
+    private HttpClientRequest request;
+    private long sentAt;
+    private boolean sent;
+    private boolean failed;
+    private boolean cancelled;
+
+    private Attempt(Endpoint endpoint, UpstreamMetrics.Exchange exchange, boolean hedge) {
+      this.endpoint = endpoint;
+      this.exchange = exchange;
+      this.hedge = hedge;
+    }
+
+    /**
+     * Resets the request of the attempt and releases its endpoint.
+     *
+     * @param lost - true if the attempt lost to another one, a lost attempt counts neither as a success nor as a
+     *   failure of its endpoint
+     */
+    private void cancel(boolean lost) {
+      if (cancelled) {
+        return;
+      }
+
+      cancelled = true;
+      if (request != null) {
+        request.reset();
+      }
+      exchange.end(false);
+      if (endpoint == null) {
+        return;
+      }
+
+      if (lost) {
+        egressLoadBalancer.cancel(endpoint);
+      } else {
+        egressLoadBalancer.release(endpoint, false);
+      }
+    }
+  }
+
+  /**
+   * State of a forwarded request used for write queue sizing, backpressure and upstream metrics.
+   */
+  private final class Transfer {
+
+    private final Client client;
+    private final UpstreamLocation upstream;
+    private final UpstreamMetrics.Exchange exchange;
+    private final long sentAt = System.nanoTime();
+    private final PauseTimer requestPause = new PauseTimer();
+    private final PauseTimer responsePause = new PauseTimer();
+    private long respondedAt;
+    private long responseBytes;
+
+    private Transfer(Client client, UpstreamLocation upstream, UpstreamMetrics.Exchange exchange) {
+      this.client = client;
+      this.upstream = upstream;
+      this.exchange = exchange;
+    }
+
+    /**
+     * Sets write queue watermarks of the stream.
+     *
+     * <p>Vert.x sets the low watermark to half of the write queue size, a configured low watermark is applied to the
+     * channel of HTTP/1.x connections; HTTP/2 streams keep the Vert.x one.</p>
+     */
+    private void setWriteQueueWatermarks(WriteStream<Buffer> stream, HttpConnection connection, HttpVersion version) {
+      var highWatermark = streamBackpressure.highWatermark(client, upstream);
+      stream.setWriteQueueMaxSize(highWatermark);
+
+      var lowWatermark = streamBackpressure.lowWatermark(client, highWatermark);
+      if (lowWatermark != highWatermark / 2 && version != HttpVersion.HTTP_2
+        && connection instanceof ConnectionBase connectionBase) {
+        connectionBase.channel().config()
+          .setWriteBufferWaterMark(new WriteBufferWaterMark(lowWatermark, highWatermark));
+      }
+    }
+
+    private void pauseRequest() {
+      requestPause.pause();
+    }
+
+    private void resumeRequest() {
+      streamBackpressure.recordPause(client, REQUEST, requestPause.resume());
+    }
+
+    private void pauseResponse() {
+      responsePause.pause();
+    }
+
+    private void resumeResponse() {
+      streamBackpressure.recordPause(client, RESPONSE, responsePause.resume());
+    }
+
+    private void received(Buffer buffer) {
+      responseBytes += buffer.length();
+    }
+
+    /**
+     * Reports the end of the response to the upstream metrics and, if the response was received completely, its
+     * time to first byte, size and body time to the backpressure statistics.
+     *
+     * @param succeeded - true if the upstream response was received completely
+     */
+    private void end(boolean succeeded) {
+      if (succeeded) {
+        streamBackpressure.recordResponse(client, upstream, respondedAt - sentAt, responseBytes,
+          System.nanoTime() - respondedAt);
+      }
+      exchange.end(succeeded);
+    }
+  }
+
+  /**
+   * Time a body stream is paused because the write queue is full.
+   */
+  private static final class PauseTimer {
+
+    private long pausedAt = -1;
+
+    private void pause() {
+      if (pausedAt < 0) {
+        pausedAt = System.nanoTime();
+      }
+    }
+
+    private long resume() {
+      if (pausedAt < 0) {
+        return -1;
+      }
+
+      var pausedNanos = System.nanoTime() - pausedAt;
+      pausedAt = -1;
+      return pausedNanos;
     }
-    return port;
   }
 }
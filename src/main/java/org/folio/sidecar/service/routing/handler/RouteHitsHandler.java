@@ -0,0 +1,31 @@
+package org.folio.sidecar.service.routing.handler;
+
+import static jakarta.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
+
+import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
+import lombok.RequiredArgsConstructor;
+import org.apache.http.HttpStatus;
+import org.folio.sidecar.service.JsonConverter;
+import org.folio.sidecar.service.routing.RouteHitsService;
+
+/**
+ * Responds with hits of ingress and egress routes, most used routes first.
+ */
+@RequiredArgsConstructor
+public class RouteHitsHandler implements Handler<RoutingContext> {
+
+  public static final String ROUTE_HITS_PATH = "/admin/route-hits";
+
+  private final RouteHitsService routeHitsService;
+  private final JsonConverter jsonConverter;
+
+  @Override
+  public void handle(RoutingContext rc) {
+    rc.response()
+      .setStatusCode(HttpStatus.SC_OK)
+      .putHeader(CONTENT_TYPE, APPLICATION_JSON)
+      .end(jsonConverter.toJson(routeHitsService.getRouteHits()));
+  }
+}
@@ -0,0 +1,199 @@
+package org.folio.sidecar.service.routing.handler;
+
+import static java.lang.String.format;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.log4j.Log4j2;
+import org.folio.sidecar.configuration.properties.WebClientConfig;
+import org.folio.sidecar.configuration.properties.WebClientConfig.WriteQueueSettings;
+
+/**
+ * Write queue watermarks and backpressure metrics of request and response bodies streamed by
+ * {@link RequestForwardingService}.
+ *
+ * <p>Watermarks are configured per client. In adaptive mode the high watermark of a destination is sized from the
+ * bandwidth-delay product observed on its responses: response latency multiplied by the throughput of response bodies,
+ * bounded by the configured minimum and maximum size.</p>
+ */
+@Log4j2
+@ApplicationScoped
+public class StreamBackpressure {
+
+  static final String PAUSED_METRIC_NAME = "sidecar.stream.paused";
+  static final int MIN_THROUGHPUT_SAMPLE_BYTES = 64 * 1024;
+  static final int MAX_DESTINATIONS = 1024;
+  private static final double SMOOTHING = 0.2;
+
+  private final Map<Client, ClientQueues> clients = new EnumMap<>(Client.class);
+
+  public StreamBackpressure(WebClientConfig webClientConfig, MeterRegistry meterRegistry) {
+    clients.put(Client.INGRESS, new ClientQueues(Client.INGRESS, webClientConfig.ingress().writeQueue(),
+      meterRegistry));
+    clients.put(Client.EGRESS, new ClientQueues(Client.EGRESS, webClientConfig.egress().writeQueue(), meterRegistry));
+    clients.put(Client.GATEWAY, new ClientQueues(Client.GATEWAY, webClientConfig.gateway().writeQueue(),
+      meterRegistry));
+  }
+
+  /**
+   * Returns the high watermark of write queues for the destination.
+   *
+   * @param client - client forwarding the request
+   * @param upstream - destination of the request
+   * @return write queue size in bytes
+   */
+  int highWatermark(Client client, UpstreamLocation upstream) {
+    return clients.get(client).highWatermark(upstream);
+  }
+
+  /**
+   * Returns the low watermark of write queues for the given high watermark.
+   *
+   * @param client - client forwarding the request
+   * @param highWatermark - high watermark in bytes
+   * @return write queue size in bytes below which reading is resumed
+   */
+  int lowWatermark(Client client, int highWatermark) {
+    return clients.get(client).lowWatermark(highWatermark);
+  }
+
+  /**
+   * Records time a body stream was paused because the write queue was full.
+   *
+   * @param client - client forwarding the request
+   * @param direction - streamed body
+   * @param pausedNanos - paused time in nanoseconds, negative if the stream was not paused
+   */
+  void recordPause(Client client, Direction direction, long pausedNanos) {
+    if (pausedNanos >= 0) {
+      clients.get(client).pausedTimers.get(direction).record(pausedNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * Records a completed response of the destination to size its write queues in adaptive mode.
+   *
+   * @param client - client forwarding the request
+   * @param upstream - destination of the request
+   * @param latencyNanos - time from sending the request to receiving the response headers
+   * @param bytes - size of the response body
+   * @param transferNanos - time from receiving the response headers to the end of the response body
+   */
+  void recordResponse(Client client, UpstreamLocation upstream, long latencyNanos, long bytes, long transferNanos) {
+    clients.get(client).recordResponse(upstream, latencyNanos, bytes, transferNanos);
+  }
+
+  /**
+   * Clients of {@link RequestForwardingService}.
+   */
+  enum Client {
+    INGRESS, EGRESS, GATEWAY
+  }
+
+  /**
+   * Streamed bodies: request body read from the incoming request, response body read from the upstream response.
+   */
+  enum Direction {
+    REQUEST, RESPONSE
+  }
+
+  private static final class ClientQueues {
+
+    private final Map<UpstreamLocation, Estimate> estimates = new ConcurrentHashMap<>();
+    private final Map<Direction, Timer> pausedTimers = new EnumMap<>(Direction.class);
+    private final int highWatermark;
+    private final double lowWatermarkRatio;
+    private final boolean adaptive;
+    private final int minSize;
+    private final int maxSize;
+
+    private ClientQueues(Client client, WriteQueueSettings settings, MeterRegistry meterRegistry) {
+      var clientName = client.name().toLowerCase(Locale.ROOT);
+      validateWatermarks(clientName, settings);
+
+      var adaptiveSettings = settings.adaptive();
+      this.highWatermark = settings.highWatermark();
+      this.lowWatermarkRatio = (double) settings.lowWatermark() / settings.highWatermark();
+      this.adaptive = adaptiveSettings.enabled();
+      this.minSize = adaptiveSettings.minSize();
+      this.maxSize = adaptiveSettings.maxSize();
+      if (adaptive) {
+        log.info("Adaptive write queues enabled: client = {}, minSize = {}, maxSize = {}",
+          clientName, minSize, maxSize);
+      }
+
+      for (var direction : Direction.values()) {
+        pausedTimers.put(direction, Timer.builder(PAUSED_METRIC_NAME)
+          .description("Time reading of a streamed body was paused because the write queue was full")
+          .tag("client", clientName)
+          .tag("direction", direction.name().toLowerCase(Locale.ROOT))
+          .register(meterRegistry));
+      }
+    }
+
+    private static void validateWatermarks(String clientName, WriteQueueSettings settings) {
+      if (settings.lowWatermark() < 0 || settings.lowWatermark() > settings.highWatermark()) {
+        throw new IllegalArgumentException(format(
+          "Invalid write queue watermarks: client = %s, high-watermark = %s, low-watermark = %s",
+          clientName, settings.highWatermark(), settings.lowWatermark()));
+      }
+    }
+
+    private int highWatermark(UpstreamLocation upstream) {
+      if (!adaptive) {
+        return highWatermark;
+      }
+
+      var estimate = estimates.get(upstream);
+      return estimate == null || estimate.size < 0 ? highWatermark : estimate.size;
+    }
+
+    private int lowWatermark(int highWatermark) {
+      return (int) Math.round(highWatermark * lowWatermarkRatio);
+    }
+
+    private void recordResponse(UpstreamLocation upstream, long latencyNanos, long bytes, long transferNanos) {
+      if (!adaptive) {
+        return;
+      }
+
+      var estimate = estimates.get(upstream);
+      if (estimate == null) {
+        if (estimates.size() >= MAX_DESTINATIONS) {
+          estimates.clear();
+        }
+        estimate = estimates.computeIfAbsent(upstream, key -> new Estimate());
+      }
+
+      estimate.update(latencyNanos, bytes, transferNanos, minSize, maxSize);
+    }
+  }
+
+  /**
+   * Smoothed response latency and body throughput of a destination.
+   */
+  private static final class Estimate {
+
+    private double latencyNanos;
+    private double bytesPerNano;
+    private volatile int size = -1;
+
+    private synchronized void update(long latency, long bytes, long transferNanos, int minSize, int maxSize) {
+      latencyNanos = latencyNanos == 0 ? latency : latencyNanos + SMOOTHING * (latency - latencyNanos);
+      if (bytes >= MIN_THROUGHPUT_SAMPLE_BYTES && transferNanos > 0) {
+        var throughput = (double) bytes / transferNanos;
+        bytesPerNano = bytesPerNano == 0 ? throughput : bytesPerNano + SMOOTHING * (throughput - bytesPerNano);
+      }
+
+      if (bytesPerNano > 0) {
+        size = Math.clamp((long) (bytesPerNano * latencyNanos), minSize, maxSize);
+      }
+    }
+  }
+}
@@ -0,0 +1,115 @@
+package org.folio.sidecar.service.routing.handler;
+
+import static org.folio.sidecar.configuration.properties.ModuleProperties.DOMAIN_SOCKET_SCHEME;
+
+import io.vertx.core.net.SocketAddress;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Parsed upstream location (module, sidecar or gateway URL) that requests are forwarded to.
+ *
+ * <p>A {@code unix:} location, e.g. {@code unix:/var/run/mod-foo.sock}, points to the unix domain socket of the
+ * co-located module: requests are sent to the socket with {@code localhost} as the host.</p>
+ *
+ * @param host - host name
+ * @param port - port, the scheme default if the location has no port
+ * @param ssl - whether the connection uses TLS
+ * @param basePath - raw path of the location prepended to the request path, empty if absent
+ * @param domainSocket - unix domain socket to connect to instead of host and port, nullable
+ */
+record UpstreamLocation(String host, int port, boolean ssl, String basePath, SocketAddress domainSocket) {
+
+  private static final String DOMAIN_SOCKET_HOST = "localhost";
+
+  UpstreamLocation(String host, int port, boolean ssl, String basePath) {
+    this(host, port, ssl, basePath, null);
+  }
+
+  /**
+   * Parses the location.
+   *
+   * @param location - absolute URL of the upstream
+   * @param tls - forces TLS for the location regardless of its scheme
+   * @return parsed {@link UpstreamLocation}
+   */
+  static UpstreamLocation parse(String location, boolean tls) {
+    if (isDomainSocket(location)) {
+      var socketPath = location.substring(DOMAIN_SOCKET_SCHEME.length());
+      return new UpstreamLocation(DOMAIN_SOCKET_HOST, defaultPort("http", tls), tls, "",
+        SocketAddress.domainSocketAddress(socketPath));
+    }
+
+    var uri = URI.create(location);
+    var ssl = tls || "https".equalsIgnoreCase(uri.getScheme());
+    var port = uri.getPort() != -1 ? uri.getPort() : defaultPort(uri.getScheme(), ssl);
+    var basePath = uri.getRawPath() == null ? "" : uri.getRawPath();
+    return new UpstreamLocation(uri.getHost(), port, ssl, basePath);
+  }
+
+  /**
+   * Checks if the location is a unix domain socket.
+   *
+   * @param location - upstream location
+   * @return true if the location uses {@code unix:} scheme
+   */
+  static boolean isDomainSocket(String location) {
+    return location.regionMatches(true, 0, DOMAIN_SOCKET_SCHEME, 0, DOMAIN_SOCKET_SCHEME.length());
+  }
+
+  /**
+   * Builds request URI from the request path and the raw query string.
+   *
+   * @param path - raw request path
+   * @param query - raw query string, nullable
+   * @return request URI
+   */
+  String requestUri(String path, String query) {
+    var uri = basePath.isEmpty() ? path : basePath + path;
+    return query == null ? uri : uri + '?' + query;
+  }
+
+  private static int defaultPort(String scheme, boolean ssl) {
+    if (ssl) {
+      return 443;
+    }
+    return "http".equalsIgnoreCase(scheme) ? 80 : -1;
+  }
+
+  /**
+   * Locations parsed for one HTTP client.
+   *
+   * <p>The number of distinct locations is bounded by the modules the sidecar routes to, the cache is dropped if it
+   * outgrows the limit anyway.</p>
+   */
+  static final class Cache {
+
+    private static final int MAX_SIZE = 1024;
+
+    private final Map<String, UpstreamLocation> locations = new ConcurrentHashMap<>();
+    private final BooleanSupplier tls;
+
+    /**
+     * Creates location cache.
+     *
+     * @param tls - defines if TLS is forced for locations, evaluated once per location
+     */
+    Cache(BooleanSupplier tls) {
+      this.tls = tls;
+    }
+
+    UpstreamLocation get(String location) {
+      var result = locations.get(location);
+      if (result == null) {
+        if (locations.size() >= MAX_SIZE) {
+          locations.clear();
+        }
+        result = parse(location, tls.getAsBoolean());
+        locations.put(location, result);
+      }
+      return result;
+    }
+  }
+}
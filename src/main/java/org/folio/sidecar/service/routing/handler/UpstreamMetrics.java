@@ -0,0 +1,327 @@
+package org.folio.sidecar.service.routing.handler;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.vertx.core.http.HttpConnection;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.log4j.Log4j2;
+import org.folio.sidecar.service.routing.configuration.properties.UpstreamMetricsProperties;
+import org.folio.sidecar.service.routing.handler.StreamBackpressure.Client;
+
+/**
+ * Connection pool and latency metrics of upstream requests sent by {@link RequestForwardingService}, per client and
+ * destination ({@code host:port}).
+ *
+ * <p>Pool state is tracked from the requests: a connection is counted as open when it serves its first request and as
+ * in use while it serves at least one request. The time to acquire a connection is recorded as connect time for the
+ * request that opened the connection and as pool wait time otherwise. Time to first byte is measured from the
+ * acquired connection to the response headers, upstream latency from the connection request to the end of the
+ * response. Timer percentiles are computed by Micrometer with HdrHistogram.</p>
+ */
+@Log4j2
+@ApplicationScoped
+public class UpstreamMetrics {
+
+  static final String CONNECTIONS_METRIC_NAME = "sidecar.upstream.connections";
+  static final String WAITING_METRIC_NAME = "sidecar.upstream.pool.waiting";
+  static final String WAIT_METRIC_NAME = "sidecar.upstream.pool.wait";
+  static final String CONNECT_METRIC_NAME = "sidecar.upstream.connect";
+  static final String FIRST_BYTE_METRIC_NAME = "sidecar.upstream.ttfb";
+  static final String LATENCY_METRIC_NAME = "sidecar.upstream.latency";
+  static final String OTHER_DESTINATION = "other";
+  static final int MAX_DESTINATIONS = 1024;
+
+  private final UpstreamMetricsProperties properties;
+  private final MeterRegistry meterRegistry;
+  private final double[] percentiles;
+  private final Map<Client, ClientDestinations> clients = new EnumMap<>(Client.class);
+  private final Map<HttpConnection, ConnectionState> connections = new ConcurrentHashMap<>();
+
+  public UpstreamMetrics(UpstreamMetricsProperties properties, MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+    this.percentiles = properties.percentiles().stream().mapToDouble(Double::doubleValue).toArray();
+    for (var client : Client.values()) {
+      clients.put(client, new ClientDestinations(client));
+    }
+
+    if (properties.enabled()) {
+      log.info("Upstream metrics enabled: percentiles = {}, histogram = {}",
+        properties.percentiles(), properties.histogram());
+    }
+  }
+
+  /**
+   * Starts tracking of an upstream request, before a connection is requested from the client pool.
+   *
+   * @param client - client forwarding the request
+   * @param upstream - destination of the request
+   * @return {@link Exchange} to report progress of the request, no-op if upstream metrics are disabled
+   */
+  Exchange begin(Client client, UpstreamLocation upstream) {
+    return begin(client, upstream, false);
+  }
+
+  /**
+   * Starts tracking of a pre-warm request, which updates the pool state and connect or pool wait time like a forwarded
+   * request, but records neither time to first byte nor upstream latency.
+   *
+   * @param client - client opening the connection
+   * @param upstream - destination of the request
+   * @return {@link Exchange} to report progress of the request, no-op if upstream metrics are disabled
+   */
+  Exchange beginPrewarm(Client client, UpstreamLocation upstream) {
+    return begin(client, upstream, true);
+  }
+
+  private Exchange begin(Client client, UpstreamLocation upstream, boolean prewarm) {
+    if (!properties.enabled()) {
+      return Exchange.NOOP;
+    }
+
+    var destination = clients.get(client).get(upstream);
+    destination.waiting.incrementAndGet();
+    return new Exchange(this, destination, prewarm);
+  }
+
+  private ConnectionState acquire(HttpConnection connection, Destination destination, long acquireNanos) {
+    if (connection == null) {
+      destination.waitTimer.record(acquireNanos, TimeUnit.NANOSECONDS);
+      return null;
+    }
+
+    var state = connections.get(connection);
+    if (state == null) {
+      var created = new ConnectionState(destination);
+      state = connections.putIfAbsent(connection, created);
+      if (state == null) {
+        open(connection, created, acquireNanos);
+        return created;
+      }
+    }
+
+    destination.waitTimer.record(acquireNanos, TimeUnit.NANOSECONDS);
+    state.acquire();
+    return state;
+  }
+
+  /**
+   * Tracks a new pooled connection until it is closed.
+   */
+  private void open(HttpConnection connection, ConnectionState state, long connectNanos) {
+    state.destination.open.incrementAndGet();
+    state.destination.connectTimer.record(connectNanos, TimeUnit.NANOSECONDS);
+    connection.closeHandler(v -> {
+      var closed = connections.remove(connection);
+      if (closed != null) {
+        closed.close();
+      }
+    });
+    state.acquire();
+  }
+
+  private Timer timer(String name, String description, Tags tags) {
+    var builder = Timer.builder(name)
+      .description(description)
+      .tags(tags)
+      .publishPercentiles(percentiles);
+    if (properties.histogram()) {
+      builder.publishPercentileHistogram();
+    }
+    return builder.register(meterRegistry);
+  }
+
+  /**
+   * Destinations of a client, looked up by upstream location, locations with the same host and port share a
+   * destination.
+   */
+  private final class ClientDestinations {
+
+    private final Client client;
+    private final Map<UpstreamLocation, Destination> locations = new ConcurrentHashMap<>();
+    private final Map<String, Destination> destinations = new ConcurrentHashMap<>();
+
+    private ClientDestinations(Client client) {
+      this.client = client;
+    }
+
+    private Destination get(UpstreamLocation upstream) {
+      var destination = locations.get(upstream);
+      return destination != null ? destination : register(upstream);
+    }
+
+    private synchronized Destination register(UpstreamLocation upstream) {
+      var name = upstream.host() + ":" + upstream.port();
+      if (!destinations.containsKey(name) && destinations.size() >= MAX_DESTINATIONS) {
+        name = OTHER_DESTINATION;
+      }
+
+      var destination = destinations.computeIfAbsent(name, key -> new Destination(client, key));
+      if (locations.size() < MAX_DESTINATIONS) {
+        locations.put(upstream, destination);
+      }
+      return destination;
+    }
+  }
+
+  private final class Destination {
+
+    private final AtomicInteger open = new AtomicInteger();
+    private final AtomicInteger inUse = new AtomicInteger();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final Timer waitTimer;
+    private final Timer connectTimer;
+    private final Timer firstByteTimer;
+    private final Timer successTimer;
+    private final Timer failureTimer;
+
+    private Destination(Client client, String name) {
+      var tags = Tags.of("client", client.name().toLowerCase(Locale.ROOT), "destination", name);
+      registerGauges(tags);
+
+      this.waitTimer = timer(WAIT_METRIC_NAME, "Time waiting for a pooled upstream connection", tags);
+      this.connectTimer = timer(CONNECT_METRIC_NAME, "Time opening a new upstream connection", tags);
+      this.firstByteTimer = timer(FIRST_BYTE_METRIC_NAME,
+        "Time from an acquired upstream connection to the upstream response headers", tags);
+      var latency = "Time from requesting an upstream connection to the end of the upstream response";
+      this.successTimer = timer(LATENCY_METRIC_NAME, latency, tags.and("outcome", "success"));
+      this.failureTimer = timer(LATENCY_METRIC_NAME, latency, tags.and("outcome", "failure"));
+    }
+
+    private void registerGauges(Tags tags) {
+      Gauge.builder(CONNECTIONS_METRIC_NAME, inUse, AtomicInteger::get)
+        .description("Upstream connections serving requests")
+        .tags(tags)
+        .tag("state", "in-use")
+        .register(meterRegistry);
+      Gauge.builder(CONNECTIONS_METRIC_NAME, this, d -> Math.max(d.open.get() - d.inUse.get(), 0))
+        .description("Open upstream connections not serving requests")
+        .tags(tags)
+        .tag("state", "idle")
+        .register(meterRegistry);
+      Gauge.builder(WAITING_METRIC_NAME, waiting, AtomicInteger::get)
+        .description("Upstream requests waiting for a connection")
+        .tags(tags)
+        .register(meterRegistry);
+    }
+  }
+
+  /**
+   * Requests served by a pooled connection, HTTP/2 connections serve concurrent requests.
+   */
+  private static final class ConnectionState {
+
+    private final Destination destination;
+    private int active;
+    private boolean closed;
+
+    private ConnectionState(Destination destination) {
+      this.destination = destination;
+    }
+
+    private synchronized void acquire() {
+      if (!closed && active++ == 0) {
+        destination.inUse.incrementAndGet();
+      }
+    }
+
+    private synchronized void release() {
+      if (!closed && active > 0 && --active == 0) {
+        destination.inUse.decrementAndGet();
+      }
+    }
+
+    private synchronized void close() {
+      if (closed) {
+        return;
+      }
+
+      closed = true;
+      if (active > 0) {
+        destination.inUse.decrementAndGet();
+      }
+      destination.open.decrementAndGet();
+    }
+  }
+
+  /**
+   * Progress of an upstream request.
+   */
+  static final class Exchange {
+
+    static final Exchange NOOP = new Exchange(null, null, false);
+
+    private final UpstreamMetrics metrics;
+    private final Destination destination;
+    private final boolean prewarm;
+    private final long startedAt = System.nanoTime();
+    private long acquiredAt;
+    private boolean acquired;
+    private boolean ended;
+    private ConnectionState connection;
+
+    private Exchange(UpstreamMetrics metrics, Destination destination, boolean prewarm) {
+      this.metrics = metrics;
+      this.destination = destination;
+      this.prewarm = prewarm;
+    }
+
+    /**
+     * Reports the connection acquired from the client pool.
+     *
+     * @param connection - connection of the upstream request, nullable
+     */
+    void acquired(HttpConnection connection) {
+      if (destination == null || acquired || ended) {
+        return;
+      }
+
+      acquired = true;
+      acquiredAt = System.nanoTime();
+      destination.waiting.decrementAndGet();
+      this.connection = metrics.acquire(connection, destination, acquiredAt - startedAt);
+    }
+
+    /**
+     * Reports the received upstream response headers.
+     */
+    void responded() {
+      if (destination != null && acquired && !ended && !prewarm) {
+        destination.firstByteTimer.record(System.nanoTime() - acquiredAt, TimeUnit.NANOSECONDS);
+      }
+    }
+
+    /**
+     * Reports the end of the upstream request, subsequent calls are ignored.
+     *
+     * @param succeeded - true if the upstream response was received completely
+     */
+    void end(boolean succeeded) {
+      if (destination == null || ended) {
+        return;
+      }
+
+      ended = true;
+      if (!acquired) {
+        destination.waiting.decrementAndGet();
+      } else if (connection != null) {
+        connection.release();
+      }
+
+      if (prewarm) {
+        return;
+      }
+
+      var timer = succeeded ? destination.successTimer : destination.failureTimer;
+      timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+  }
+}
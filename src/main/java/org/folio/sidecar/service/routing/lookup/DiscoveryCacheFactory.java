@@ -1,9 +1,9 @@
 package org.folio.sidecar.service.routing.lookup;
 
-import static org.folio.sidecar.utils.FutureUtils.executeAndGet;
+import static java.util.concurrent.TimeUnit.SECONDS;
 
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
-import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.RemovalListener;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +16,8 @@ import org.folio.sidecar.integration.am.model.ModuleDiscovery;
 @RequiredArgsConstructor
 public class DiscoveryCacheFactory {
 
+  private static final long LOAD_TIMEOUT_SECONDS = 10;
+
   private final ApplicationManagerService applicationManagerService;
 
   public AsyncLoadingCache<String, ModuleDiscovery> createCache(CacheSettings properties) {
@@ -32,11 +34,15 @@ public class DiscoveryCacheFactory {
       .buildAsync(discoveryLoader());
   }
 
-  private CacheLoader<String, ModuleDiscovery> discoveryLoader() {
-    return moduleId -> {
-      var discovery = applicationManagerService.getModuleDiscovery(moduleId);
-      return executeAndGet(discovery);
-    };
+  /**
+   * Loads module discovery without blocking a cache executor thread: the Vert.x future of the application manager
+   * call completes the cache entry directly.
+   */
+  private AsyncCacheLoader<String, ModuleDiscovery> discoveryLoader() {
+    return (moduleId, executor) -> applicationManagerService.getModuleDiscovery(moduleId)
+      .toCompletionStage()
+      .toCompletableFuture()
+      .orTimeout(LOAD_TIMEOUT_SECONDS, SECONDS);
   }
 
   private static RemovalListener<Object, Object> logCachedDiscoveryRemoved() {
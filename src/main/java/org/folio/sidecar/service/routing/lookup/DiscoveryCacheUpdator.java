@@ -17,10 +17,14 @@ public class DiscoveryCacheUpdator implements DiscoveryListener {
     if (cache.getIfPresent(moduleId) != null) {
       var syncCache = cache.synchronous();
 
-      log.debug("Invalidating and refreshing discovery cache entry for module: {}", moduleId);
-      // invalidate entry first, otherwise it will be kept in case of an exception during refresh
-      syncCache.invalidate(moduleId);
-      syncCache.refresh(moduleId);
+      log.debug("Refreshing discovery cache entry for module: {}", moduleId);
+      // the cached discovery is served until the refresh completes, it is invalidated only if the refresh fails
+      syncCache.refresh(moduleId).whenComplete((discovery, error) -> {
+        if (error != null) {
+          log.warn("Failed to refresh discovery cache entry for module: {}", moduleId, error);
+          syncCache.invalidate(moduleId);
+        }
+      });
     }
   }
 }
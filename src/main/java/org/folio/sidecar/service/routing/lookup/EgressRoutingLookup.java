@@ -3,22 +3,28 @@ package org.folio.sidecar.service.routing.lookup;
 import static io.vertx.core.Future.succeededFuture;
 import static org.folio.sidecar.service.routing.ModuleBootstrapListener.ChangeType.INIT;
 import static org.folio.sidecar.service.routing.lookup.RoutingLookupUtils.calculateRoutes;
-import static org.folio.sidecar.service.routing.lookup.RoutingLookupUtils.getCollectedRoutes;
+import static org.folio.sidecar.service.routing.lookup.RoutingLookupUtils.collectRouteHits;
+import static org.folio.sidecar.service.routing.lookup.RoutingLookupUtils.compileModules;
+import static org.folio.sidecar.service.routing.lookup.RoutingLookupUtils.isUnchanged;
 import static org.folio.sidecar.service.routing.lookup.RoutingLookupUtils.lookup;
+import static org.folio.sidecar.utils.RoutingUtils.EGRESS_ROUTING_VERSION_KEY;
 import static org.folio.sidecar.utils.RoutingUtils.dumpUri;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.vertx.core.Future;
 import io.vertx.ext.web.RoutingContext;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Named;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.extern.log4j.Log4j2;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.folio.sidecar.integration.am.model.ModuleBootstrapDiscovery;
+import org.folio.sidecar.model.RouteHits;
 import org.folio.sidecar.model.ScRoutingEntry;
 import org.folio.sidecar.service.routing.ModuleBootstrapListener;
 import org.folio.sidecar.utils.RoutingUtils;
@@ -26,52 +32,134 @@ import org.folio.sidecar.utils.RoutingUtils;
 @Log4j2
 @Named("egressLookup")
 @ApplicationScoped
-public class EgressRoutingLookup implements RoutingLookup, ModuleBootstrapListener {
+public class EgressRoutingLookup implements RoutingLookup, ModuleBootstrapListener, RouteHitsSource {
 
   @ConfigProperty(name = "routing.tenant-scoped.enabled") boolean tenantScoped;
 
-  private Map<String, List<ScRoutingEntry>> egressRequestCache = new HashMap<>();
+  private volatile RoutingSnapshot egressSnapshot = RoutingSnapshot.EMPTY;
 
-  private final Map<String, Map<String, List<ScRoutingEntry>>> tenantEgressCache = new ConcurrentHashMap<>();
+  private final AtomicLong snapshotVersions = new AtomicLong();
+  private final RoutingLookupCache lookupCache;
+  private final TenantEgressTables tenantEgressTables;
+  private final TenantEgressLoader tenantEgressLoader;
+
+  public EgressRoutingLookup(@Named("egressLookupCache") RoutingLookupCache lookupCache,
+    MeterRegistry meterRegistry, TenantEgressLoader tenantEgressLoader) {
+    this.lookupCache = lookupCache;
+    this.tenantEgressLoader = tenantEgressLoader;
+    this.tenantEgressTables = new TenantEgressTables(this::newSnapshot, lookupCache::invalidate);
+    Gauge.builder(RoutingSnapshot.VERSION_METRIC_NAME, snapshotVersions, AtomicLong::get)
+      .description("Version of the routing snapshot")
+      .tag("lookup", "egress")
+      .register(meterRegistry);
+  }
 
   @Override
   public Future<Optional<ScRoutingEntry>> lookupRoute(String path, RoutingContext rc) {
     var request = rc.request();
     log.debug("Searching routing entries for egress request: method [{}], uri [{}]", request::method, dumpUri(rc));
 
-    Map<String, List<ScRoutingEntry>> routes;
-    if (tenantScoped) {
-      var tenant = RoutingUtils.getTenant(rc);
-      routes = tenant == null ? null : tenantEgressCache.get(tenant);
-    } else {
-      routes = egressRequestCache;
+    if (!tenantScoped) {
+      return succeededFuture(findRoute(path, rc, egressSnapshot));
     }
 
-    var entry = routes == null ? Optional.<ScRoutingEntry>empty() : lookup(request, path, routes, true);
+    var tenant = RoutingUtils.getTenant(rc);
+    if (tenant == null) {
+      return succeededFuture(findRoute(path, rc, null));
+    }
 
-    log.debug("Egress entry found: {}", entry);
-    return succeededFuture(entry);
+    return tenantEgressLoader.loadTenantEgress(tenant)
+      .otherwiseEmpty()
+      .map(unused -> findRoute(path, rc, tenantEgressTables.get(tenant)));
   }
 
   @Override
-  public void onRequiredModulesBootstrap(List<ModuleBootstrapDiscovery> requiredModulesBootstrap,
+  public synchronized void onRequiredModulesBootstrap(List<ModuleBootstrapDiscovery> requiredModulesBootstrap,
     ChangeType changeType) {
     log.info("{} module egress routes", changeType == INIT ? "Initializing" : "Updating");
 
-    egressRequestCache = getCollectedRoutes(requiredModulesBootstrap);
+    var replaced = egressSnapshot;
+    var modules = compileModules(requiredModulesBootstrap, replaced.modules());
+    if (changeType != INIT && isUnchanged(modules, replaced.modules())) {
+      log.info("Egress routes are not changed: version = {}", replaced.version());
+      return;
+    }
+
+    var snapshot = newSnapshot(modules);
+    egressSnapshot = snapshot;
+    lookupCache.invalidate(replaced);
+
+    log.info("Egress routes {}: count = {}, version = {}", () -> changeType == INIT ? "initialized" : "updated",
+      () -> calculateRoutes(snapshot.routes()), snapshot::version);
+  }
+
+  /**
+   * Assigns tenant egress routes already built for the same set of applications.
+   *
+   * @param tenant - tenant name
+   * @param applicationIds - entitled application ids
+   * @return true if routes were assigned, false if they must be built from module bootstrap
+   */
+  public boolean assignTenantEgressRoutes(String tenant, Collection<String> applicationIds) {
+    var snapshot = tenantEgressTables.assign(tenant, applicationIds);
+    if (snapshot == null) {
+      return false;
+    }
 
-    log.info("Egress routes {}: count = {}", () -> changeType == INIT ? "initialized" : "updated",
-      () -> calculateRoutes(egressRequestCache));
+    log.info("Tenant egress routes assigned: tenant = {}, version = {}, tenants = {}", () -> tenant,
+      snapshot::version, () -> tenantEgressTables.countSharingTenants(tenant));
+    return true;
   }
 
-  public void updateTenantEgressRoutes(String tenant, List<ModuleBootstrapDiscovery> requiredModules) {
-    var routes = getCollectedRoutes(requiredModules);
-    tenantEgressCache.put(tenant, routes);
-    log.info("Tenant egress routes updated: tenant = {}, count = {}", () -> tenant, () -> calculateRoutes(routes));
+  public void updateTenantEgressRoutes(String tenant, Collection<String> applicationIds,
+    List<ModuleBootstrapDiscovery> requiredModules) {
+    var snapshot = tenantEgressTables.update(tenant, applicationIds, requiredModules);
+    log.info("Tenant egress routes updated: tenant = {}, count = {}, version = {}, tenants = {}", () -> tenant,
+      () -> calculateRoutes(snapshot.routes()), snapshot::version,
+      () -> tenantEgressTables.countSharingTenants(tenant));
   }
 
   public void removeTenantEgressRoutes(String tenant) {
-    tenantEgressCache.remove(tenant);
+    tenantEgressTables.remove(tenant);
     log.info("Tenant egress routes removed: tenant = {}", tenant);
   }
+
+  @Override
+  public List<RouteHits> getRouteHits() {
+    var snapshots = new ArrayList<RoutingSnapshot>();
+    snapshots.add(egressSnapshot);
+    snapshots.addAll(tenantEgressTables.snapshots());
+    return collectRouteHits("egress", snapshots);
+  }
+
+  @Override
+  public synchronized void reorderRoutesByHits() {
+    var current = egressSnapshot;
+    var reordered = current.reorderByHits();
+    if (reordered != current) {
+      egressSnapshot = reordered;
+      lookupCache.invalidate(current);
+      log.debug("Egress routes reordered by hits: version = {}", reordered.version());
+    }
+
+    tenantEgressTables.reorderByHits();
+  }
+
+  private Optional<ScRoutingEntry> findRoute(String path, RoutingContext rc, RoutingSnapshot snapshot) {
+    if (snapshot != null) {
+      rc.put(EGRESS_ROUTING_VERSION_KEY, snapshot.version());
+    }
+
+    var request = rc.request();
+    var entry = snapshot == null
+      ? Optional.<ScRoutingEntry>empty()
+      : lookupCache.get(request, path, snapshot, () -> lookup(request, path, snapshot.routes(), true));
+
+    log.debug("Egress entry found: {}", entry);
+    return entry;
+  }
+
+  private RoutingSnapshot newSnapshot(List<ModuleRoutes> modules) {
+    return RoutingSnapshot.of(snapshotVersions.incrementAndGet(), modules);
+  }
 }
@@ -3,36 +3,54 @@ package org.folio.sidecar.service.routing.lookup;
 import static io.vertx.core.Future.succeededFuture;
 import static org.folio.sidecar.service.routing.ModuleBootstrapListener.ChangeType.INIT;
 import static org.folio.sidecar.service.routing.lookup.RoutingLookupUtils.calculateRoutes;
-import static org.folio.sidecar.service.routing.lookup.RoutingLookupUtils.getRoutes;
+import static org.folio.sidecar.service.routing.lookup.RoutingLookupUtils.collectRouteHits;
+import static org.folio.sidecar.service.routing.lookup.RoutingLookupUtils.compileModules;
+import static org.folio.sidecar.service.routing.lookup.RoutingLookupUtils.isUnchanged;
 import static org.folio.sidecar.service.routing.lookup.RoutingLookupUtils.lookup;
+import static org.folio.sidecar.utils.RoutingUtils.INGRESS_ROUTING_VERSION_KEY;
 import static org.folio.sidecar.utils.RoutingUtils.dumpUri;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.vertx.core.Future;
 import io.vertx.ext.web.RoutingContext;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Named;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.extern.log4j.Log4j2;
 import org.folio.sidecar.integration.am.model.ModuleBootstrapDiscovery;
+import org.folio.sidecar.model.RouteHits;
 import org.folio.sidecar.model.ScRoutingEntry;
 import org.folio.sidecar.service.routing.ModuleBootstrapListener;
 
 @Log4j2
 @Named("ingressLookup")
 @ApplicationScoped
-public class IngressRoutingLookup implements RoutingLookup, ModuleBootstrapListener {
+public class IngressRoutingLookup implements RoutingLookup, ModuleBootstrapListener, RouteHitsSource {
 
-  private Map<String, List<ScRoutingEntry>> ingressRequestCache = new HashMap<>();
+  private final RoutingLookupCache lookupCache;
+  private final AtomicLong snapshotVersions = new AtomicLong();
+  private volatile RoutingSnapshot ingressSnapshot = RoutingSnapshot.EMPTY;
+
+  public IngressRoutingLookup(@Named("ingressLookupCache") RoutingLookupCache lookupCache,
+    MeterRegistry meterRegistry) {
+    this.lookupCache = lookupCache;
+    Gauge.builder(RoutingSnapshot.VERSION_METRIC_NAME, snapshotVersions, AtomicLong::get)
+      .description("Version of the routing snapshot")
+      .tag("lookup", "ingress")
+      .register(meterRegistry);
+  }
 
   @Override
   public Future<Optional<ScRoutingEntry>> lookupRoute(String path, RoutingContext rc) {
     var request = rc.request();
     log.debug("Searching routing entries for ingress request: method [{}], uri [{}]", request::method, dumpUri(rc));
 
-    var entry = lookup(request, path, ingressRequestCache, false);
+    var snapshot = ingressSnapshot;
+    rc.put(INGRESS_ROUTING_VERSION_KEY, snapshot.version());
+    var entry = lookupCache.get(request, path, snapshot, () -> lookup(request, path, snapshot.routes(), false));
 
     log.debug("Ingress entry found: {}", entry);
 
@@ -40,12 +58,37 @@ public class IngressRoutingLookup implements RoutingLookup, ModuleBootstrapListe
   }
 
   @Override
-  public void onModuleBootstrap(ModuleBootstrapDiscovery moduleBootstrap, ChangeType changeType) {
+  public synchronized void onModuleBootstrap(ModuleBootstrapDiscovery moduleBootstrap, ChangeType changeType) {
     log.info("{} module ingress routes", changeType == INIT ? "Initializing" : "Updating");
 
-    ingressRequestCache = getRoutes(moduleBootstrap);
+    var replaced = ingressSnapshot;
+    var modules = compileModules(moduleBootstrap == null ? List.of() : List.of(moduleBootstrap), replaced.modules());
+    if (changeType != INIT && isUnchanged(modules, replaced.modules())) {
+      log.info("Ingress routes are not changed: version = {}", replaced.version());
+      return;
+    }
+
+    var snapshot = RoutingSnapshot.of(snapshotVersions.incrementAndGet(), modules);
+    ingressSnapshot = snapshot;
+    lookupCache.invalidate(replaced);
+
+    log.info("Ingress routes {}: count = {}, version = {}", () -> changeType == INIT ? "initialized" : "updated",
+      () -> calculateRoutes(snapshot.routes()), snapshot::version);
+  }
 
-    log.info("Ingress routes {}: count = {}", () -> changeType == INIT ? "initialized" : "updated",
-      () -> calculateRoutes(ingressRequestCache));
+  @Override
+  public List<RouteHits> getRouteHits() {
+    return collectRouteHits("ingress", List.of(ingressSnapshot));
+  }
+
+  @Override
+  public synchronized void reorderRoutesByHits() {
+    var current = ingressSnapshot;
+    var reordered = current.reorderByHits();
+    if (reordered != current) {
+      ingressSnapshot = reordered;
+      lookupCache.invalidate(current);
+      log.debug("Ingress routes reordered by hits: version = {}", reordered.version());
+    }
   }
 }
@@ -0,0 +1,76 @@
+package org.folio.sidecar.service.routing.lookup;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.log4j.Log4j2;
+import org.folio.sidecar.integration.am.model.ModuleBootstrapDiscovery;
+import org.folio.sidecar.integration.am.model.ModuleBootstrapEndpoint;
+import org.folio.sidecar.model.ScRoutingEntry;
+
+/**
+ * Compiled routes of a single module, kept in a {@link RoutingSnapshot} so that a routing table update recompiles only
+ * modules whose bootstrap has changed.
+ *
+ * @param discovery - module bootstrap the routes are compiled from
+ * @param routes - compiled routes in the order of module interfaces and endpoints
+ */
+@Log4j2
+record ModuleRoutes(ModuleBootstrapDiscovery discovery, List<Route> routes) {
+
+  /**
+   * Compiles routes of the module.
+   *
+   * @param discovery - module bootstrap
+   * @return compiled {@link ModuleRoutes}
+   */
+  static ModuleRoutes compile(ModuleBootstrapDiscovery discovery) {
+    var moduleId = discovery.getModuleId();
+
+    log.debug("Collecting routes for module: {}", moduleId);
+
+    var routes = new ArrayList<Route>();
+    for (var moduleInterface : discovery.getInterfaces()) {
+      var interfaceId = moduleInterface.getId();
+      var interfaceType = moduleInterface.getInterfaceType();
+      for (var routingEntry : moduleInterface.getEndpoints()) {
+        var prefix = getPatternPrefix(routingEntry);
+
+        var re = ScRoutingEntry.of(moduleId, discovery.getLocation(), interfaceId, interfaceType, routingEntry);
+        routes.add(new Route(prefix, RouteCandidate.of(re)));
+
+        log.debug("Routing entry added: prefix [{}], entry [{}]", prefix, re);
+      }
+    }
+
+    return new ModuleRoutes(discovery, List.copyOf(routes));
+  }
+
+  private static String getPatternPrefix(ModuleBootstrapEndpoint endpoint) {
+    String pathPattern = endpoint.getPathPattern();
+    if (pathPattern == null) {
+      return "/"; // anything but pathPattern is legacy, so we don't care about those
+    }
+
+    var lastSlash = 0;
+    for (var i = 0; i < pathPattern.length(); i++) {
+      switch (pathPattern.charAt(i)) {
+        case '*', '{':
+          return pathPattern.substring(0, lastSlash);
+        case '/':
+          lastSlash = i + 1;
+          break;
+        default:
+          break;
+      }
+    }
+    return pathPattern;
+  }
+
+  /**
+   * Compiled route: static prefix of the path pattern and the route candidate.
+   *
+   * @param prefix - static part of the path pattern, used as a key in {@link RoutingTrie}
+   * @param candidate - route candidate
+   */
+  record Route(String prefix, RouteCandidate candidate) {}
+}
@@ -0,0 +1,88 @@
+package org.folio.sidecar.service.routing.lookup;
+
+import org.folio.sidecar.integration.am.model.ModuleBootstrapEndpoint;
+
+/**
+ * Path matcher of a routing entry, compiled once when routes are collected.
+ */
+@FunctionalInterface
+interface PathMatcher {
+
+  PathMatcher ANY = new PathMatcher() {
+
+    @Override
+    public boolean matches(String path) {
+      return true;
+    }
+
+    @Override
+    public boolean isIdAgnostic() {
+      return true;
+    }
+  };
+
+  /**
+   * Checks if the given request path is matched.
+   *
+   * @param path - request path
+   * @return true if path is matched, false - otherwise
+   */
+  boolean matches(String path);
+
+  /**
+   * Checks if no path can be matched by both matchers, so that their order does not change lookup results.
+   *
+   * <p>The check is conservative: false means that matchers may overlap.</p>
+   *
+   * @param other - other path matcher
+   * @return true if matchers are proven to be disjoint, false - otherwise
+   */
+  default boolean isDisjoint(PathMatcher other) {
+    return false;
+  }
+
+  /**
+   * Checks if the match result never depends on the value of a path segment that looks like an id, see
+   * {@link PathShape}.
+   *
+   * <p>The check is conservative: false means that the result may depend on an id.</p>
+   *
+   * @return true if paths with the same shape are either all matched or all not matched, false - otherwise
+   */
+  default boolean isIdAgnostic() {
+    return false;
+  }
+
+  /**
+   * Compiles matcher for the given endpoint: {@code pathPattern} has priority, legacy {@code path} is matched as a
+   * prefix, an endpoint without both matches any path.
+   *
+   * @param endpoint - module bootstrap endpoint
+   * @return compiled {@link PathMatcher}
+   */
+  static PathMatcher compile(ModuleBootstrapEndpoint endpoint) {
+    var pathPattern = endpoint.getPathPattern();
+    if (pathPattern != null) {
+      return PathPattern.compile(pathPattern);
+    }
+
+    var path = endpoint.getPath();
+    if (path == null) {
+      return ANY;
+    }
+
+    var idAgnostic = PathShape.isIdAgnostic(path);
+    return new PathMatcher() {
+
+      @Override
+      public boolean matches(String requestPath) {
+        return requestPath.startsWith(path);
+      }
+
+      @Override
+      public boolean isIdAgnostic() {
+        return idAgnostic;
+      }
+    };
+  }
+}
@@ -0,0 +1,328 @@
+package org.folio.sidecar.service.routing.lookup;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiled Okapi path pattern.
+ *
+ * <p>Pattern syntax:</p>
+ * <ul>
+ *   <li>{@code {name}} - path parameter, matches one or more characters up to the next {@code '/'}</li>
+ *   <li>{@code *} - matches any sequence of characters, including an empty one and {@code '/'}</li>
+ *   <li>any other character is matched literally</li>
+ * </ul>
+ *
+ * <p>The pattern is split by {@code '*'} into blocks of literals and parameters. Parameters always consume the
+ * longest possible segment, so a block either matches at a given position or not, and the position where it ends
+ * grows with the position where it starts. This allows to place every block in the earliest possible position and
+ * to match the path in a single forward pass without recursion.</p>
+ *
+ * <p>Literal head, literal tail and path segments of the pattern are kept to prove that two patterns are disjoint, see
+ * {@link #isDisjoint(PathMatcher)}.</p>
+ */
+final class PathPattern implements PathMatcher {
+
+  private final String pattern;
+  private final Block first;
+  private final Block[] middle;
+  private final Block last;
+  private final String head;
+  private final String tail;
+  private final String[] segments;
+  private final boolean idAgnostic;
+
+  private PathPattern(String pattern, List<Block> blocks) {
+    this.pattern = pattern;
+    this.head = literalHead(pattern);
+    this.tail = literalTail(pattern);
+    this.segments = segments(pattern);
+    this.first = blocks.getFirst();
+    this.middle = blocks.size() > 2 ? blocks.subList(1, blocks.size() - 1).toArray(new Block[0]) : new Block[0];
+    this.last = blocks.size() > 1 ? blocks.getLast() : null;
+    this.idAgnostic = blocks.stream().allMatch(Block::isIdAgnostic);
+  }
+
+  /**
+   * Compiles path pattern.
+   *
+   * @param pattern - path pattern
+   * @return compiled {@link PathPattern}
+   */
+  static PathPattern compile(String pattern) {
+    var blocks = new ArrayList<Block>();
+    var tokens = new ArrayList<String>();
+    var literal = new StringBuilder();
+
+    var i = 0;
+    while (i < pattern.length()) {
+      var c = pattern.charAt(i++);
+      if (c == '*') {
+        flushLiteral(literal, tokens);
+        blocks.add(new Block(tokens));
+        tokens.clear();
+      } else if (c == '{') {
+        flushLiteral(literal, tokens);
+        i = skipParameter(pattern, i);
+        tokens.add(Block.PARAMETER);
+      } else {
+        literal.append(c);
+      }
+    }
+
+    flushLiteral(literal, tokens);
+    blocks.add(new Block(tokens));
+    return new PathPattern(pattern, blocks);
+  }
+
+  @Override
+  public boolean matches(String path) {
+    var position = first.matchAt(path, 0);
+    if (position < 0) {
+      return false;
+    }
+
+    if (last == null) {
+      return position == path.length();
+    }
+
+    for (var block : middle) {
+      position = block.findFrom(path, position);
+      if (position < 0) {
+        return false;
+      }
+    }
+
+    return last.matchesSuffix(path, position);
+  }
+
+  /**
+   * Checks if no path can be matched by both patterns. Patterns are disjoint if:
+   * <ul>
+   *   <li>literal heads (before the first parameter or {@code '*'}) differ and neither is a prefix of the other</li>
+   *   <li>literal tails (after the last parameter or {@code '*'}) differ and neither is a suffix of the other</li>
+   *   <li>both patterns have no {@code '*'}, and either the number of path segments differs or literal segments at the
+   *   same position differ</li>
+   * </ul>
+   *
+   * @param other - other path matcher
+   * @return true if patterns are proven to be disjoint, false - otherwise
+   */
+  @Override
+  public boolean isDisjoint(PathMatcher other) {
+    if (!(other instanceof PathPattern otherPattern)) {
+      return false;
+    }
+
+    return !head.startsWith(otherPattern.head) && !otherPattern.head.startsWith(head)
+      || !tail.endsWith(otherPattern.tail) && !otherPattern.tail.endsWith(tail)
+      || areSegmentsDisjoint(segments, otherPattern.segments);
+  }
+
+  /**
+   * Checks if the pattern never depends on the value of an id segment: parameters and {@code '*'} match any id, so
+   * only literals are checked, see {@link PathShape#isIdAgnostic(String)}.
+   *
+   * @return true if literals of the pattern can not match a part of an id, false - otherwise
+   */
+  @Override
+  public boolean isIdAgnostic() {
+    return idAgnostic;
+  }
+
+  @Override
+  public String toString() {
+    return pattern;
+  }
+
+  private static String literalHead(String pattern) {
+    for (var i = 0; i < pattern.length(); i++) {
+      var c = pattern.charAt(i);
+      if (c == '*' || c == '{') {
+        return pattern.substring(0, i);
+      }
+    }
+    return pattern;
+  }
+
+  private static String literalTail(String pattern) {
+    for (var i = pattern.length() - 1; i >= 0; i--) {
+      switch (pattern.charAt(i)) {
+        case '*', '}':
+          return pattern.substring(i + 1);
+        case '{':
+          // parameter without closing brace takes the rest of the pattern
+          return "";
+        default:
+          break;
+      }
+    }
+    return pattern;
+  }
+
+  /**
+   * Splits pattern into path segments, a segment with a parameter is kept as {@code null}.
+   *
+   * @return path segments, {@code null} if pattern contains {@code '*'}
+   */
+  private static String[] segments(String pattern) {
+    var segments = new ArrayList<String>();
+    var literal = new StringBuilder();
+    var parametric = false;
+
+    var i = 0;
+    while (i < pattern.length()) {
+      var c = pattern.charAt(i++);
+      if (c == '*') {
+        return null;
+      }
+
+      if (c == '{') {
+        i = skipParameter(pattern, i);
+        parametric = true;
+      } else if (c == '/') {
+        flushSegment(literal, parametric, segments);
+        parametric = false;
+      } else {
+        literal.append(c);
+      }
+    }
+
+    flushSegment(literal, parametric, segments);
+    return segments.toArray(new String[0]);
+  }
+
+  private static boolean areSegmentsDisjoint(String[] segments, String[] otherSegments) {
+    if (segments == null || otherSegments == null) {
+      return false;
+    }
+
+    if (segments.length != otherSegments.length) {
+      return true;
+    }
+
+    for (var i = 0; i < segments.length; i++) {
+      if (segments[i] != null && otherSegments[i] != null && !segments[i].equals(otherSegments[i])) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns position after the parameter closing brace, or the pattern length if the parameter is not closed.
+   */
+  private static int skipParameter(String pattern, int from) {
+    var end = pattern.indexOf('}', from);
+    return end < 0 ? pattern.length() : end + 1;
+  }
+
+  private static void flushSegment(StringBuilder literal, boolean parametric, List<String> segments) {
+    segments.add(parametric ? null : literal.toString());
+    literal.setLength(0);
+  }
+
+  private static void flushLiteral(StringBuilder literal, List<String> tokens) {
+    if (!literal.isEmpty()) {
+      tokens.add(literal.toString());
+      literal.setLength(0);
+    }
+  }
+
+  /**
+   * Sequence of literals and parameters between two {@code '*'}.
+   */
+  private static final class Block {
+
+    /**
+     * Token of a path parameter.
+     */
+    private static final String PARAMETER = null;
+
+    private final String[] tokens;
+    private final String leadingLiteral;
+    private final int fixedSuffixLength;
+
+    private Block(List<String> tokens) {
+      this.tokens = tokens.toArray(new String[0]);
+      this.leadingLiteral = tokens.isEmpty() ? null : tokens.getFirst();
+      this.fixedSuffixLength = tokens.contains(PARAMETER) ? -1 : tokens.stream().mapToInt(String::length).sum();
+    }
+
+    private boolean isIdAgnostic() {
+      for (var token : tokens) {
+        if (token != PARAMETER && !PathShape.isIdAgnostic(token)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    /**
+     * Matches block at the given position.
+     *
+     * @return position after the matched block, -1 if block is not matched
+     */
+    private int matchAt(String path, int start) {
+      var position = start;
+      for (var token : tokens) {
+        if (token == PARAMETER) {
+          var end = position;
+          while (end < path.length() && path.charAt(end) != '/') {
+            end++;
+          }
+          if (end == position) {
+            return -1;
+          }
+          position = end;
+        } else if (path.startsWith(token, position)) {
+          position += token.length();
+        } else {
+          return -1;
+        }
+      }
+      return position;
+    }
+
+    /**
+     * Finds the earliest position, starting from the given one, where block is matched.
+     *
+     * @return position after the matched block, -1 if block is not matched
+     */
+    private int findFrom(String path, int from) {
+      var start = from;
+      while (start <= path.length()) {
+        if (leadingLiteral != null) {
+          start = path.indexOf(leadingLiteral, start);
+          if (start < 0) {
+            return -1;
+          }
+        }
+
+        var end = matchAt(path, start);
+        if (end >= 0) {
+          return end;
+        }
+        start++;
+      }
+      return -1;
+    }
+
+    /**
+     * Checks if block matches the end of the path, starting not earlier than the given position.
+     */
+    private boolean matchesSuffix(String path, int from) {
+      if (fixedSuffixLength >= 0) {
+        var start = path.length() - fixedSuffixLength;
+        return start >= from && matchAt(path, start) == path.length();
+      }
+
+      for (var start = from; start < path.length(); start++) {
+        if (matchAt(path, start) == path.length()) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package org.folio.sidecar.service.routing.lookup;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Shape of a request path: path segments that look like ids (UUIDs and numbers) are replaced with a placeholder, so
+ * that requests to the same endpoint with different ids share a routing lookup cache entry.
+ *
+ * <p>A shape can be used instead of the path only if no path matcher of the routing table depends on the value of an
+ * id segment, see {@link PathMatcher#isIdAgnostic()}. Path parameters and {@code '*'} match any id, so only literals
+ * have to be checked: a literal is id-agnostic if none of its parts between {@code '/'} consists of hex digits and
+ * {@code '-'} only, i.e. it can not match a part of an id.</p>
+ */
+@UtilityClass
+class PathShape {
+
+  static final String ID_PLACEHOLDER = "{id}";
+  private static final int UUID_LENGTH = 36;
+
+  /**
+   * Returns the shape of the request path.
+   *
+   * @param path - request path
+   * @return path with id segments replaced by {@link #ID_PLACEHOLDER}, the same string if path has no id segments
+   */
+  static String of(String path) {
+    StringBuilder shape = null;
+    var copied = 0;
+    var start = 0;
+    while (start < path.length()) {
+      var end = path.indexOf('/', start);
+      if (end < 0) {
+        end = path.length();
+      }
+
+      if (isId(path, start, end)) {
+        if (shape == null) {
+          shape = new StringBuilder(path.length());
+        }
+        shape.append(path, copied, start).append(ID_PLACEHOLDER);
+        copied = end;
+      }
+      start = end + 1;
+    }
+
+    return shape == null ? path : shape.append(path, copied, path.length()).toString();
+  }
+
+  /**
+   * Checks if the literal can not match a part of an id segment.
+   *
+   * @param literal - literal part of a path pattern or legacy path prefix
+   * @return true if the literal never matches a part of an id, false - otherwise
+   */
+  static boolean isIdAgnostic(String literal) {
+    var start = 0;
+    while (start <= literal.length()) {
+      var end = literal.indexOf('/', start);
+      if (end < 0) {
+        end = literal.length();
+      }
+
+      if (end > start && isHexOrDash(literal, start, end)) {
+        return false;
+      }
+      start = end + 1;
+    }
+    return true;
+  }
+
+  private static boolean isId(String path, int from, int to) {
+    return to - from == UUID_LENGTH ? isUuid(path, from) : to > from && isDigits(path, from, to);
+  }
+
+  private static boolean isUuid(String path, int from) {
+    for (var i = 0; i < UUID_LENGTH; i++) {
+      var c = path.charAt(from + i);
+      var valid = i == 8 || i == 13 || i == 18 || i == 23 ? c == '-' : Character.digit(c, 16) >= 0;
+      if (!valid) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isDigits(String path, int from, int to) {
+    for (var i = from; i < to; i++) {
+      var c = path.charAt(i);
+      if (c < '0' || c > '9') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isHexOrDash(String literal, int from, int to) {
+    for (var i = from; i < to; i++) {
+      var c = literal.charAt(i);
+      if (c != '-' && Character.digit(c, 16) < 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
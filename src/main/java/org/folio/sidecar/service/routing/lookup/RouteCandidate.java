@@ -0,0 +1,45 @@
+package org.folio.sidecar.service.routing.lookup;
+
+import java.util.concurrent.atomic.LongAdder;
+import org.folio.sidecar.model.ScRoutingEntry;
+
+/**
+ * Routing entry prepared for matching: data that does not depend on a request is computed once, when routes are
+ * collected.
+ *
+ * <p>The candidate also counts requests resolved to it. Compiled candidates are reused by routing snapshots while
+ * the module bootstrap is not changed, so the counter survives routing table swaps.</p>
+ *
+ * @param entry - sidecar routing entry
+ * @param pathMatcher - compiled path matcher of the routing entry
+ * @param methods - compiled HTTP methods of the routing entry
+ * @param hits - number of requests resolved to the routing entry
+ */
+record RouteCandidate(ScRoutingEntry entry, PathMatcher pathMatcher, RouteMethods methods, LongAdder hits) {
+
+  static RouteCandidate of(ScRoutingEntry entry) {
+    var endpoint = entry.getRoutingEntry();
+    return new RouteCandidate(entry, PathMatcher.compile(endpoint), RouteMethods.of(endpoint.getMethods()),
+      new LongAdder());
+  }
+
+  /**
+   * Counts a request resolved to the candidate.
+   *
+   * @return routing entry of the candidate
+   */
+  ScRoutingEntry hit() {
+    hits.increment();
+    return entry;
+  }
+
+  /**
+   * Checks if candidates can be visited in any order, i.e. no path can be matched by both of them.
+   *
+   * @param other - other route candidate
+   * @return true if candidates are proven to be disjoint, false - otherwise
+   */
+  boolean isDisjoint(RouteCandidate other) {
+    return pathMatcher.isDisjoint(other.pathMatcher);
+  }
+}
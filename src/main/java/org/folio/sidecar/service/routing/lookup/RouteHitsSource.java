@@ -0,0 +1,22 @@
+package org.folio.sidecar.service.routing.lookup;
+
+import java.util.List;
+import org.folio.sidecar.model.RouteHits;
+
+/**
+ * Routing lookup counting requests resolved to its routes.
+ */
+public interface RouteHitsSource {
+
+  /**
+   * Returns hits of routes that resolved at least one request.
+   *
+   * @return list of {@link RouteHits}, most used routes first
+   */
+  List<RouteHits> getRouteHits();
+
+  /**
+   * Publishes routing snapshots with route candidates ordered by hits, lookup results are not changed.
+   */
+  void reorderRoutesByHits();
+}
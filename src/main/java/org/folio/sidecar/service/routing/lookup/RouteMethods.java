@@ -0,0 +1,113 @@
+package org.folio.sidecar.service.routing.lookup;
+
+import io.vertx.core.http.HttpMethod;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * HTTP methods of a routing entry, compiled into a bitmask over {@link HttpMethod#values()}.
+ *
+ * <p>Methods that are not known to Vert.x are kept by name and compared only for requests with a non-standard
+ * method.</p>
+ */
+final class RouteMethods {
+
+  static final List<HttpMethod> KNOWN_METHODS = HttpMethod.values();
+
+  private static final String ANY_METHOD = "*";
+  private static final Map<HttpMethod, Integer> KNOWN_METHOD_INDEXES = knownMethodIndexes();
+  private static final long ALL_KNOWN_METHODS = (1L << KNOWN_METHODS.size()) - 1;
+
+  private final long mask;
+  private final boolean anyMethod;
+  private final Set<String> customMethods;
+
+  private RouteMethods(long mask, boolean anyMethod, Set<String> customMethods) {
+    this.mask = mask;
+    this.anyMethod = anyMethod;
+    this.customMethods = customMethods;
+  }
+
+  /**
+   * Compiles routing entry methods.
+   *
+   * @param methods - method names from the module bootstrap endpoint, {@code "*"} stands for any method
+   * @return compiled {@link RouteMethods}
+   */
+  static RouteMethods of(String[] methods) {
+    var mask = 0L;
+    var anyMethod = false;
+    var customMethods = new TreeSet<String>();
+    for (var method : methods == null ? new String[0] : methods) {
+      if (ANY_METHOD.equals(method)) {
+        anyMethod = true;
+        mask = ALL_KNOWN_METHODS;
+        continue;
+      }
+
+      var index = indexOf(HttpMethod.valueOf(method));
+      if (index >= 0) {
+        mask |= 1L << index;
+      } else {
+        customMethods.add(method);
+      }
+    }
+
+    return new RouteMethods(mask, anyMethod, customMethods.isEmpty() ? Set.of() : Set.copyOf(customMethods));
+  }
+
+  /**
+   * Returns the index of a known HTTP method.
+   *
+   * @param method - HTTP method
+   * @return index in {@link #KNOWN_METHODS}, -1 if method is null or not known
+   */
+  static int indexOf(HttpMethod method) {
+    if (method == null) {
+      return -1;
+    }
+
+    var index = KNOWN_METHOD_INDEXES.get(method);
+    return index == null ? -1 : index;
+  }
+
+  /**
+   * Checks if the known method with the given index is accepted.
+   *
+   * @param index - index of the method in {@link #KNOWN_METHODS}
+   * @return true if method is accepted, false - otherwise
+   */
+  boolean contains(int index) {
+    return (mask & (1L << index)) != 0;
+  }
+
+  /**
+   * Checks if the request method is accepted, a request without method is accepted by any non-empty method set.
+   *
+   * @param method - request method, nullable
+   * @return true if method is accepted, false - otherwise
+   */
+  boolean matches(HttpMethod method) {
+    if (method == null) {
+      return anyMethod || mask != 0 || !customMethods.isEmpty();
+    }
+
+    if (anyMethod) {
+      return true;
+    }
+
+    var index = indexOf(method);
+    return index >= 0 ? contains(index) : customMethods.contains(method.name());
+  }
+
+  private static Map<HttpMethod, Integer> knownMethodIndexes() {
+    var indexes = new HashMap<HttpMethod, Integer>();
+    for (var i = 0; i < KNOWN_METHODS.size(); i++) {
+      indexes.put(KNOWN_METHODS.get(i), i);
+    }
+    return Map.copyOf(indexes);
+  }
+}
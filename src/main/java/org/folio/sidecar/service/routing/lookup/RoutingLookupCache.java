@@ -0,0 +1,85 @@
+package org.folio.sidecar.service.routing.lookup;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.folio.sidecar.integration.okapi.OkapiHeaders;
+import org.folio.sidecar.model.ScRoutingEntry;
+
+/**
+ * Cache of routing lookup results, including negative ones.
+ *
+ * <p>Results are keyed by the routing snapshot they were resolved from, request method, path shape and
+ * {@code X-Okapi-Module-Id} header. A result can never be returned for a replaced snapshot, so a routing table swap is
+ * atomic for the cache; entries of the replaced snapshot are removed only to release memory.</p>
+ *
+ * <p>The path shape replaces segments that look like ids with a placeholder (see {@link PathShape}), so that requests
+ * to the same endpoint with different ids share an entry. If a literal of any route of the snapshot may match a part
+ * of an id, the raw path is used as a key, and the cache only helps for repeated paths.</p>
+ *
+ * <p>Hits of the resolved route candidate are counted for cached results as well.</p>
+ */
+public class RoutingLookupCache {
+
+  private static final RoutingLookupCache DISABLED = new RoutingLookupCache(null);
+
+  private final Cache<Key, Optional<RouteCandidate>> cache;
+
+  RoutingLookupCache(Cache<Key, Optional<RouteCandidate>> cache) {
+    this.cache = cache;
+  }
+
+  /**
+   * Returns cache that always delegates to the lookup.
+   *
+   * @return disabled {@link RoutingLookupCache}
+   */
+  public static RoutingLookupCache disabled() {
+    return DISABLED;
+  }
+
+  /**
+   * Returns cached lookup result or resolves and caches it.
+   *
+   * @param request - http request
+   * @param path - request path
+   * @param snapshot - routing snapshot used for lookup
+   * @param lookup - lookup to resolve the route candidate
+   * @return found routing entry, empty if not found
+   */
+  Optional<ScRoutingEntry> get(HttpServerRequest request, String path, RoutingSnapshot snapshot,
+    Supplier<Optional<RouteCandidate>> lookup) {
+    if (cache == null || path == null) {
+      return lookup.get().map(RouteCandidate::hit);
+    }
+
+    var routes = snapshot.routes();
+    var keyPath = routes.isIdAgnostic() ? PathShape.of(path) : path;
+    var key = new Key(snapshot, request.method(), keyPath, request.getHeader(OkapiHeaders.MODULE_ID));
+    return cache.get(key, k -> lookup.get()).map(RouteCandidate::hit);
+  }
+
+  /**
+   * Removes cached results of the replaced routing snapshot.
+   *
+   * @param snapshot - replaced routing snapshot, nullable
+   */
+  void invalidate(RoutingSnapshot snapshot) {
+    if (cache != null && snapshot != null) {
+      cache.asMap().keySet().removeIf(key -> key.snapshot() == snapshot);
+    }
+  }
+
+  /**
+   * Returns the ratio of requests served from the cache.
+   *
+   * @return hit ratio, {@code 0} if cache is disabled
+   */
+  public double hitRatio() {
+    return cache == null ? 0 : cache.stats().hitRate();
+  }
+
+  record Key(RoutingSnapshot snapshot, HttpMethod method, String path, String moduleId) {}
+}
@@ -0,0 +1,56 @@
+package org.folio.sidecar.service.routing.lookup;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.sidecar.service.routing.configuration.properties.LookupCacheProperties;
+
+@Log4j2
+@RequiredArgsConstructor
+public class RoutingLookupCacheFactory {
+
+  public static final String CACHE_METRIC_NAME = "sidecar.routing.lookup.cache";
+  public static final String HIT_RATIO_METRIC_NAME = "sidecar.routing.lookup.cache.hit.ratio";
+
+  private final LookupCacheProperties properties;
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * Creates routing lookup cache, the cache is disabled if {@code routing.lookup-cache.enabled} is false.
+   *
+   * @param lookupName - name of the lookup, used as {@code lookup} tag of the cache metrics
+   * @return {@link RoutingLookupCache}
+   */
+  public RoutingLookupCache createCache(String lookupName) {
+    if (!properties.enabled()) {
+      return RoutingLookupCache.disabled();
+    }
+
+    var settings = properties.settings();
+    var builder = Caffeine.newBuilder().recordStats();
+
+    settings.initialCapacity().ifPresent(builder::initialCapacity);
+    settings.maxSize().ifPresent(builder::maximumSize);
+    settings.expireAfterAccess().ifPresent(duration ->
+      builder.expireAfterAccess(duration.duration(), duration.unit()));
+    settings.expireAfterWrite().ifPresent(duration ->
+      builder.expireAfterWrite(duration.duration(), duration.unit()));
+
+    var cache = new RoutingLookupCache(CaffeineCacheMetrics.monitor(meterRegistry,
+      builder.<RoutingLookupCache.Key, Optional<RouteCandidate>>build(),
+      CACHE_METRIC_NAME, "lookup", lookupName));
+
+    Gauge.builder(HIT_RATIO_METRIC_NAME, cache, RoutingLookupCache::hitRatio)
+      .description("Ratio of routing lookups served from the cache")
+      .tag("lookup", lookupName)
+      .register(meterRegistry);
+
+    log.info("Routing lookup cache enabled: lookup = {}, maxSize = {}", () -> lookupName,
+      () -> settings.maxSize().isPresent() ? settings.maxSize().getAsInt() : "<unbounded>");
+    return cache;
+  }
+}
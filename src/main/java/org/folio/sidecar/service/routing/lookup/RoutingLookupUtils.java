@@ -1,22 +1,22 @@
 package org.folio.sidecar.service.routing.lookup;
 
+import static java.util.Comparator.comparingLong;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 import static org.folio.sidecar.utils.RoutingUtils.MULTIPLE_INTERFACE_TYPE;
 
 import io.vertx.core.http.HttpServerRequest;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import lombok.experimental.UtilityClass;
 import lombok.extern.log4j.Log4j2;
 import org.folio.sidecar.integration.am.model.ModuleBootstrapDiscovery;
-import org.folio.sidecar.integration.am.model.ModuleBootstrapEndpoint;
 import org.folio.sidecar.integration.okapi.OkapiHeaders;
+import org.folio.sidecar.model.RouteHits;
 import org.folio.sidecar.model.ScRoutingEntry;
 import org.folio.sidecar.utils.CollectionUtils;
 
@@ -24,101 +24,102 @@ import org.folio.sidecar.utils.CollectionUtils;
 @UtilityClass
 class RoutingLookupUtils {
 
-  static Optional<ScRoutingEntry> lookup(HttpServerRequest request, String path,
-    Map<String, List<ScRoutingEntry>> routingEntries, boolean isSupportMultipleInterface) {
-    if (CollectionUtils.isEmpty(routingEntries) || path == null) {
+  private static final RoutingTrie.CandidateMatcher<HttpServerRequest> SINGLE_INTERFACE_MATCHER =
+    (candidate, path, request) -> match(candidate, request, path, false);
+  private static final RoutingTrie.CandidateMatcher<HttpServerRequest> MULTIPLE_INTERFACE_MATCHER =
+    (candidate, path, request) -> match(candidate, request, path, true);
+
+  static Optional<RouteCandidate> lookup(HttpServerRequest request, String path, RoutingTrie routingEntries,
+    boolean isSupportMultipleInterface) {
+    if (routingEntries == null || routingEntries.isEmpty() || path == null) {
       return Optional.empty();
     }
 
-    var tryPath = path;
-    var index = tryPath.lastIndexOf('/', tryPath.length() - 2);
-    while (index >= 0) {
-      var candidateInstances = routingEntries.get(tryPath);
-      if (candidateInstances != null) {
-        for (var candidate : candidateInstances) {
-          if (match(candidate, request, path, isSupportMultipleInterface)) {
-            return Optional.of(candidate);
-          }
-        }
-      }
-
-      index = tryPath.lastIndexOf('/', tryPath.length() - 2);
-      tryPath = tryPath.substring(0, index + 1);
-    }
-    return Optional.empty();
+    var matcher = isSupportMultipleInterface ? MULTIPLE_INTERFACE_MATCHER : SINGLE_INTERFACE_MATCHER;
+    var found = routingEntries.find(path, request.method(), request, matcher);
+    return Optional.ofNullable(found);
   }
 
-  static Map<String, List<ScRoutingEntry>> getCollectedRoutes(List<ModuleBootstrapDiscovery> modules) {
+  /**
+   * Compiles routes of the given modules, reusing already compiled routes of modules with unchanged bootstrap.
+   *
+   * @param modules - module bootstraps
+   * @param compiled - previously compiled module routes
+   * @return compiled routes in the order of the given modules
+   */
+  static List<ModuleRoutes> compileModules(List<ModuleBootstrapDiscovery> modules, List<ModuleRoutes> compiled) {
     if (CollectionUtils.isEmpty(modules)) {
-      return Collections.emptyMap();
+      return List.of();
     }
 
-    var resultMap = new HashMap<String, List<ScRoutingEntry>>();
+    var compiledByModuleId = new HashMap<String, ModuleRoutes>();
+    for (var moduleRoutes : compiled) {
+      compiledByModuleId.put(moduleRoutes.discovery().getModuleId(), moduleRoutes);
+    }
 
+    var result = new ArrayList<ModuleRoutes>(modules.size());
     for (var module : modules) {
-      var routes = getRoutes(module);
-
-      for (var entry : routes.entrySet()) {
-        resultMap.computeIfAbsent(entry.getKey(), v -> new ArrayList<>()).addAll(entry.getValue());
+      var previous = compiledByModuleId.get(module.getModuleId());
+      if (previous != null && previous.discovery().equals(module)) {
+        result.add(previous);
+      } else {
+        log.debug("Module routes changed: {}", module.getModuleId());
+        result.add(ModuleRoutes.compile(module));
       }
     }
 
-    return resultMap;
+    return List.copyOf(result);
   }
 
-  static Map<String, List<ScRoutingEntry>> getRoutes(ModuleBootstrapDiscovery discovery) {
-    if (discovery == null) {
-      return Collections.emptyMap();
+  /**
+   * Checks if the same compiled module routes are used, i.e. no module has been recompiled, added or removed.
+   *
+   * @param modules - compiled module routes
+   * @param compiled - previously compiled module routes
+   * @return true if module routes are not changed, false - otherwise
+   */
+  static boolean isUnchanged(List<ModuleRoutes> modules, List<ModuleRoutes> compiled) {
+    if (modules.size() != compiled.size()) {
+      return false;
     }
 
-    var moduleId = discovery.getModuleId();
-    var map = new HashMap<String, List<ScRoutingEntry>>();
-
-    log.debug("Collecting routes for module: {}", moduleId);
-
-    for (var moduleInterface : discovery.getInterfaces()) {
-      var interfaceId = moduleInterface.getId();
-      var interfaceType = moduleInterface.getInterfaceType();
-      for (var routingEntry : moduleInterface.getEndpoints()) {
-        var prefix = getPatternPrefix(routingEntry);
-        var list = map.computeIfAbsent(prefix, k -> new ArrayList<>());
-
-        var re = ScRoutingEntry.of(moduleId, discovery.getLocation(), interfaceId, interfaceType, routingEntry);
-        list.add(re);
-
-        log.debug("Routing entry added: prefix [{}], entry [{}]", prefix, re);
+    for (var i = 0; i < modules.size(); i++) {
+      if (modules.get(i) != compiled.get(i)) {
+        return false;
       }
     }
-
-    return map;
-  }
-
-  static long calculateRoutes(Map<String, List<ScRoutingEntry>> requestCache) {
-    return requestCache.values().stream()
-      .filter(Objects::nonNull)
-      .mapToLong(Collection::size)
-      .sum();
+    return true;
   }
 
-  private static String getPatternPrefix(ModuleBootstrapEndpoint endpoint) {
-    String pathPattern = endpoint.getPathPattern();
-    if (pathPattern == null) {
-      return "/"; // anything but pathPattern is legacy, so we don't care about those
-    }
-
-    var lastSlash = 0;
-    for (var i = 0; i < pathPattern.length(); i++) {
-      switch (pathPattern.charAt(i)) {
-        case '*', '{':
-          return pathPattern.substring(0, lastSlash);
-        case '/':
-          lastSlash = i + 1;
-          break;
-        default:
-          break;
+  /**
+   * Collects hits of routes that resolved at least one request, hits of the same routing entry compiled for several
+   * snapshots are summed up.
+   *
+   * @param lookupName - name of the routing lookup
+   * @param snapshots - routing snapshots
+   * @return list of {@link RouteHits}, most used routes first
+   */
+  static List<RouteHits> collectRouteHits(String lookupName, Collection<RoutingSnapshot> snapshots) {
+    var hitsByEntry = new LinkedHashMap<ScRoutingEntry, Long>();
+    for (var snapshot : snapshots) {
+      for (var module : snapshot.modules()) {
+        for (var route : module.routes()) {
+          var hits = route.candidate().hits().sum();
+          if (hits > 0) {
+            hitsByEntry.merge(route.candidate().entry(), hits, Long::sum);
+          }
+        }
       }
     }
-    return pathPattern;
+
+    return hitsByEntry.entrySet().stream()
+      .map(entry -> RouteHits.of(lookupName, entry.getKey(), entry.getValue()))
+      .sorted(comparingLong(RouteHits::hits).reversed())
+      .toList();
+  }
+
+  static long calculateRoutes(RoutingTrie routes) {
+    return routes.size();
   }
 
   private static boolean matchModuleIdForMultipleInterface(ScRoutingEntry candidate, HttpServerRequest request,
@@ -140,68 +141,10 @@ class RoutingLookupUtils {
     }
   }
 
-  private static boolean match(ScRoutingEntry candidate, HttpServerRequest request, String uri,
+  private static boolean match(RouteCandidate candidate, HttpServerRequest request, String uri,
     boolean isSupportMultipleInterface) {
-    var requestMethod = request.method();
-    var methods = CollectionUtils.toList(candidate.getRoutingEntry().getMethods());
-    for (var method : methods) {
-      if (requestMethod == null || method.equals("*") || method.equals(requestMethod.name())) {
-        return matchUri(candidate.getRoutingEntry(), uri)
-          && matchModuleIdForMultipleInterface(candidate, request, isSupportMultipleInterface);
-      }
-    }
-    return false;
-  }
-
-  private static boolean matchUri(ModuleBootstrapEndpoint re, String path) {
-    var pathPattern = re.getPathPattern();
-    if (pathPattern != null) {
-      return fastMatch(pathPattern, path);
-    }
-
-    return re.getPath() == null || path.startsWith(re.getPath());
-  }
-
-  private static boolean fastMatch(String pathPattern, String path) {
-    return fastMatch(pathPattern, 0, path, 0, path.length());
-  }
-
-  @SuppressWarnings("checkstyle:MethodLength")
-  private static boolean fastMatch(String pathPattern, int patternIndex, String path, int uriIndex, int pathLength) {
-    while (patternIndex < pathPattern.length()) {
-      var patternChar = pathPattern.charAt(patternIndex);
-      patternIndex++;
-      if (patternChar == '{') {
-        while (true) {
-          if (pathPattern.charAt(patternIndex) == '}') {
-            patternIndex++;
-            break;
-          }
-          patternIndex++;
-        }
-        var empty = true;
-        while (uriIndex < pathLength && path.charAt(uriIndex) != '/') {
-          uriIndex++;
-          empty = false;
-        }
-        if (empty) {
-          return false;
-        }
-      } else if (patternChar != '*') {
-        if (uriIndex == pathLength || patternChar != path.charAt(uriIndex)) {
-          return false;
-        }
-        uriIndex++;
-      } else {
-        do {
-          if (fastMatch(pathPattern, patternIndex, path, uriIndex, pathLength)) {
-            return true;
-          }
-          uriIndex++;
-        } while (uriIndex <= pathLength);
-        return false;
-      }
-    }
-    return uriIndex == pathLength;
+    // request method is already matched by the routing trie
+    return candidate.pathMatcher().matches(uri)
+      && matchModuleIdForMultipleInterface(candidate.entry(), request, isSupportMultipleInterface);
   }
 }
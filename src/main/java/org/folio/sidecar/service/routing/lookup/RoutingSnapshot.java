@@ -0,0 +1,47 @@
+package org.folio.sidecar.service.routing.lookup;
+
+import java.util.List;
+
+/**
+ * Immutable routing table published to request handlers as a whole.
+ *
+ * <p>A snapshot is replaced, never modified: readers take a single reference and use a consistent table without
+ * locking, while the version allows to correlate request handling with route updates.</p>
+ *
+ * @param version - snapshot version, incremented on every routing table swap
+ * @param routes - routing table
+ * @param modules - compiled module routes the routing table is built from
+ */
+record RoutingSnapshot(long version, RoutingTrie routes, List<ModuleRoutes> modules) {
+
+  static final String VERSION_METRIC_NAME = "sidecar.routing.snapshot.version";
+  static final RoutingSnapshot EMPTY = new RoutingSnapshot(0, RoutingTrie.empty(), List.of());
+
+  /**
+   * Creates snapshot from compiled module routes, only the trie is assembled, routes are not recompiled.
+   *
+   * @param version - snapshot version
+   * @param modules - compiled module routes
+   * @return created {@link RoutingSnapshot}
+   */
+  static RoutingSnapshot of(long version, List<ModuleRoutes> modules) {
+    var builder = RoutingTrie.builder();
+    for (var module : modules) {
+      for (var route : module.routes()) {
+        builder.add(route.prefix(), route.candidate());
+      }
+    }
+    return new RoutingSnapshot(version, builder.build(), modules);
+  }
+
+  /**
+   * Creates snapshot of the same version with route candidates ordered by hits, see
+   * {@link RoutingTrie#reorderByHits()}.
+   *
+   * @return reordered snapshot, this snapshot if the order of route candidates is not changed
+   */
+  RoutingSnapshot reorderByHits() {
+    var reordered = routes.reorderByHits();
+    return reordered == routes ? this : new RoutingSnapshot(version, reordered, modules);
+  }
+}
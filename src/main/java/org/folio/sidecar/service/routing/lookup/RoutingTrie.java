@@ -0,0 +1,381 @@
+package org.folio.sidecar.service.routing.lookup;
+
+import io.vertx.core.http.HttpMethod;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.folio.sidecar.model.ScRoutingEntry;
+
+/**
+ * Immutable segment trie of routing entries, keyed by the static prefix of their path patterns. Entries are kept as
+ * {@link RouteCandidate} objects with their path matchers compiled when the trie is built.
+ *
+ * <p>Each node represents a path prefix ending with {@code '/'}, children are addressed by the path segment that
+ * follows it. A node keeps two groups of entries: entries registered for the prefix itself (e.g. {@code /foo/} for
+ * {@code /foo/{id}}) and entries registered for the exact path without a trailing slash (e.g. {@code /foo} for a
+ * static pattern {@code /foo}).</p>
+ *
+ * <p>A lookup walks the request path once, without creating substrings, and visits candidates from the longest prefix
+ * to the shortest one: the full path first, then every prefix ending with {@code '/'}.</p>
+ *
+ * <p>Entries of a node are also partitioned by HTTP method: for a known request method only entries that accept it
+ * are visited, preserving their registration order.</p>
+ *
+ * <p>The trie can be copied with entries ordered by their hits, see {@link #reorderByHits()}.</p>
+ */
+final class RoutingTrie {
+
+  private static final RouteCandidate[] NO_ENTRIES = new RouteCandidate[0];
+  private static final Candidates NO_CANDIDATES = Candidates.empty();
+  private static final RoutingTrie EMPTY = new RoutingTrie(new BuilderNode().build(), 0, true);
+
+  private final Node root;
+  private final long size;
+  private final boolean idAgnostic;
+
+  private RoutingTrie(Node root, long size, boolean idAgnostic) {
+    this.root = root;
+    this.size = size;
+    this.idAgnostic = idAgnostic;
+  }
+
+  static RoutingTrie empty() {
+    return EMPTY;
+  }
+
+  static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Returns the total number of routing entries in the trie.
+   *
+   * @return number of routing entries
+   */
+  long size() {
+    return size;
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Checks if lookup results never depend on the value of a path segment that looks like an id, so that they can be
+   * cached by {@link PathShape} of the path.
+   *
+   * @return true if path matchers of all entries are id-agnostic, false - otherwise
+   */
+  boolean isIdAgnostic() {
+    return idAgnostic;
+  }
+
+  /**
+   * Finds the first route candidate that accepts the request method and the given matcher, starting from the longest
+   * matching prefix.
+   *
+   * <p>Request data is passed to the matcher as the lookup context, so that a non-capturing matcher can be reused and
+   * the walk does not allocate.</p>
+   *
+   * @param path - request path
+   * @param method - request method, nullable
+   * @param context - lookup context passed to the matcher
+   * @param matcher - candidate matcher
+   * @param <T> - type of the lookup context
+   * @return found {@link RouteCandidate} or {@code null} if nothing matched
+   */
+  <T> RouteCandidate find(String path, HttpMethod method, T context, CandidateMatcher<T> matcher) {
+    // the full path is only a candidate if the path has at least one non-trailing slash, same as for its prefixes
+    if (isEmpty() || path.lastIndexOf('/', path.length() - 2) < 0) {
+      return null;
+    }
+    return find(root, path, 0, method, RouteMethods.indexOf(method), context, matcher);
+  }
+
+  /**
+   * Creates a trie with entries of every node ordered by the number of hits, most used first.
+   *
+   * <p>An entry is moved in front of another one only if they are disjoint, so the first matching entry stays the
+   * same for any request. Only entries partitioned by a known method are reordered, requests without a known method
+   * visit entries in registration order.</p>
+   *
+   * @return reordered trie, this trie if the order of entries is not changed
+   */
+  RoutingTrie reorderByHits() {
+    var reordered = root.reorderByHits();
+    return reordered == root ? this : new RoutingTrie(reordered, size, idAgnostic);
+  }
+
+  private static <T> RouteCandidate find(Node node, String path, int from, HttpMethod method, int methodIndex,
+    T context, CandidateMatcher<T> matcher) {
+    var slash = path.indexOf('/', from);
+    if (slash < 0) {
+      var child = node.child(path, from, path.length());
+      return child == null ? null : firstMatch(child.exactEntries, path, method, methodIndex, context, matcher);
+    }
+
+    var child = node.child(path, from, slash);
+    if (child == null) {
+      return null;
+    }
+
+    if (slash == path.length() - 1) {
+      // path with a trailing slash is a prefix itself
+      return firstMatch(child.prefixEntries, path, method, methodIndex, context, matcher);
+    }
+
+    var deeper = find(child, path, slash + 1, method, methodIndex, context, matcher);
+    return deeper != null ? deeper : firstMatch(child.prefixEntries, path, method, methodIndex, context, matcher);
+  }
+
+  private static <T> RouteCandidate firstMatch(Candidates candidates, String path, HttpMethod method, int methodIndex,
+    T context, CandidateMatcher<T> matcher) {
+    if (methodIndex >= 0) {
+      // method check is already done by partitioning
+      for (var candidate : candidates.byMethod[methodIndex]) {
+        if (matcher.matches(candidate, path, context)) {
+          return candidate;
+        }
+      }
+      return null;
+    }
+
+    for (var candidate : candidates.all) {
+      if (candidate.methods().matches(method) && matcher.matches(candidate, path, context)) {
+        return candidate;
+      }
+    }
+    return null;
+  }
+
+  private static int compare(String segment, String path, int from, int to) {
+    var segmentLength = segment.length();
+    var regionLength = to - from;
+    var limit = Math.min(segmentLength, regionLength);
+    for (var i = 0; i < limit; i++) {
+      var diff = segment.charAt(i) - path.charAt(from + i);
+      if (diff != 0) {
+        return diff;
+      }
+    }
+    return segmentLength - regionLength;
+  }
+
+  private record Node(String[] segments, Node[] children, Candidates prefixEntries, Candidates exactEntries) {
+
+    Node child(String path, int from, int to) {
+      var low = 0;
+      var high = segments.length - 1;
+      while (low <= high) {
+        var mid = (low + high) >>> 1;
+        var cmp = compare(segments[mid], path, from, to);
+        if (cmp < 0) {
+          low = mid + 1;
+        } else if (cmp > 0) {
+          high = mid - 1;
+        } else {
+          return children[mid];
+        }
+      }
+      return null;
+    }
+
+    Node reorderByHits() {
+      var reorderedChildren = children;
+      for (var i = 0; i < children.length; i++) {
+        var child = children[i].reorderByHits();
+        if (child != children[i]) {
+          if (reorderedChildren == children) {
+            reorderedChildren = children.clone();
+          }
+          reorderedChildren[i] = child;
+        }
+      }
+
+      var reorderedPrefixEntries = prefixEntries.reorderByHits();
+      var reorderedExactEntries = exactEntries.reorderByHits();
+      if (reorderedChildren == children && reorderedPrefixEntries == prefixEntries
+        && reorderedExactEntries == exactEntries) {
+        return this;
+      }
+
+      return new Node(segments, reorderedChildren, reorderedPrefixEntries, reorderedExactEntries);
+    }
+  }
+
+  /**
+   * Route candidates of a node: all of them in registration order and the same candidates grouped by known method.
+   */
+  private record Candidates(RouteCandidate[] all, RouteCandidate[][] byMethod) {
+
+    static Candidates empty() {
+      var byMethod = new RouteCandidate[RouteMethods.KNOWN_METHODS.size()][];
+      Arrays.fill(byMethod, NO_ENTRIES);
+      return new Candidates(NO_ENTRIES, byMethod);
+    }
+
+    static Candidates of(List<RouteCandidate> candidates) {
+      if (candidates.isEmpty()) {
+        return NO_CANDIDATES;
+      }
+
+      var byMethod = new RouteCandidate[RouteMethods.KNOWN_METHODS.size()][];
+      for (var i = 0; i < byMethod.length; i++) {
+        var methodIndex = i;
+        byMethod[i] = candidates.stream()
+          .filter(candidate -> candidate.methods().contains(methodIndex))
+          .toArray(RouteCandidate[]::new);
+        if (byMethod[i].length == 0) {
+          byMethod[i] = NO_ENTRIES;
+        }
+      }
+
+      return new Candidates(candidates.toArray(NO_ENTRIES), byMethod);
+    }
+
+    Candidates reorderByHits() {
+      RouteCandidate[][] reordered = null;
+      for (var i = 0; i < byMethod.length; i++) {
+        var candidates = reorderByHits(byMethod[i]);
+        if (candidates != byMethod[i]) {
+          if (reordered == null) {
+            reordered = byMethod.clone();
+          }
+          reordered[i] = candidates;
+        }
+      }
+      return reordered == null ? this : new Candidates(all, reordered);
+    }
+
+    /**
+     * Stable insertion sort by hits, a candidate never passes a candidate it may overlap with.
+     */
+    private static RouteCandidate[] reorderByHits(RouteCandidate[] candidates) {
+      if (candidates.length < 2) {
+        return candidates;
+      }
+
+      var hits = new long[candidates.length];
+      for (var i = 0; i < candidates.length; i++) {
+        hits[i] = candidates[i].hits().sum();
+      }
+
+      var reordered = candidates.clone();
+      var changed = false;
+      for (var i = 1; i < reordered.length; i++) {
+        changed |= moveByHits(reordered, hits, i);
+      }
+      return changed ? reordered : candidates;
+    }
+
+    /**
+     * Moves the candidate in front of less used candidates, while it is disjoint with them.
+     *
+     * @return true if the candidate is moved
+     */
+    private static boolean moveByHits(RouteCandidate[] candidates, long[] hits, int index) {
+      var candidate = candidates[index];
+      var candidateHits = hits[index];
+      var position = index;
+      while (position > 0 && hits[position - 1] < candidateHits && candidates[position - 1].isDisjoint(candidate)) {
+        candidates[position] = candidates[position - 1];
+        hits[position] = hits[position - 1];
+        position--;
+      }
+
+      candidates[position] = candidate;
+      hits[position] = candidateHits;
+      return position != index;
+    }
+  }
+
+  /**
+   * Matcher of route candidates, applied after the request method is checked.
+   *
+   * @param <T> - type of the lookup context
+   */
+  @FunctionalInterface
+  interface CandidateMatcher<T> {
+
+    /**
+     * Checks if the candidate matches the request.
+     *
+     * @param candidate - route candidate
+     * @param path - request path
+     * @param context - lookup context
+     * @return true if candidate is matched, false - otherwise
+     */
+    boolean matches(RouteCandidate candidate, String path, T context);
+  }
+
+  /**
+   * Mutable builder, the trie is compiled into sorted arrays once {@link #build()} is called.
+   */
+  static final class Builder {
+
+    private final BuilderNode root = new BuilderNode();
+    private long size;
+    private boolean idAgnostic = true;
+
+    private Builder() {
+    }
+
+    /**
+     * Adds routing entry for the given static prefix.
+     *
+     * @param prefix - static part of the path pattern, either ending with {@code '/'} or the whole pattern
+     * @param entry - routing entry
+     * @return this builder
+     */
+    Builder add(String prefix, ScRoutingEntry entry) {
+      return add(prefix, RouteCandidate.of(entry));
+    }
+
+    /**
+     * Adds compiled route candidate for the given static prefix.
+     *
+     * @param prefix - static part of the path pattern, either ending with {@code '/'} or the whole pattern
+     * @param candidate - route candidate
+     * @return this builder
+     */
+    Builder add(String prefix, RouteCandidate candidate) {
+      var node = root;
+      var from = 0;
+      var slash = prefix.indexOf('/');
+      while (slash >= 0) {
+        node = node.children.computeIfAbsent(prefix.substring(from, slash), k -> new BuilderNode());
+        from = slash + 1;
+        slash = prefix.indexOf('/', from);
+      }
+
+      if (from == prefix.length()) {
+        node.prefixEntries.add(candidate);
+      } else {
+        node.children.computeIfAbsent(prefix.substring(from), k -> new BuilderNode()).exactEntries.add(candidate);
+      }
+
+      size++;
+      idAgnostic &= candidate.pathMatcher().isIdAgnostic();
+      return this;
+    }
+
+    RoutingTrie build() {
+      return size == 0 ? EMPTY : new RoutingTrie(root.build(), size, idAgnostic);
+    }
+  }
+
+  private static final class BuilderNode {
+
+    private final Map<String, BuilderNode> children = new TreeMap<>();
+    private final List<RouteCandidate> prefixEntries = new ArrayList<>();
+    private final List<RouteCandidate> exactEntries = new ArrayList<>();
+
+    private Node build() {
+      return new Node(children.keySet().toArray(new String[0]),
+        children.values().stream().map(BuilderNode::build).toArray(Node[]::new),
+        Candidates.of(prefixEntries), Candidates.of(exactEntries));
+    }
+  }
+}
@@ -0,0 +1,19 @@
+package org.folio.sidecar.service.routing.lookup;
+
+import io.vertx.core.Future;
+
+/**
+ * Builds tenant-scoped egress routes on demand.
+ */
+public interface TenantEgressLoader {
+
+  /**
+   * Ensures that egress routes of the tenant are built.
+   *
+   * <p>Concurrent calls for the same tenant share a single build.</p>
+   *
+   * @param tenant - tenant name
+   * @return {@link Future} completed when the tenant egress routes are available
+   */
+  Future<Void> loadTenantEgress(String tenant);
+}
@@ -0,0 +1,183 @@
+package org.folio.sidecar.service.routing.lookup;
+
+import static org.folio.sidecar.service.routing.lookup.RoutingLookupUtils.compileModules;
+import static org.folio.sidecar.service.routing.lookup.RoutingLookupUtils.isUnchanged;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.folio.sidecar.integration.am.model.ModuleBootstrapDiscovery;
+
+/**
+ * Tenant-scoped egress routing tables, interned by the set of entitled applications.
+ *
+ * <p>Tenants entitled to the same applications share one table. A table keeps the number of tenants using it and is
+ * dropped together with the last of them. Reads are lock-free; updates are serialized by this object.</p>
+ */
+final class TenantEgressTables {
+
+  private final Map<String, Table> tenantTables = new ConcurrentHashMap<>();
+  private final Map<String, Table> tables = new HashMap<>();
+  private final Function<List<ModuleRoutes>, RoutingSnapshot> snapshotFactory;
+  private final Consumer<RoutingSnapshot> releasedSnapshotHandler;
+
+  /**
+   * Creates tenant tables.
+   *
+   * @param snapshotFactory - creates a new routing snapshot version from compiled module routes
+   * @param releasedSnapshotHandler - called for snapshots that are replaced or dropped
+   */
+  TenantEgressTables(Function<List<ModuleRoutes>, RoutingSnapshot> snapshotFactory,
+    Consumer<RoutingSnapshot> releasedSnapshotHandler) {
+    this.snapshotFactory = snapshotFactory;
+    this.releasedSnapshotHandler = releasedSnapshotHandler;
+  }
+
+  /**
+   * Returns routing snapshot of the tenant.
+   *
+   * @param tenant - tenant name
+   * @return {@link RoutingSnapshot}, null if tenant has no table
+   */
+  RoutingSnapshot get(String tenant) {
+    var table = tenantTables.get(tenant);
+    return table == null ? null : table.snapshot;
+  }
+
+  /**
+   * Assigns an existing table for the given applications to the tenant.
+   *
+   * @param tenant - tenant name
+   * @param applicationIds - entitled application ids
+   * @return assigned {@link RoutingSnapshot}, null if there is no table for the applications yet
+   */
+  synchronized RoutingSnapshot assign(String tenant, Collection<String> applicationIds) {
+    var table = tables.get(tableKey(applicationIds));
+    if (table == null) {
+      return null;
+    }
+
+    assign(tenant, table);
+    return table.snapshot;
+  }
+
+  /**
+   * Updates the table for the given applications from the module bootstrap and assigns it to the tenant.
+   *
+   * @param tenant - tenant name
+   * @param applicationIds - entitled application ids
+   * @param requiredModules - module bootstrap of the applications
+   * @return snapshot of the table
+   */
+  synchronized RoutingSnapshot update(String tenant, Collection<String> applicationIds,
+    List<ModuleBootstrapDiscovery> requiredModules) {
+    var table = tables.computeIfAbsent(tableKey(applicationIds), Table::new);
+    var current = table.snapshot;
+    var modules = compileModules(requiredModules, current == null ? List.of() : current.modules());
+    if (current == null || !isUnchanged(modules, current.modules())) {
+      table.snapshot = snapshotFactory.apply(modules);
+      release(current);
+    }
+
+    assign(tenant, table);
+    return table.snapshot;
+  }
+
+  /**
+   * Removes the table of the tenant, the table itself is dropped if no other tenant uses it.
+   *
+   * @param tenant - tenant name
+   */
+  synchronized void remove(String tenant) {
+    var table = tenantTables.remove(tenant);
+    if (table != null) {
+      unassign(table);
+    }
+  }
+
+  /**
+   * Returns the number of tenants using the table of the given tenant.
+   *
+   * @param tenant - tenant name
+   * @return number of tenants, 0 if tenant has no table
+   */
+  synchronized int countSharingTenants(String tenant) {
+    var table = tenantTables.get(tenant);
+    return table == null ? 0 : table.tenants;
+  }
+
+  /**
+   * Replaces snapshots of all tables with snapshots ordered by route hits.
+   */
+  synchronized void reorderByHits() {
+    for (var table : tables.values()) {
+      var current = table.snapshot;
+      var reordered = current.reorderByHits();
+      if (reordered != current) {
+        table.snapshot = reordered;
+        release(current);
+      }
+    }
+  }
+
+  /**
+   * Returns snapshots of all tables.
+   *
+   * @return list of {@link RoutingSnapshot}
+   */
+  synchronized List<RoutingSnapshot> snapshots() {
+    return tables.values().stream().map(table -> table.snapshot).toList();
+  }
+
+  /**
+   * Returns the number of distinct tables.
+   *
+   * @return number of tables
+   */
+  synchronized int size() {
+    return tables.size();
+  }
+
+  private void assign(String tenant, Table table) {
+    var previous = tenantTables.put(tenant, table);
+    if (previous != table) {
+      table.tenants++;
+      if (previous != null) {
+        unassign(previous);
+      }
+    }
+  }
+
+  private void unassign(Table table) {
+    if (--table.tenants == 0) {
+      tables.remove(table.key);
+      release(table.snapshot);
+    }
+  }
+
+  private void release(RoutingSnapshot snapshot) {
+    if (snapshot != null) {
+      releasedSnapshotHandler.accept(snapshot);
+    }
+  }
+
+  private static String tableKey(Collection<String> applicationIds) {
+    return String.join(",", new TreeSet<>(applicationIds));
+  }
+
+  private static final class Table {
+
+    private final String key;
+    private volatile RoutingSnapshot snapshot;
+    private int tenants;
+
+    private Table(String key) {
+      this.key = key;
+    }
+  }
+}
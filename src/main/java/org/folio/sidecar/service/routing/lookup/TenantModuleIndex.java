@@ -0,0 +1,88 @@
+package org.folio.sidecar.service.routing.lookup;
+
+import static io.vertx.core.Future.failedFuture;
+import static io.vertx.core.Future.fromCompletionStage;
+import static java.util.stream.Collectors.groupingBy;
+import static org.folio.sidecar.utils.CollectionUtils.takeOne;
+import static org.folio.sidecar.utils.CollectionUtils.toStream;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.vertx.core.Future;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.log4j.Log4j2;
+import org.folio.sidecar.configuration.properties.CacheSettings;
+import org.folio.sidecar.integration.kafka.TenantEntitlementEvent;
+import org.folio.sidecar.integration.kafka.TenantEntitlementListener;
+import org.folio.sidecar.integration.te.TenantEntitlementService;
+import org.folio.sidecar.integration.te.model.Entitlement;
+import org.folio.sidecar.model.ResultList;
+import org.folio.sidecar.utils.SemverUtils;
+
+/**
+ * Per-tenant index of entitled module ids by module name.
+ *
+ * <p>The index of a tenant is loaded from tenant entitlements on first use and invalidated by tenant entitlement
+ * events, so resolving a module name does not require a call to mgr-tenant-entitlements.</p>
+ */
+@Log4j2
+public class TenantModuleIndex implements TenantEntitlementListener {
+
+  private final AsyncLoadingCache<String, Map<String, List<String>>> cache;
+
+  public TenantModuleIndex(TenantEntitlementService tenantEntitlementService, CacheSettings settings) {
+    var builder = Caffeine.newBuilder();
+
+    settings.initialCapacity().ifPresent(builder::initialCapacity);
+    settings.maxSize().ifPresent(builder::maximumSize);
+    settings.expireAfterAccess().ifPresent(duration ->
+      builder.expireAfterAccess(duration.duration(), duration.unit()));
+    settings.expireAfterWrite().ifPresent(duration ->
+      builder.expireAfterWrite(duration.duration(), duration.unit()));
+
+    this.cache = builder.buildAsync((tenant, executor) -> tenantEntitlementService.getTenantEntitlements(tenant, true)
+      .map(TenantModuleIndex::indexByName)
+      .toCompletionStage()
+      .toCompletableFuture());
+  }
+
+  /**
+   * Finds entitled module id by module name.
+   *
+   * @param tenant - tenant name
+   * @param moduleName - module name without version
+   * @return {@link Future} with the module id, failed if no or multiple modules with this name are entitled
+   */
+  public Future<String> findModuleId(String tenant, String moduleName) {
+    if (tenant == null) {
+      return failedFuture(new IllegalArgumentException("Tenant is required to resolve module by name: "
+        + "moduleName = " + moduleName));
+    }
+
+    return fromCompletionStage(cache.get(tenant)).map(index -> {
+      var moduleIds = index.getOrDefault(moduleName, List.of());
+      return takeOne(moduleIds,
+        () -> new IllegalArgumentException("No entitled module found for name: "
+          + "moduleName = " + moduleName + ", tenant = " + tenant),
+        () -> new IllegalArgumentException("Multiple entitled modules found for name: "
+          + "moduleName = " + moduleName + ", foundModuleIds = " + moduleIds + ", tenant = " + tenant)
+      );
+    });
+  }
+
+  @Override
+  public void onTenantEntitlement(TenantEntitlementEvent event) {
+    var tenant = event.getTenantName();
+    if (tenant != null) {
+      log.debug("Invalidating entitled module index: tenant = {}", tenant);
+      cache.synchronous().invalidate(tenant);
+    }
+  }
+
+  private static Map<String, List<String>> indexByName(ResultList<Entitlement> entitlements) {
+    return toStream(entitlements.getRecords())
+      .flatMap(entitlement -> toStream(entitlement.getModules()))
+      .collect(groupingBy(SemverUtils::getName));
+  }
+}
@@ -0,0 +1,49 @@
+package org.folio.sidecar.startup;
+
+import io.quarkus.vertx.http.ManagementInterface;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import lombok.extern.log4j.Log4j2;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.folio.sidecar.service.JsonConverter;
+import org.folio.sidecar.service.routing.RouteHitsService;
+import org.folio.sidecar.service.routing.handler.RouteHitsHandler;
+
+/**
+ * Configures admin routes on the Quarkus management interface.
+ *
+ * <p>Admin routes are not registered on the main router: its requests are forwarded to the module without
+ * authorization for admin data. The management interface is started only if {@code quarkus.management.enabled} is
+ * set.</p>
+ */
+@Log4j2
+@ApplicationScoped
+public class ManagementRoutesInitializer {
+
+  private final RouteHitsService routeHitsService;
+  private final JsonConverter jsonConverter;
+  private final boolean routeHitsEndpointEnabled;
+
+  public ManagementRoutesInitializer(RouteHitsService routeHitsService, JsonConverter jsonConverter,
+    @ConfigProperty(name = "routing.route-hits.endpoint.enabled", defaultValue = "false")
+    boolean routeHitsEndpointEnabled) {
+    this.routeHitsService = routeHitsService;
+    this.jsonConverter = jsonConverter;
+    this.routeHitsEndpointEnabled = routeHitsEndpointEnabled;
+  }
+
+  /**
+   * Registers admin routes when the management interface is started.
+   *
+   * @param managementInterface - management interface to configure
+   */
+  public void onStart(@Observes ManagementInterface managementInterface) {
+    if (!routeHitsEndpointEnabled) {
+      return;
+    }
+
+    log.info("Route hits are exposed on the management interface: {}", RouteHitsHandler.ROUTE_HITS_PATH);
+    managementInterface.router().get(RouteHitsHandler.ROUTE_HITS_PATH)
+      .handler(new RouteHitsHandler(routeHitsService, jsonConverter));
+  }
+}
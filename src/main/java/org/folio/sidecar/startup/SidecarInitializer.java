@@ -7,6 +7,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.sidecar.configuration.properties.SidecarProperties;
 import org.folio.sidecar.service.TenantService;
+import org.folio.sidecar.service.routing.EgressListener;
 import org.folio.sidecar.service.routing.RoutingService;
 
 @Log4j2
@@ -17,6 +18,8 @@ public class SidecarInitializer {
   private final RoutingService routingService;
   private final SidecarProperties sidecarProperties;
   private final TenantService tenantService;
+  private final EgressListener egressListener;
+  private final TransportVerifier transportVerifier;
 
   /**
    * Configures vertx {@link Router} on sidecar startup.
@@ -27,11 +30,14 @@ public class SidecarInitializer {
    */
   public void onStart(@Observes Router router) {
     log.info("Initializing sidecar: {}", sidecarProperties.getName());
+    transportVerifier.verify();
 
     // chain of initialization:
     // 1. routing service and everything that depends on it
-    // 2. tenant service
+    // 2. egress listener, if enabled
+    // 3. tenant service
     routingService.init(router)
+      .compose(unused -> egressListener.start())
       .compose(unused -> tenantService.init());
   }
 }
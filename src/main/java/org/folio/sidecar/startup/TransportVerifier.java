@@ -0,0 +1,91 @@
+package org.folio.sidecar.startup;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.VertxInternal;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.util.ArrayList;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.sidecar.configuration.properties.ModuleProperties;
+import org.folio.sidecar.configuration.properties.TransportProperties;
+import org.folio.sidecar.service.routing.configuration.properties.EgressListenerProperties;
+
+/**
+ * Verifies and reports the Vert.x transport used by the sidecar HTTP server and HTTP clients.
+ *
+ * <p>Native transport (epoll, io_uring if a Vert.x io_uring transport is on the classpath) is preferred when
+ * {@code transport.native.enabled} is set. If it is unavailable, Vert.x falls back to NIO, unless
+ * {@code transport.native.required} is set. Unix domain sockets (a {@code unix:} module URL or the egress listener
+ * bound to a domain socket) are supported by native transports only.</p>
+ */
+@Log4j2
+@ApplicationScoped
+@RequiredArgsConstructor
+public class TransportVerifier {
+
+  private final Vertx vertx;
+  private final TransportProperties transportProperties;
+  private final ModuleProperties moduleProperties;
+  private final EgressListenerProperties egressListenerProperties;
+
+  /**
+   * Verifies the transport.
+   *
+   * @throws IllegalStateException if native transport is required or domain sockets are configured, but native
+   *   transport is not available
+   */
+  public void verify() {
+    var transport = getTransportName();
+    var nativeSettings = transportProperties.nativeTransport();
+    if (nativeSettings.enabled() && !vertx.isNativeTransportEnabled()) {
+      var cause = vertx.unavailableNativeTransportCause();
+      if (nativeSettings.required()) {
+        throw new IllegalStateException("Native transport is required, but not available", cause);
+      }
+      log.warn("Native transport is not available, falling back to {}: cause = {}", transport,
+        cause == null ? null : cause.getMessage());
+    }
+
+    log.info("Vert.x transport: {}", transport);
+    verifyDomainSockets();
+  }
+
+  /**
+   * Returns the name of the active Vert.x transport.
+   *
+   * @return transport name: nio, epoll, io_uring or kqueue
+   */
+  String getTransportName() {
+    var transport = ((VertxInternal) vertx).transport();
+    return switch (transport.getClass().getSimpleName()) {
+      case "JDKTransport" -> "nio";
+      case "EpollTransport" -> "epoll";
+      case "IOUringTransport" -> "io_uring";
+      case "KQueueTransport" -> "kqueue";
+      default -> transport.getClass().getName();
+    };
+  }
+
+  private void verifyDomainSockets() {
+    var domainSockets = new ArrayList<String>();
+    if (moduleProperties.isDomainSocket()) {
+      domainSockets.add("module.url = " + moduleProperties.getUrl());
+    }
+    if (egressListenerProperties.enabled()) {
+      egressListenerProperties.domainSocket()
+        .ifPresent(path -> domainSockets.add("routing.egress-listener.domain-socket = " + path));
+    }
+
+    if (domainSockets.isEmpty()) {
+      return;
+    }
+
+    if (!vertx.isNativeTransportEnabled()) {
+      throw new IllegalStateException("Unix domain sockets require native transport, "
+        + "set SIDECAR_NATIVE_TRANSPORT_ENABLED=true: " + String.join(", ", domainSockets),
+        vertx.unavailableNativeTransportCause());
+    }
+
+    log.info("Unix domain sockets enabled: {}", domainSockets);
+  }
+}
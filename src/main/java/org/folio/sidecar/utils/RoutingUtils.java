@@ -52,6 +52,14 @@ public class RoutingUtils {
   public static final String REQUEST_STAGE_KEY = "requestStage";
   public static final String FORWARDING_STAGE = "RequestForwarding";
 
+  /**
+   * Keys of the versions of the ingress and egress routing snapshots that were used to resolve the request, reported
+   * by the transaction log as {@code ingress-routing-version} and {@code egress-routing-version}. A request routed
+   * back through the ingress pipeline is resolved by both lookups.
+   */
+  public static final String INGRESS_ROUTING_VERSION_KEY = "ingressRoutingVersion";
+  public static final String EGRESS_ROUTING_VERSION_KEY = "egressRoutingVersion";
+
   /**
    * Key of the request start time in the context, written by {@code ScRequestHandler} and reported by the transaction
    * log as {@code rt}.
@@ -8,8 +8,10 @@ import static org.mockito.Mockito.when;
 import io.vertx.ext.web.Router;
 import org.folio.sidecar.configuration.properties.SidecarProperties;
 import org.folio.sidecar.service.TenantService;
+import org.folio.sidecar.service.routing.EgressListener;
 import org.folio.sidecar.service.routing.RoutingService;
 import org.folio.sidecar.startup.SidecarInitializer;
+import org.folio.sidecar.startup.TransportVerifier;
 import org.folio.support.types.UnitTest;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -28,23 +30,28 @@ class SidecarInitializerTest {
   @Mock private RoutingService routingService;
   @Mock private SidecarProperties sidecarProperties;
   @Mock private TenantService tenantService;
+  @Mock private EgressListener egressListener;
+  @Mock private TransportVerifier transportVerifier;
 
   @AfterEach
   void tearDown() {
-    verifyNoMoreInteractions(routingService, tenantService, sidecarProperties);
+    verifyNoMoreInteractions(routingService, tenantService, sidecarProperties, egressListener, transportVerifier);
   }
 
   @Test
   void onStart_positive() {
     when(sidecarProperties.getName()).thenReturn("sc-mod-foo");
     when(routingService.init(router)).thenReturn(succeededFuture());
+    when(egressListener.start()).thenReturn(succeededFuture());
     when(tenantService.init()).thenReturn(succeededFuture());
 
-    var initOrder = inOrder(routingService, tenantService);
+    var initOrder = inOrder(transportVerifier, routingService, egressListener, tenantService);
 
     routerConfiguration.onStart(router);
 
+    initOrder.verify(transportVerifier).verify();
     initOrder.verify(routingService).init(router);
+    initOrder.verify(egressListener).start();
     initOrder.verify(tenantService).init();
   }
 }
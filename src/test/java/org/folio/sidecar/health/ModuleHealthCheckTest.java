@@ -1,16 +1,28 @@
 package org.folio.sidecar.health;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.folio.sidecar.support.TestConstants.MODULE_HEALTH_PATH;
+import static org.folio.sidecar.support.TestConstants.MODULE_ID;
 import static org.folio.sidecar.support.TestConstants.MODULE_NAME;
 import static org.folio.sidecar.support.TestConstants.MODULE_URL;
+import static org.folio.sidecar.support.TestConstants.MODULE_VERSION;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.Mockito.when;
 
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.net.SocketAddress;
+import java.nio.file.Path;
+import org.eclipse.microprofile.health.HealthCheckResponse.Status;
+import org.folio.sidecar.configuration.properties.ModuleProperties;
 import org.folio.sidecar.service.PathProcessor;
 import org.folio.sidecar.support.TestConstants;
 import org.folio.support.types.UnitTest;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -19,11 +31,21 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class ModuleHealthCheckTest {
 
   @Mock private PathProcessor pathProcessor;
+  @Mock private Vertx vertxMock;
+
+  private Vertx vertx;
+
+  @AfterEach
+  void tearDown() throws Exception {
+    if (vertx != null) {
+      vertx.close().toCompletionStage().toCompletableFuture().get(5, SECONDS);
+    }
+  }
 
   @Test
   void testHealthCheckUrl_positive_withoutPathPrefix() {
     when(pathProcessor.getModulePath(MODULE_HEALTH_PATH)).thenReturn(MODULE_HEALTH_PATH);
-    var service = new ModuleHealthCheck(pathProcessor, TestConstants.MODULE_PROPERTIES);
+    var service = new ModuleHealthCheck(pathProcessor, TestConstants.MODULE_PROPERTIES, vertxMock);
 
     var result = service.getModuleHealthCheckUrl();
 
@@ -32,11 +54,49 @@ class ModuleHealthCheckTest {
 
   @Test
   void testHealthCheckUrl_positive_withPathPrefix() {
-    var service = new ModuleHealthCheck(pathProcessor, TestConstants.MODULE_PROPERTIES);
+    var service = new ModuleHealthCheck(pathProcessor, TestConstants.MODULE_PROPERTIES, vertxMock);
     when(pathProcessor.getModulePath(MODULE_HEALTH_PATH)).thenReturn("/" + MODULE_NAME + MODULE_HEALTH_PATH);
 
     var result = service.getModuleHealthCheckUrl();
 
     assertThat(result).isEqualTo(MODULE_URL + "/" + MODULE_NAME + MODULE_HEALTH_PATH);
   }
+
+  @Test
+  void checkModule_positive_domainSocket(@TempDir Path tempDir) throws Exception {
+    vertx = Vertx.vertx(new VertxOptions().setPreferNativeTransport(true));
+    assumeTrue(vertx.isNativeTransportEnabled(), "native transport is not available");
+    var socketPath = tempDir.resolve("mod-foo.sock").toString();
+    vertx.createHttpServer()
+      .requestHandler(request -> {
+        var statusCode = MODULE_HEALTH_PATH.equals(request.path()) ? 200 : 404;
+        request.response().setStatusCode(statusCode).end();
+      })
+      .listen(SocketAddress.domainSocketAddress(socketPath))
+      .toCompletionStage().toCompletableFuture().get(5, SECONDS);
+    when(pathProcessor.getModulePath(MODULE_HEALTH_PATH)).thenReturn(MODULE_HEALTH_PATH);
+    var service = new ModuleHealthCheck(pathProcessor, domainSocketModuleProperties(socketPath), vertx);
+
+    var result = service.checkModule().call();
+
+    assertThat(result.getStatus()).isEqualTo(Status.UP);
+    assertThat(result.getName()).isEqualTo(ModuleHealthCheck.CHECK_NAME);
+  }
+
+  @Test
+  void checkModule_negative_domainSocketNotListening(@TempDir Path tempDir) {
+    vertx = Vertx.vertx(new VertxOptions().setPreferNativeTransport(true));
+    var socketPath = tempDir.resolve("mod-foo.sock").toString();
+    when(pathProcessor.getModulePath(MODULE_HEALTH_PATH)).thenReturn(MODULE_HEALTH_PATH);
+    var service = new ModuleHealthCheck(pathProcessor, domainSocketModuleProperties(socketPath), vertx);
+
+    var result = service.checkModule().call();
+
+    assertThat(result.getStatus()).isEqualTo(Status.DOWN);
+    assertThat(result.getData()).hasValueSatisfying(data -> assertThat(data).containsKey("error"));
+  }
+
+  private static ModuleProperties domainSocketModuleProperties(String socketPath) {
+    return new ModuleProperties(MODULE_ID, MODULE_NAME, MODULE_VERSION, "unix:" + socketPath, MODULE_HEALTH_PATH);
+  }
 }
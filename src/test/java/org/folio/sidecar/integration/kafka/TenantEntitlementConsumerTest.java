@@ -11,6 +11,7 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
 import org.folio.sidecar.service.TenantService;
 import org.folio.sidecar.service.routing.EgressBootstrapService;
 import org.folio.support.types.UnitTest;
@@ -26,12 +27,13 @@ class TenantEntitlementConsumerTest {
 
   @Mock private TenantService tenantService;
   @Mock private EgressBootstrapService egressBootstrapService;
+  @Mock private TenantEntitlementListener entitlementListener;
 
   private TenantEntitlementConsumer consumer;
 
   @BeforeEach
   void setUp() {
-    consumer = new TenantEntitlementConsumer(tenantService, egressBootstrapService);
+    consumer = new TenantEntitlementConsumer(tenantService, egressBootstrapService, List.of(entitlementListener));
     consumer.tenantScoped = true;
   }
 
@@ -86,4 +88,14 @@ class TenantEntitlementConsumerTest {
     verifyNoMoreInteractions(tenantService);
     verifyNoInteractions(egressBootstrapService);
   }
+
+  @Test
+  void consume_positive_listenersNotifiedForAnyModule() {
+    var event = TenantEntitlementEvent.of(MODULE_ID, TENANT_NAME, TENANT_UUID, REVOKE);
+    when(tenantService.isAssignedModule(MODULE_ID)).thenReturn(false);
+
+    consumer.consume(event);
+
+    verify(entitlementListener).onTenantEntitlement(event);
+  }
 }
@@ -54,7 +54,7 @@ class TenantScopedEgressEventsIT {
     sendEvent(TenantEntitlementEvent.of(MODULE_ID, TENANT_NAME, TENANT_UUID, Type.UPGRADE));
 
     awaitUntilAsserted(() ->
-      verify(egressRoutingLookup, atLeastOnce()).updateTenantEgressRoutes(eq(TENANT_NAME), anyList()));
+      verify(egressRoutingLookup, atLeastOnce()).updateTenantEgressRoutes(eq(TENANT_NAME), anyList(), anyList()));
   }
 
   @Test
@@ -65,7 +65,7 @@ class TenantScopedEgressEventsIT {
     // so we send an UPGRADE first to ensure it's there, then REVOKE.
     sendEvent(TenantEntitlementEvent.of(MODULE_ID, TENANT_NAME, TENANT_UUID, Type.UPGRADE));
     awaitUntilAsserted(() ->
-      verify(egressRoutingLookup, atLeastOnce()).updateTenantEgressRoutes(eq(TENANT_NAME), anyList()));
+      verify(egressRoutingLookup, atLeastOnce()).updateTenantEgressRoutes(eq(TENANT_NAME), anyList(), anyList()));
 
     clearInvocations(egressRoutingLookup);
     sendEvent(TenantEntitlementEvent.of(MODULE_ID, TENANT_NAME, TENANT_UUID, Type.REVOKE));
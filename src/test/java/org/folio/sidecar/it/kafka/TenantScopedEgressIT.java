@@ -39,6 +39,6 @@ class TenantScopedEgressIT {
       .atMost(TEN_SECONDS)
       .pollDelay(ONE_HUNDRED_MILLISECONDS)
       .untilAsserted(() ->
-        verify(egressRoutingLookup, atLeastOnce()).updateTenantEgressRoutes(eq(TENANT_NAME), anyList()));
+        verify(egressRoutingLookup, atLeastOnce()).updateTenantEgressRoutes(eq(TENANT_NAME), anyList(), anyList()));
   }
 }
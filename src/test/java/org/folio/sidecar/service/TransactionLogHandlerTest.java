@@ -1,5 +1,7 @@
 package org.folio.sidecar.service;
 
+import static org.folio.sidecar.utils.RoutingUtils.EGRESS_ROUTING_VERSION_KEY;
+import static org.folio.sidecar.utils.RoutingUtils.INGRESS_ROUTING_VERSION_KEY;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -217,4 +219,29 @@ class TransactionLogHandlerTest {
     verify(routingContext, atLeastOnce()).get("uht");
     verify(routingContext, atLeastOnce()).get("urt");
   }
+
+  @Test
+  void log_positive_ingressAndEgressRoutingVersions() {
+    var routingContext = mock(RoutingContext.class);
+    var httpServerRequest = mock(HttpServerRequest.class);
+
+    when(routingContext.request()).thenReturn(httpServerRequest);
+    when(routingContext.get(INGRESS_ROUTING_VERSION_KEY)).thenReturn(3L);
+    when(routingContext.get(EGRESS_ROUTING_VERSION_KEY)).thenReturn(7L);
+    when(httpServerRequest.method()).thenReturn(HttpMethod.GET);
+    when(httpServerRequest.path()).thenReturn("/foo/entities");
+    when(httpServerRequest.version()).thenReturn(HttpVersion.HTTP_1_1);
+
+    final var httpClientRequest = mock(HttpClientRequest.class);
+    when(httpClientRequest.headers()).thenReturn(new HeadersMultiMap());
+
+    final var httpClientResponse = mock(HttpClientResponse.class);
+    when(httpClientResponse.statusCode()).thenReturn(200);
+
+    transactionLogHandler.log(routingContext, httpClientResponse, httpClientRequest);
+
+    // Both lookups write their own version, a loopback request is resolved by both
+    verify(routingContext).get(INGRESS_ROUTING_VERSION_KEY);
+    verify(routingContext).get(EGRESS_ROUTING_VERSION_KEY);
+  }
 }
@@ -0,0 +1,114 @@
+package org.folio.sidecar.service.routing;
+
+import static io.vertx.core.Future.failedFuture;
+import static io.vertx.core.Future.succeededFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.sidecar.service.routing.DnsResolutionService.RESOLUTION_METRIC_NAME;
+import static org.folio.sidecar.service.routing.ModuleBootstrapListener.ChangeType.INIT;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.impl.AddressResolver;
+import io.vertx.core.impl.VertxInternal;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import org.folio.sidecar.integration.am.model.ModuleBootstrapDiscovery;
+import org.folio.support.types.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class DnsResolutionServiceTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Mock private VertxInternal vertx;
+  @Mock private AddressResolver addressResolver;
+
+  private DnsResolutionService service;
+
+  @BeforeEach
+  void setUp() {
+    service = new DnsResolutionService(vertx, meterRegistry);
+  }
+
+  @Test
+  void resolveAll_positive() throws Exception {
+    mockResolution("mod-bar", List.of(address("10.0.0.1"), address("10.0.0.2"), address("10.0.0.1")));
+
+    var result = service.resolveAll("mod-bar");
+
+    assertThat(result.result()).containsExactly("10.0.0.1", "10.0.0.2");
+    assertThat(meterRegistry.get(RESOLUTION_METRIC_NAME).tag("host", "mod-bar").tag("result", "success")
+      .timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  void resolveAll_negative() {
+    when(vertx.addressResolver()).thenReturn(addressResolver);
+    doAnswer(inv -> {
+      inv.<Handler<AsyncResult<List<InetSocketAddress>>>>getArgument(1)
+        .handle(failedFuture(new UnknownHostException("mod-bar")));
+      return null;
+    }).when(addressResolver).resolveHostnameAll(eq("mod-bar"), any());
+
+    var result = service.resolveAll("mod-bar");
+
+    assertThat(result.failed()).isTrue();
+    assertThat(result.cause()).isInstanceOf(UnknownHostException.class);
+    assertThat(meterRegistry.get(RESOLUTION_METRIC_NAME).tag("host", "mod-bar").tag("result", "failure")
+      .timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  void onRequiredModulesBootstrap_positive_resolvesDistinctHosts() throws Exception {
+    service.preResolveEnabled = true;
+    mockResolution("mod-bar", List.of(address("10.0.0.1")));
+    mockResolution("mod-baz", List.of(address("10.0.0.2")));
+
+    service.onRequiredModulesBootstrap(List.of(module("http://mod-bar:8081"), module("http://mod-bar:8081/"),
+      module("http://mod-baz:8081"), module(null)), INIT);
+
+    verify(addressResolver).resolveHostnameAll(eq("mod-bar"), any());
+    verify(addressResolver).resolveHostnameAll(eq("mod-baz"), any());
+  }
+
+  @Test
+  void onRequiredModulesBootstrap_positive_disabled() {
+    service.onRequiredModulesBootstrap(List.of(module("http://mod-bar:8081")), INIT);
+
+    verify(addressResolver, never()).resolveHostnameAll(anyString(), any());
+  }
+
+  private void mockResolution(String host, List<InetSocketAddress> addresses) {
+    when(vertx.addressResolver()).thenReturn(addressResolver);
+    doAnswer(inv -> {
+      inv.<Handler<AsyncResult<List<InetSocketAddress>>>>getArgument(1).handle(succeededFuture(addresses));
+      return null;
+    }).when(addressResolver).resolveHostnameAll(eq(host), any());
+  }
+
+  private static InetSocketAddress address(String ip) throws UnknownHostException {
+    return new InetSocketAddress(InetAddress.getByName(ip), 0);
+  }
+
+  private static ModuleBootstrapDiscovery module(String location) {
+    var module = new ModuleBootstrapDiscovery();
+    module.setLocation(location);
+    return module;
+  }
+}
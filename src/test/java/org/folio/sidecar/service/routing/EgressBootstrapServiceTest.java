@@ -3,25 +3,37 @@ package org.folio.sidecar.service.routing;
 import static io.vertx.core.Future.failedFuture;
 import static io.vertx.core.Future.succeededFuture;
 import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.folio.sidecar.support.TestConstants.APPLICATION_ID;
 import static org.folio.sidecar.support.TestConstants.MODULE_BOOTSTRAP_EGRESS;
 import static org.folio.sidecar.support.TestConstants.TENANT_ID;
 import static org.folio.sidecar.support.TestConstants.TENANT_NAME;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import io.vertx.core.Promise;
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.folio.sidecar.configuration.properties.CacheSettings;
 import org.folio.sidecar.integration.am.ApplicationManagerService;
 import org.folio.sidecar.integration.te.TenantEntitlementService;
 import org.folio.sidecar.integration.te.model.Entitlement;
 import org.folio.sidecar.model.EntitlementsEvent;
 import org.folio.sidecar.model.ResultList;
+import org.folio.sidecar.service.routing.configuration.properties.LazyEgressProperties;
+import org.folio.sidecar.service.routing.handler.ConnectionPrewarmService;
 import org.folio.sidecar.service.routing.lookup.EgressRoutingLookup;
 import org.folio.support.types.UnitTest;
 import org.junit.jupiter.api.BeforeEach;
@@ -37,13 +49,18 @@ class EgressBootstrapServiceTest {
   @Mock private ApplicationManagerService appManagerService;
   @Mock private TenantEntitlementService tenantEntitlementService;
   @Mock private EgressRoutingLookup egressRoutingLookup;
+  @Mock private LazyEgressProperties lazyEgressProperties;
+  @Mock private DnsResolutionService dnsResolutionService;
+  @Mock private ConnectionPrewarmService connectionPrewarmService;
 
   private EgressBootstrapService service;
 
   @BeforeEach
   void setUp() {
-    service = new EgressBootstrapService(appManagerService, tenantEntitlementService, egressRoutingLookup);
+    service = new EgressBootstrapService(appManagerService, tenantEntitlementService, egressRoutingLookup,
+      lazyEgressProperties, dnsResolutionService, connectionPrewarmService);
     service.tenantScoped = true;
+    lenient().when(connectionPrewarmService.prewarmEgress(anyList())).thenReturn(succeededFuture());
   }
 
   @Test
@@ -54,7 +71,11 @@ class EgressBootstrapServiceTest {
 
     service.onEntitlementsChanged(EntitlementsEvent.of(Set.of(TENANT_NAME)));
 
-    verify(egressRoutingLookup).updateTenantEgressRoutes(TENANT_NAME, MODULE_BOOTSTRAP_EGRESS.getRequiredModules());
+    var buildOrder = inOrder(connectionPrewarmService, egressRoutingLookup);
+    buildOrder.verify(connectionPrewarmService).prewarmEgress(MODULE_BOOTSTRAP_EGRESS.getRequiredModules());
+    buildOrder.verify(egressRoutingLookup)
+      .updateTenantEgressRoutes(TENANT_NAME, List.of(APPLICATION_ID), MODULE_BOOTSTRAP_EGRESS.getRequiredModules());
+    verify(dnsResolutionService).preResolve(MODULE_BOOTSTRAP_EGRESS.getRequiredModules());
   }
 
   @Test
@@ -76,8 +97,8 @@ class EgressBootstrapServiceTest {
 
     service.refreshTenant(TENANT_NAME);
 
-    verify(egressRoutingLookup).updateTenantEgressRoutes(TENANT_NAME, emptyList());
-    verify(appManagerService, never()).getEgressBootstrap(org.mockito.ArgumentMatchers.anyList());
+    verify(egressRoutingLookup).updateTenantEgressRoutes(TENANT_NAME, emptyList(), emptyList());
+    verify(appManagerService, never()).getEgressBootstrap(anyList());
   }
 
   @Test
@@ -97,7 +118,7 @@ class EgressBootstrapServiceTest {
 
     service.onEntitlementsChanged(EntitlementsEvent.of(Set.of(TENANT_NAME)));
 
-    verify(egressRoutingLookup, never()).updateTenantEgressRoutes(anyString(), anyList());
+    verify(egressRoutingLookup, never()).updateTenantEgressRoutes(anyString(), anyList(), anyList());
   }
 
   @Test
@@ -128,7 +149,7 @@ class EgressBootstrapServiceTest {
     service.refreshAllTenants();
 
     verify(egressRoutingLookup, times(2))
-      .updateTenantEgressRoutes(TENANT_NAME, MODULE_BOOTSTRAP_EGRESS.getRequiredModules());
+      .updateTenantEgressRoutes(TENANT_NAME, List.of(APPLICATION_ID), MODULE_BOOTSTRAP_EGRESS.getRequiredModules());
   }
 
   @Test
@@ -139,7 +160,8 @@ class EgressBootstrapServiceTest {
 
     service.refreshTenant(TENANT_NAME);
 
-    verify(egressRoutingLookup).updateTenantEgressRoutes(TENANT_NAME, MODULE_BOOTSTRAP_EGRESS.getRequiredModules());
+    verify(egressRoutingLookup)
+      .updateTenantEgressRoutes(TENANT_NAME, List.of(APPLICATION_ID), MODULE_BOOTSTRAP_EGRESS.getRequiredModules());
   }
 
   @Test
@@ -154,7 +176,243 @@ class EgressBootstrapServiceTest {
     service.onEntitlementsChanged(EntitlementsEvent.of(Set.of(TENANT_NAME)));
 
     verify(appManagerService).getEgressBootstrap(List.of(APPLICATION_ID));
-    verify(egressRoutingLookup).updateTenantEgressRoutes(TENANT_NAME, MODULE_BOOTSTRAP_EGRESS.getRequiredModules());
+    verify(egressRoutingLookup)
+      .updateTenantEgressRoutes(TENANT_NAME, List.of(APPLICATION_ID), MODULE_BOOTSTRAP_EGRESS.getRequiredModules());
+  }
+
+  @Test
+  void onEntitlementsChanged_positive_reusesRoutesOfSameApplications() {
+    mockEntitlements(TENANT_NAME);
+    when(egressRoutingLookup.assignTenantEgressRoutes(TENANT_NAME, List.of(APPLICATION_ID))).thenReturn(true);
+
+    service.onEntitlementsChanged(EntitlementsEvent.of(Set.of(TENANT_NAME)));
+
+    verify(appManagerService, never()).getEgressBootstrap(anyList());
+    verify(egressRoutingLookup, never()).updateTenantEgressRoutes(anyString(), anyList(), anyList());
+  }
+
+  @Test
+  void refreshAllTenants_positive_fetchesBootstrapOncePerApplications() {
+    mockEntitlements(TENANT_NAME);
+    mockEntitlements("other-tenant");
+    when(appManagerService.getEgressBootstrap(List.of(APPLICATION_ID)))
+      .thenReturn(succeededFuture(MODULE_BOOTSTRAP_EGRESS));
+    service.onEntitlementsChanged(EntitlementsEvent.of(Set.of(TENANT_NAME, "other-tenant")));
+
+    service.refreshAllTenants();
+
+    verify(appManagerService, times(2)).getEgressBootstrap(List.of(APPLICATION_ID));
+    verify(egressRoutingLookup, times(2))
+      .updateTenantEgressRoutes("other-tenant", List.of(APPLICATION_ID), MODULE_BOOTSTRAP_EGRESS.getRequiredModules());
+  }
+
+  @Test
+  void onEntitlementsChanged_positive_fetchesBootstrapOncePerApplications() {
+    mockEntitlements(TENANT_NAME);
+    mockEntitlements("other-tenant");
+    when(appManagerService.getEgressBootstrap(List.of(APPLICATION_ID)))
+      .thenReturn(succeededFuture(MODULE_BOOTSTRAP_EGRESS));
+
+    service.onEntitlementsChanged(EntitlementsEvent.of(Set.of(TENANT_NAME, "other-tenant")));
+
+    verify(appManagerService).getEgressBootstrap(List.of(APPLICATION_ID));
+    verify(egressRoutingLookup)
+      .updateTenantEgressRoutes(TENANT_NAME, List.of(APPLICATION_ID), MODULE_BOOTSTRAP_EGRESS.getRequiredModules());
+    verify(egressRoutingLookup)
+      .updateTenantEgressRoutes("other-tenant", List.of(APPLICATION_ID), MODULE_BOOTSTRAP_EGRESS.getRequiredModules());
+  }
+
+  @Test
+  void onEntitlementsChanged_positive_pendingBuildNotRestarted() {
+    var entitlements = Promise.<ResultList<Entitlement>>promise();
+    when(tenantEntitlementService.getTenantEntitlements(TENANT_NAME, false)).thenReturn(entitlements.future());
+    when(appManagerService.getEgressBootstrap(List.of(APPLICATION_ID)))
+      .thenReturn(succeededFuture(MODULE_BOOTSTRAP_EGRESS));
+
+    service.onEntitlementsChanged(EntitlementsEvent.of(Set.of(TENANT_NAME)));
+    service.onEntitlementsChanged(EntitlementsEvent.of(Set.of(TENANT_NAME)));
+    entitlements.complete(ResultList.asSinglePage(Entitlement.of(APPLICATION_ID, TENANT_ID, emptyList())));
+    service.onEntitlementsChanged(EntitlementsEvent.of(Set.of(TENANT_NAME)));
+
+    verify(tenantEntitlementService).getTenantEntitlements(TENANT_NAME, false);
+    verify(egressRoutingLookup)
+      .updateTenantEgressRoutes(TENANT_NAME, List.of(APPLICATION_ID), MODULE_BOOTSTRAP_EGRESS.getRequiredModules());
+  }
+
+  @Test
+  void toApplicationIds_positive_sortedForTableSharing() {
+    when(tenantEntitlementService.getTenantEntitlements(TENANT_NAME, false))
+      .thenReturn(succeededFuture(ResultList.asSinglePage(
+        Entitlement.of("app-b-1.0.0", TENANT_ID, emptyList()),
+        Entitlement.of("app-a-1.0.0", TENANT_ID, emptyList()))));
+    when(appManagerService.getEgressBootstrap(List.of("app-a-1.0.0", "app-b-1.0.0")))
+      .thenReturn(succeededFuture(MODULE_BOOTSTRAP_EGRESS));
+
+    service.refreshTenant(TENANT_NAME);
+
+    verify(egressRoutingLookup).updateTenantEgressRoutes(TENANT_NAME, List.of("app-a-1.0.0", "app-b-1.0.0"),
+      MODULE_BOOTSTRAP_EGRESS.getRequiredModules());
+  }
+
+  @Test
+  void onEntitlementsChanged_positive_lazyModeDoesNotBuildTenants() {
+    var lazyService = lazyService(OptionalInt.empty());
+
+    lazyService.onEntitlementsChanged(EntitlementsEvent.of(Set.of(TENANT_NAME)));
+
+    verifyNoInteractions(tenantEntitlementService, appManagerService, egressRoutingLookup);
+  }
+
+  @Test
+  void loadTenantEgress_positive_concurrentRequestsShareBuild() {
+    var lazyService = lazyService(OptionalInt.empty());
+    var entitlements = Promise.<ResultList<Entitlement>>promise();
+    when(tenantEntitlementService.getTenantEntitlements(TENANT_NAME, false)).thenReturn(entitlements.future());
+    when(appManagerService.getEgressBootstrap(List.of(APPLICATION_ID)))
+      .thenReturn(succeededFuture(MODULE_BOOTSTRAP_EGRESS));
+    lazyService.onEntitlementsChanged(EntitlementsEvent.of(Set.of(TENANT_NAME)));
+
+    var first = lazyService.loadTenantEgress(TENANT_NAME);
+    var second = lazyService.loadTenantEgress(TENANT_NAME);
+    entitlements.complete(ResultList.asSinglePage(Entitlement.of(APPLICATION_ID, TENANT_ID, emptyList())));
+
+    assertThat(first.succeeded()).isTrue();
+    assertThat(second.succeeded()).isTrue();
+    verify(tenantEntitlementService).getTenantEntitlements(TENANT_NAME, false);
+    verify(egressRoutingLookup)
+      .updateTenantEgressRoutes(TENANT_NAME, List.of(APPLICATION_ID), MODULE_BOOTSTRAP_EGRESS.getRequiredModules());
+  }
+
+  @Test
+  void loadTenantEgress_positive_reusesRoutesOfSameApplications() {
+    var lazyService = lazyService(OptionalInt.empty());
+    mockEntitlements(TENANT_NAME);
+    when(egressRoutingLookup.assignTenantEgressRoutes(TENANT_NAME, List.of(APPLICATION_ID))).thenReturn(true);
+    lazyService.onEntitlementsChanged(EntitlementsEvent.of(Set.of(TENANT_NAME)));
+
+    var actual = lazyService.loadTenantEgress(TENANT_NAME);
+
+    assertThat(actual.succeeded()).isTrue();
+    verifyNoInteractions(appManagerService);
+  }
+
+  @Test
+  void loadTenantEgress_positive_failedBuildRetried() {
+    var lazyService = lazyService(OptionalInt.empty());
+    mockEntitlements(TENANT_NAME);
+    when(appManagerService.getEgressBootstrap(List.of(APPLICATION_ID)))
+      .thenReturn(failedFuture(new RuntimeException("am down")))
+      .thenReturn(succeededFuture(MODULE_BOOTSTRAP_EGRESS));
+    lazyService.onEntitlementsChanged(EntitlementsEvent.of(Set.of(TENANT_NAME)));
+
+    var failed = lazyService.loadTenantEgress(TENANT_NAME);
+    var retried = lazyService.loadTenantEgress(TENANT_NAME);
+
+    assertThat(failed.failed()).isTrue();
+    assertThat(retried.succeeded()).isTrue();
+    verify(egressRoutingLookup)
+      .updateTenantEgressRoutes(TENANT_NAME, List.of(APPLICATION_ID), MODULE_BOOTSTRAP_EGRESS.getRequiredModules());
+  }
+
+  @Test
+  void loadTenantEgress_negative_tenantNotEnabled() {
+    var lazyService = lazyService(OptionalInt.empty());
+
+    var actual = lazyService.loadTenantEgress(TENANT_NAME);
+
+    assertThat(actual.succeeded()).isTrue();
+    verifyNoInteractions(tenantEntitlementService, appManagerService, egressRoutingLookup);
+  }
+
+  @Test
+  void loadTenantEgress_positive_idleTenantsEvicted() {
+    var lazyService = lazyService(OptionalInt.of(1));
+    mockEntitlements(TENANT_NAME);
+    mockEntitlements("other-tenant");
+    when(appManagerService.getEgressBootstrap(List.of(APPLICATION_ID)))
+      .thenReturn(succeededFuture(MODULE_BOOTSTRAP_EGRESS));
+    lazyService.onEntitlementsChanged(EntitlementsEvent.of(Set.of(TENANT_NAME, "other-tenant")));
+
+    lazyService.loadTenantEgress(TENANT_NAME);
+    lazyService.loadTenantEgress("other-tenant");
+
+    verify(egressRoutingLookup, timeout(1000)).removeTenantEgressRoutes(anyString());
+  }
+
+  @Test
+  void onEntitlementsChanged_positive_lazyModeDropsRemovedTenant() {
+    var lazyService = lazyService(OptionalInt.empty());
+    mockEntitlements(TENANT_NAME);
+    when(appManagerService.getEgressBootstrap(List.of(APPLICATION_ID)))
+      .thenReturn(succeededFuture(MODULE_BOOTSTRAP_EGRESS));
+    lazyService.onEntitlementsChanged(EntitlementsEvent.of(Set.of(TENANT_NAME)));
+    lazyService.loadTenantEgress(TENANT_NAME);
+
+    lazyService.onEntitlementsChanged(EntitlementsEvent.of(Set.of()));
+    var actual = lazyService.loadTenantEgress(TENANT_NAME);
+
+    assertThat(actual.succeeded()).isTrue();
+    verify(egressRoutingLookup).removeTenantEgressRoutes(TENANT_NAME);
+    verify(tenantEntitlementService).getTenantEntitlements(TENANT_NAME, false);
+  }
+
+  @Test
+  void loadTenantEgress_positive_tenantEvictedDuringBuildNotApplied() {
+    var expireAfterAccess = duration(0, TimeUnit.MILLISECONDS);
+    var settings = mock(CacheSettings.class);
+    when(settings.expireAfterAccess()).thenReturn(Optional.of(expireAfterAccess));
+    var lazyService = lazyService(settings);
+    var entitlements = Promise.<ResultList<Entitlement>>promise();
+    when(tenantEntitlementService.getTenantEntitlements(TENANT_NAME, false)).thenReturn(entitlements.future());
+    lazyService.onEntitlementsChanged(EntitlementsEvent.of(Set.of(TENANT_NAME)));
+    var build = lazyService.loadTenantEgress(TENANT_NAME);
+
+    verify(egressRoutingLookup, timeout(1000)).removeTenantEgressRoutes(TENANT_NAME);
+    entitlements.complete(ResultList.asSinglePage(Entitlement.of(APPLICATION_ID, TENANT_ID, emptyList())));
+
+    assertThat(build.succeeded()).isTrue();
+    verify(egressRoutingLookup, never()).assignTenantEgressRoutes(anyString(), anyList());
+    verify(egressRoutingLookup, never()).updateTenantEgressRoutes(anyString(), anyList(), anyList());
+    verifyNoInteractions(appManagerService);
+  }
+
+  @Test
+  void onEntitlementsChanged_positive_tenantDroppedDuringBuildNotApplied() {
+    var entitlements = Promise.<ResultList<Entitlement>>promise();
+    when(tenantEntitlementService.getTenantEntitlements(TENANT_NAME, false)).thenReturn(entitlements.future());
+    service.onEntitlementsChanged(EntitlementsEvent.of(Set.of(TENANT_NAME)));
+
+    service.onEntitlementsChanged(EntitlementsEvent.of(Set.of()));
+    entitlements.complete(ResultList.asSinglePage(Entitlement.of(APPLICATION_ID, TENANT_ID, emptyList())));
+    service.refreshAllTenants();
+
+    verify(tenantEntitlementService).getTenantEntitlements(TENANT_NAME, false);
+    verify(egressRoutingLookup, never()).updateTenantEgressRoutes(anyString(), anyList(), anyList());
+    verifyNoInteractions(appManagerService);
+  }
+
+  private EgressBootstrapService lazyService(OptionalInt maxTenants) {
+    var settings = mock(CacheSettings.class);
+    when(settings.maxSize()).thenReturn(maxTenants);
+    return lazyService(settings);
+  }
+
+  private EgressBootstrapService lazyService(CacheSettings settings) {
+    var properties = mock(LazyEgressProperties.class);
+    when(properties.enabled()).thenReturn(true);
+    when(properties.settings()).thenReturn(settings);
+
+    var lazyService = new EgressBootstrapService(appManagerService, tenantEntitlementService, egressRoutingLookup,
+      properties, dnsResolutionService, connectionPrewarmService);
+    lazyService.tenantScoped = true;
+    return lazyService;
+  }
+
+  private static CacheSettings.Duration duration(long value, TimeUnit unit) {
+    var duration = mock(CacheSettings.Duration.class);
+    when(duration.duration()).thenReturn(value);
+    when(duration.unit()).thenReturn(unit);
+    return duration;
   }
 
   private void mockEntitlements(String tenant) {
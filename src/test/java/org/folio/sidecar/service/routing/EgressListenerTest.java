@@ -0,0 +1,111 @@
+package org.folio.sidecar.service.routing;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.RequestOptions;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.ext.web.RoutingContext;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import org.folio.sidecar.service.routing.configuration.properties.EgressListenerProperties;
+import org.folio.support.types.UnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class EgressListenerTest {
+
+  @Mock private EgressListenerProperties properties;
+  @Mock private Vertx vertxMock;
+
+  private Vertx vertx;
+
+  @AfterEach
+  void tearDown() throws Exception {
+    if (vertx != null) {
+      vertx.close().toCompletionStage().toCompletableFuture().get(5, SECONDS);
+    }
+  }
+
+  @Test
+  void start_positive_disabled() {
+    when(properties.enabled()).thenReturn(false);
+    var egressListener = new EgressListener(vertxMock, properties, List.of());
+
+    var result = egressListener.start();
+
+    assertThat(result.succeeded()).isTrue();
+    verifyNoInteractions(vertxMock);
+  }
+
+  @Test
+  void start_positive_requestsHandledByEgressHandlers() throws Exception {
+    vertx = Vertx.vertx();
+    var port = freePort();
+    when(properties.enabled()).thenReturn(true);
+    when(properties.host()).thenReturn("127.0.0.1");
+    when(properties.port()).thenReturn(port);
+    when(properties.instances()).thenReturn(OptionalInt.of(2));
+    Handler<RoutingContext> firstHandler = rc -> {
+      rc.response().putHeader("x-handled-by", "first");
+      rc.next();
+    };
+    Handler<RoutingContext> egressHandler = rc -> rc.response().end("egress: " + rc.request().path());
+    var egressListener = new EgressListener(vertx, properties, List.of(firstHandler, egressHandler));
+
+    egressListener.start().toCompletionStage().toCompletableFuture().get(5, SECONDS);
+    var response = vertx.createHttpClient()
+      .request(HttpMethod.GET, port, "127.0.0.1", "/foo/entities")
+      .compose(request -> request.send())
+      .compose(resp -> resp.body().map(body -> resp.getHeader("x-handled-by") + ", " + body))
+      .toCompletionStage().toCompletableFuture().get(5, SECONDS);
+
+    assertThat(response).isEqualTo("first, egress: /foo/entities");
+  }
+
+  @Test
+  void start_positive_domainSocket(@TempDir Path tempDir) throws Exception {
+    vertx = Vertx.vertx(new VertxOptions().setPreferNativeTransport(true));
+    assumeTrue(vertx.isNativeTransportEnabled(), "native transport is not available");
+    var socketPath = tempDir.resolve("sidecar-egress.sock").toString();
+    when(properties.enabled()).thenReturn(true);
+    when(properties.domainSocket()).thenReturn(Optional.of(socketPath));
+    when(properties.instances()).thenReturn(OptionalInt.of(2));
+    Handler<RoutingContext> egressHandler = rc -> rc.response().end("egress: " + rc.request().path());
+    var egressListener = new EgressListener(vertx, properties, List.of(egressHandler));
+
+    egressListener.start().toCompletionStage().toCompletableFuture().get(5, SECONDS);
+    var response = vertx.createHttpClient()
+      .request(new RequestOptions().setServer(SocketAddress.domainSocketAddress(socketPath))
+        .setHost("localhost").setURI("/foo/entities"))
+      .compose(request -> request.send())
+      .compose(resp -> resp.body().map(Buffer::toString))
+      .toCompletionStage().toCompletableFuture().get(5, SECONDS);
+
+    assertThat(response).isEqualTo("egress: /foo/entities");
+  }
+
+  private static int freePort() throws IOException {
+    try (var socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+}
@@ -24,6 +24,7 @@ import org.folio.sidecar.configuration.properties.ModuleProperties;
 import org.folio.sidecar.integration.am.ApplicationManagerService;
 import org.folio.sidecar.integration.am.model.ModuleBootstrap;
 import org.folio.sidecar.service.ModulePermissionsService;
+import org.folio.sidecar.service.routing.handler.ConnectionPrewarmService;
 import org.folio.sidecar.support.TestConstants;
 import org.folio.support.types.UnitTest;
 import org.junit.jupiter.api.AfterEach;
@@ -49,12 +50,13 @@ class RoutingServiceTest {
   @Mock private ModulePermissionsService modulePermissionsService;
   @Mock private EgressBootstrapService egressBootstrapService;
   @Mock private ModuleProperties moduleProperties;
+  @Mock private ConnectionPrewarmService connectionPrewarmService;
 
   @BeforeEach
   void setUp() {
     routingService = new RoutingService(appManagerService,
       List.of(requestHandler1, requestHandler2), List.of(listener1, listener2),
-      modulePermissionsService, egressBootstrapService, moduleProperties);
+      modulePermissionsService, egressBootstrapService, moduleProperties, connectionPrewarmService);
   }
 
   @AfterEach
@@ -69,7 +71,7 @@ class RoutingServiceTest {
     var handlers = List.<Handler<RoutingContext>>of();
 
     Assertions.assertThatThrownBy(() -> new RoutingService(appManagerService, handlers,
-        listeners, modulePermissionsService, egressBootstrapService, moduleProperties))
+        listeners, modulePermissionsService, egressBootstrapService, moduleProperties, connectionPrewarmService))
       .isInstanceOf(IllegalArgumentException.class)
       .hasMessage("Request handlers are not configured");
   }
@@ -79,6 +81,7 @@ class RoutingServiceTest {
     var bootstrap = TestConstants.MODULE_BOOTSTRAP;
 
     when(appManagerService.getModuleBootstrap()).thenReturn(succeededFuture(bootstrap));
+    when(connectionPrewarmService.prewarmAll(bootstrap.getRequiredModules())).thenReturn(succeededFuture());
     when(router.route("/*")).thenReturn(route);
 
     var listenersOrder = inOrder(listener1, listener2);
@@ -106,6 +109,7 @@ class RoutingServiceTest {
     var bootstrap = TestConstants.MODULE_BOOTSTRAP;
 
     when(appManagerService.getModuleBootstrap()).thenReturn(succeededFuture(bootstrap));
+    when(connectionPrewarmService.prewarmAll(bootstrap.getRequiredModules())).thenReturn(succeededFuture());
     when(router.route("/*")).thenReturn(route);
 
     routingService.init(router);
@@ -125,15 +129,18 @@ class RoutingServiceTest {
     var bootstrap = TestConstants.MODULE_BOOTSTRAP;
 
     when(appManagerService.getModuleBootstrap()).thenReturn(succeededFuture(bootstrap));
+    when(connectionPrewarmService.prewarmAll(bootstrap.getRequiredModules())).thenReturn(succeededFuture());
     when(router.route("/*")).thenReturn(route);
 
     routingService.init(router);
     reset(listener1, listener2, router, route);
 
-    var listenersOrder = inOrder(listener1, listener2);
+    when(connectionPrewarmService.prewarmEgress(bootstrap.getRequiredModules())).thenReturn(succeededFuture());
+    var listenersOrder = inOrder(connectionPrewarmService, listener1, listener2);
 
     routingService.updateModuleRoutes("mod-bar-0.5.1");
 
+    listenersOrder.verify(connectionPrewarmService).prewarmEgress(bootstrap.getRequiredModules());
     listenersOrder.verify(listener1).onRequiredModulesBootstrap(bootstrap.getRequiredModules(), UPDATE);
     listenersOrder.verify(listener2).onRequiredModulesBootstrap(bootstrap.getRequiredModules(), UPDATE);
     verify(modulePermissionsService).putPermissions(anySet());
@@ -150,6 +157,7 @@ class RoutingServiceTest {
     routingService.tenantScoped = true;
     var bootstrap = TestConstants.MODULE_BOOTSTRAP;
     when(appManagerService.getIngressBootstrap()).thenReturn(succeededFuture(bootstrap));
+    when(connectionPrewarmService.prewarmAll(bootstrap.getRequiredModules())).thenReturn(succeededFuture());
     when(router.route("/*")).thenReturn(route);
 
     var listenersOrder = inOrder(listener1, listener2);
@@ -0,0 +1,244 @@
+package org.folio.sidecar.service.routing.balancer;
+
+import static io.vertx.core.Future.failedFuture;
+import static io.vertx.core.Future.succeededFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.sidecar.service.routing.balancer.BalancingStrategy.LEAST_OUTSTANDING;
+import static org.folio.sidecar.service.routing.balancer.BalancingStrategy.POWER_OF_TWO_CHOICES;
+import static org.folio.sidecar.service.routing.balancer.EgressLoadBalancer.ENDPOINTS_METRIC_NAME;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Future;
+import io.vertx.core.net.SocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.folio.sidecar.service.routing.configuration.properties.EgressLoadBalancingProperties;
+import org.folio.sidecar.service.routing.configuration.properties.EgressLoadBalancingProperties.EjectionSettings;
+import org.folio.support.types.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@UnitTest
+class EgressLoadBalancerTest {
+
+  private static final String HOST = "mod-bar";
+  private static final int PORT = 8081;
+  private static final long EJECTION_NANOS = Duration.ofSeconds(30).toNanos();
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final AtomicLong clock = new AtomicLong();
+  private final AtomicInteger resolutions = new AtomicInteger();
+  private final Map<String, Future<List<String>>> addresses = new HashMap<>();
+
+  @Test
+  void choose_positive_disabled() {
+    addresses.put(HOST, succeededFuture(List.of("10.0.0.1", "10.0.0.2")));
+    var balancer = balancer(false, POWER_OF_TWO_CHOICES);
+
+    assertThat(balancer.choose(HOST, PORT)).isNull();
+    assertThat(resolutions).hasValue(0);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"10.0.0.1", "::1"})
+  void choose_positive_ipAddressHost(String host) {
+    var balancer = balancer(true, POWER_OF_TWO_CHOICES);
+
+    assertThat(balancer.choose(host, PORT)).isNull();
+    assertThat(resolutions).hasValue(0);
+  }
+
+  @Test
+  void choose_positive_singleAddress() {
+    addresses.put(HOST, succeededFuture(List.of("10.0.0.1")));
+    var balancer = balancer(true, POWER_OF_TWO_CHOICES);
+
+    assertThat(balancer.choose(HOST, PORT)).isNull();
+    assertThat(balancer.choose(HOST, PORT)).isNull();
+    assertThat(resolutions).hasValue(1);
+  }
+
+  @ParameterizedTest
+  @EnumSource(BalancingStrategy.class)
+  void choose_positive_spreadsOutstandingRequests(BalancingStrategy strategy) {
+    addresses.put(HOST, succeededFuture(List.of("10.0.0.1", "10.0.0.2")));
+    var balancer = balancer(true, strategy);
+
+    var chosen = new ArrayList<Endpoint>();
+    for (int i = 0; i < 6; i++) {
+      chosen.add(balancer.choose(HOST, PORT));
+    }
+
+    assertThat(chosen).extracting(Endpoint::address).containsOnly(address("10.0.0.1"), address("10.0.0.2"));
+    assertThat(chosen).filteredOn(endpoint -> endpoint.address().equals(address("10.0.0.1"))).hasSize(3);
+    assertThat(resolutions).hasValue(1);
+  }
+
+  @Test
+  void choose_positive_leastOutstandingAfterRelease() {
+    addresses.put(HOST, succeededFuture(List.of("10.0.0.1", "10.0.0.2", "10.0.0.3")));
+    var balancer = balancer(true, LEAST_OUTSTANDING);
+
+    var first = balancer.choose(HOST, PORT);
+    var second = balancer.choose(HOST, PORT);
+    var third = balancer.choose(HOST, PORT);
+    balancer.release(second, true);
+
+    assertThat(List.of(first, second, third)).doesNotHaveDuplicates();
+    assertThat(balancer.choose(HOST, PORT)).isSameAs(second);
+  }
+
+  @Test
+  void release_positive_ejectsAndRestoresFailingEndpoint() {
+    addresses.put(HOST, succeededFuture(List.of("10.0.0.1", "10.0.0.2")));
+    var balancer = balancer(true, LEAST_OUTSTANDING);
+
+    var failing = balancer.choose(HOST, PORT);
+    balancer.release(failing, false);
+    balancer.release(balancer.choose(HOST, PORT), false);
+
+    for (int i = 0; i < 4; i++) {
+      assertThat(balancer.choose(HOST, PORT)).isNotSameAs(failing);
+    }
+    assertThat(meterRegistry.get(ENDPOINTS_METRIC_NAME).tag("state", "ejected").gauge().value()).isEqualTo(1);
+    assertThat(meterRegistry.get(ENDPOINTS_METRIC_NAME).tag("state", "available").gauge().value()).isEqualTo(1);
+
+    clock.addAndGet(EJECTION_NANOS);
+    assertThat(balancer.choose(HOST, PORT)).isSameAs(failing);
+    assertThat(meterRegistry.get(ENDPOINTS_METRIC_NAME).tag("state", "ejected").gauge().value()).isZero();
+  }
+
+  @Test
+  void choose_positive_negativeClockNotEjected() {
+    clock.set(-EJECTION_NANOS);
+    addresses.put(HOST, succeededFuture(List.of("10.0.0.1", "10.0.0.2")));
+    var balancer = balancer(true, LEAST_OUTSTANDING);
+
+    var first = balancer.choose(HOST, PORT);
+    var second = balancer.choose(HOST, PORT);
+
+    assertThat(first).isNotSameAs(second);
+    assertThat(meterRegistry.get(ENDPOINTS_METRIC_NAME).tag("state", "ejected").gauge().value()).isZero();
+    assertThat(meterRegistry.get(ENDPOINTS_METRIC_NAME).tag("state", "available").gauge().value()).isEqualTo(2);
+  }
+
+  @Test
+  void release_positive_maxEjectedPercentReached() {
+    addresses.put(HOST, succeededFuture(List.of("10.0.0.1", "10.0.0.2")));
+    var balancer = balancer(true, LEAST_OUTSTANDING);
+
+    var first = balancer.choose(HOST, PORT);
+    var second = balancer.choose(HOST, PORT);
+    balancer.release(first, false);
+    balancer.release(second, false);
+    balancer.release(balancer.choose(HOST, PORT), false);
+    balancer.release(balancer.choose(HOST, PORT), false);
+
+    assertThat(meterRegistry.get(ENDPOINTS_METRIC_NAME).tag("state", "ejected").gauge().value()).isEqualTo(1);
+    assertThat(balancer.choose(HOST, PORT)).isNotNull();
+  }
+
+  @Test
+  void release_positive_successResetsFailures() {
+    addresses.put(HOST, succeededFuture(List.of("10.0.0.1", "10.0.0.2")));
+    var balancer = balancer(true, LEAST_OUTSTANDING);
+
+    var endpoint = balancer.choose(HOST, PORT);
+    balancer.release(endpoint, false);
+    balancer.release(balancer.choose(HOST, PORT), true);
+    balancer.release(balancer.choose(HOST, PORT), false);
+
+    assertThat(meterRegistry.get(ENDPOINTS_METRIC_NAME).tag("state", "ejected").gauge().value()).isZero();
+  }
+
+  @Test
+  void cancel_positive_keepsFailures() {
+    addresses.put(HOST, succeededFuture(List.of("10.0.0.1", "10.0.0.2")));
+    var balancer = balancer(true, LEAST_OUTSTANDING);
+
+    var failing = balancer.choose(HOST, PORT);
+    balancer.choose(HOST, PORT);
+    balancer.release(failing, false);
+    var cancelled = balancer.choose(HOST, PORT);
+    balancer.cancel(cancelled);
+    var failed = balancer.choose(HOST, PORT);
+    balancer.release(failed, false);
+
+    assertThat(List.of(cancelled, failed)).containsOnly(failing);
+    assertThat(meterRegistry.get(ENDPOINTS_METRIC_NAME).tag("state", "ejected").gauge().value()).isEqualTo(1);
+  }
+
+  @Test
+  void refresh_positive_keepsUnchangedEndpoints() {
+    addresses.put(HOST, succeededFuture(List.of("10.0.0.1", "10.0.0.2")));
+    var balancer = balancer(true, LEAST_OUTSTANDING);
+    var endpoint = balancer.choose(HOST, PORT);
+
+    addresses.put(HOST, succeededFuture(List.of("10.0.0.3", endpoint.address().host())));
+    balancer.refresh();
+
+    assertThat(resolutions).hasValue(2);
+    assertThat(balancer.choose(HOST, PORT).address()).isEqualTo(address("10.0.0.3"));
+    assertThat(balancer.choose(HOST, PORT).address()).isEqualTo(address("10.0.0.3"));
+    assertThat(balancer.choose(HOST, PORT)).isSameAs(endpoint);
+  }
+
+  @Test
+  void refresh_positive_resolutionFailedKeepsEndpoints() {
+    addresses.put(HOST, succeededFuture(List.of("10.0.0.1", "10.0.0.2")));
+    var balancer = balancer(true, LEAST_OUTSTANDING);
+    balancer.choose(HOST, PORT);
+
+    addresses.put(HOST, failedFuture("unknown host"));
+    balancer.refresh();
+
+    assertThat(resolutions).hasValue(2);
+    assertThat(balancer.choose(HOST, PORT)).isNotNull();
+  }
+
+  @Test
+  void refresh_positive_forgetsUnusedDestinations() {
+    addresses.put(HOST, succeededFuture(List.of("10.0.0.1", "10.0.0.2")));
+    var balancer = balancer(true, LEAST_OUTSTANDING);
+    balancer.choose(HOST, PORT);
+
+    balancer.refresh();
+    balancer.refresh();
+
+    assertThat(meterRegistry.get(ENDPOINTS_METRIC_NAME).tag("state", "available").gauge().value()).isZero();
+    assertThat(balancer.choose(HOST, PORT)).isNotNull();
+    assertThat(resolutions).hasValue(3);
+  }
+
+  private EgressLoadBalancer balancer(boolean enabled, BalancingStrategy strategy) {
+    var ejection = mock(EjectionSettings.class);
+    when(ejection.consecutiveFailures()).thenReturn(2);
+    when(ejection.duration()).thenReturn(Duration.ofNanos(EJECTION_NANOS));
+    when(ejection.maxPercent()).thenReturn(50);
+
+    var properties = mock(EgressLoadBalancingProperties.class);
+    when(properties.enabled()).thenReturn(enabled);
+    when(properties.strategy()).thenReturn(strategy);
+    when(properties.ejection()).thenReturn(ejection);
+
+    return new EgressLoadBalancer(properties, this::resolve, clock::get, meterRegistry);
+  }
+
+  private Future<List<String>> resolve(String host) {
+    resolutions.incrementAndGet();
+    return addresses.get(host);
+  }
+
+  private static SocketAddress address(String host) {
+    return SocketAddress.inetSocketAddress(PORT, host);
+  }
+}
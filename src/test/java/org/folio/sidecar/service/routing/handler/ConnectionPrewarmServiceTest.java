@@ -0,0 +1,183 @@
+package org.folio.sidecar.service.routing.handler;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.sidecar.support.TestConstants.MODULE_HEALTH_PATH;
+import static org.folio.sidecar.support.TestConstants.MODULE_ID;
+import static org.folio.sidecar.support.TestConstants.MODULE_NAME;
+import static org.folio.sidecar.support.TestConstants.MODULE_VERSION;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpServer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.folio.sidecar.configuration.properties.ModuleProperties;
+import org.folio.sidecar.configuration.properties.WebClientConfig;
+import org.folio.sidecar.integration.am.model.ModuleBootstrapDiscovery;
+import org.folio.sidecar.service.PathProcessor;
+import org.folio.sidecar.service.routing.configuration.properties.ConnectionPrewarmProperties;
+import org.folio.sidecar.service.routing.configuration.properties.UpstreamMetricsProperties;
+import org.folio.support.types.UnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class ConnectionPrewarmServiceTest {
+
+  private final AtomicInteger connections = new AtomicInteger();
+  private final Map<String, AtomicInteger> requestedPaths = new ConcurrentHashMap<>();
+  private final ConnectionPrewarmProperties properties = mock(ConnectionPrewarmProperties.class);
+  private final WebClientConfig webClientConfig = mock(WebClientConfig.class, RETURNS_DEEP_STUBS);
+  private final PathProcessor pathProcessor = mock(PathProcessor.class);
+  private final UpstreamMetricsProperties metricsProperties = mock(UpstreamMetricsProperties.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private Vertx vertx;
+  private HttpServer server;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    vertx = Vertx.vertx();
+    server = startServer(0);
+
+    when(properties.enabled()).thenReturn(true);
+    when(properties.connections()).thenReturn(2);
+    when(properties.path()).thenReturn("/admin/health/live");
+    when(properties.timeout()).thenReturn(Duration.ofSeconds(5));
+    when(webClientConfig.egress().tls().enabled()).thenReturn(false);
+    when(webClientConfig.gateway().tls().enabled()).thenReturn(false);
+    when(pathProcessor.getModulePath(MODULE_HEALTH_PATH)).thenReturn(MODULE_HEALTH_PATH);
+    when(metricsProperties.enabled()).thenReturn(true);
+    when(metricsProperties.percentiles()).thenReturn(List.of());
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    vertx.close().toCompletionStage().toCompletableFuture().get(5, SECONDS);
+  }
+
+  @Test
+  void prewarmAll_positive() throws Exception {
+    var service = prewarmService(location());
+    service.forwardToGateway = true;
+    service.gatewayDestination = location();
+    var requiredModules = List.of(module("mod-bar-0.5.1", location()), module("mod-baz-0.5.1", location()));
+
+    await(service.prewarmAll(requiredModules));
+
+    // module, gateway and egress clients have separate pools, egress location is shared by required modules
+    assertThat(connections).hasValue(6);
+    assertThat(requestedPaths.get(MODULE_HEALTH_PATH)).hasValue(2);
+    assertThat(requestedPaths.get("/admin/health/live")).hasValue(4);
+    assertThat(service.isInitialized()).isTrue();
+    assertThat(meterRegistry.find("sidecar.upstream.connections").tag("state", "idle").gauges())
+      .hasSize(3)
+      .allSatisfy(gauge -> assertThat(gauge.value()).isEqualTo(2));
+    assertThat(meterRegistry.find("sidecar.upstream.connect").timers())
+      .hasSize(3)
+      .allSatisfy(timer -> assertThat(timer.count()).isEqualTo(2));
+    assertThat(meterRegistry.find("sidecar.upstream.ttfb").timers())
+      .allSatisfy(timer -> assertThat(timer.count()).isZero());
+    assertThat(meterRegistry.find("sidecar.upstream.latency").timers())
+      .allSatisfy(timer -> assertThat(timer.count()).isZero());
+  }
+
+  @Test
+  void prewarmEgress_positive_newLocationsOnly() throws Exception {
+    var service = prewarmService(location());
+    var module = module("mod-bar-0.5.1", location());
+
+    await(service.prewarmEgress(List.of(module)));
+    await(service.prewarmEgress(List.of(module, module("mod-bar-0.6.0", "http://127.0.0.1:" + server.actualPort()))));
+
+    assertThat(requestedPaths.get("/admin/health/live")).hasValue(4);
+    assertThat(service.isInitialized()).isFalse();
+  }
+
+  @Test
+  void prewarmEgress_positive_failedLocationPrewarmedAgain() throws Exception {
+    var port = server.actualPort();
+    server.close().toCompletionStage().toCompletableFuture().get(5, SECONDS);
+    var service = prewarmService("http://127.0.0.1:" + port);
+    var module = module("mod-bar-0.5.1", "http://127.0.0.1:" + port);
+
+    await(service.prewarmEgress(List.of(module)));
+    server = startServer(port);
+    await(service.prewarmEgress(List.of(module)));
+
+    assertThat(requestedPaths.get("/admin/health/live")).hasValue(2);
+  }
+
+  @Test
+  void prewarmAll_positive_unavailableDestination() throws Exception {
+    var service = prewarmService("http://localhost:1");
+
+    await(service.prewarmAll(List.of(module("mod-bar-0.5.1", location()))));
+
+    assertThat(requestedPaths.get("/admin/health/live")).hasValue(2);
+    assertThat(service.isInitialized()).isTrue();
+  }
+
+  @Test
+  void prewarmAll_positive_disabled() throws Exception {
+    when(properties.enabled()).thenReturn(false);
+    var httpClient = mock(HttpClient.class);
+    var service = new ConnectionPrewarmService(httpClient, httpClient, httpClient, webClientConfig, properties,
+      moduleProperties(location()), pathProcessor, upstreamMetrics());
+
+    await(service.prewarmAll(List.of(module("mod-bar-0.5.1", location()))));
+
+    verifyNoInteractions(httpClient);
+    assertThat(service.isInitialized()).isTrue();
+  }
+
+  private HttpServer startServer(int port) throws Exception {
+    return vertx.createHttpServer()
+      .connectionHandler(connection -> connections.incrementAndGet())
+      .requestHandler(request -> {
+        requestedPaths.computeIfAbsent(request.path(), path -> new AtomicInteger()).incrementAndGet();
+        request.response().setStatusCode(404).end();
+      })
+      .listen(port, "127.0.0.1")
+      .toCompletionStage().toCompletableFuture().get(5, SECONDS);
+  }
+
+  private ConnectionPrewarmService prewarmService(String moduleUrl) {
+    return new ConnectionPrewarmService(vertx.createHttpClient(), vertx.createHttpClient(), vertx.createHttpClient(),
+      webClientConfig, properties, moduleProperties(moduleUrl), pathProcessor, upstreamMetrics());
+  }
+
+  private UpstreamMetrics upstreamMetrics() {
+    return new UpstreamMetrics(metricsProperties, meterRegistry);
+  }
+
+  private String location() {
+    return "http://localhost:" + server.actualPort();
+  }
+
+  private static ModuleProperties moduleProperties(String url) {
+    return new ModuleProperties(MODULE_ID, MODULE_NAME, MODULE_VERSION, url, MODULE_HEALTH_PATH);
+  }
+
+  private static ModuleBootstrapDiscovery module(String moduleId, String location) {
+    var module = new ModuleBootstrapDiscovery();
+    module.setModuleId(moduleId);
+    module.setLocation(location);
+    return module;
+  }
+
+  private static void await(Future<Void> future) throws Exception {
+    future.toCompletionStage().toCompletableFuture().get(10, SECONDS);
+  }
+}
@@ -0,0 +1,155 @@
+package org.folio.sidecar.service.routing.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.sidecar.service.routing.handler.EgressHedging.REQUESTS_METRIC_NAME;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.RoutingContext;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.folio.sidecar.model.ScRoutingEntry;
+import org.folio.sidecar.service.routing.configuration.properties.EgressHedgingProperties;
+import org.folio.sidecar.utils.RoutingUtils;
+import org.folio.support.types.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class EgressHedgingTest {
+
+  private static final UpstreamLocation UPSTREAM = UpstreamLocation.parse("http://mod-bar:8081", false);
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Mock private EgressHedgingProperties properties;
+  @Mock private RoutingContext rc;
+  @Mock private HttpServerRequest request;
+
+  @BeforeEach
+  void setUp() {
+    when(properties.modules()).thenReturn(Optional.empty());
+    when(properties.minDelay()).thenReturn(Duration.ofMillis(10));
+    when(properties.maxDelay()).thenReturn(Duration.ofMillis(500));
+    when(properties.budget()).thenReturn(0.1);
+    lenient().when(properties.percentile()).thenReturn(0.95);
+    lenient().when(properties.minSamples()).thenReturn(20);
+    lenient().when(rc.request()).thenReturn(request);
+  }
+
+  @Test
+  void hedgeDelay_positive_maxDelayWithoutSamples() {
+    when(properties.enabled()).thenReturn(true);
+    when(request.method()).thenReturn(HttpMethod.GET);
+    var hedging = new EgressHedging(properties, meterRegistry);
+
+    assertThat(hedging.hedgeDelay(rc, UPSTREAM)).isEqualTo(500);
+  }
+
+  @Test
+  void hedgeDelay_positive_latencyPercentile() {
+    when(properties.enabled()).thenReturn(true);
+    when(request.method()).thenReturn(HttpMethod.HEAD);
+    var hedging = new EgressHedging(properties, meterRegistry);
+
+    for (int i = 0; i < 20; i++) {
+      hedging.recordResponse(UPSTREAM, TimeUnit.MILLISECONDS.toNanos(50), false);
+    }
+
+    assertThat(hedging.hedgeDelay(rc, UPSTREAM)).isBetween(45L, 55L);
+  }
+
+  @Test
+  void hedgeDelay_positive_lostAttemptsCounted() {
+    when(properties.enabled()).thenReturn(true);
+    when(request.method()).thenReturn(HttpMethod.GET);
+    var hedging = new EgressHedging(properties, meterRegistry);
+
+    for (int i = 0; i < 10; i++) {
+      hedging.recordResponse(UPSTREAM, TimeUnit.MILLISECONDS.toNanos(20), true);
+      hedging.recordLost(UPSTREAM, TimeUnit.MILLISECONDS.toNanos(300));
+    }
+
+    assertThat(hedging.hedgeDelay(rc, UPSTREAM)).isBetween(280L, 320L);
+    assertThat(meterRegistry.get(REQUESTS_METRIC_NAME).tag("result", "won").counter().count()).isEqualTo(10);
+  }
+
+  @Test
+  void hedgeDelay_negative_disabled() {
+    var hedging = new EgressHedging(properties, meterRegistry);
+
+    assertThat(hedging.hedgeDelay(rc, UPSTREAM)).isEqualTo(-1);
+  }
+
+  @Test
+  void hedgeDelay_negative_notIdempotentMethod() {
+    when(properties.enabled()).thenReturn(true);
+    when(request.method()).thenReturn(HttpMethod.POST);
+    var hedging = new EgressHedging(properties, meterRegistry);
+
+    assertThat(hedging.hedgeDelay(rc, UPSTREAM)).isEqualTo(-1);
+  }
+
+  @Test
+  void hedgeDelay_positive_configuredModules() {
+    when(properties.enabled()).thenReturn(true);
+    when(properties.modules()).thenReturn(Optional.of(Set.of("mod-bar")));
+    when(request.method()).thenReturn(HttpMethod.GET);
+    var hedging = new EgressHedging(properties, meterRegistry);
+
+    when(rc.get(RoutingUtils.SC_ROUTING_ENTRY_KEY)).thenReturn(routingEntry("mod-bar-1.0.0"));
+    assertThat(hedging.hedgeDelay(rc, UPSTREAM)).isEqualTo(500);
+
+    when(rc.get(RoutingUtils.SC_ROUTING_ENTRY_KEY)).thenReturn(routingEntry("mod-bar-baz-1.0.0"));
+    assertThat(hedging.hedgeDelay(rc, UPSTREAM)).isEqualTo(-1);
+  }
+
+  @Test
+  void tryHedge_positive_budget() {
+    when(properties.enabled()).thenReturn(true);
+    when(request.method()).thenReturn(HttpMethod.GET);
+    var hedging = new EgressHedging(properties, meterRegistry);
+
+    assertThat(hedging.tryHedge()).isFalse();
+    for (int i = 0; i < 10; i++) {
+      hedging.hedgeDelay(rc, UPSTREAM);
+    }
+
+    assertThat(hedging.tryHedge()).isTrue();
+    assertThat(hedging.tryHedge()).isFalse();
+    assertThat(meterRegistry.get(REQUESTS_METRIC_NAME).tag("result", "sent").counter().count()).isEqualTo(1);
+    assertThat(meterRegistry.get(REQUESTS_METRIC_NAME).tag("result", "budget-exhausted").counter().count())
+      .isEqualTo(2);
+  }
+
+  @Test
+  void tryHedge_positive_budgetBurstLimited() {
+    when(properties.enabled()).thenReturn(true);
+    when(properties.budget()).thenReturn(1.0);
+    when(request.method()).thenReturn(HttpMethod.GET);
+    var hedging = new EgressHedging(properties, meterRegistry);
+
+    for (int i = 0; i < 100; i++) {
+      hedging.hedgeDelay(rc, UPSTREAM);
+    }
+
+    var hedges = 0;
+    while (hedging.tryHedge()) {
+      hedges++;
+    }
+    assertThat(hedges).isEqualTo(EgressHedging.MAX_BURST);
+  }
+
+  private static ScRoutingEntry routingEntry(String moduleId) {
+    return ScRoutingEntry.of(moduleId, "http://mod-bar:8081", "bar", null);
+  }
+}
@@ -11,8 +11,10 @@ import static org.folio.sidecar.support.TestConstants.SYS_USER_TOKEN;
 import static org.folio.sidecar.support.TestConstants.TENANT_NAME;
 import static org.folio.sidecar.support.TestConstants.USER_TOKEN;
 import static org.folio.sidecar.support.TestValues.scGatewayEntry;
+import static org.folio.sidecar.utils.RoutingUtils.EGRESS_REQUEST_KEY;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -26,7 +28,9 @@ import jakarta.enterprise.inject.Instance;
 import jakarta.ws.rs.BadRequestException;
 import java.util.Optional;
 import java.util.function.Consumer;
+import jakarta.ws.rs.NotFoundException;
 import org.folio.sidecar.configuration.properties.ModuleProperties;
+import org.folio.sidecar.configuration.properties.SidecarProperties;
 import org.folio.sidecar.exception.EgressUnauthorizedException;
 import org.folio.sidecar.integration.am.model.ModuleBootstrapEndpoint;
 import org.folio.sidecar.integration.okapi.OkapiHeaders;
@@ -50,9 +54,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 class EgressRequestHandlerTest {
 
+  private final String egressModuleId = "mod-bar-1.0.0";
   private final String egressModuleUrl = "http://mod-bar:8081";
   private final String fooEntitiesPath = "/foo/entities";
-  private final String absoluteUrl = egressModuleUrl + fooEntitiesPath;
 
   @Mock private RoutingContext rc;
   @Mock private HttpServerRequest request;
@@ -64,13 +68,15 @@ class EgressRequestHandlerTest {
   @Mock private SystemUserTokenProvider systemUserTokenProvider;
   @Mock private RequestFilterService requestFilterService;
   @Mock private ModuleProperties moduleProperties;
+  @Mock private SidecarProperties sidecarProperties;
+  @Mock private ChainedHandler ingressHandler;
 
   private EgressRequestHandler egressRequestHandler;
 
   @AfterEach
   void tearDown() {
     verifyNoMoreInteractions(requestForwardingService, egressRequestFilters, requestHeaders, systemUserTokenProvider,
-      pathProcessor);
+      pathProcessor, ingressHandler);
   }
 
   private void prepareHttpRequest(Consumer<HttpServerRequest> customizer) {
@@ -82,8 +88,8 @@ class EgressRequestHandlerTest {
     customizer.accept(request);
   }
 
-  private static ScRoutingEntry routingEntry() {
-    return ScRoutingEntry.of(MODULE_ID, "http://mod-bar:8081", "foo", new ModuleBootstrapEndpoint());
+  private ScRoutingEntry routingEntry() {
+    return ScRoutingEntry.of(egressModuleId, egressModuleUrl, "foo", new ModuleBootstrapEndpoint());
   }
 
   @Nested
@@ -92,7 +98,8 @@ class EgressRequestHandlerTest {
     @BeforeEach
     void setUp() {
       egressRequestHandler = new EgressRequestHandler(pathProcessor, requestFilterService, requestForwardingService,
-        serviceTokenProvider, systemUserTokenProvider, moduleProperties, false);
+        serviceTokenProvider, systemUserTokenProvider, moduleProperties, sidecarProperties, ingressHandler,
+        false, true);
     }
 
     @Test
@@ -107,7 +114,7 @@ class EgressRequestHandlerTest {
       when(systemUserTokenProvider.getToken(rc)).thenReturn(succeededFuture(Optional.of(SYS_USER_TOKEN)));
 
       when(pathProcessor.cleanIngressRequestPath(fooEntitiesPath)).thenReturn(fooEntitiesPath);
-      when(requestForwardingService.forwardEgress(rc, absoluteUrl)).thenReturn(succeededFuture());
+      when(requestForwardingService.forwardEgress(rc, egressModuleUrl, fooEntitiesPath)).thenReturn(succeededFuture());
 
       var rf = egressRequestHandler.handle(routingEntry(), rc);
 
@@ -129,7 +136,7 @@ class EgressRequestHandlerTest {
       when(requestHeaders.contains(OkapiHeaders.TOKEN)).thenReturn(true);
 
       when(pathProcessor.cleanIngressRequestPath(fooEntitiesPath)).thenReturn(fooEntitiesPath);
-      when(requestForwardingService.forwardEgress(rc, absoluteUrl)).thenReturn(succeededFuture());
+      when(requestForwardingService.forwardEgress(rc, egressModuleUrl, fooEntitiesPath)).thenReturn(succeededFuture());
 
       egressRequestHandler.handle(routingEntry(), rc);
 
@@ -191,7 +198,7 @@ class EgressRequestHandlerTest {
       when(systemUserTokenProvider.getToken(rc)).thenReturn(succeededFuture(Optional.of(SYS_USER_TOKEN)));
 
       when(pathProcessor.cleanIngressRequestPath(fooEntitiesPath)).thenReturn(fooEntitiesPath);
-      when(requestForwardingService.forwardToGateway(rc, GATEWAY_URL + fooEntitiesPath)).thenReturn(succeededFuture());
+      when(requestForwardingService.forwardToGateway(rc, GATEWAY_URL, fooEntitiesPath)).thenReturn(succeededFuture());
 
       var rf = egressRequestHandler.handle(scGatewayEntry(GATEWAY_URL), rc);
 
@@ -252,7 +259,8 @@ class EgressRequestHandlerTest {
       when(systemUserTokenProvider.getToken(rc)).thenReturn(succeededFuture(Optional.of(SYS_USER_TOKEN)));
       when(pathProcessor.cleanIngressRequestPath(fooEntitiesPath)).thenReturn(fooEntitiesPath);
       var egressUnauth = new EgressUnauthorizedException("Unauthorized egress");
-      when(requestForwardingService.forwardEgress(rc, absoluteUrl)).thenReturn(failedFuture(egressUnauth));
+      when(requestForwardingService.forwardEgress(rc, egressModuleUrl, fooEntitiesPath))
+        .thenReturn(failedFuture(egressUnauth));
 
       var rf = egressRequestHandler.handle(routingEntry(), rc);
 
@@ -272,7 +280,7 @@ class EgressRequestHandlerTest {
       when(requestHeaders.contains(OkapiHeaders.TOKEN)).thenReturn(false);
       when(systemUserTokenProvider.getToken(rc)).thenReturn(succeededFuture(Optional.of(SYS_USER_TOKEN)));
       when(pathProcessor.cleanIngressRequestPath(fooEntitiesPath)).thenReturn(fooEntitiesPath);
-      when(requestForwardingService.forwardEgress(rc, absoluteUrl))
+      when(requestForwardingService.forwardEgress(rc, egressModuleUrl, fooEntitiesPath))
         .thenReturn(failedFuture(new RuntimeException("Upstream error")));
 
       var rf = egressRequestHandler.handle(routingEntry(), rc);
@@ -291,7 +299,8 @@ class EgressRequestHandlerTest {
     @BeforeEach
     void setUp() {
       egressRequestHandler = new EgressRequestHandler(pathProcessor, requestFilterService, requestForwardingService,
-        serviceTokenProvider, systemUserTokenProvider, moduleProperties, true);
+        serviceTokenProvider, systemUserTokenProvider, moduleProperties, sidecarProperties, ingressHandler,
+        true, true);
     }
 
     @Test
@@ -307,7 +316,7 @@ class EgressRequestHandlerTest {
       when(moduleProperties.getId()).thenReturn(MODULE_ID);
 
       when(pathProcessor.cleanIngressRequestPath(fooEntitiesPath)).thenReturn(fooEntitiesPath);
-      when(requestForwardingService.forwardEgress(rc, absoluteUrl)).thenReturn(succeededFuture());
+      when(requestForwardingService.forwardEgress(rc, egressModuleUrl, fooEntitiesPath)).thenReturn(succeededFuture());
 
       var rf = egressRequestHandler.handle(routingEntry(), rc);
 
@@ -329,7 +338,7 @@ class EgressRequestHandlerTest {
       when(systemUserTokenProvider.getToken(rc)).thenReturn(failedFuture("System user token is not found"));
 
       when(pathProcessor.cleanIngressRequestPath(fooEntitiesPath)).thenReturn(fooEntitiesPath);
-      when(requestForwardingService.forwardEgress(rc, absoluteUrl)).thenReturn(succeededFuture());
+      when(requestForwardingService.forwardEgress(rc, egressModuleUrl, fooEntitiesPath)).thenReturn(succeededFuture());
 
       var rf = egressRequestHandler.handle(routingEntry(), rc);
 
@@ -339,4 +348,111 @@ class EgressRequestHandlerTest {
       verify(requestHeaders, never()).set(eq(OkapiHeaders.TOKEN), anyString());
     }
   }
+
+  @Nested
+  class WhenTargetIsOwnModule {
+
+    private static final String SIDECAR_URL = "http://sc-foo:8081";
+
+    @BeforeEach
+    void setUp() {
+      egressRequestHandler = new EgressRequestHandler(pathProcessor, requestFilterService, requestForwardingService,
+        serviceTokenProvider, systemUserTokenProvider, moduleProperties, sidecarProperties, ingressHandler,
+        false, true);
+    }
+
+    @Test
+    void handle_positive_dispatchedToIngressPipeline() {
+      prepareLoopbackRequest();
+      when(ingressHandler.handle(rc)).thenReturn(succeededFuture(true));
+
+      var rf = egressRequestHandler.handle(ownModuleEntry(), rc);
+
+      assertThat(rf.succeeded()).isTrue();
+      verify(requestHeaders).set(OkapiHeaders.SYSTEM_TOKEN, SYS_TOKEN);
+      verify(requestHeaders).set(OkapiHeaders.TOKEN, SYS_USER_TOKEN);
+    }
+
+    @Test
+    void handle_positive_selfLocationDispatchedToIngressPipeline() {
+      prepareLoopbackRequest();
+      when(sidecarProperties.getUrl()).thenReturn(SIDECAR_URL);
+      when(ingressHandler.handle(rc)).thenReturn(succeededFuture(true));
+
+      var entry = ScRoutingEntry.of(egressModuleId, SIDECAR_URL + "/", "foo", new ModuleBootstrapEndpoint());
+      var rf = egressRequestHandler.handle(entry, rc);
+
+      assertThat(rf.succeeded()).isTrue();
+      verify(requestHeaders).set(OkapiHeaders.SYSTEM_TOKEN, SYS_TOKEN);
+      verify(requestHeaders).set(OkapiHeaders.TOKEN, SYS_USER_TOKEN);
+    }
+
+    @Test
+    void handle_positive_egressMarkClearedBeforeIngressPipeline() {
+      prepareLoopbackRequest();
+      when(ingressHandler.handle(rc)).thenReturn(succeededFuture(true));
+
+      var rf = egressRequestHandler.handle(ownModuleEntry(), rc);
+
+      assertThat(rf.succeeded()).isTrue();
+      var inOrder = inOrder(rc, ingressHandler);
+      inOrder.verify(rc).put(EGRESS_REQUEST_KEY, true);
+      inOrder.verify(rc).remove(EGRESS_REQUEST_KEY);
+      inOrder.verify(ingressHandler).handle(rc);
+      verify(requestHeaders).set(OkapiHeaders.SYSTEM_TOKEN, SYS_TOKEN);
+      verify(requestHeaders).set(OkapiHeaders.TOKEN, SYS_USER_TOKEN);
+    }
+
+    @Test
+    void handle_negative_routeNotFoundInIngressPipeline() {
+      prepareLoopbackRequest();
+      when(request.path()).thenReturn(fooEntitiesPath);
+      when(ingressHandler.handle(rc)).thenReturn(succeededFuture(false));
+
+      var rf = egressRequestHandler.handle(ownModuleEntry(), rc);
+
+      assertThat(rf.failed()).isTrue();
+      assertThat(rf.cause()).isInstanceOf(NotFoundException.class)
+        .hasMessage("Route is not found [method: GET, path: %s]", fooEntitiesPath);
+      verify(requestHeaders).set(OkapiHeaders.SYSTEM_TOKEN, SYS_TOKEN);
+      verify(requestHeaders).set(OkapiHeaders.TOKEN, SYS_USER_TOKEN);
+    }
+
+    @Test
+    void handle_positive_loopbackDisabled() {
+      egressRequestHandler = new EgressRequestHandler(pathProcessor, requestFilterService, requestForwardingService,
+        serviceTokenProvider, systemUserTokenProvider, moduleProperties, sidecarProperties, ingressHandler,
+        false, false);
+
+      prepareHttpRequest(req -> when(req.path()).thenReturn(fooEntitiesPath));
+      when(requestFilterService.filterEgressRequest(rc)).thenReturn(succeededFuture(rc));
+      when(serviceTokenProvider.getToken(rc)).thenReturn(succeededFuture(SYS_TOKEN));
+      when(request.headers()).thenReturn(requestHeaders);
+      when(requestHeaders.contains(OkapiHeaders.TOKEN)).thenReturn(false);
+      when(systemUserTokenProvider.getToken(rc)).thenReturn(succeededFuture(Optional.of(SYS_USER_TOKEN)));
+      when(pathProcessor.cleanIngressRequestPath(fooEntitiesPath)).thenReturn(fooEntitiesPath);
+      when(requestForwardingService.forwardEgress(rc, SIDECAR_URL, fooEntitiesPath)).thenReturn(succeededFuture());
+
+      var entry = ScRoutingEntry.of(MODULE_ID, SIDECAR_URL, "foo", new ModuleBootstrapEndpoint());
+      var rf = egressRequestHandler.handle(entry, rc);
+
+      assertThat(rf.succeeded()).isTrue();
+      verify(requestHeaders).set(OkapiHeaders.SYSTEM_TOKEN, SYS_TOKEN);
+      verify(requestHeaders).set(OkapiHeaders.TOKEN, SYS_USER_TOKEN);
+    }
+
+    private void prepareLoopbackRequest() {
+      prepareHttpRequest(req -> {});
+      when(moduleProperties.getId()).thenReturn(MODULE_ID);
+      when(requestFilterService.filterEgressRequest(rc)).thenReturn(succeededFuture(rc));
+      when(serviceTokenProvider.getToken(rc)).thenReturn(succeededFuture(SYS_TOKEN));
+      when(request.headers()).thenReturn(requestHeaders);
+      when(requestHeaders.contains(OkapiHeaders.TOKEN)).thenReturn(false);
+      when(systemUserTokenProvider.getToken(rc)).thenReturn(succeededFuture(Optional.of(SYS_USER_TOKEN)));
+    }
+
+    private ScRoutingEntry ownModuleEntry() {
+      return ScRoutingEntry.of(MODULE_ID, SIDECAR_URL, "foo", new ModuleBootstrapEndpoint());
+    }
+  }
 }
@@ -66,7 +66,7 @@ class IngressRequestHandlerTest {
 
     when(pathProcessor.getModulePath(routingPath)).thenReturn(routingPath);
     when(requestFilterService.filterIngressRequest(routingContext)).thenReturn(succeededFuture(routingContext));
-    when(requestForwardingService.forwardIngress(routingContext, TestConstants.MODULE_URL + routingPath))
+    when(requestForwardingService.forwardIngress(routingContext, TestConstants.MODULE_URL, routingPath))
       .thenReturn(succeededFuture());
 
     var requestRoutingEntry = ScRoutingEntry.of(TestConstants.MODULE_ID, SIDECAR_URL, "foo", moduleBootstrapEndpoint);
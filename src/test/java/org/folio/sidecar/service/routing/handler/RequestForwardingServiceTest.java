@@ -3,39 +3,61 @@ package org.folio.sidecar.service.routing.handler;
 import static io.netty.handler.codec.http.HttpResponseStatus.UNAUTHORIZED;
 import static io.vertx.core.Future.failedFuture;
 import static io.vertx.core.Future.succeededFuture;
+import static io.vertx.core.http.HttpHeaders.CONNECTION;
+import static io.vertx.core.http.HttpHeaders.TRANSFER_ENCODING;
 import static io.vertx.core.http.HttpMethod.POST;
 import static jakarta.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static jakarta.ws.rs.core.HttpHeaders.USER_AGENT;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 import static org.apache.commons.lang3.BooleanUtils.isTrue;
 import static org.apache.http.HttpStatus.SC_OK;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.folio.sidecar.utils.RoutingUtils.FORWARDING_STAGE;
 import static org.folio.sidecar.utils.RoutingUtils.REQUEST_STAGE_KEY;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import io.netty.handler.codec.http.QueryStringEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.http.RequestOptions;
 import io.vertx.core.http.impl.headers.HeadersMultiMap;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.client.HttpRequest;
 import io.vertx.ext.web.client.HttpResponse;
 import jakarta.ws.rs.InternalServerErrorException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import org.folio.sidecar.configuration.properties.HttpProperties;
 import org.folio.sidecar.configuration.properties.WebClientConfig;
@@ -43,9 +65,21 @@ import org.folio.sidecar.exception.EgressUnauthorizedException;
 import org.folio.sidecar.integration.okapi.OkapiHeaders;
 import org.folio.sidecar.service.SidecarSignatureService;
 import org.folio.sidecar.service.TransactionLogHandler;
+import org.folio.sidecar.service.routing.DnsResolutionService;
+import org.folio.sidecar.service.routing.balancer.BalancingStrategy;
+import org.folio.sidecar.service.routing.balancer.EgressLoadBalancer;
+import org.folio.sidecar.service.routing.balancer.Endpoint;
+import org.folio.sidecar.service.routing.configuration.properties.EgressHedgingProperties;
+import org.folio.sidecar.service.routing.configuration.properties.EgressLoadBalancingProperties;
+import org.folio.sidecar.service.routing.configuration.properties.UpstreamMetricsProperties;
+import org.folio.sidecar.service.routing.handler.StreamBackpressure.Client;
+import org.folio.sidecar.service.routing.handler.StreamBackpressure.Direction;
 import org.folio.sidecar.support.TestConstants;
 import org.folio.sidecar.utils.RoutingUtils;
 import org.folio.support.types.UnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -64,7 +98,8 @@ class RequestForwardingServiceTest {
 
   public static final long TIMEOUT = 5000L;
   private static final String PATH = "/foo/entities";
-  private final String absoluteUrl = TestConstants.MODULE_URL + PATH;
+  private static final String QUERY = "query=name%3D%3Dtest&offset=10&size=50";
+  private static final String REQUEST_URI = PATH + "?" + QUERY;
 
   @InjectMocks private RequestForwardingService service;
   @Mock private HttpClient httpClient;
@@ -73,16 +108,20 @@ class RequestForwardingServiceTest {
   @Mock private HttpClientRequest httpClientRequest;
   @Mock private HttpResponse<Buffer> httpResponse;
   @Mock private HttpClientResponse httpClientResponse;
-  @Mock private MultiMap headers;
 
   @Mock private MultiMap headersResponse;
+  private final MultiMap upstreamRequestHeaders = new HeadersMultiMap();
   @Mock private SidecarSignatureService sidecarSignatureService;
   @Mock private HttpProperties httpProperties;
   @Mock private WebClientConfig webClientConfig;
   @Mock private TransactionLogHandler transactionLogHandler;
+  @Mock private EgressLoadBalancer egressLoadBalancer;
+  @Mock private StreamBackpressure streamBackpressure;
+  @Mock private UpstreamMetrics upstreamMetrics;
+  @Mock private UpstreamMetrics.Exchange exchange;
+  @Mock private EgressHedging egressHedging;
   @Mock
   private Buffer buffer;
-  @Captor private ArgumentCaptor<MultiMap> requestHeadersMapCaptor;
   @Captor private ArgumentCaptor<MultiMap> responseHeadersMapCaptor;
   @Captor private ArgumentCaptor<Handler<Void>> requestDrainHandlerCaptor;
   @Captor private ArgumentCaptor<Handler<Void>> responseDrainHandlerCaptor;
@@ -90,20 +129,23 @@ class RequestForwardingServiceTest {
   @Captor private ArgumentCaptor<Handler<Buffer>> responseHandlerCaptor;
   @Captor private ArgumentCaptor<String> queryParamCaptor;
   @Captor private ArgumentCaptor<String> headersCaptor;
-  @Captor private ArgumentCaptor<String> requestIdCaptor;
   @Captor private ArgumentCaptor<Handler<Void>> requestEndHandlerCaptor;
   @Captor private ArgumentCaptor<Handler<Void>> responseEndHandlerCaptor;
 
+  @BeforeEach
+  void setUp() {
+    lenient().when(upstreamMetrics.begin(any(), any())).thenReturn(exchange);
+    lenient().when(egressHedging.hedgeDelay(any(), any())).thenReturn(-1L);
+  }
+
   @Test
   void forward_positive() {
     var routingContext = routingContext(RequestForwardingServiceTest::withHttpResponse);
-    var encoder = new QueryStringEncoder(PATH);
-    routingContext.request().params().forEach(encoder::addParam);
 
     when(httpClient.request(argThat(options ->
       "sc-foo".equals(options.getHost())
         && 8081 == options.getPort()
-        && encoder.toString().equals(options.getURI())
+        && REQUEST_URI.equals(options.getURI())
         && POST == options.getMethod())))
       .thenReturn(Future.succeededFuture(httpClientRequest));
     prepareHttpRequestMocks(routingContext, httpClientRequest);
@@ -113,14 +155,14 @@ class RequestForwardingServiceTest {
     when(response.headers()).thenReturn(headersResponse);
     when(headersResponse.addAll(responseHeadersMapCaptor.capture())).thenReturn(headersResponse);
 
-    service.forwardIngress(routingContext, absoluteUrl);
+    service.forwardIngress(routingContext, TestConstants.MODULE_URL, PATH);
 
-    var capturedRequestHeaders = requestHeadersMapCaptor.getValue();
-    assertThat(capturedRequestHeaders).hasSize(3);
-    assertThat(capturedRequestHeaders.get(CONTENT_TYPE)).isEqualTo(APPLICATION_JSON);
-    assertThat(capturedRequestHeaders.get(OkapiHeaders.TENANT)).isEqualTo(TestConstants.TENANT_ID);
-    assertThat(capturedRequestHeaders.get(OkapiHeaders.TOKEN)).isEqualTo(TestConstants.AUTH_TOKEN);
-    assertThat(capturedRequestHeaders.contains(USER_AGENT)).isFalse();
+    assertThat(upstreamRequestHeaders).hasSize(4);
+    assertThat(upstreamRequestHeaders.get(CONTENT_TYPE)).isEqualTo(APPLICATION_JSON);
+    assertThat(upstreamRequestHeaders.get(OkapiHeaders.TENANT)).isEqualTo(TestConstants.TENANT_ID);
+    assertThat(upstreamRequestHeaders.get(OkapiHeaders.TOKEN)).isEqualTo(TestConstants.AUTH_TOKEN);
+    assertThat(upstreamRequestHeaders.contains(USER_AGENT)).isFalse();
+    assertThat(upstreamRequestHeaders.contains("Priority")).isFalse();
 
     var responseHeaders = responseHeadersMapCaptor.getValue();
     assertThat(responseHeaders).hasSize(2);
@@ -128,7 +170,7 @@ class RequestForwardingServiceTest {
     assertThat(responseHeaders.get(CONTENT_TYPE)).isEqualTo(APPLICATION_JSON);
     assertThat(responseHeaders.get(TestConstants.SIDECAR_SIGNATURE_HEADER)).isNull();
 
-    assertThat(requestIdCaptor.getValue()).isNotEmpty().matches("\\d{6}/foo");
+    assertThat(upstreamRequestHeaders.get(OkapiHeaders.REQUEST_ID)).isNotEmpty().matches("\\d{6}/foo");
 
     verify(routingContext).put(REQUEST_STAGE_KEY, FORWARDING_STAGE);
     verify(sidecarSignatureService).removeSignature(any(HttpServerResponse.class));
@@ -168,6 +210,12 @@ class RequestForwardingServiceTest {
     responseEndHandlerCaptor.getValue().handle(null);
     // Verify that end() was called on httpClientRequest
     verify(routingContext.response()).end();
+
+    var inOrder = inOrder(upstreamMetrics, exchange);
+    inOrder.verify(upstreamMetrics).begin(Client.INGRESS, UpstreamLocation.parse(TestConstants.MODULE_URL, false));
+    inOrder.verify(exchange).acquired(httpClientRequest.connection());
+    inOrder.verify(exchange).responded();
+    inOrder.verify(exchange).end(true);
   }
 
   @CsvSource({
@@ -180,13 +228,11 @@ class RequestForwardingServiceTest {
   @MockitoSettings(strictness = Strictness.LENIENT)
   void forward_positive_urlHasNoPort(String baseUrl, boolean sslEnabled, int port) {
     var routingContext = routingContext(RequestForwardingServiceTest::withHttpResponse);
-    QueryStringEncoder encoder = new QueryStringEncoder(PATH);
-    routingContext.request().params().forEach(encoder::addParam);
 
     when(httpClient.request(argThat(options ->
       "sc-foo".equals(options.getHost())
       && port == options.getPort()
-      && encoder.toString().equals(options.getURI())
+      && REQUEST_URI.equals(options.getURI())
       && POST == options.getMethod()
       && sslEnabled == isTrue(options.isSsl())
     ))).thenReturn(succeededFuture(httpClientRequest));
@@ -198,11 +244,11 @@ class RequestForwardingServiceTest {
     when(response.headers()).thenReturn(headersResponse);
     when(headersResponse.addAll(responseHeadersMapCaptor.capture())).thenReturn(headersResponse);
 
-    service.forwardIngress(routingContext, baseUrl + PATH);
+    service.forwardIngress(routingContext, baseUrl, PATH);
     verify(httpClient).request(argThat(options ->
       "sc-foo".equals(options.getHost())
         && port == options.getPort()
-        && encoder.toString().equals(options.getURI())
+        && REQUEST_URI.equals(options.getURI())
         && POST == options.getMethod()
         && sslEnabled == isTrue(options.isSsl())));
   }
@@ -215,14 +261,12 @@ class RequestForwardingServiceTest {
     var egressTlsMock = mock(WebClientConfig.TlsSettings.class);
     when(egressSettingsMock.tls()).thenReturn(egressTlsMock);
     when(egressTlsMock.enabled()).thenReturn(true);
-    var encoder = new QueryStringEncoder(PATH);
     var routingContext = routingContext(RequestForwardingServiceTest::withHttpResponse);
-    routingContext.request().params().forEach(encoder::addParam);
 
     when(httpClient.request(argThat(options ->
       "sc-foo".equals(options.getHost())
         && 8081 == options.getPort()
-        && encoder.toString().equals(options.getURI())
+        && REQUEST_URI.equals(options.getURI())
         && POST == options.getMethod())))
       .thenReturn(succeededFuture(httpClientRequest));
 
@@ -233,21 +277,20 @@ class RequestForwardingServiceTest {
     when(response.headers()).thenReturn(headersResponse);
     when(headersResponse.addAll(responseHeadersMapCaptor.capture())).thenReturn(headersResponse);
 
-    service.forwardEgress(routingContext, absoluteUrl);
+    service.forwardEgress(routingContext, TestConstants.MODULE_URL, PATH);
 
-    var capturedRequestHeaders = requestHeadersMapCaptor.getValue();
-    assertThat(capturedRequestHeaders).hasSize(3);
-    assertThat(capturedRequestHeaders.get(CONTENT_TYPE)).isEqualTo(APPLICATION_JSON);
-    assertThat(capturedRequestHeaders.get(OkapiHeaders.TENANT)).isEqualTo(TestConstants.TENANT_ID);
-    assertThat(capturedRequestHeaders.get(OkapiHeaders.TOKEN)).isEqualTo(TestConstants.AUTH_TOKEN);
-    assertThat(capturedRequestHeaders.contains(USER_AGENT)).isFalse();
+    assertThat(upstreamRequestHeaders).hasSize(4);
+    assertThat(upstreamRequestHeaders.get(CONTENT_TYPE)).isEqualTo(APPLICATION_JSON);
+    assertThat(upstreamRequestHeaders.get(OkapiHeaders.TENANT)).isEqualTo(TestConstants.TENANT_ID);
+    assertThat(upstreamRequestHeaders.get(OkapiHeaders.TOKEN)).isEqualTo(TestConstants.AUTH_TOKEN);
+    assertThat(upstreamRequestHeaders.contains(USER_AGENT)).isFalse();
 
     var responseHeaders = responseHeadersMapCaptor.getValue();
     assertThat(responseHeaders).hasSize(2);
     assertThat(responseHeaders.get("tst-header")).isEqualTo("tst-value");
     assertThat(responseHeaders.get(CONTENT_TYPE)).isEqualTo(APPLICATION_JSON);
     assertThat(responseHeaders.get(TestConstants.SIDECAR_SIGNATURE_HEADER)).isNull();
-    assertThat(requestIdCaptor.getValue()).isNotEmpty().matches("\\d{6}/foo");
+    assertThat(upstreamRequestHeaders.get(OkapiHeaders.REQUEST_ID)).isNotEmpty().matches("\\d{6}/foo");
 
     verify(sidecarSignatureService).removeSignature(any(HttpServerResponse.class));
 
@@ -292,13 +335,11 @@ class RequestForwardingServiceTest {
   void forward_positive_nullBodyBuffer() {
     var routingContext = routingContext(RequestForwardingServiceTest::withHttpResponse);
 
-    var encoder = new QueryStringEncoder(PATH);
-    routingContext.request().params().forEach(encoder::addParam);
 
     when(httpClient.request(argThat(options ->
       "sc-foo".equals(options.getHost())
         && 8081 == options.getPort()
-        && encoder.toString().equals(options.getURI())
+        && REQUEST_URI.equals(options.getURI())
         && POST == options.getMethod())))
       .thenReturn(Future.succeededFuture(httpClientRequest));
     prepareHttpRequestMocks(routingContext, httpClientRequest);
@@ -308,13 +349,12 @@ class RequestForwardingServiceTest {
     when(response.headers()).thenReturn(headersResponse);
     when(headersResponse.addAll(responseHeadersMapCaptor.capture())).thenReturn(headersResponse);
 
-    service.forwardIngress(routingContext, absoluteUrl);
+    service.forwardIngress(routingContext, TestConstants.MODULE_URL, PATH);
 
-    var capturedRequestHeaders = requestHeadersMapCaptor.getValue();
-    assertThat(capturedRequestHeaders).hasSize(3);
-    assertThat(capturedRequestHeaders.get(CONTENT_TYPE)).isEqualTo(APPLICATION_JSON);
-    assertThat(capturedRequestHeaders.get(OkapiHeaders.TENANT)).isEqualTo(TestConstants.TENANT_ID);
-    assertThat(capturedRequestHeaders.get(OkapiHeaders.TOKEN)).isEqualTo(TestConstants.AUTH_TOKEN);
+    assertThat(upstreamRequestHeaders).hasSize(4);
+    assertThat(upstreamRequestHeaders.get(CONTENT_TYPE)).isEqualTo(APPLICATION_JSON);
+    assertThat(upstreamRequestHeaders.get(OkapiHeaders.TENANT)).isEqualTo(TestConstants.TENANT_ID);
+    assertThat(upstreamRequestHeaders.get(OkapiHeaders.TOKEN)).isEqualTo(TestConstants.AUTH_TOKEN);
 
     var responseHeaders = responseHeadersMapCaptor.getValue();
     assertThat(responseHeaders).hasSize(2);
@@ -322,7 +362,7 @@ class RequestForwardingServiceTest {
     assertThat(responseHeaders.get(CONTENT_TYPE)).isEqualTo(APPLICATION_JSON);
 
     // assertThat(queryParamCaptor.getAllValues()).containsExactly("query", "name==test", "offset", "10", "size", "50");
-    assertThat(requestIdCaptor.getValue()).isNotEmpty().matches("\\d{6}/foo");
+    assertThat(upstreamRequestHeaders.get(OkapiHeaders.REQUEST_ID)).isNotEmpty().matches("\\d{6}/foo");
     assertThat(responseHeaders.get(TestConstants.SIDECAR_SIGNATURE_HEADER)).isNull();
 
     verify(sidecarSignatureService).removeSignature(any(HttpServerResponse.class));
@@ -364,17 +404,72 @@ class RequestForwardingServiceTest {
     verify(routingContext.response()).end();
   }
 
+  @Test
+  void forward_positive_backpressure() {
+    var routingContext = routingContext(RequestForwardingServiceTest::withHttpResponse);
+
+    when(httpClient.request(any(RequestOptions.class))).thenReturn(Future.succeededFuture(httpClientRequest));
+    when(streamBackpressure.highWatermark(eq(Client.INGRESS), any(UpstreamLocation.class))).thenReturn(262144);
+    when(streamBackpressure.lowWatermark(Client.INGRESS, 262144)).thenReturn(131072);
+    prepareHttpRequestMocks(routingContext, httpClientRequest);
+    prepareHttpResponseMocks(routingContext, httpClientResponse);
+    when(routingContext.response().headers()).thenReturn(new HeadersMultiMap());
+    when(buffer.length()).thenReturn(1024);
+
+    service.forwardIngress(routingContext, TestConstants.MODULE_URL, PATH);
+
+    verify(httpClientRequest).setWriteQueueMaxSize(262144);
+    verify(routingContext.response()).setWriteQueueMaxSize(262144);
+
+    requestHandlerCaptor.getValue().handle(buffer);
+    requestDrainHandlerCaptor.getValue().handle(null);
+    verify(streamBackpressure).recordPause(eq(Client.INGRESS), eq(Direction.REQUEST), longThat(nanos -> nanos >= 0));
+
+    responseHandlerCaptor.getValue().handle(buffer);
+    responseDrainHandlerCaptor.getValue().handle(null);
+    verify(streamBackpressure).recordPause(eq(Client.INGRESS), eq(Direction.RESPONSE), longThat(nanos -> nanos >= 0));
+
+    responseEndHandlerCaptor.getValue().handle(null);
+    verify(streamBackpressure).recordResponse(eq(Client.INGRESS), any(UpstreamLocation.class),
+      longThat(nanos -> nanos >= 0), eq(1024L), longThat(nanos -> nanos >= 0));
+  }
+
+  @Test
+  @MockitoSettings(strictness = Strictness.LENIENT)
+  void forward_positive_http2() {
+    var routingContext = routingContext(rc -> {
+      withHttpResponse(rc);
+      when(rc.request().version()).thenReturn(HttpVersion.HTTP_2);
+      rc.request().headers().add(CONNECTION, "keep-alive").add(TRANSFER_ENCODING, "chunked");
+    });
+
+    when(httpClient.request(any(RequestOptions.class))).thenReturn(Future.succeededFuture(httpClientRequest));
+    when(httpClientRequest.version()).thenReturn(HttpVersion.HTTP_2);
+    prepareHttpRequestMocks(routingContext, httpClientRequest);
+    prepareHttpResponseMocks(routingContext, httpClientResponse);
+    when(httpClientResponse.headers()).thenReturn(responseHeaders().add(CONNECTION, "keep-alive"));
+
+    var serverResponseHeaders = new HeadersMultiMap();
+    when(routingContext.response().headers()).thenReturn(serverResponseHeaders);
+
+    service.forwardIngress(routingContext, TestConstants.MODULE_URL, PATH);
+
+    assertThat(upstreamRequestHeaders).hasSize(4);
+    assertThat(upstreamRequestHeaders.contains(CONNECTION)).isFalse();
+    assertThat(upstreamRequestHeaders.contains(TRANSFER_ENCODING)).isFalse();
+    assertThat(serverResponseHeaders).hasSize(2);
+    assertThat(serverResponseHeaders.contains(CONNECTION)).isFalse();
+  }
+
   @Test
   @MockitoSettings(strictness = Strictness.LENIENT)
   void forward_positive_transactionLogTimingFields() {
     var routingContext = routingContext(RequestForwardingServiceTest::withHttpResponse);
-    var encoder = new QueryStringEncoder(PATH);
-    routingContext.request().params().forEach(encoder::addParam);
 
     when(httpClient.request(argThat(options ->
       "sc-foo".equals(options.getHost())
         && 8081 == options.getPort()
-        && encoder.toString().equals(options.getURI())
+        && REQUEST_URI.equals(options.getURI())
         && POST == options.getMethod())))
       .thenReturn(Future.succeededFuture(httpClientRequest));
     prepareHttpRequestMocks(routingContext, httpClientRequest);
@@ -384,7 +479,7 @@ class RequestForwardingServiceTest {
     when(response.headers()).thenReturn(headersResponse);
     when(headersResponse.addAll(responseHeadersMapCaptor.capture())).thenReturn(headersResponse);
 
-    service.forwardIngress(routingContext, absoluteUrl);
+    service.forwardIngress(routingContext, TestConstants.MODULE_URL, PATH);
 
     // Verify uht (upstream header time) is set when response headers are received
     verify(routingContext).put(eq("uht"), any(Long.class));
@@ -407,13 +502,11 @@ class RequestForwardingServiceTest {
     when(egressTlsMock.enabled()).thenReturn(true);
 
     var routingContext = routingContext(RequestForwardingServiceTest::withHttpResponse);
-    var encoder = new QueryStringEncoder(PATH);
-    routingContext.request().params().forEach(encoder::addParam);
 
     when(httpClient.request(argThat(options ->
       "sc-foo".equals(options.getHost())
         && 8081 == options.getPort()
-        && encoder.toString().equals(options.getURI())
+        && REQUEST_URI.equals(options.getURI())
         && POST == options.getMethod())))
       .thenReturn(Future.succeededFuture(httpClientRequest));
     prepareHttpRequestMocks(routingContext, httpClientRequest);
@@ -423,7 +516,7 @@ class RequestForwardingServiceTest {
     when(response.headers()).thenReturn(headersResponse);
     when(headersResponse.addAll(responseHeadersMapCaptor.capture())).thenReturn(headersResponse);
 
-    service.forwardEgress(routingContext, absoluteUrl);
+    service.forwardEgress(routingContext, TestConstants.MODULE_URL, PATH);
 
     // Verify uht (upstream header time) is set when response headers are received
     verify(routingContext).put(eq("uht"), any(Long.class));
@@ -435,33 +528,86 @@ class RequestForwardingServiceTest {
     verify(routingContext).put(eq("urt"), any(Long.class));
   }
 
+  @Test
+  @MockitoSettings(strictness = Strictness.LENIENT)
+  void forwardEgress_positive_loadBalanced() {
+    var egressSettingsMock = mock(WebClientConfig.WebClientSettings.class);
+    when(webClientConfig.egress()).thenReturn(egressSettingsMock);
+
+    var egressTlsMock = mock(WebClientConfig.TlsSettings.class);
+    when(egressSettingsMock.tls()).thenReturn(egressTlsMock);
+    when(egressTlsMock.enabled()).thenReturn(false);
+
+    var endpoint = mock(Endpoint.class);
+    var server = SocketAddress.inetSocketAddress(8081, "10.0.0.2");
+    when(endpoint.address()).thenReturn(server);
+    when(egressLoadBalancer.choose("sc-foo", 8081)).thenReturn(endpoint);
+
+    var routingContext = routingContext(RequestForwardingServiceTest::withHttpResponse);
+    when(httpClient.request(argThat(options ->
+      "sc-foo".equals(options.getHost()) && 8081 == options.getPort() && server.equals(options.getServer()))))
+      .thenReturn(Future.succeededFuture(httpClientRequest));
+    prepareHttpRequestMocks(routingContext, httpClientRequest);
+    prepareHttpResponseMocks(routingContext, httpClientResponse);
+
+    var response = routingContext.response();
+    when(response.headers()).thenReturn(headersResponse);
+    when(response.getStatusCode()).thenReturn(200);
+    when(headersResponse.addAll(responseHeadersMapCaptor.capture())).thenReturn(headersResponse);
+
+    var result = service.forwardEgress(routingContext, TestConstants.MODULE_URL, PATH);
+    responseEndHandlerCaptor.getValue().handle(null);
+
+    assertThat(result.succeeded()).isTrue();
+    verify(egressLoadBalancer).release(endpoint, true);
+  }
+
+  @Test
+  @MockitoSettings(strictness = Strictness.LENIENT)
+  void forwardIngress_positive_domainSocket() {
+    var routingContext = routingContext(RequestForwardingServiceTest::withHttpResponse);
+    var socket = SocketAddress.domainSocketAddress("/var/run/mod-foo.sock");
+
+    when(httpClient.request(argThat(options ->
+      "localhost".equals(options.getHost())
+        && REQUEST_URI.equals(options.getURI())
+        && socket.equals(options.getServer()))))
+      .thenReturn(Future.succeededFuture(httpClientRequest));
+    prepareHttpRequestMocks(routingContext, httpClientRequest);
+    prepareHttpResponseMocks(routingContext, httpClientResponse);
+    when(routingContext.response().headers()).thenReturn(new HeadersMultiMap());
+
+    var result = service.forwardIngress(routingContext, "unix:/var/run/mod-foo.sock", PATH);
+    responseEndHandlerCaptor.getValue().handle(null);
+
+    assertThat(result.succeeded()).isTrue();
+    verify(routingContext.response()).end();
+  }
+
   @Test
   void forward_negative_responseError() {
     var routingContext = routingContext(rc -> {});
     var error = new RuntimeException("Unknown error");
 
-    QueryStringEncoder encoder = new QueryStringEncoder(PATH);
-    routingContext.request().params().forEach(encoder::addParam);
 
     when(httpClient.request(argThat(options ->
       "sc-foo".equals(options.getHost())
         && 8081 == options.getPort()
-        && encoder.toString().equals(options.getURI())
+        && REQUEST_URI.equals(options.getURI())
         && POST == options.getMethod())))
       .thenReturn(succeededFuture(httpClientRequest));
     when(httpProperties.getTimeout()).thenReturn(TIMEOUT);
     when(httpProperties.getTimeout()).thenReturn(TIMEOUT);
-    when(httpClientRequest.headers()).thenReturn(headers);
-    when(headers.setAll(requestHeadersMapCaptor.capture())).thenReturn(headers);
-    when(headers.set(eq(OkapiHeaders.REQUEST_ID), requestIdCaptor.capture())).thenReturn(headers);
+    when(httpClientRequest.headers()).thenReturn(upstreamRequestHeaders);
     when(httpClientRequest.response()).thenReturn(failedFuture(error));
 
-    var result = service.forwardIngress(routingContext, absoluteUrl);
+    var result = service.forwardIngress(routingContext, TestConstants.MODULE_URL, PATH);
 
     assertThat(result.failed()).isTrue();
     assertThat(result.cause()).isInstanceOf(InternalServerErrorException.class);
     assertThat(result.cause().getMessage()).isEqualTo("Failed to proxy request because of response error:"
       + " Unknown error");
+    verify(exchange).end(false);
   }
 
   @Test
@@ -469,24 +615,24 @@ class RequestForwardingServiceTest {
     var routingContext = mock(RoutingContext.class);
     var request = mock(HttpServerRequest.class);
     var error = new RuntimeException("Unknown error");
-    QueryStringEncoder encoder = new QueryStringEncoder(PATH);
 
     when(httpClient.request(argThat(options ->
       "sc-foo".equals(options.getHost())
         && 8081 == options.getPort()
-        && encoder.toString().equals(options.getURI())
+        && REQUEST_URI.equals(options.getURI())
         && POST == options.getMethod())))
       .thenReturn(failedFuture(error));
     when(routingContext.request()).thenReturn(request);
     when(request.method()).thenReturn(POST);
-    when(request.params()).thenReturn(requestParams());
+    when(request.query()).thenReturn(QUERY);
 
-    routingContext.request().params().forEach(encoder::addParam);
-    var result = service.forwardIngress(routingContext, absoluteUrl);
+    var result = service.forwardIngress(routingContext, TestConstants.MODULE_URL, PATH);
 
     assertThat(result.failed()).isTrue();
     assertThat(result.cause()).isInstanceOf(InternalServerErrorException.class);
     assertThat(result.cause().getMessage()).isEqualTo("Failed to proxy request: Unknown error");
+    verify(exchange, never()).acquired(any());
+    verify(exchange).end(false);
   }
 
   @Test
@@ -500,24 +646,21 @@ class RequestForwardingServiceTest {
     var routingContext = routingContext(rc ->
       when(rc.get(RoutingUtils.EGRESS_REQUEST_KEY)).thenReturn(Boolean.TRUE));
 
-    var encoder = new QueryStringEncoder(PATH);
-    routingContext.request().params().forEach(encoder::addParam);
 
     when(httpClient.request(argThat(options ->
       "sc-foo".equals(options.getHost())
         && 8081 == options.getPort()
-        && encoder.toString().equals(options.getURI())
+        && REQUEST_URI.equals(options.getURI())
         && POST == options.getMethod())))
       .thenReturn(succeededFuture(httpClientRequest));
 
     when(httpProperties.getTimeout()).thenReturn(TIMEOUT);
-    when(httpClientRequest.headers()).thenReturn(headers);
-    when(headers.setAll(any(MultiMap.class))).thenReturn(headers);
+    when(httpClientRequest.headers()).thenReturn(upstreamRequestHeaders);
     when(httpClientRequest.response()).thenReturn(succeededFuture(httpClientResponse));
     when(httpClientResponse.statusCode()).thenReturn(UNAUTHORIZED.code());
     when(httpClientResponse.endHandler(responseEndHandlerCaptor.capture())).thenReturn(httpClientResponse);
 
-    var result = service.forwardEgress(routingContext, absoluteUrl);
+    var result = service.forwardEgress(routingContext, TestConstants.MODULE_URL, PATH);
     responseEndHandlerCaptor.getValue().handle(null);
 
     assertThat(result.failed()).isTrue();
@@ -539,20 +682,16 @@ class RequestForwardingServiceTest {
       when(response.setStatusCode(SC_OK)).thenReturn(response);
       when(rc.request().method()).thenReturn(method);
     });
-    var encoder = new QueryStringEncoder(PATH);
-    routingContext.request().params().forEach(encoder::addParam);
 
     when(httpClient.request(argThat(options ->
       "sc-foo".equals(options.getHost())
         && 8081 == options.getPort()
-        && encoder.toString().equals(options.getURI())
+        && REQUEST_URI.equals(options.getURI())
         && method == options.getMethod())))
       .thenReturn(Future.succeededFuture(httpClientRequest));
 
     when(httpProperties.getTimeout()).thenReturn(TIMEOUT);
-    when(httpClientRequest.headers()).thenReturn(headers);
-    when(headers.setAll(requestHeadersMapCaptor.capture())).thenReturn(headers);
-    when(headers.set(eq(OkapiHeaders.REQUEST_ID), requestIdCaptor.capture())).thenReturn(headers);
+    when(httpClientRequest.headers()).thenReturn(upstreamRequestHeaders);
     when(httpClientRequest.response()).thenReturn(succeededFuture(httpClientResponse));
     when(httpClientRequest.drainHandler(requestDrainHandlerCaptor.capture())).thenReturn(httpClientRequest);
 
@@ -562,17 +701,16 @@ class RequestForwardingServiceTest {
     when(response.headers()).thenReturn(headersResponse);
     when(headersResponse.addAll(responseHeadersMapCaptor.capture())).thenReturn(headersResponse);
 
-    service.forwardIngress(routingContext, absoluteUrl);
+    service.forwardIngress(routingContext, TestConstants.MODULE_URL, PATH);
 
     // Verify that end() was called immediately for GET/HEAD request (no endHandler)
     verify(httpClientRequest).end();
     // Verify that pause was called initially for stream control
     verify(routingContext.request()).pause();
 
-    var capturedRequestHeaders = requestHeadersMapCaptor.getValue();
-    assertThat(capturedRequestHeaders).hasSize(3);
-    assertThat(capturedRequestHeaders.get(CONTENT_TYPE)).isEqualTo(APPLICATION_JSON);
-    assertThat(requestIdCaptor.getValue()).isNotEmpty().matches("\\d{6}/foo");
+    assertThat(upstreamRequestHeaders).hasSize(4);
+    assertThat(upstreamRequestHeaders.get(CONTENT_TYPE)).isEqualTo(APPLICATION_JSON);
+    assertThat(upstreamRequestHeaders.get(OkapiHeaders.REQUEST_ID)).isNotEmpty().matches("\\d{6}/foo");
   }
 
   private void prepareHttpResponseMocks(RoutingContext routingContext, HttpClientResponse httpClientResponse) {
@@ -591,11 +729,160 @@ class RequestForwardingServiceTest {
     when(httpClientResponse.endHandler(responseEndHandlerCaptor.capture())).thenReturn(httpClientResponse);
   }
 
+  @Nested
+  class Hedging {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger upstreamRequests = new AtomicInteger();
+    private final AtomicInteger closedConnections = new AtomicInteger();
+    private Vertx vertx;
+    private HttpServer upstream;
+    private HttpServer sidecar;
+
+    @BeforeEach
+    void setUp() throws Exception {
+      vertx = Vertx.vertx();
+      upstream = vertx.createHttpServer()
+        .requestHandler(request -> {
+          request.connection().closeHandler(v -> closedConnections.incrementAndGet());
+          if (upstreamRequests.incrementAndGet() == 1) {
+            vertx.setTimer(500, id -> request.response().end("slow"));
+          } else {
+            request.response().end("fast");
+          }
+        })
+        .listen(0, "0.0.0.0")
+        .toCompletionStage().toCompletableFuture().get(5, SECONDS);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+      vertx.close().toCompletionStage().toCompletableFuture().get(5, SECONDS);
+    }
+
+    @Test
+    void forwardEgress_positive_hedgedAttemptWins() throws Exception {
+      startSidecar(hedgingProperties(1.0));
+
+      assertThat(get()).isEqualTo("fast");
+      assertThat(upstreamRequests).hasValue(2);
+      await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> assertThat(closedConnections).hasValue(1));
+      assertThat(meterRegistry.get(EgressHedging.REQUESTS_METRIC_NAME).tag("result", "won").counter().count())
+        .isEqualTo(1);
+      var latency = meterRegistry.get(EgressHedging.LATENCY_METRIC_NAME).timer();
+      assertThat(latency.count()).isEqualTo(2);
+      // the lost primary is recorded with its elapsed time, about the 50 ms hedge delay minus its connect time
+      assertThat(latency.max(MILLISECONDS)).isGreaterThan(latency.mean(MILLISECONDS)).isGreaterThan(30);
+    }
+
+    @Test
+    void forwardEgress_positive_lostAttemptReleasedWithoutOutcome() throws Exception {
+      var primary = endpoint();
+      var hedge = endpoint();
+      when(egressLoadBalancer.choose("127.0.0.1", upstream.actualPort())).thenReturn(primary, hedge);
+      startSidecar(hedgingProperties(1.0));
+
+      assertThat(get()).isEqualTo("fast");
+      verify(egressLoadBalancer).cancel(primary);
+      verify(egressLoadBalancer, never()).release(eq(primary), anyBoolean());
+      await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> verify(egressLoadBalancer).release(hedge, true));
+    }
+
+    @Test
+    void forwardEgress_positive_hedgeBudgetExhausted() throws Exception {
+      startSidecar(hedgingProperties(0));
+
+      assertThat(get()).isEqualTo("slow");
+      assertThat(upstreamRequests).hasValue(1);
+      assertThat(meterRegistry.get(EgressHedging.REQUESTS_METRIC_NAME).tag("result", "budget-exhausted")
+        .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void forwardEgress_positive_lostAttemptKeepsEndpointHealthy() throws Exception {
+      var dnsResolutionService = mock(DnsResolutionService.class);
+      when(dnsResolutionService.resolveAll("mod-bar")).thenReturn(succeededFuture(List.of("127.0.0.1", "127.0.0.2")));
+      // ejection settings are read on endpoint failures only
+      var ejection = mock(EgressLoadBalancingProperties.EjectionSettings.class);
+      lenient().when(ejection.consecutiveFailures()).thenReturn(1);
+      lenient().when(ejection.duration()).thenReturn(Duration.ofSeconds(30));
+      lenient().when(ejection.maxPercent()).thenReturn(50);
+      var balancingProperties = mock(EgressLoadBalancingProperties.class);
+      when(balancingProperties.enabled()).thenReturn(true);
+      when(balancingProperties.strategy()).thenReturn(BalancingStrategy.LEAST_OUTSTANDING);
+      lenient().when(balancingProperties.ejection()).thenReturn(ejection);
+      var balancer = new EgressLoadBalancer(balancingProperties, dnsResolutionService, meterRegistry);
+      startSidecar(hedgingProperties(1.0), balancer, "http://mod-bar:" + upstream.actualPort());
+
+      assertThat(get()).isEqualTo("fast");
+      assertThat(upstreamRequests).hasValue(2);
+
+      // a single failure ejects an endpoint, the primary attempt lost the race and must not count as a failure
+      await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> assertThat(closedConnections).hasValue(1));
+      assertThat(meterRegistry.get("sidecar.egress.lb.endpoints").tag("state", "ejected").gauge().value()).isZero();
+      assertThat(meterRegistry.get("sidecar.egress.lb.endpoints").tag("state", "available").gauge().value())
+        .isEqualTo(2);
+    }
+
+    private void startSidecar(EgressHedgingProperties hedgingProperties) throws Exception {
+      startSidecar(hedgingProperties, egressLoadBalancer, "http://127.0.0.1:" + upstream.actualPort());
+    }
+
+    private void startSidecar(EgressHedgingProperties hedgingProperties, EgressLoadBalancer balancer,
+      String location) throws Exception {
+      var webClientConfig = mock(WebClientConfig.class, RETURNS_DEEP_STUBS);
+      var backpressure = mock(StreamBackpressure.class);
+      var properties = mock(HttpProperties.class);
+      var metricsProperties = mock(UpstreamMetricsProperties.class);
+      when(properties.getTimeout()).thenReturn(TIMEOUT);
+      when(backpressure.highWatermark(any(), any())).thenReturn(65536);
+      when(backpressure.lowWatermark(any(), eq(65536))).thenReturn(32768);
+      when(metricsProperties.percentiles()).thenReturn(List.of());
+
+      var httpClientEgress = vertx.createHttpClient();
+      var forwardingService = new RequestForwardingService(httpClientEgress, httpClientEgress, httpClientEgress,
+        sidecarSignatureService, properties, webClientConfig, transactionLogHandler, balancer,
+        backpressure, new UpstreamMetrics(metricsProperties, meterRegistry),
+        new EgressHedging(hedgingProperties, meterRegistry));
+
+      var router = Router.router(vertx);
+      router.route().handler(rc -> forwardingService.forwardEgress(rc, location, rc.request().path())
+        .onFailure(error -> rc.response().setStatusCode(500).end()));
+      sidecar = vertx.createHttpServer().requestHandler(router).listen(0, "127.0.0.1")
+        .toCompletionStage().toCompletableFuture().get(5, SECONDS);
+    }
+
+    private Endpoint endpoint() {
+      var endpoint = mock(Endpoint.class);
+      when(endpoint.address()).thenReturn(SocketAddress.inetSocketAddress(upstream.actualPort(), "127.0.0.1"));
+      return endpoint;
+    }
+
+    private EgressHedgingProperties hedgingProperties(double budget) {
+      var hedgingProperties = mock(EgressHedgingProperties.class);
+      when(hedgingProperties.enabled()).thenReturn(true);
+      when(hedgingProperties.modules()).thenReturn(Optional.empty());
+      when(hedgingProperties.minDelay()).thenReturn(Duration.ofMillis(10));
+      when(hedgingProperties.maxDelay()).thenReturn(Duration.ofMillis(50));
+      when(hedgingProperties.percentile()).thenReturn(0.95);
+      when(hedgingProperties.minSamples()).thenReturn(20);
+      when(hedgingProperties.budget()).thenReturn(budget);
+      return hedgingProperties;
+    }
+
+    private String get() throws Exception {
+      return vertx.createHttpClient()
+        .request(HttpMethod.GET, sidecar.actualPort(), "127.0.0.1", PATH)
+        .compose(HttpClientRequest::send)
+        .compose(HttpClientResponse::body)
+        .map(Buffer::toString)
+        .toCompletionStage().toCompletableFuture().get(5, SECONDS);
+    }
+  }
+
   private void prepareHttpRequestMocks(RoutingContext routingContext, HttpClientRequest httpClientRequest) {
     when(httpProperties.getTimeout()).thenReturn(TIMEOUT);
-    when(httpClientRequest.headers()).thenReturn(headers);
-    when(headers.setAll(requestHeadersMapCaptor.capture())).thenReturn(headers);
-    when(headers.set(eq(OkapiHeaders.REQUEST_ID), requestIdCaptor.capture())).thenReturn(headers);
+    when(httpClientRequest.headers()).thenReturn(upstreamRequestHeaders);
     when(httpClientRequest.response()).thenReturn(succeededFuture(httpClientResponse));
     // Mock drainHandler method
     when(httpClientRequest.drainHandler(requestDrainHandlerCaptor.capture())).thenReturn(httpClientRequest);
@@ -617,7 +904,7 @@ class RequestForwardingServiceTest {
     when(request.method()).thenReturn(POST);
     when(request.path()).thenReturn(PATH);
     when(request.headers()).thenReturn(requestHeaders());
-    when(request.params()).thenReturn(requestParams());
+    when(request.query()).thenReturn(QUERY);
 
     rcConsumer.accept(routingContext);
 
@@ -645,13 +932,6 @@ class RequestForwardingServiceTest {
       .add("tst-header", "tst-value");
   }
 
-  private static MultiMap requestParams() {
-    return new HeadersMultiMap()
-      .add("query", "name==test")
-      .add("offset", "10")
-      .add("size", "50");
-  }
-
   private void prepareHttpResponseMocksForNonBodyHttpMethods(RoutingContext routingContext,
     HttpClientResponse httpClientResponse) {
 
@@ -0,0 +1,125 @@
+package org.folio.sidecar.service.routing.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.sidecar.service.routing.handler.StreamBackpressure.PAUSED_METRIC_NAME;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.folio.sidecar.configuration.properties.WebClientConfig;
+import org.folio.sidecar.configuration.properties.WebClientConfig.WriteQueueSettings;
+import org.folio.sidecar.service.routing.handler.StreamBackpressure.Client;
+import org.folio.sidecar.service.routing.handler.StreamBackpressure.Direction;
+import org.folio.support.types.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class StreamBackpressureTest {
+
+  private static final UpstreamLocation UPSTREAM = new UpstreamLocation("mod-bar", 8081, false, "");
+  private static final long LATENCY = Duration.ofMillis(10).toNanos();
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  void watermarks_positive_configured() {
+    var backpressure = streamBackpressure(false, 262144, 196608);
+
+    var highWatermark = backpressure.highWatermark(Client.EGRESS, UPSTREAM);
+
+    assertThat(highWatermark).isEqualTo(262144);
+    assertThat(backpressure.lowWatermark(Client.EGRESS, highWatermark)).isEqualTo(196608);
+  }
+
+  @Test
+  void watermarks_positive_adaptiveWithoutObservations() {
+    var backpressure = streamBackpressure(true, 131072, 65536);
+
+    assertThat(backpressure.highWatermark(Client.EGRESS, UPSTREAM)).isEqualTo(131072);
+  }
+
+  @Test
+  void watermarks_positive_adaptive() {
+    var backpressure = streamBackpressure(true, 131072, 65536);
+
+    // 1 MB in 10 ms with 10 ms latency: bandwidth-delay product is 1 MB
+    backpressure.recordResponse(Client.EGRESS, UPSTREAM, LATENCY, 1_000_000, LATENCY);
+
+    var highWatermark = backpressure.highWatermark(Client.EGRESS, UPSTREAM);
+    assertThat(highWatermark).isEqualTo(1_000_000);
+    assertThat(backpressure.lowWatermark(Client.EGRESS, highWatermark)).isEqualTo(500_000);
+    assertThat(backpressure.highWatermark(Client.EGRESS, new UpstreamLocation("mod-baz", 8081, false, "")))
+      .isEqualTo(131072);
+    assertThat(backpressure.highWatermark(Client.GATEWAY, UPSTREAM)).isEqualTo(131072);
+  }
+
+  @Test
+  void watermarks_positive_adaptiveBounded() {
+    var backpressure = streamBackpressure(true, 131072, 65536);
+
+    backpressure.recordResponse(Client.EGRESS, UPSTREAM, LATENCY, 100_000_000, LATENCY);
+    assertThat(backpressure.highWatermark(Client.EGRESS, UPSTREAM)).isEqualTo(4194304);
+
+    var slowUpstream = new UpstreamLocation("mod-slow", 8081, false, "");
+    backpressure.recordResponse(Client.EGRESS, slowUpstream, 1000, 100_000, LATENCY);
+    assertThat(backpressure.highWatermark(Client.EGRESS, slowUpstream)).isEqualTo(32768);
+  }
+
+  @Test
+  void watermarks_positive_adaptiveIgnoresSmallResponses() {
+    var backpressure = streamBackpressure(true, 131072, 65536);
+
+    backpressure.recordResponse(Client.EGRESS, UPSTREAM, LATENCY, 1024, 1000);
+
+    assertThat(backpressure.highWatermark(Client.EGRESS, UPSTREAM)).isEqualTo(131072);
+  }
+
+  @Test
+  void recordResponse_positive_adaptiveDisabled() {
+    var backpressure = streamBackpressure(false, 131072, 65536);
+
+    backpressure.recordResponse(Client.EGRESS, UPSTREAM, LATENCY, 1_000_000, LATENCY);
+
+    assertThat(backpressure.highWatermark(Client.EGRESS, UPSTREAM)).isEqualTo(131072);
+  }
+
+  @Test
+  void recordPause_positive() {
+    var backpressure = streamBackpressure(false, 131072, 65536);
+
+    backpressure.recordPause(Client.EGRESS, Direction.RESPONSE, Duration.ofMillis(5).toNanos());
+    backpressure.recordPause(Client.EGRESS, Direction.RESPONSE, -1);
+
+    var timer = meterRegistry.get(PAUSED_METRIC_NAME).tag("client", "egress").tag("direction", "response").timer();
+    assertThat(timer.count()).isEqualTo(1);
+    assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(5);
+    assertThat(meterRegistry.get(PAUSED_METRIC_NAME).timers()).hasSize(6);
+  }
+
+  @Test
+  void constructor_negative_lowWatermarkAboveHighWatermark() {
+    assertThatThrownBy(() -> streamBackpressure(false, 65536, 131072))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Invalid write queue watermarks: client = ingress, high-watermark = 65536, "
+        + "low-watermark = 131072");
+  }
+
+  private StreamBackpressure streamBackpressure(boolean adaptive, int highWatermark, int lowWatermark) {
+    var writeQueue = mock(WriteQueueSettings.class, RETURNS_DEEP_STUBS);
+    when(writeQueue.highWatermark()).thenReturn(highWatermark);
+    when(writeQueue.lowWatermark()).thenReturn(lowWatermark);
+    when(writeQueue.adaptive().enabled()).thenReturn(adaptive);
+    when(writeQueue.adaptive().minSize()).thenReturn(32768);
+    when(writeQueue.adaptive().maxSize()).thenReturn(4194304);
+
+    var webClientConfig = mock(WebClientConfig.class, RETURNS_DEEP_STUBS);
+    when(webClientConfig.ingress().writeQueue()).thenReturn(writeQueue);
+    when(webClientConfig.egress().writeQueue()).thenReturn(writeQueue);
+    when(webClientConfig.gateway().writeQueue()).thenReturn(writeQueue);
+    return new StreamBackpressure(webClientConfig, meterRegistry);
+  }
+}
@@ -0,0 +1,67 @@
+package org.folio.sidecar.service.routing.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.vertx.core.net.SocketAddress;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.folio.support.types.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+@UnitTest
+class UpstreamLocationTest {
+
+  @ParameterizedTest
+  @CsvSource({
+    "http://sc-foo, false, sc-foo, 80, false, ''",
+    "https://sc-foo, false, sc-foo, 443, true, ''",
+    "http://sc-foo:8081, false, sc-foo, 8081, false, ''",
+    "http://sc-foo:8081, true, sc-foo, 8081, true, ''",
+    "http://sc-foo, true, sc-foo, 443, true, ''",
+    "http://api-gateway:8000/base, false, api-gateway, 8000, false, /base",
+  })
+  void parse_positive(String location, boolean tls, String host, int port, boolean ssl, String basePath) {
+    var result = UpstreamLocation.parse(location, tls);
+
+    assertThat(result).isEqualTo(new UpstreamLocation(host, port, ssl, basePath));
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    "unix:/var/run/mod-foo.sock, false, 80, false",
+    "UNIX:/var/run/mod-foo.sock, false, 80, false",
+    "unix:/var/run/mod-foo.sock, true, 443, true",
+  })
+  void parse_positive_domainSocket(String location, boolean tls, int port, boolean ssl) {
+    var result = UpstreamLocation.parse(location, tls);
+
+    var socket = SocketAddress.domainSocketAddress("/var/run/mod-foo.sock");
+    assertThat(result).isEqualTo(new UpstreamLocation("localhost", port, ssl, "", socket));
+    assertThat(result.requestUri("/foo/entities", "a=1")).isEqualTo("/foo/entities?a=1");
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    "'', /foo/a%20b, , /foo/a%20b",
+    "'', /foo, a=b%3D%3Dc&d, /foo?a=b%3D%3Dc&d",
+    "/base, /foo, a=1, /base/foo?a=1",
+  })
+  void requestUri_positive(String basePath, String path, String query, String expected) {
+    var location = new UpstreamLocation("sc-foo", 8081, false, basePath);
+
+    assertThat(location.requestUri(path, query)).isEqualTo(expected);
+  }
+
+  @Test
+  void cache_positive_parsesLocationOnce() {
+    var tlsChecks = new AtomicInteger();
+    var cache = new UpstreamLocation.Cache(() -> tlsChecks.incrementAndGet() > 0);
+
+    var first = cache.get("http://sc-foo:8081");
+    var second = cache.get("http://sc-foo:8081");
+
+    assertThat(first).isSameAs(second).isEqualTo(new UpstreamLocation("sc-foo", 8081, true, ""));
+    assertThat(tlsChecks).hasValue(1);
+  }
+}
@@ -0,0 +1,168 @@
+package org.folio.sidecar.service.routing.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.sidecar.service.routing.handler.StreamBackpressure.Client.EGRESS;
+import static org.folio.sidecar.service.routing.handler.StreamBackpressure.Client.INGRESS;
+import static org.folio.sidecar.service.routing.handler.UpstreamMetrics.CONNECTIONS_METRIC_NAME;
+import static org.folio.sidecar.service.routing.handler.UpstreamMetrics.CONNECT_METRIC_NAME;
+import static org.folio.sidecar.service.routing.handler.UpstreamMetrics.FIRST_BYTE_METRIC_NAME;
+import static org.folio.sidecar.service.routing.handler.UpstreamMetrics.LATENCY_METRIC_NAME;
+import static org.folio.sidecar.service.routing.handler.UpstreamMetrics.WAITING_METRIC_NAME;
+import static org.folio.sidecar.service.routing.handler.UpstreamMetrics.WAIT_METRIC_NAME;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpConnection;
+import java.util.List;
+import org.folio.sidecar.service.routing.configuration.properties.UpstreamMetricsProperties;
+import org.folio.support.types.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class UpstreamMetricsTest {
+
+  private static final UpstreamLocation UPSTREAM = UpstreamLocation.parse("http://mod-foo:8081", false);
+  private static final String DESTINATION = "mod-foo:8081";
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private UpstreamMetrics upstreamMetrics;
+
+  @Mock private UpstreamMetricsProperties properties;
+  @Mock private HttpConnection connection;
+  @Captor private ArgumentCaptor<Handler<Void>> closeHandlerCaptor;
+
+  @BeforeEach
+  void setUp() {
+    when(properties.percentiles()).thenReturn(List.of(0.5, 0.99));
+  }
+
+  @Test
+  void begin_positive_disabled() {
+    upstreamMetrics = new UpstreamMetrics(properties, meterRegistry);
+
+    var exchange = upstreamMetrics.begin(EGRESS, UPSTREAM);
+    exchange.acquired(connection);
+    exchange.end(true);
+
+    assertThat(exchange).isSameAs(UpstreamMetrics.Exchange.NOOP);
+    assertThat(meterRegistry.getMeters()).isEmpty();
+  }
+
+  @Test
+  void exchange_positive_newAndPooledConnection() {
+    when(properties.enabled()).thenReturn(true);
+    upstreamMetrics = new UpstreamMetrics(properties, meterRegistry);
+
+    var first = upstreamMetrics.begin(EGRESS, UPSTREAM);
+    var second = upstreamMetrics.begin(EGRESS, UpstreamLocation.parse("http://mod-foo:8081/base", false));
+    assertThat(gauge(WAITING_METRIC_NAME, null)).isEqualTo(2);
+
+    first.acquired(connection);
+    first.responded();
+    assertThat(gauge(WAITING_METRIC_NAME, null)).isEqualTo(1);
+    assertThat(gauge(CONNECTIONS_METRIC_NAME, "in-use")).isEqualTo(1);
+    assertThat(gauge(CONNECTIONS_METRIC_NAME, "idle")).isZero();
+
+    first.end(true);
+    first.end(false);
+    assertThat(gauge(CONNECTIONS_METRIC_NAME, "in-use")).isZero();
+    assertThat(gauge(CONNECTIONS_METRIC_NAME, "idle")).isEqualTo(1);
+
+    second.acquired(connection);
+    second.end(true);
+
+    assertThat(gauge(WAITING_METRIC_NAME, null)).isZero();
+    assertThat(timerCount(CONNECT_METRIC_NAME)).isEqualTo(1);
+    assertThat(timerCount(WAIT_METRIC_NAME)).isEqualTo(1);
+    assertThat(timerCount(FIRST_BYTE_METRIC_NAME)).isEqualTo(1);
+    assertThat(meterRegistry.get(LATENCY_METRIC_NAME).tag("outcome", "success").timer().count()).isEqualTo(2);
+    assertThat(meterRegistry.find(LATENCY_METRIC_NAME).tag("outcome", "failure").timer().count()).isZero();
+    assertThat(meterRegistry.get(LATENCY_METRIC_NAME).tag("outcome", "success").timer().takeSnapshot()
+      .percentileValues()).hasSize(2);
+  }
+
+  @Test
+  void exchange_positive_prewarm() {
+    when(properties.enabled()).thenReturn(true);
+    upstreamMetrics = new UpstreamMetrics(properties, meterRegistry);
+
+    var exchange = upstreamMetrics.beginPrewarm(EGRESS, UPSTREAM);
+    exchange.acquired(connection);
+    exchange.responded();
+    exchange.end(true);
+
+    assertThat(gauge(WAITING_METRIC_NAME, null)).isZero();
+    assertThat(gauge(CONNECTIONS_METRIC_NAME, "idle")).isEqualTo(1);
+    assertThat(timerCount(CONNECT_METRIC_NAME)).isEqualTo(1);
+    assertThat(timerCount(FIRST_BYTE_METRIC_NAME)).isZero();
+    assertThat(meterRegistry.get(LATENCY_METRIC_NAME).tag("outcome", "success").timer().count()).isZero();
+  }
+
+  @Test
+  void exchange_positive_connectionClosedInUse() {
+    when(properties.enabled()).thenReturn(true);
+    upstreamMetrics = new UpstreamMetrics(properties, meterRegistry);
+
+    var exchange = upstreamMetrics.begin(INGRESS, UPSTREAM);
+    exchange.acquired(connection);
+    verify(connection).closeHandler(closeHandlerCaptor.capture());
+
+    closeHandlerCaptor.getValue().handle(null);
+    exchange.end(false);
+
+    assertThat(gauge(CONNECTIONS_METRIC_NAME, "in-use")).isZero();
+    assertThat(gauge(CONNECTIONS_METRIC_NAME, "idle")).isZero();
+    assertThat(meterRegistry.get(LATENCY_METRIC_NAME).tag("client", "ingress").tag("outcome", "failure")
+      .timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  void exchange_positive_notAcquired() {
+    when(properties.enabled()).thenReturn(true);
+    upstreamMetrics = new UpstreamMetrics(properties, meterRegistry);
+
+    var exchange = upstreamMetrics.begin(EGRESS, UPSTREAM);
+    exchange.responded();
+    exchange.end(false);
+
+    verify(connection, never()).closeHandler(any());
+    assertThat(gauge(WAITING_METRIC_NAME, null)).isZero();
+    assertThat(timerCount(FIRST_BYTE_METRIC_NAME)).isZero();
+    assertThat(meterRegistry.get(LATENCY_METRIC_NAME).tag("outcome", "failure").timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  void begin_positive_destinationsLimited() {
+    when(properties.enabled()).thenReturn(true);
+    upstreamMetrics = new UpstreamMetrics(properties, meterRegistry);
+
+    for (int i = 0; i <= UpstreamMetrics.MAX_DESTINATIONS; i++) {
+      upstreamMetrics.begin(EGRESS, UpstreamLocation.parse("http://mod-foo-" + i + ":8081", false)).end(true);
+    }
+
+    assertThat(meterRegistry.find(LATENCY_METRIC_NAME).tag("outcome", "success").timers())
+      .hasSize(UpstreamMetrics.MAX_DESTINATIONS + 1);
+    assertThat(meterRegistry.get(LATENCY_METRIC_NAME).tag("destination", UpstreamMetrics.OTHER_DESTINATION)
+      .tag("outcome", "success").timer().count()).isEqualTo(1);
+  }
+
+  private double gauge(String name, String state) {
+    var search = meterRegistry.get(name).tag("destination", DESTINATION);
+    return (state == null ? search : search.tag("state", state)).gauge().value();
+  }
+
+  private long timerCount(String name) {
+    return meterRegistry.get(name).tag("destination", DESTINATION).timer().count();
+  }
+}
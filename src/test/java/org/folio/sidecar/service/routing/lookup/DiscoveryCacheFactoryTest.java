@@ -1,6 +1,8 @@
 package org.folio.sidecar.service.routing.lookup;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.sidecar.support.TestConstants.MODULE_ID;
+import static org.folio.sidecar.support.TestValues.moduleDiscovery;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
@@ -8,8 +10,10 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.vertx.core.Promise;
 import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.concurrent.TimeUnit;
@@ -44,7 +48,7 @@ class DiscoveryCacheFactoryTest {
       when(cacheSettings.expireAfterWrite()).thenReturn(Optional.of(new DurationMock(1, TimeUnit.SECONDS)));
       var result = mock(AsyncLoadingCache.class);
       when(caffeine.removalListener(any())).thenReturn(caffeine);
-      when(caffeine.buildAsync(any())).thenReturn(result);
+      when(caffeine.buildAsync(any(AsyncCacheLoader.class))).thenReturn(result);
 
       AsyncLoadingCache<String, ModuleDiscovery> cache = discoveryCacheFactory.createCache(cacheSettings);
 
@@ -69,7 +73,7 @@ class DiscoveryCacheFactoryTest {
       when(cacheSettings.expireAfterWrite()).thenReturn(Optional.empty());
       var result = mock(AsyncLoadingCache.class);
       when(caffeine.removalListener(any())).thenReturn(caffeine);
-      when(caffeine.buildAsync(any())).thenReturn(result);
+      when(caffeine.buildAsync(any(AsyncCacheLoader.class))).thenReturn(result);
 
       AsyncLoadingCache<String, ModuleDiscovery> cache = discoveryCacheFactory.createCache(cacheSettings);
 
@@ -78,6 +82,20 @@ class DiscoveryCacheFactoryTest {
     }
   }
 
+  @Test
+  void createCache_positive_loaderCompletesWithoutBlocking() {
+    var discovery = Promise.<ModuleDiscovery>promise();
+    when(applicationManagerService.getModuleDiscovery(MODULE_ID)).thenReturn(discovery.future());
+    var cache = discoveryCacheFactory.createCache(cacheSettings);
+
+    var actual = cache.get(MODULE_ID);
+    assertThat(actual).isNotDone();
+
+    var md = moduleDiscovery();
+    discovery.complete(md);
+    assertThat(actual).isCompletedWithValue(md);
+  }
+
   private record DurationMock(long duration, TimeUnit unit) implements CacheSettings.Duration {
   }
 }
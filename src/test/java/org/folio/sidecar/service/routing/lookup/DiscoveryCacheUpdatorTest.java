@@ -1,6 +1,12 @@
 package org.folio.sidecar.service.routing.lookup;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.sidecar.support.TestConstants.MODULE_ID;
+import static org.folio.sidecar.support.TestConstants.MODULE_NAME;
+import static org.folio.sidecar.support.TestConstants.MODULE_VERSION;
+import static org.folio.sidecar.support.TestValues.moduleDiscovery;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -8,6 +14,10 @@ import static org.mockito.Mockito.when;
 
 import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.vertx.core.Promise;
+import java.util.concurrent.atomic.AtomicReference;
+import org.folio.sidecar.configuration.properties.CacheSettings;
+import org.folio.sidecar.integration.am.ApplicationManagerService;
 import org.folio.sidecar.integration.am.model.ModuleDiscovery;
 import org.folio.support.types.UnitTest;
 import org.junit.jupiter.api.Test;
@@ -30,14 +40,47 @@ class DiscoveryCacheUpdatorTest {
     String moduleId = "test-module-id";
     when(cache.getIfPresent(moduleId)).thenReturn(completedFuture(mock(ModuleDiscovery.class)));
     when(cache.synchronous()).thenReturn(syncCache);
+    when(syncCache.refresh(moduleId)).thenReturn(completedFuture(mock(ModuleDiscovery.class)));
+
+    discoveryCacheUpdator.onDiscovery(moduleId);
+
+    verify(syncCache).refresh(moduleId);
+    verifyNoMoreInteractions(cache, syncCache);
+  }
+
+  @Test
+  void onDiscovery_negative_refreshFailedInvalidatesEntry() {
+    String moduleId = "test-module-id";
+    when(cache.getIfPresent(moduleId)).thenReturn(completedFuture(mock(ModuleDiscovery.class)));
+    when(cache.synchronous()).thenReturn(syncCache);
+    when(syncCache.refresh(moduleId)).thenReturn(failedFuture(new RuntimeException("am down")));
 
     discoveryCacheUpdator.onDiscovery(moduleId);
 
-    verify(syncCache).invalidate(moduleId);
     verify(syncCache).refresh(moduleId);
+    verify(syncCache).invalidate(moduleId);
     verifyNoMoreInteractions(cache, syncCache);
   }
 
+  @Test
+  void onDiscovery_positive_staleDiscoveryServedDuringRefresh() {
+    var discovery = new AtomicReference<>(Promise.<ModuleDiscovery>promise());
+    var appManagerService = mock(ApplicationManagerService.class);
+    when(appManagerService.getModuleDiscovery(MODULE_ID)).thenAnswer(inv -> discovery.get().future());
+    var realCache = new DiscoveryCacheFactory(appManagerService).createCache(mock(CacheSettings.class));
+    var stale = moduleDiscovery();
+    realCache.get(MODULE_ID);
+    discovery.get().complete(stale);
+
+    discovery.set(Promise.promise());
+    new DiscoveryCacheUpdator(realCache).onDiscovery(MODULE_ID);
+
+    assertThat(realCache.get(MODULE_ID)).isCompletedWithValue(stale);
+    var updated = moduleDiscovery(MODULE_ID, MODULE_NAME, MODULE_VERSION, "http://mod-foo-updated:8081");
+    discovery.get().complete(updated);
+    assertThat(realCache.get(MODULE_ID)).isCompletedWithValue(updated);
+  }
+
   @Test
   void onDiscovery_positive_moduleIdNotInCache() {
     String moduleId = "test-module-id";
@@ -13,6 +13,8 @@ import static org.folio.sidecar.support.TestConstants.TENANT_ID;
 import static org.folio.sidecar.support.TestConstants.TENANT_NAME;
 import static org.folio.sidecar.support.TestValues.moduleDiscovery;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
@@ -24,6 +26,7 @@ import io.vertx.ext.web.RoutingContext;
 import java.util.List;
 import java.util.Optional;
 import org.assertj.core.api.ThrowingConsumer;
+import org.folio.sidecar.configuration.properties.CacheSettings;
 import org.folio.sidecar.integration.am.model.ModuleBootstrapEndpoint;
 import org.folio.sidecar.integration.am.model.ModuleDiscovery;
 import org.folio.sidecar.integration.te.TenantEntitlementService;
@@ -32,11 +35,11 @@ import org.folio.sidecar.model.ScRoutingEntry;
 import org.folio.sidecar.support.TestConstants;
 import org.folio.support.types.UnitTest;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -51,9 +54,14 @@ class DynamicRoutingLookupTest {
   private TenantEntitlementService tenantEntitlementService;
   @Mock
   private AsyncLoadingCache<String, ModuleDiscovery> discoveryCache;
-  @InjectMocks
   private DynamicRoutingLookup dynamicRoutingLookup;
 
+  @BeforeEach
+  void setUp() {
+    var moduleIndex = new TenantModuleIndex(tenantEntitlementService, mock(CacheSettings.class));
+    dynamicRoutingLookup = new DynamicRoutingLookup(moduleIndex, discoveryCache);
+  }
+
   @AfterEach
   void tearDown() {
     verifyNoMoreInteractions(tenantEntitlementService, discoveryCache);
@@ -138,6 +146,25 @@ class DynamicRoutingLookupTest {
     assertThat(actual.result()).isEqualTo(Optional.of(expected));
   }
 
+  @Test
+  void lookupRoute_positive_moduleNameResolvedFromIndex() {
+    var rc = mockModuleHint(TestConstants.MODULE_NAME);
+    when(rc.request().method()).thenReturn(GET);
+    when(rc.request().headers().get(TENANT)).thenReturn(TENANT_NAME);
+    when(discoveryCache.get(MODULE_ID)).thenReturn(completedFuture(moduleDiscovery()));
+    when(tenantEntitlementService.getTenantEntitlements(TENANT_NAME, true))
+      .thenReturn(succeededFuture(asSinglePage(List.of(
+        Entitlement.of(TestConstants.APPLICATION_ID, TENANT_ID, List.of(MODULE_ID, ANOTHER_MODULE_ID))
+      ))));
+
+    dynamicRoutingLookup.lookupRoute(PATH, rc);
+    var actual = dynamicRoutingLookup.lookupRoute(PATH, rc);
+
+    assertThat(actual.succeeded()).isTrue();
+    verify(tenantEntitlementService).getTenantEntitlements(TENANT_NAME, true);
+    verify(discoveryCache, times(2)).get(MODULE_ID);
+  }
+
   @ParameterizedTest
   @NullAndEmptySource
   void lookupRoute_negative_moduleHintHeaderBlank(String moduleHint) {
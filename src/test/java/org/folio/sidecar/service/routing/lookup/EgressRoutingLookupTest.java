@@ -1,5 +1,6 @@
 package org.folio.sidecar.service.routing.lookup;
 
+import static io.vertx.core.Future.succeededFuture;
 import static io.vertx.core.http.HttpMethod.DELETE;
 import static io.vertx.core.http.HttpMethod.GET;
 import static io.vertx.core.http.HttpMethod.PATCH;
@@ -10,21 +11,30 @@ import static java.util.List.of;
 import static java.util.Optional.ofNullable;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.folio.sidecar.service.routing.ModuleBootstrapListener.ChangeType.INIT;
+import static org.folio.sidecar.service.routing.ModuleBootstrapListener.ChangeType.UPDATE;
+import static org.folio.sidecar.support.TestConstants.APPLICATION_ID;
 import static org.folio.sidecar.support.TestConstants.MODULE_BOOTSTRAP_EGRESS;
 import static org.folio.sidecar.support.TestConstants.TENANT_NAME;
+import static org.folio.sidecar.support.TestUtils.parse;
+import static org.folio.sidecar.support.TestUtils.readString;
 import static org.folio.sidecar.support.TestValues.routingEntryWithPerms;
 import static org.folio.sidecar.utils.CollectionUtils.safeList;
 import static org.folio.sidecar.utils.RoutingUtils.MULTIPLE_INTERFACE_TYPE;
+import static org.folio.sidecar.utils.RoutingUtils.EGRESS_ROUTING_VERSION_KEY;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Promise;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.ext.web.RoutingContext;
 import java.util.List;
 import java.util.stream.Stream;
+import org.folio.sidecar.integration.am.model.ModuleBootstrap;
 import org.folio.sidecar.integration.okapi.OkapiHeaders;
 import org.folio.sidecar.model.ScRoutingEntry;
 import org.folio.support.types.UnitTest;
@@ -41,8 +51,10 @@ class EgressRoutingLookupTest {
 
   private static final Module MOD_BAR = new Module("mod-bar-0.5.1", "http://mod-bar:8081");
   private static final Module MOD_BAZ = new Module("mod-baz-0.5.1", "http://mod-baz:8081");
+  private static final List<String> APPLICATIONS = List.of(APPLICATION_ID);
 
-  private final EgressRoutingLookup egressLookup = new EgressRoutingLookup();
+  private final EgressRoutingLookup egressLookup =
+    new EgressRoutingLookup(RoutingLookupCache.disabled(), new SimpleMeterRegistry(), tenant -> succeededFuture());
 
   @ParameterizedTest(name = "[{index}] {0}: {1}")
   @MethodSource("egressRequestDataProvider")
@@ -126,7 +138,7 @@ class EgressRoutingLookupTest {
   @Test
   void lookupRoute_positive_tenantScopedResolvesPerTenant() {
     egressLookup.tenantScoped = true;
-    egressLookup.updateTenantEgressRoutes(TENANT_NAME, MODULE_BOOTSTRAP_EGRESS.getRequiredModules());
+    egressLookup.updateTenantEgressRoutes(TENANT_NAME, APPLICATIONS, MODULE_BOOTSTRAP_EGRESS.getRequiredModules());
 
     var rc = routingContext(POST);
     when(rc.request().getHeader(OkapiHeaders.TENANT)).thenReturn(TENANT_NAME);
@@ -138,10 +150,131 @@ class EgressRoutingLookupTest {
       scRoutingEntry("bar", "/bar/entities", of(POST), of("item.post"))));
   }
 
+  @Test
+  void lookupRoute_positive_tenantScopedRoutingVersion() {
+    egressLookup.tenantScoped = true;
+    egressLookup.onRequiredModulesBootstrap(MODULE_BOOTSTRAP_EGRESS.getRequiredModules(), INIT);
+    egressLookup.updateTenantEgressRoutes(TENANT_NAME, APPLICATIONS, MODULE_BOOTSTRAP_EGRESS.getRequiredModules());
+
+    var rc = routingContext(POST);
+    when(rc.request().getHeader(OkapiHeaders.TENANT)).thenReturn(TENANT_NAME);
+
+    egressLookup.lookupRoute("/bar/entities", rc);
+
+    verify(rc).put(EGRESS_ROUTING_VERSION_KEY, 2L);
+  }
+
+  @Test
+  void onRequiredModulesBootstrap_positive_unchangedModulesKeepSnapshot() {
+    egressLookup.onRequiredModulesBootstrap(MODULE_BOOTSTRAP_EGRESS.getRequiredModules(), INIT);
+    var before = egressLookup.lookupRoute("/bar/entities", routingContext(POST)).result();
+
+    egressLookup.onRequiredModulesBootstrap(egressBootstrap().getRequiredModules(), UPDATE);
+    var rc = routingContext(POST);
+    var after = egressLookup.lookupRoute("/bar/entities", rc).result();
+
+    verify(rc).put(EGRESS_ROUTING_VERSION_KEY, 1L);
+    assertThat(after).containsSame(before.orElseThrow());
+  }
+
+  @Test
+  void onRequiredModulesBootstrap_positive_recompilesOnlyChangedModule() {
+    egressLookup.onRequiredModulesBootstrap(MODULE_BOOTSTRAP_EGRESS.getRequiredModules(), INIT);
+    var barBefore = egressLookup.lookupRoute("/bar/entities", routingContext(POST)).result();
+    var bazBefore = egressLookup.lookupRoute("/bam/multi/entities/1", bazRoutingContext()).result();
+
+    var updatedModules = egressBootstrap().getRequiredModules();
+    updatedModules.stream()
+      .filter(module -> module.getModuleId().equals(MOD_BAR.id()))
+      .forEach(module -> module.setLocation("http://mod-bar-updated:8081"));
+    egressLookup.onRequiredModulesBootstrap(updatedModules, UPDATE);
+
+    var rc = routingContext(POST);
+    var barAfter = egressLookup.lookupRoute("/bar/entities", rc).result();
+    var bazAfter = egressLookup.lookupRoute("/bam/multi/entities/1", bazRoutingContext()).result();
+
+    verify(rc).put(EGRESS_ROUTING_VERSION_KEY, 2L);
+    assertThat(barBefore.orElseThrow().getLocation()).isEqualTo(MOD_BAR.url());
+    assertThat(barAfter.orElseThrow().getLocation()).isEqualTo("http://mod-bar-updated:8081");
+    assertThat(bazAfter).containsSame(bazBefore.orElseThrow());
+  }
+
+  @Test
+  void updateTenantEgressRoutes_positive_tenantsWithSameApplicationsShareRoutes() {
+    egressLookup.tenantScoped = true;
+    egressLookup.updateTenantEgressRoutes(TENANT_NAME, APPLICATIONS, MODULE_BOOTSTRAP_EGRESS.getRequiredModules());
+    egressLookup.updateTenantEgressRoutes("other-tenant", APPLICATIONS, egressBootstrap().getRequiredModules());
+
+    var rc = tenantRoutingContext("other-tenant");
+    var actual = egressLookup.lookupRoute("/bar/entities", tenantRoutingContext(TENANT_NAME)).result();
+    var shared = egressLookup.lookupRoute("/bar/entities", rc).result();
+
+    verify(rc).put(EGRESS_ROUTING_VERSION_KEY, 1L);
+    assertThat(shared).containsSame(actual.orElseThrow());
+  }
+
+  @Test
+  void assignTenantEgressRoutes_positive_existingRoutes() {
+    egressLookup.tenantScoped = true;
+    egressLookup.updateTenantEgressRoutes(TENANT_NAME, APPLICATIONS, MODULE_BOOTSTRAP_EGRESS.getRequiredModules());
+
+    var assigned = egressLookup.assignTenantEgressRoutes("other-tenant", APPLICATIONS);
+    var actual = egressLookup.lookupRoute("/bar/entities", tenantRoutingContext("other-tenant"));
+
+    assertThat(assigned).isTrue();
+    assertThat(actual.result()).isEqualTo(ofNullable(
+      scRoutingEntry("bar", "/bar/entities", of(POST), of("item.post"))));
+  }
+
+  @Test
+  void assignTenantEgressRoutes_negative_unknownApplications() {
+    egressLookup.tenantScoped = true;
+    egressLookup.updateTenantEgressRoutes(TENANT_NAME, APPLICATIONS, MODULE_BOOTSTRAP_EGRESS.getRequiredModules());
+
+    var assigned = egressLookup.assignTenantEgressRoutes("other-tenant", List.of(APPLICATION_ID, "app-bar-1.0.0"));
+    var actual = egressLookup.lookupRoute("/bar/entities", tenantRoutingContext("other-tenant"));
+
+    assertThat(assigned).isFalse();
+    assertThat(actual.result()).isEmpty();
+  }
+
+  @Test
+  void removeTenantEgressRoutes_positive_sharedRoutesKeptForOtherTenant() {
+    egressLookup.tenantScoped = true;
+    egressLookup.updateTenantEgressRoutes(TENANT_NAME, APPLICATIONS, MODULE_BOOTSTRAP_EGRESS.getRequiredModules());
+    egressLookup.assignTenantEgressRoutes("other-tenant", APPLICATIONS);
+
+    egressLookup.removeTenantEgressRoutes(TENANT_NAME);
+
+    assertThat(egressLookup.lookupRoute("/bar/entities", tenantRoutingContext(TENANT_NAME)).result()).isEmpty();
+    assertThat(egressLookup.lookupRoute("/bar/entities", tenantRoutingContext("other-tenant")).result()).isPresent();
+
+    egressLookup.removeTenantEgressRoutes("other-tenant");
+
+    assertThat(egressLookup.assignTenantEgressRoutes(TENANT_NAME, APPLICATIONS)).isFalse();
+  }
+
+  @Test
+  void lookupRoute_positive_tenantScopedWaitsForLazyBuild() {
+    var build = Promise.<Void>promise();
+    var lazyLookup = new EgressRoutingLookup(RoutingLookupCache.disabled(), new SimpleMeterRegistry(),
+      tenant -> build.future());
+    lazyLookup.tenantScoped = true;
+
+    var actual = lazyLookup.lookupRoute("/bar/entities", tenantRoutingContext(TENANT_NAME));
+    assertThat(actual.isComplete()).isFalse();
+
+    lazyLookup.updateTenantEgressRoutes(TENANT_NAME, APPLICATIONS, MODULE_BOOTSTRAP_EGRESS.getRequiredModules());
+    build.complete();
+
+    assertThat(actual.result()).isEqualTo(ofNullable(
+      scRoutingEntry("bar", "/bar/entities", of(POST), of("item.post"))));
+  }
+
   @Test
   void lookupRoute_negative_tenantScopedUnknownTenant() {
     egressLookup.tenantScoped = true;
-    egressLookup.updateTenantEgressRoutes(TENANT_NAME, MODULE_BOOTSTRAP_EGRESS.getRequiredModules());
+    egressLookup.updateTenantEgressRoutes(TENANT_NAME, APPLICATIONS, MODULE_BOOTSTRAP_EGRESS.getRequiredModules());
 
     var rc = routingContext(POST);
     when(rc.request().getHeader(OkapiHeaders.TENANT)).thenReturn("other-tenant");
@@ -155,7 +288,7 @@ class EgressRoutingLookupTest {
   @Test
   void lookupRoute_negative_tenantScopedAfterRemove() {
     egressLookup.tenantScoped = true;
-    egressLookup.updateTenantEgressRoutes(TENANT_NAME, MODULE_BOOTSTRAP_EGRESS.getRequiredModules());
+    egressLookup.updateTenantEgressRoutes(TENANT_NAME, APPLICATIONS, MODULE_BOOTSTRAP_EGRESS.getRequiredModules());
     egressLookup.removeTenantEgressRoutes(TENANT_NAME);
 
     var rc = routingContext(POST);
@@ -170,7 +303,7 @@ class EgressRoutingLookupTest {
   @Test
   void lookupRoute_negative_tenantScopedNullTenant() {
     egressLookup.tenantScoped = true;
-    egressLookup.updateTenantEgressRoutes(TENANT_NAME, MODULE_BOOTSTRAP_EGRESS.getRequiredModules());
+    egressLookup.updateTenantEgressRoutes(TENANT_NAME, APPLICATIONS, MODULE_BOOTSTRAP_EGRESS.getRequiredModules());
 
     var rc = routingContext(POST);
     when(rc.request().getHeader(OkapiHeaders.TENANT)).thenReturn(null);
@@ -195,6 +328,22 @@ class EgressRoutingLookupTest {
     assertThat(actual.result()).isEmpty();
   }
 
+  private static RoutingContext bazRoutingContext() {
+    var rc = routingContext(GET);
+    when(rc.request().getHeader(OkapiHeaders.MODULE_ID)).thenReturn(MOD_BAZ.id());
+    return rc;
+  }
+
+  private static RoutingContext tenantRoutingContext(String tenant) {
+    var rc = routingContext(POST);
+    when(rc.request().getHeader(OkapiHeaders.TENANT)).thenReturn(tenant);
+    return rc;
+  }
+
+  private static ModuleBootstrap egressBootstrap() {
+    return parse(readString("json/module-bootstrap-egress.json"), ModuleBootstrap.class);
+  }
+
   private static RoutingContext routingContext(HttpMethod method) {
     var routingContext = mock(RoutingContext.class);
     var request = mock(HttpServerRequest.class);
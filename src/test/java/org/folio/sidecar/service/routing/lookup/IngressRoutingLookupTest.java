@@ -9,18 +9,25 @@ import static io.vertx.core.http.HttpMethod.PUT;
 import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.folio.sidecar.service.routing.ModuleBootstrapListener.ChangeType.INIT;
+import static org.folio.sidecar.service.routing.ModuleBootstrapListener.ChangeType.UPDATE;
+import static org.folio.sidecar.utils.RoutingUtils.INGRESS_ROUTING_VERSION_KEY;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.ext.web.RoutingContext;
+import java.util.List;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
 import org.folio.sidecar.integration.am.model.ModuleBootstrapDiscovery;
 import org.folio.sidecar.integration.okapi.OkapiHeaders;
+import org.folio.sidecar.model.RouteHits;
 import org.folio.sidecar.model.ScRoutingEntry;
 import org.folio.sidecar.support.TestConstants;
 import org.folio.sidecar.support.TestValues;
@@ -37,7 +44,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 class IngressRoutingLookupTest {
 
-  private final IngressRoutingLookup ingressLookup = new IngressRoutingLookup();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final IngressRoutingLookup ingressLookup =
+    new IngressRoutingLookup(RoutingLookupCache.disabled(), meterRegistry);
 
   @ParameterizedTest(name = "[{index}] {0}: {1}")
   @MethodSource("ingressRequestDataProvider")
@@ -83,6 +92,53 @@ class IngressRoutingLookupTest {
     assertThat(actual.result()).isEmpty();
   }
 
+  @Test
+  void lookupRoute_positive_routingVersionIncrementedOnChange() {
+    ingressLookup.onModuleBootstrap(TestConstants.MODULE_BOOTSTRAP.getModule(), INIT);
+    ingressLookup.onModuleBootstrap(TestConstants.MODULE_BOOTSTRAP_MULTI.getModule(), UPDATE);
+    ingressLookup.onModuleBootstrap(TestConstants.MODULE_BOOTSTRAP_MULTI.getModule(), UPDATE);
+    var rc = routingContext(GET);
+
+    ingressLookup.lookupRoute("/foo/entities", rc);
+
+    verify(rc).put(INGRESS_ROUTING_VERSION_KEY, 2L);
+    assertThat(meterRegistry.get(RoutingSnapshot.VERSION_METRIC_NAME).tag("lookup", "ingress").gauge().value())
+      .isEqualTo(2);
+  }
+
+  @Test
+  void getRouteHits_positive() {
+    ingressLookup.onModuleBootstrap(TestConstants.MODULE_BOOTSTRAP.getModule(), INIT);
+
+    ingressLookup.lookupRoute("/foo/entities/1", routingContext(GET));
+    ingressLookup.lookupRoute("/foo/entities", routingContext(GET));
+    ingressLookup.lookupRoute("/foo/entities", routingContext(POST));
+    ingressLookup.lookupRoute("/foo/entities", routingContext(DELETE));
+
+    assertThat(ingressLookup.getRouteHits())
+      .extracting(RouteHits::lookup, RouteHits::path, RouteHits::methods, RouteHits::hits)
+      .containsExactly(
+        tuple("ingress", "/foo/entities", List.of("GET", "POST"), 2L),
+        tuple("ingress", "/foo/entities/{id}", List.of("GET"), 1L));
+  }
+
+  @ParameterizedTest(name = "[{index}] {0}: {1}")
+  @MethodSource("ingressRequestDataProvider")
+  void reorderRoutesByHits_positive_lookupResultsNotChanged(HttpMethod method, String path, ScRoutingEntry expected) {
+    ingressLookup.onModuleBootstrap(TestConstants.MODULE_BOOTSTRAP.getModule(), INIT);
+    ingressRequestDataProvider().forEach(arguments -> {
+      var args = arguments.get();
+      ingressLookup.lookupRoute((String) args[1], routingContext((HttpMethod) args[0]));
+    });
+
+    ingressLookup.reorderRoutesByHits();
+    var rc = routingContext(method);
+    var actual = ingressLookup.lookupRoute(path, rc);
+
+    assertThat(actual.result()).isEqualTo(ofNullable(expected));
+    verify(rc).put(INGRESS_ROUTING_VERSION_KEY, 1L);
+  }
+
   private static Stream<Arguments> ingressRequestDataProvider() {
     var id1 = "00000000-0000-0000-0000-000000000000";
     var id2 = "ffffffff-ffff-ffff-ffff-ffffffffffff";
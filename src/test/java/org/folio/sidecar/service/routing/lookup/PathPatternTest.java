@@ -0,0 +1,198 @@
+package org.folio.sidecar.service.routing.lookup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import java.util.stream.Stream;
+import org.folio.sidecar.integration.am.model.ModuleBootstrapEndpoint;
+import org.folio.support.types.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+@UnitTest
+class PathPatternTest {
+
+  @ParameterizedTest(name = "[{index}] pattern={0}, path={1}")
+  @MethodSource("matchesDataProvider")
+  void matches_parameterized(String pattern, String path, boolean expected) {
+    var pathPattern = PathPattern.compile(pattern);
+
+    assertThat(pathPattern.matches(path)).isEqualTo(expected);
+    assertThat(pathPattern).hasToString(pattern);
+  }
+
+  @ParameterizedTest(name = "[{index}] pattern={0}, path={1}")
+  @MethodSource("matchesDataProvider")
+  void matches_parameterized_sameAsRecursiveMatcher(String pattern, String path, boolean ignored) {
+    assertThat(PathPattern.compile(pattern).matches(path)).isEqualTo(recursiveMatch(pattern, 0, path, 0));
+  }
+
+  @Test
+  void compile_positive_pathPatternHasPriority() {
+    var endpoint = new ModuleBootstrapEndpoint("/foo/{id}", "GET");
+    endpoint.setPath("/bar");
+
+    var matcher = PathMatcher.compile(endpoint);
+
+    assertThat(matcher.matches("/foo/1")).isTrue();
+    assertThat(matcher.matches("/bar/1")).isFalse();
+  }
+
+  @Test
+  void compile_positive_legacyPath() {
+    var endpoint = new ModuleBootstrapEndpoint();
+    endpoint.setPath("/foo");
+
+    var matcher = PathMatcher.compile(endpoint);
+
+    assertThat(matcher.matches("/foo/1")).isTrue();
+    assertThat(matcher.matches("/bar/1")).isFalse();
+  }
+
+  @Test
+  void compile_positive_noPathAndPattern() {
+    assertThat(PathMatcher.compile(new ModuleBootstrapEndpoint())).isSameAs(PathMatcher.ANY);
+  }
+
+  @ParameterizedTest(name = "[{index}] {0} and {1}")
+  @MethodSource("disjointDataProvider")
+  void isDisjoint_parameterized(String pattern, String otherPattern, boolean expected) {
+    var pathPattern = PathPattern.compile(pattern);
+    var otherPathPattern = PathPattern.compile(otherPattern);
+
+    assertThat(pathPattern.isDisjoint(otherPathPattern)).isEqualTo(expected);
+    assertThat(otherPathPattern.isDisjoint(pathPattern)).isEqualTo(expected);
+  }
+
+  @Test
+  void isDisjoint_negative_legacyPath() {
+    var endpoint = new ModuleBootstrapEndpoint();
+    endpoint.setPath("/bar");
+    var legacyMatcher = PathMatcher.compile(endpoint);
+    var pathPattern = PathPattern.compile("/foo/{id}");
+
+    assertThat(pathPattern.isDisjoint(legacyMatcher)).isFalse();
+    assertThat(legacyMatcher.isDisjoint(pathPattern)).isFalse();
+    assertThat(PathMatcher.ANY.isDisjoint(pathPattern)).isFalse();
+  }
+
+  @ParameterizedTest(name = "[{index}] pattern={0}")
+  @MethodSource("idAgnosticDataProvider")
+  void isIdAgnostic_parameterized(String pattern, boolean expected) {
+    assertThat(PathPattern.compile(pattern).isIdAgnostic()).isEqualTo(expected);
+  }
+
+  @Test
+  void isIdAgnostic_positive_legacyPath() {
+    var endpoint = new ModuleBootstrapEndpoint();
+    endpoint.setPath("/foo");
+    var legacyEndpoint = new ModuleBootstrapEndpoint();
+    legacyEndpoint.setPath("/foo/1");
+
+    assertThat(PathMatcher.compile(endpoint).isIdAgnostic()).isTrue();
+    assertThat(PathMatcher.compile(legacyEndpoint).isIdAgnostic()).isFalse();
+    assertThat(PathMatcher.ANY.isIdAgnostic()).isTrue();
+  }
+
+  private static Stream<Arguments> idAgnosticDataProvider() {
+    return Stream.of(
+      arguments("/foo/{id}", true),
+      arguments("/foo/{id}/bar/*", true),
+      arguments("/foo/*.json", true),
+      arguments("/foo/{id}/1", false),
+      arguments("/foo/a{id}", false),
+      arguments("/foo/ab*", false)
+    );
+  }
+
+  private static Stream<Arguments> disjointDataProvider() {
+    return Stream.of(
+      arguments("/foo/bar", "/foo/baz", true),
+      arguments("/foo/bar", "/foo/bar", false),
+      arguments("/foo/bar", "/foo/{id}", false),
+      arguments("/foo/{id}", "/foo/{id}", false),
+      arguments("/foo/{id}", "/foo/{id}/bar", true),
+      arguments("/foo/{id}/bar", "/foo/{id}/baz", true),
+      arguments("/foo/{id}/bar", "/foo/{fooId}/{id}", false),
+      arguments("/foo/bar*", "/foo/baz{id}", true),
+      arguments("/foo/bar*", "/foo/{id}", false),
+      arguments("/foo*", "/foo/bar", false),
+      arguments("/foo*", "/foo/{id}/bar", false),
+      arguments("/foo/*.json", "/foo/*.xml", true),
+      arguments("/foo/*.json", "/foo/{id}.json", false),
+      arguments("/foo/*/bar", "/foo/{id}/bar", false),
+      arguments("/foo/*/bar", "/foo/{id}/baz", true),
+      arguments("/foo/{id/bar", "/foo/{id}/baz", true),
+      arguments("/foo/{a/b}/c", "/foo/x/y/c", true)
+    );
+  }
+
+  private static Stream<Arguments> matchesDataProvider() {
+    return Stream.of(
+      arguments("/foo", "/foo", true),
+      arguments("/foo", "/foo/", false),
+      arguments("/foo", "/fo", false),
+      arguments("/foo/{id}", "/foo/1", true),
+      arguments("/foo/{id}", "/foo/", false),
+      arguments("/foo/{id}", "/foo/1/2", false),
+      arguments("/foo/{id}/bar", "/foo/1/bar", true),
+      arguments("/foo/{id}/bar", "/foo/1/baz", false),
+      arguments("/foo/{id}.json", "/foo/1.json", false),
+      arguments("/foo/{a}/{b}", "/foo/1/2", true),
+      arguments("/foo*", "/foo", true),
+      arguments("/foo*", "/foo/bar/baz", true),
+      arguments("/foo*", "/fo", false),
+      arguments("/foo/*", "/foo/", true),
+      arguments("/foo/*", "/foo", false),
+      arguments("*", "", true),
+      arguments("*", "/foo", true),
+      arguments("/*/bar", "/foo/baz/bar", true),
+      arguments("/*/bar", "/foo/baz/bar/", false),
+      arguments("/*/bar/*", "/foo/bar/baz", true),
+      arguments("/*/{id}", "/foo/1", true),
+      arguments("/*/{id}", "/foo/", false),
+      arguments("/foo/*/{id}/baz", "/foo/a/b/1/baz", true),
+      arguments("/foo/*/{id}/baz", "/foo/a/b/1/bar", false),
+      arguments("/foo/*/{id}/*/baz", "/foo/a/1/b/baz", true),
+      arguments("/foo/**/bar", "/foo/x/bar", true),
+      arguments("/a*a*a*a*b", "/aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa", false),
+      arguments("/a*a*a*a*b", "/aaaaaaaaaaaaaaaaaaaaaaaaaaaaaab", true),
+      arguments("/*/*/*/*/x", "/a/b/c/d/e/f/g/h/i/j/k/l/m/n/o/p/y", false),
+      arguments("/*ab*ab", "/xabyab", true),
+      arguments("/*ab*ab", "/xabyba", false),
+      arguments("/*{id}/x", "/foo/x", true),
+      arguments("/*{id}x", "/foox", false)
+    );
+  }
+
+  /**
+   * Reference recursive matcher, used to check that the compiled pattern matches the same paths.
+   */
+  private static boolean recursiveMatch(String pattern, int patternIndex, String path, int pathIndex) {
+    while (patternIndex < pattern.length()) {
+      var patternChar = pattern.charAt(patternIndex++);
+      if (patternChar == '{') {
+        patternIndex = pattern.indexOf('}', patternIndex) + 1;
+        var start = pathIndex;
+        while (pathIndex < path.length() && path.charAt(pathIndex) != '/') {
+          pathIndex++;
+        }
+        if (start == pathIndex) {
+          return false;
+        }
+      } else if (patternChar == '*') {
+        for (var i = pathIndex; i <= path.length(); i++) {
+          if (recursiveMatch(pattern, patternIndex, path, i)) {
+            return true;
+          }
+        }
+        return false;
+      } else if (pathIndex == path.length() || patternChar != path.charAt(pathIndex++)) {
+        return false;
+      }
+    }
+    return pathIndex == path.length();
+  }
+}
@@ -0,0 +1,63 @@
+package org.folio.sidecar.service.routing.lookup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import java.util.stream.Stream;
+import org.folio.support.types.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+@UnitTest
+class PathShapeTest {
+
+  private static final String UUID = "d3c1a1c2-5b8e-4f0a-9c3e-1f2a3b4c5d6e";
+
+  @ParameterizedTest(name = "[{index}] path={0}")
+  @MethodSource("shapeDataProvider")
+  void of_parameterized(String path, String expected) {
+    assertThat(PathShape.of(path)).isEqualTo(expected);
+  }
+
+  @Test
+  void of_positive_sameStringWithoutIds() {
+    var path = "/foo/bar";
+
+    assertThat(PathShape.of(path)).isSameAs(path);
+  }
+
+  @ParameterizedTest(name = "[{index}] literal={0}")
+  @MethodSource("idAgnosticDataProvider")
+  void isIdAgnostic_parameterized(String literal, boolean expected) {
+    assertThat(PathShape.isIdAgnostic(literal)).isEqualTo(expected);
+  }
+
+  private static Stream<Arguments> shapeDataProvider() {
+    return Stream.of(
+      arguments("/foo/" + UUID, "/foo/{id}"),
+      arguments("/foo/" + UUID.toUpperCase() + "/bar", "/foo/{id}/bar"),
+      arguments("/foo/123/bar/" + UUID + "/", "/foo/{id}/bar/{id}/"),
+      arguments("/foo/v1/" + UUID.replace('-', 'x'), "/foo/v1/" + UUID.replace('-', 'x')),
+      arguments("/foo/" + UUID + "0", "/foo/" + UUID + "0"),
+      arguments("/foo//bar", "/foo//bar"),
+      arguments("/", "/"),
+      arguments("", "")
+    );
+  }
+
+  private static Stream<Arguments> idAgnosticDataProvider() {
+    return Stream.of(
+      arguments("/foo/", true),
+      arguments("/_/tenant", true),
+      arguments("/foo-bar/v1", true),
+      arguments(".json", true),
+      arguments("", true),
+      arguments("/foo/bad", false),
+      arguments("/foo/1/", false),
+      arguments("/foo/a", false),
+      arguments("-", false)
+    );
+  }
+}
@@ -0,0 +1,206 @@
+package org.folio.sidecar.service.routing.lookup;
+
+import static io.vertx.core.Future.succeededFuture;
+import static io.vertx.core.http.HttpMethod.GET;
+import static io.vertx.core.http.HttpMethod.POST;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.sidecar.service.routing.ModuleBootstrapListener.ChangeType.INIT;
+import static org.folio.sidecar.service.routing.ModuleBootstrapListener.ChangeType.UPDATE;
+import static org.folio.sidecar.service.routing.lookup.RoutingLookupCacheFactory.HIT_RATIO_METRIC_NAME;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.RoutingContext;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.folio.sidecar.configuration.properties.CacheSettings;
+import org.folio.sidecar.integration.am.model.ModuleBootstrapDiscovery;
+import org.folio.sidecar.integration.am.model.ModuleBootstrapEndpoint;
+import org.folio.sidecar.integration.am.model.ModuleBootstrapInterface;
+import org.folio.sidecar.integration.okapi.OkapiHeaders;
+import org.folio.sidecar.model.ScRoutingEntry;
+import org.folio.sidecar.service.routing.configuration.properties.LookupCacheProperties;
+import org.folio.support.types.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class RoutingLookupCacheTest {
+
+  private static final ScRoutingEntry ENTRY = ScRoutingEntry.of("mod-foo-1.0.0", "http://mod-foo:8081", "foo",
+    new ModuleBootstrapEndpoint("/foo/{id}", "GET"));
+  private static final RouteCandidate CANDIDATE = RouteCandidate.of(ENTRY);
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  void get_positive_cachesFoundAndNotFoundResults() {
+    var cache = enabledCache("ingress");
+    var routes = new RoutingSnapshot(1, RoutingTrie.builder().add("/foo/", ENTRY).build(), List.of());
+    var lookups = new AtomicInteger();
+
+    var found = cache.get(request(GET, null), "/foo/1", routes, countingLookup(lookups, Optional.of(CANDIDATE)));
+    var foundAgain = cache.get(request(GET, null), "/foo/1", routes, countingLookup(lookups, Optional.empty()));
+    var notFound = cache.get(request(POST, null), "/foo/1", routes, countingLookup(lookups, Optional.empty()));
+    var notFoundAgain = cache.get(request(POST, null), "/foo/1", routes,
+      countingLookup(lookups, Optional.of(CANDIDATE)));
+
+    assertThat(found).contains(ENTRY);
+    assertThat(foundAgain).contains(ENTRY);
+    assertThat(notFound).isEmpty();
+    assertThat(notFoundAgain).isEmpty();
+    assertThat(lookups).hasValue(2);
+    assertThat(cache.hitRatio()).isEqualTo(0.5);
+    assertThat(meterRegistry.get(HIT_RATIO_METRIC_NAME).tag("lookup", "ingress").gauge().value()).isEqualTo(0.5);
+  }
+
+  @Test
+  void get_positive_keyedByModuleIdHeaderAndRoutes() {
+    var cache = enabledCache("egress");
+    var routes = new RoutingSnapshot(1, RoutingTrie.builder().add("/foo/", ENTRY).build(), List.of());
+    var otherRoutes = new RoutingSnapshot(2, RoutingTrie.builder().add("/foo/", ENTRY).build(), List.of());
+    var lookups = new AtomicInteger();
+
+    cache.get(request(GET, null), "/foo/1", routes, countingLookup(lookups, Optional.of(CANDIDATE)));
+    cache.get(request(GET, "mod-foo-1.0.0"), "/foo/1", routes, countingLookup(lookups, Optional.of(CANDIDATE)));
+    cache.get(request(GET, null), "/foo/1", otherRoutes, countingLookup(lookups, Optional.of(CANDIDATE)));
+
+    assertThat(lookups).hasValue(3);
+  }
+
+  @Test
+  void get_positive_keyedByPathShape() {
+    var cache = enabledCache("ingress");
+    var routes = new RoutingSnapshot(1, RoutingTrie.builder().add("/foo/", ENTRY).build(), List.of());
+    var lookups = new AtomicInteger();
+
+    cache.get(request(GET, null), "/foo/" + UUID.randomUUID(), routes, countingLookup(lookups, Optional.of(CANDIDATE)));
+    cache.get(request(GET, null), "/foo/" + UUID.randomUUID(), routes, countingLookup(lookups, Optional.of(CANDIDATE)));
+    cache.get(request(GET, null), "/foo/1", routes, countingLookup(lookups, Optional.of(CANDIDATE)));
+    cache.get(request(GET, null), "/foo/2", routes, countingLookup(lookups, Optional.of(CANDIDATE)));
+
+    assertThat(lookups).hasValue(1);
+  }
+
+  @Test
+  void get_positive_keyedByPathIfLiteralMayMatchId() {
+    var cache = enabledCache("ingress");
+    var idLiteralEntry = ScRoutingEntry.of("mod-foo-1.0.0", "http://mod-foo:8081", "foo",
+      new ModuleBootstrapEndpoint("/foo/1", "GET"));
+    var trie = RoutingTrie.builder().add("/foo/1", idLiteralEntry).add("/foo/", ENTRY).build();
+    var routes = new RoutingSnapshot(1, trie, List.of());
+    var lookups = new AtomicInteger();
+
+    var idLiteralCandidate = RouteCandidate.of(idLiteralEntry);
+    cache.get(request(GET, null), "/foo/1", routes, countingLookup(lookups, Optional.of(idLiteralCandidate)));
+    var found = cache.get(request(GET, null), "/foo/2", routes, countingLookup(lookups, Optional.of(CANDIDATE)));
+
+    assertThat(trie.isIdAgnostic()).isFalse();
+    assertThat(found).contains(ENTRY);
+    assertThat(lookups).hasValue(2);
+  }
+
+  @Test
+  void get_positive_disabled() {
+    var cache = new RoutingLookupCacheFactory(properties(false), meterRegistry).createCache("ingress");
+    var lookups = new AtomicInteger();
+
+    cache.get(request(GET, null), "/foo/1", RoutingSnapshot.EMPTY, countingLookup(lookups, Optional.of(CANDIDATE)));
+    cache.get(request(GET, null), "/foo/1", RoutingSnapshot.EMPTY, countingLookup(lookups, Optional.of(CANDIDATE)));
+
+    assertThat(cache).isSameAs(RoutingLookupCache.disabled());
+    assertThat(lookups).hasValue(2);
+    assertThat(meterRegistry.find(HIT_RATIO_METRIC_NAME).gauge()).isNull();
+  }
+
+  @Test
+  void lookupRoute_positive_cacheInvalidatedOnModuleBootstrapUpdate() {
+    var ingressLookup = new IngressRoutingLookup(enabledCache("ingress"), meterRegistry);
+    ingressLookup.onModuleBootstrap(discovery("/foo/{id}"), INIT);
+    var rc = routingContext(GET);
+
+    var beforeUpdate = ingressLookup.lookupRoute("/bar/1", rc).result();
+    ingressLookup.onModuleBootstrap(discovery("/bar/{id}"), UPDATE);
+    var afterUpdate = ingressLookup.lookupRoute("/bar/1", rc).result();
+
+    assertThat(beforeUpdate).isEmpty();
+    assertThat(afterUpdate).isPresent();
+  }
+
+  @Test
+  void lookupRoute_positive_cacheInvalidatedOnTenantRoutesUpdate() {
+    var egressLookup = new EgressRoutingLookup(enabledCache("egress"), meterRegistry, tenant -> succeededFuture());
+    egressLookup.tenantScoped = true;
+    egressLookup.updateTenantEgressRoutes("test", List.of("app-1.0.0"), List.of(discovery("/foo/{id}")));
+    var rc = routingContext(GET);
+    when(rc.request().getHeader(OkapiHeaders.TENANT)).thenReturn("test");
+
+    var beforeUpdate = egressLookup.lookupRoute("/bar/1", rc).result();
+    egressLookup.updateTenantEgressRoutes("test", List.of("app-1.0.0"), List.of(discovery("/bar/{id}")));
+    var afterUpdate = egressLookup.lookupRoute("/bar/1", rc).result();
+    egressLookup.removeTenantEgressRoutes("test");
+    var afterRemove = egressLookup.lookupRoute("/bar/1", rc).result();
+
+    assertThat(beforeUpdate).isEmpty();
+    assertThat(afterUpdate).isPresent();
+    assertThat(afterRemove).isEmpty();
+  }
+
+  private RoutingLookupCache enabledCache(String lookupName) {
+    return new RoutingLookupCacheFactory(properties(true), meterRegistry).createCache(lookupName);
+  }
+
+  private static Supplier<Optional<RouteCandidate>> countingLookup(AtomicInteger counter,
+    Optional<RouteCandidate> result) {
+    return () -> {
+      counter.incrementAndGet();
+      return result;
+    };
+  }
+
+  private static ModuleBootstrapDiscovery discovery(String pathPattern) {
+    var moduleInterface = new ModuleBootstrapInterface();
+    moduleInterface.setId("foo");
+    moduleInterface.setEndpoints(List.of(new ModuleBootstrapEndpoint(pathPattern, "GET")));
+
+    var discovery = new ModuleBootstrapDiscovery();
+    discovery.setModuleId("mod-foo-1.0.0");
+    discovery.setLocation("http://mod-foo:8081");
+    discovery.setInterfaces(List.of(moduleInterface));
+    return discovery;
+  }
+
+  private static HttpServerRequest request(HttpMethod method, String moduleId) {
+    var request = mock(HttpServerRequest.class);
+    when(request.method()).thenReturn(method);
+    when(request.getHeader(OkapiHeaders.MODULE_ID)).thenReturn(moduleId);
+    return request;
+  }
+
+  private static RoutingContext routingContext(HttpMethod method) {
+    var routingContext = mock(RoutingContext.class);
+    var request = mock(HttpServerRequest.class);
+    when(routingContext.request()).thenReturn(request);
+    when(request.method()).thenReturn(method);
+    return routingContext;
+  }
+
+  private static LookupCacheProperties properties(boolean enabled) {
+    var settings = mock(CacheSettings.class);
+    when(settings.maxSize()).thenReturn(OptionalInt.of(100));
+    when(settings.initialCapacity()).thenReturn(OptionalInt.empty());
+    when(settings.expireAfterAccess()).thenReturn(Optional.empty());
+    when(settings.expireAfterWrite()).thenReturn(Optional.empty());
+
+    var properties = mock(LookupCacheProperties.class);
+    when(properties.enabled()).thenReturn(enabled);
+    when(properties.settings()).thenReturn(settings);
+    return properties;
+  }
+}
@@ -0,0 +1,184 @@
+package org.folio.sidecar.service.routing.lookup;
+
+import static io.vertx.core.http.HttpMethod.GET;
+import static io.vertx.core.http.HttpMethod.POST;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import io.vertx.core.http.HttpMethod;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.folio.sidecar.integration.am.model.ModuleBootstrapEndpoint;
+import org.folio.sidecar.model.ScRoutingEntry;
+import org.folio.support.types.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+@UnitTest
+class RoutingTrieTest {
+
+  private static final RoutingTrie TRIE = RoutingTrie.builder()
+    .add("/", entry("/"))
+    .add("/foo/", entry("/foo/"))
+    .add("/foo", entry("/foo"))
+    .add("/foo/bar", entry("/foo/bar"))
+    .add("/foo/bar/", entry("/foo/bar/"))
+    .add("/foo/bar/", entry("/foo/bar/ (2)"))
+    .add("/foo//", entry("/foo//"))
+    .add("foo/", entry("foo/"))
+    .add("foo", entry("foo"))
+    .build();
+
+  @Test
+  void size_positive() {
+    assertThat(TRIE.size()).isEqualTo(9);
+    assertThat(TRIE.isEmpty()).isFalse();
+    assertThat(RoutingTrie.builder().build()).isSameAs(RoutingTrie.empty());
+  }
+
+  @ParameterizedTest(name = "[{index}] {0}")
+  @MethodSource("visitedPrefixesDataProvider")
+  void find_positive_visitsCandidatesFromLongestPrefix(String path, String[] expectedPrefixes) {
+    var visited = new ArrayList<String>();
+
+    var result = TRIE.find(path, GET, visited, (candidate, p, v) -> !v.add(candidate.entry().getInterfaceId()));
+
+    assertThat(result).isNull();
+    assertThat(visited).containsExactly(expectedPrefixes);
+  }
+
+  @Test
+  void find_positive_firstMatchingCandidate() {
+    var result = TRIE.find("/foo/bar/baz", GET, "/foo/",
+      (candidate, path, prefix) -> candidate.entry().getInterfaceId().startsWith(prefix));
+
+    assertThat(result.entry()).isEqualTo(entry("/foo/bar/"));
+  }
+
+  @Test
+  void find_positive_emptyTrie() {
+    assertThat(RoutingTrie.empty().find("/foo/bar", GET, null, (candidate, path, context) -> true)).isNull();
+  }
+
+  @ParameterizedTest(name = "[{index}] {0}")
+  @MethodSource("methodsDataProvider")
+  void find_positive_visitsCandidatesAcceptingMethod(HttpMethod method, String[] expectedEntries) {
+    var trie = RoutingTrie.builder()
+      .add("/foo/", entry("get", "GET"))
+      .add("/foo/", entry("any", "*"))
+      .add("/foo/", entry("post", "POST", "PUT"))
+      .add("/foo/", entry("custom", "PURGE"))
+      .add("/foo/", entry("none", new String[0]))
+      .build();
+    var visited = new ArrayList<String>();
+
+    var result = trie.find("/foo/bar", method, visited,
+      (candidate, path, v) -> !v.add(candidate.entry().getInterfaceId()));
+
+    assertThat(result).isNull();
+    assertThat(visited).containsExactly(expectedEntries);
+  }
+
+  @Test
+  void reorderByHits_positive_disjointCandidatesOrderedByHits() {
+    var trie = RoutingTrie.builder()
+      .add("/foo/", entry("/foo/{id}/bar"))
+      .add("/foo/", entry("/foo/{id}/baz"))
+      .add("/foo/", entry("/foo/{id}/qux"))
+      .build();
+    hit(trie, "/foo/{id}/baz", 1);
+    hit(trie, "/foo/{id}/qux", 5);
+
+    var reordered = trie.reorderByHits();
+
+    assertThat(visit(reordered, GET)).containsExactly("/foo/{id}/qux", "/foo/{id}/baz", "/foo/{id}/bar");
+    assertThat(visit(reordered, null)).containsExactly("/foo/{id}/bar", "/foo/{id}/baz", "/foo/{id}/qux");
+    assertThat(visit(trie, GET)).containsExactly("/foo/{id}/bar", "/foo/{id}/baz", "/foo/{id}/qux");
+    assertThat(reordered.size()).isEqualTo(trie.size());
+  }
+
+  @Test
+  void reorderByHits_positive_overlappingCandidatesKeepOrder() {
+    var trie = RoutingTrie.builder()
+      .add("/foo/", entry("/foo/{id}/bar"))
+      .add("/foo/", entry("/foo/*"))
+      .add("/foo/", entry("/foo/{id}/baz"))
+      .build();
+    hit(trie, "/foo/*", 3);
+    hit(trie, "/foo/{id}/baz", 5);
+
+    var reordered = trie.reorderByHits();
+
+    assertThat(visit(reordered, GET)).containsExactly("/foo/{id}/bar", "/foo/*", "/foo/{id}/baz");
+    assertThat(reordered).isSameAs(trie);
+  }
+
+  @Test
+  void reorderByHits_positive_partiallyReordered() {
+    var trie = RoutingTrie.builder()
+      .add("/foo/", entry("/foo/*"))
+      .add("/foo/", entry("/foo/{id}/bar"))
+      .add("/foo/", entry("/foo/{id}/baz"))
+      .build();
+    hit(trie, "/foo/{id}/baz", 5);
+
+    var reordered = trie.reorderByHits();
+
+    assertThat(visit(reordered, GET)).containsExactly("/foo/*", "/foo/{id}/baz", "/foo/{id}/bar");
+  }
+
+  @Test
+  void reorderByHits_positive_noHits() {
+    assertThat(TRIE.reorderByHits()).isSameAs(TRIE);
+    assertThat(RoutingTrie.empty().reorderByHits()).isSameAs(RoutingTrie.empty());
+  }
+
+  private static Stream<Arguments> methodsDataProvider() {
+    return Stream.of(
+      arguments(GET, new String[] {"get", "any"}),
+      arguments(POST, new String[] {"any", "post"}),
+      arguments(HttpMethod.DELETE, new String[] {"any"}),
+      arguments(HttpMethod.valueOf("PURGE"), new String[] {"any", "custom"}),
+      arguments(null, new String[] {"get", "any", "post", "custom"})
+    );
+  }
+
+  private static Stream<Arguments> visitedPrefixesDataProvider() {
+    return Stream.of(
+      arguments("/", new String[0]),
+      arguments("foo", new String[0]),
+      arguments("foo/", new String[0]),
+      arguments("/foo", new String[] {"/foo", "/"}),
+      arguments("/foo/", new String[] {"/foo/", "/"}),
+      arguments("/foo/bar", new String[] {"/foo/bar", "/foo/", "/"}),
+      arguments("/foo/bar/", new String[] {"/foo/bar/", "/foo/bar/ (2)", "/foo/", "/"}),
+      arguments("/foo/bar/baz", new String[] {"/foo/bar/", "/foo/bar/ (2)", "/foo/", "/"}),
+      arguments("/foo//baz", new String[] {"/foo//", "/foo/", "/"}),
+      arguments("/fo/bar", new String[] {"/"}),
+      arguments("foo/bar", new String[] {"foo/"}),
+      arguments("/unknown/foo/bar", new String[] {"/"})
+    );
+  }
+
+  private static void hit(RoutingTrie trie, String name, int hits) {
+    var candidate = trie.find("/foo/1/x", GET, name, (c, path, n) -> c.entry().getInterfaceId().equals(n));
+    candidate.hits().add(hits);
+  }
+
+  private static List<String> visit(RoutingTrie trie, HttpMethod method) {
+    var visited = new ArrayList<String>();
+    trie.find("/foo/1/x", method, visited, (candidate, p, v) -> !v.add(candidate.entry().getInterfaceId()));
+    return visited;
+  }
+
+  private static ScRoutingEntry entry(String name) {
+    return entry(name, "GET");
+  }
+
+  private static ScRoutingEntry entry(String name, String... methods) {
+    return ScRoutingEntry.of("mod-foo-1.0.0", "http://mod-foo:8081", name, new ModuleBootstrapEndpoint(name, methods));
+  }
+}
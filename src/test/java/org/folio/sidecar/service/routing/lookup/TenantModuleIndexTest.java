@@ -0,0 +1,95 @@
+package org.folio.sidecar.service.routing.lookup;
+
+import static io.vertx.core.Future.failedFuture;
+import static io.vertx.core.Future.succeededFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.sidecar.integration.kafka.TenantEntitlementEvent.Type.UPGRADE;
+import static org.folio.sidecar.model.ResultList.asSinglePage;
+import static org.folio.sidecar.support.TestConstants.APPLICATION_ID;
+import static org.folio.sidecar.support.TestConstants.MODULE_ID;
+import static org.folio.sidecar.support.TestConstants.MODULE_NAME;
+import static org.folio.sidecar.support.TestConstants.TENANT_ID;
+import static org.folio.sidecar.support.TestConstants.TENANT_NAME;
+import static org.folio.sidecar.support.TestConstants.TENANT_UUID;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.folio.sidecar.configuration.properties.CacheSettings;
+import org.folio.sidecar.integration.kafka.TenantEntitlementEvent;
+import org.folio.sidecar.integration.te.TenantEntitlementService;
+import org.folio.sidecar.integration.te.model.Entitlement;
+import org.folio.support.types.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class TenantModuleIndexTest {
+
+  @Mock private TenantEntitlementService tenantEntitlementService;
+
+  private TenantModuleIndex moduleIndex;
+
+  @BeforeEach
+  void setUp() {
+    moduleIndex = new TenantModuleIndex(tenantEntitlementService, mock(CacheSettings.class));
+  }
+
+  @Test
+  void findModuleId_positive_loadedOncePerTenant() {
+    mockEntitlements(MODULE_ID, "mod-bar-0.1.0");
+
+    var first = moduleIndex.findModuleId(TENANT_NAME, MODULE_NAME);
+    var second = moduleIndex.findModuleId(TENANT_NAME, "mod-bar");
+
+    assertThat(first.result()).isEqualTo(MODULE_ID);
+    assertThat(second.result()).isEqualTo("mod-bar-0.1.0");
+    verify(tenantEntitlementService).getTenantEntitlements(TENANT_NAME, true);
+  }
+
+  @Test
+  void findModuleId_positive_reloadedAfterEntitlementEvent() {
+    mockEntitlements(MODULE_ID);
+    moduleIndex.findModuleId(TENANT_NAME, MODULE_NAME);
+
+    moduleIndex.onTenantEntitlement(TenantEntitlementEvent.of("mod-bar-0.1.0", TENANT_NAME, TENANT_UUID, UPGRADE));
+    var actual = moduleIndex.findModuleId(TENANT_NAME, MODULE_NAME);
+
+    assertThat(actual.result()).isEqualTo(MODULE_ID);
+    verify(tenantEntitlementService, times(2)).getTenantEntitlements(TENANT_NAME, true);
+  }
+
+  @Test
+  void findModuleId_negative_failedLoadIsNotCached() {
+    when(tenantEntitlementService.getTenantEntitlements(TENANT_NAME, true))
+      .thenReturn(failedFuture(new RuntimeException("te down")))
+      .thenReturn(succeededFuture(asSinglePage(Entitlement.of(APPLICATION_ID, TENANT_ID, List.of(MODULE_ID)))));
+
+    var failed = moduleIndex.findModuleId(TENANT_NAME, MODULE_NAME);
+    var actual = moduleIndex.findModuleId(TENANT_NAME, MODULE_NAME);
+
+    assertThat(failed.failed()).isTrue();
+    assertThat(actual.result()).isEqualTo(MODULE_ID);
+  }
+
+  @Test
+  void findModuleId_negative_tenantIsNull() {
+    var actual = moduleIndex.findModuleId(null, MODULE_NAME);
+
+    assertThat(actual.failed()).isTrue();
+    assertThat(actual.cause()).isInstanceOf(IllegalArgumentException.class);
+    verifyNoInteractions(tenantEntitlementService);
+  }
+
+  private void mockEntitlements(String... moduleIds) {
+    when(tenantEntitlementService.getTenantEntitlements(TENANT_NAME, true))
+      .thenReturn(succeededFuture(asSinglePage(Entitlement.of(APPLICATION_ID, TENANT_ID, List.of(moduleIds)))));
+  }
+}
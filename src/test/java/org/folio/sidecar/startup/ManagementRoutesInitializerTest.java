@@ -0,0 +1,47 @@
+package org.folio.sidecar.startup;
+
+import static org.folio.sidecar.service.routing.handler.RouteHitsHandler.ROUTE_HITS_PATH;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.quarkus.vertx.http.ManagementInterface;
+import io.vertx.ext.web.Route;
+import io.vertx.ext.web.Router;
+import org.folio.sidecar.service.JsonConverter;
+import org.folio.sidecar.service.routing.RouteHitsService;
+import org.folio.sidecar.service.routing.handler.RouteHitsHandler;
+import org.folio.support.types.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class ManagementRoutesInitializerTest {
+
+  @Mock private Route route;
+  @Mock private Router router;
+  @Mock private ManagementInterface managementInterface;
+  @Mock private RouteHitsService routeHitsService;
+  @Mock private JsonConverter jsonConverter;
+
+  @Test
+  void onStart_positive_routeHitsEndpointEnabled() {
+    when(managementInterface.router()).thenReturn(router);
+    when(router.get(ROUTE_HITS_PATH)).thenReturn(route);
+
+    new ManagementRoutesInitializer(routeHitsService, jsonConverter, true).onStart(managementInterface);
+
+    verify(route).handler(any(RouteHitsHandler.class));
+  }
+
+  @Test
+  void onStart_positive_routeHitsEndpointDisabled() {
+    new ManagementRoutesInitializer(routeHitsService, jsonConverter, false).onStart(managementInterface);
+
+    verifyNoInteractions(managementInterface);
+  }
+}
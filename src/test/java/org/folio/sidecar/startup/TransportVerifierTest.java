@@ -0,0 +1,136 @@
+package org.folio.sidecar.startup;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.sidecar.support.TestConstants.MODULE_HEALTH_PATH;
+import static org.folio.sidecar.support.TestConstants.MODULE_ID;
+import static org.folio.sidecar.support.TestConstants.MODULE_NAME;
+import static org.folio.sidecar.support.TestConstants.MODULE_PROPERTIES;
+import static org.folio.sidecar.support.TestConstants.MODULE_VERSION;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.when;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.impl.transports.JDKTransport;
+import java.util.Optional;
+import org.folio.sidecar.configuration.properties.ModuleProperties;
+import org.folio.sidecar.configuration.properties.TransportProperties;
+import org.folio.sidecar.service.routing.configuration.properties.EgressListenerProperties;
+import org.folio.support.types.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class TransportVerifierTest {
+
+  private static final ModuleProperties DOMAIN_SOCKET_MODULE_PROPERTIES = new ModuleProperties(
+    MODULE_ID, MODULE_NAME, MODULE_VERSION, "unix:/var/run/mod-foo.sock", MODULE_HEALTH_PATH);
+
+  @Mock private VertxInternal vertx;
+  @Mock(answer = Answers.RETURNS_DEEP_STUBS) private TransportProperties transportProperties;
+  @Mock private EgressListenerProperties egressListenerProperties;
+
+  @Test
+  void verify_positive_nio() {
+    when(vertx.transport()).thenReturn(JDKTransport.INSTANCE);
+    when(transportProperties.nativeTransport().enabled()).thenReturn(false);
+    when(egressListenerProperties.enabled()).thenReturn(false);
+    var verifier = new TransportVerifier(vertx, transportProperties, MODULE_PROPERTIES, egressListenerProperties);
+
+    assertThatCode(verifier::verify).doesNotThrowAnyException();
+    assertThat(verifier.getTransportName()).isEqualTo("nio");
+  }
+
+  @Test
+  void verify_positive_nativeTransportUnavailableFallback() {
+    when(vertx.transport()).thenReturn(JDKTransport.INSTANCE);
+    when(vertx.isNativeTransportEnabled()).thenReturn(false);
+    when(vertx.unavailableNativeTransportCause()).thenReturn(new UnsatisfiedLinkError("no epoll"));
+    when(transportProperties.nativeTransport().enabled()).thenReturn(true);
+    when(transportProperties.nativeTransport().required()).thenReturn(false);
+    when(egressListenerProperties.enabled()).thenReturn(false);
+    var verifier = new TransportVerifier(vertx, transportProperties, MODULE_PROPERTIES, egressListenerProperties);
+
+    assertThatCode(verifier::verify).doesNotThrowAnyException();
+  }
+
+  @Test
+  void verify_negative_nativeTransportRequired() {
+    var cause = new UnsatisfiedLinkError("no epoll");
+    when(vertx.transport()).thenReturn(JDKTransport.INSTANCE);
+    when(vertx.isNativeTransportEnabled()).thenReturn(false);
+    when(vertx.unavailableNativeTransportCause()).thenReturn(cause);
+    when(transportProperties.nativeTransport().enabled()).thenReturn(true);
+    when(transportProperties.nativeTransport().required()).thenReturn(true);
+    var verifier = new TransportVerifier(vertx, transportProperties, MODULE_PROPERTIES, egressListenerProperties);
+
+    assertThatThrownBy(verifier::verify)
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessage("Native transport is required, but not available")
+      .hasCause(cause);
+  }
+
+  @Test
+  void getTransportName_positive_epoll() throws Exception {
+    var nativeVertx = Vertx.vertx(new VertxOptions().setPreferNativeTransport(true));
+    try {
+      assumeTrue(nativeVertx.isNativeTransportEnabled(), "native transport is not available");
+      var verifier = new TransportVerifier(nativeVertx, transportProperties, MODULE_PROPERTIES,
+        egressListenerProperties);
+
+      assertThat(verifier.getTransportName()).isEqualTo("epoll");
+    } finally {
+      nativeVertx.close().toCompletionStage().toCompletableFuture().get(5, SECONDS);
+    }
+  }
+
+  @Test
+  void verify_positive_domainSocketWithNativeTransport() {
+    when(vertx.transport()).thenReturn(JDKTransport.INSTANCE);
+    when(transportProperties.nativeTransport().enabled()).thenReturn(true);
+    when(egressListenerProperties.enabled()).thenReturn(true);
+    when(egressListenerProperties.domainSocket()).thenReturn(Optional.of("/var/run/sidecar-egress.sock"));
+    when(vertx.isNativeTransportEnabled()).thenReturn(true);
+    var verifier = new TransportVerifier(vertx, transportProperties, DOMAIN_SOCKET_MODULE_PROPERTIES,
+      egressListenerProperties);
+
+    assertThatCode(verifier::verify).doesNotThrowAnyException();
+  }
+
+  @Test
+  void verify_negative_moduleDomainSocketWithoutNativeTransport() {
+    when(vertx.transport()).thenReturn(JDKTransport.INSTANCE);
+    when(transportProperties.nativeTransport().enabled()).thenReturn(false);
+    when(egressListenerProperties.enabled()).thenReturn(false);
+    when(vertx.isNativeTransportEnabled()).thenReturn(false);
+    var verifier = new TransportVerifier(vertx, transportProperties, DOMAIN_SOCKET_MODULE_PROPERTIES,
+      egressListenerProperties);
+
+    assertThatThrownBy(verifier::verify)
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessage("Unix domain sockets require native transport, set SIDECAR_NATIVE_TRANSPORT_ENABLED=true: "
+        + "module.url = unix:/var/run/mod-foo.sock");
+  }
+
+  @Test
+  void verify_negative_egressListenerDomainSocketWithoutNativeTransport() {
+    when(vertx.transport()).thenReturn(JDKTransport.INSTANCE);
+    when(transportProperties.nativeTransport().enabled()).thenReturn(false);
+    when(egressListenerProperties.enabled()).thenReturn(true);
+    when(egressListenerProperties.domainSocket()).thenReturn(Optional.of("/var/run/sidecar-egress.sock"));
+    when(vertx.isNativeTransportEnabled()).thenReturn(false);
+    var verifier = new TransportVerifier(vertx, transportProperties, MODULE_PROPERTIES, egressListenerProperties);
+
+    assertThatThrownBy(verifier::verify)
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessageEndingWith("routing.egress-listener.domain-socket = /var/run/sidecar-egress.sock");
+  }
+}